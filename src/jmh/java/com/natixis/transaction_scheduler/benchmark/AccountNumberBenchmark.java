@@ -0,0 +1,75 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IBAN parsing and validation over a realistic country mix.
+ * <p>
+ * {@code accounts} below the instance cache size (4096) measures the cached
+ * path of {@link AccountNumber#of}; above it, most lookups miss. {@code grouped}
+ * feeds values with spaces every four characters, as typed by users.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountNumberBenchmark {
+
+    @Param({"1024", "65536"})
+    private int accounts;
+
+    @Param({"false", "true"})
+    private boolean grouped;
+
+    private String[] ibans;
+    private String[] normalized;
+    private int mask;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ibans = BenchmarkFixtures.ibans(accounts, grouped);
+        normalized = BenchmarkFixtures.ibans(accounts, false);
+        mask = accounts - 1;
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & mask;
+        return cursor;
+    }
+
+    @Benchmark
+    public AccountNumber of() {
+        return AccountNumber.of(ibans[next()]);
+    }
+
+    @Benchmark
+    public AccountNumber parseUncached() {
+        return new AccountNumber(ibans[next()]);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return AccountNumber.isValid(ibans[next()]);
+    }
+
+    @Benchmark
+    public AccountNumber fromTrustedSource() {
+        return AccountNumber.fromTrustedSource(normalized[next()]);
+    }
+}
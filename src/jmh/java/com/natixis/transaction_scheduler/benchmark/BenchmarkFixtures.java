@@ -0,0 +1,193 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Shared, deterministic fixtures for the benchmarks.
+ * Fee rules mirror the seed data in import.sql. Generated data comes from a
+ * seeded {@link SplittableRandom}, so every run and release sees the same
+ * inputs.
+ */
+public final class BenchmarkFixtures {
+
+    public static final List<FeeConfiguration> SEED_FEE_RULES = List.of(
+            rule("TAXA_A", "0.00", "1000.00", 0, 0, "0.0300", "3.00", 1),
+            rule("TAXA_B", "1000.01", "2000.00", 1, 10, "0.0900", null, 2),
+            rule("TAXA_C_11_20", "2000.01", null, 11, 20, "0.0820", null, 3),
+            rule("TAXA_C_21_30", "2000.01", null, 21, 30, "0.0690", null, 4),
+            rule("TAXA_C_31_40", "2000.01", null, 31, 40, "0.0470", null, 5),
+            rule("TAXA_C_40_PLUS", "2000.01", null, 41, null, "0.0170", null, 6)
+    );
+
+    public static final FeeRuleIndex SEED_FEE_RULE_INDEX = FeeRuleIndex.of(SEED_FEE_RULES);
+
+    public static final long SEED = 42;
+
+    public static final ZoneId ZONE = ZoneId.of("Europe/Lisbon");
+
+    /**
+     * A Monday morning; dates of generated transfers are relative to it.
+     */
+    public static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    public static final LocalDate TODAY = NOW.toLocalDate();
+
+    /**
+     * Country share of generated IBANs, in percent, with each country's BBAN
+     * length and whether it starts with letters (bank code or CIN).
+     */
+    private static final String[] COUNTRIES = {"FR", "DE", "PT", "ES", "IT", "NL", "BE"};
+    private static final int[] COUNTRY_SHARE = {35, 20, 15, 10, 10, 5, 5};
+    private static final int[] BBAN_LENGTH = {23, 18, 21, 20, 23, 14, 12};
+    private static final int[] BBAN_LETTERS = {0, 0, 0, 0, 1, 4, 0};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static SchedulingClock fixedClock() {
+        return new CachedDayClock(Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE));
+    }
+
+    /**
+     * Fee band of generated transfers: amounts and days that match fee A, B
+     * or C, or a mix of 60% A, 25% B and 15% C.
+     */
+    public enum Band {
+        A, B, C, MIXED;
+
+        Band pick(SplittableRandom random) {
+            if (this != MIXED) {
+                return this;
+            }
+            int roll = random.nextInt(100);
+            return roll < 60 ? A : roll < 85 ? B : C;
+        }
+    }
+
+    /**
+     * Valid IBANs in the country mix above, normalised (no spaces) or grouped
+     * by four as users type them.
+     */
+    public static String[] ibans(int count, boolean grouped) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] ibans = new String[count];
+        for (int i = 0; i < count; i++) {
+            int country = pickCountry(random.nextInt(100));
+            String iban = iban(COUNTRIES[country], BBAN_LENGTH[country], BBAN_LETTERS[country], random);
+            ibans[i] = grouped ? group(iban) : iban;
+        }
+        return ibans;
+    }
+
+    /**
+     * Transfer amounts in cents, log-uniform within the band's amount range.
+     */
+    public static long[] amountCents(int count, Band band) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] cents = new long[count];
+        for (int i = 0; i < count; i++) {
+            cents[i] = amountCents(band.pick(random), random);
+        }
+        return cents;
+    }
+
+    /**
+     * Transfers as (amount, days from today) pairs that fall in the band:
+     * the same draw decides both, so MIXED keeps them consistent.
+     */
+    public static Money[] amounts(int count, Band band, long[] daysOut) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Money[] amounts = new Money[count];
+        for (int i = 0; i < count; i++) {
+            Band picked = band.pick(random);
+            amounts[i] = Money.ofCents(amountCents(picked, random));
+            daysOut[i] = switch (picked) {
+                case A -> 0;
+                case B -> random.nextInt(1, 11);
+                default -> random.nextInt(11, 91);
+            };
+        }
+        return amounts;
+    }
+
+    private static long amountCents(Band band, SplittableRandom random) {
+        return switch (band) {
+            case A -> logUniform(random, 1_00, 1000_00);
+            case B -> logUniform(random, 1000_01, 2000_00);
+            default -> logUniform(random, 2000_01, 500_000_00);
+        };
+    }
+
+    private static long logUniform(SplittableRandom random, long min, long max) {
+        double log = Math.log(min) + random.nextDouble() * (Math.log(max) - Math.log(min));
+        return Math.max(min, Math.min(max, Math.round(Math.exp(log))));
+    }
+
+    private static int pickCountry(int roll) {
+        int cumulative = 0;
+        for (int country = 0; country < COUNTRY_SHARE.length; country++) {
+            cumulative += COUNTRY_SHARE[country];
+            if (roll < cumulative) {
+                return country;
+            }
+        }
+        return 0;
+    }
+
+    private static String iban(String country, int bbanLength, int letters, SplittableRandom random) {
+        StringBuilder bban = new StringBuilder(bbanLength);
+        for (int i = 0; i < bbanLength; i++) {
+            bban.append(i < letters ? (char) ('A' + random.nextInt(26)) : (char) ('0' + random.nextInt(10)));
+        }
+        int remainder = 0;
+        String rearranged = bban + country + "00";
+        for (int i = 0; i < rearranged.length(); i++) {
+            char c = rearranged.charAt(i);
+            if (c >= 'A') {
+                remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+            } else {
+                remainder = (remainder * 10 + (c - '0')) % 97;
+            }
+        }
+        return String.format("%s%02d%s", country, 98 - remainder, bban);
+    }
+
+    private static String group(String iban) {
+        StringBuilder grouped = new StringBuilder(iban.length() + iban.length() / 4);
+        for (int i = 0; i < iban.length(); i++) {
+            if (i > 0 && i % 4 == 0) {
+                grouped.append(' ');
+            }
+            grouped.append(iban.charAt(i));
+        }
+        return grouped.toString();
+    }
+
+    private static FeeConfiguration rule(String feeType, String minAmount, String maxAmount,
+                                         Integer minDays, Integer maxDays, String percentage,
+                                         String fixedFee, int priority) {
+        return FeeConfiguration.create(
+                feeType,
+                new Money(minAmount),
+                maxAmount == null ? null : new Money(maxAmount),
+                minDays,
+                maxDays,
+                new BigDecimal(percentage),
+                fixedFee == null ? null : new Money(fixedFee),
+                priority,
+                feeType
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fee rule matching and fee calculation against the seed rules, per fee band.
+ * <p>
+ * {@code linearMatch} is the rule-by-rule scan through
+ * {@link FeeConfiguration#matches}; {@code indexMatch} is the same lookup
+ * through the rule index used by the use cases. {@code calculateFee} prices
+ * with the rule that matches each transfer.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FeeConfigurationBenchmark {
+
+    private static final int TRANSFERS = 4096;
+
+    @Param({"A", "B", "C", "MIXED"})
+    private BenchmarkFixtures.Band band;
+
+    private final long[] days = new long[TRANSFERS];
+    private final FeeConfiguration[] matching = new FeeConfiguration[TRANSFERS];
+    private Money[] amounts;
+    private List<FeeConfiguration> rules;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        amounts = BenchmarkFixtures.amounts(TRANSFERS, band, days);
+        rules = BenchmarkFixtures.SEED_FEE_RULES;
+        for (int i = 0; i < TRANSFERS; i++) {
+            matching[i] = BenchmarkFixtures.SEED_FEE_RULE_INDEX.findBestMatch(amounts[i], days[i]).orElseThrow();
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (TRANSFERS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public FeeConfiguration linearMatch() {
+        int i = next();
+        for (FeeConfiguration rule : rules) {
+            if (rule.matches(amounts[i], days[i])) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Optional<FeeConfiguration> indexMatch() {
+        int i = next();
+        return BenchmarkFixtures.SEED_FEE_RULE_INDEX.findBestMatch(amounts[i], days[i]);
+    }
+
+    @Benchmark
+    public Money calculateFee() {
+        int i = next();
+        return matching[i].calculateFee(amounts[i]);
+    }
+}
@@ -0,0 +1,78 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.application.usecase.QuoteFeesUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.SchedulingCalendar;
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.QuoteFeesUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-quote cost of POST /v1/fees/quote without the HTTP layer.
+ * Scores are normalised per quote via {@link OperationsPerInvocation}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeeQuoteBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private QuoteFeesUseCase quoteFeesUseCase;
+    private QuoteFeesUseCase.QuoteFeesCommand command;
+
+    @Setup
+    public void setUp() {
+        FeeRuleIndex ruleIndex = BenchmarkFixtures.SEED_FEE_RULE_INDEX;
+        quoteFeesUseCase = new QuoteFeesUseCaseImpl(new FeeConfigurationRepository() {
+            @Override
+            public Optional<FeeConfiguration> findBestMatch(Money transferAmount, Long days) {
+                return ruleIndex.findBestMatch(transferAmount, days);
+            }
+
+            @Override
+            public FeeRuleIndex getRuleIndex() {
+                return ruleIndex;
+            }
+        }, SchedulingCalendar.calendarDays(), BenchmarkFixtures.fixedClock());
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = BenchmarkFixtures.TODAY;
+        List<QuoteFeesUseCase.QuoteItem> items = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, 500_000_00), 2);
+            items.add(new QuoteFeesUseCase.QuoteItem(amount, today.plusDays(random.nextInt(0, 60))));
+        }
+        command = new QuoteFeesUseCase.QuoteFeesCommand(items);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void quoteBatch(Blackhole blackhole) {
+        quoteFeesUseCase.execute(command).forEach(blackhole::consume);
+    }
+}
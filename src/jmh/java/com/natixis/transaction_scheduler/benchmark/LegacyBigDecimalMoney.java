@@ -0,0 +1,43 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Frozen copy of the former BigDecimal-backed Money, kept only as a
+ * baseline for {@link MoneyBenchmark}.
+ */
+final class LegacyBigDecimalMoney {
+
+    private final BigDecimal amount;
+
+    LegacyBigDecimalMoney(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    BigDecimal getAmount() {
+        return amount;
+    }
+
+    LegacyBigDecimalMoney add(LegacyBigDecimalMoney other) {
+        return new LegacyBigDecimalMoney(this.amount.add(other.amount));
+    }
+
+    LegacyBigDecimalMoney multiply(BigDecimal multiplier) {
+        return new LegacyBigDecimalMoney(this.amount.multiply(multiplier));
+    }
+
+    /**
+     * Former FeeConfiguration.calculateFee: (amount * percentage) + fixedFee.
+     */
+    LegacyBigDecimalMoney calculateFee(BigDecimal percentageFee, LegacyBigDecimalMoney fixedFee) {
+        LegacyBigDecimalMoney percentageFeeAmount = multiply(percentageFee);
+        return fixedFee == null ? percentageFeeAmount : percentageFeeAmount.add(fixedFee);
+    }
+}
@@ -0,0 +1,103 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-cents {@link Money} against the former BigDecimal implementation on
+ * the fee and total hot path (TAXA_A: 3% + 3.00 EUR fixed fee), over the
+ * amount distribution of a fee band.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private static final int AMOUNTS = 1024;
+
+    private static final BigDecimal PERCENTAGE = new BigDecimal("0.0300");
+
+    @Param({"A", "MIXED"})
+    private BenchmarkFixtures.Band band;
+
+    private final BigDecimal[] amounts = new BigDecimal[AMOUNTS];
+    private final Money[] money = new Money[AMOUNTS];
+    private final LegacyBigDecimalMoney[] legacyMoney = new LegacyBigDecimalMoney[AMOUNTS];
+
+    private FeeConfiguration taxaA;
+    private LegacyBigDecimalMoney legacyFixedFee;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long[] cents = BenchmarkFixtures.amountCents(AMOUNTS, band);
+        for (int i = 0; i < AMOUNTS; i++) {
+            amounts[i] = BigDecimal.valueOf(cents[i], 2);
+            money[i] = new Money(amounts[i]);
+            legacyMoney[i] = new LegacyBigDecimalMoney(amounts[i]);
+        }
+        taxaA = BenchmarkFixtures.SEED_FEE_RULES.get(0);
+        legacyFixedFee = new LegacyBigDecimalMoney(taxaA.getFixedFee().getAmount());
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (AMOUNTS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public Money longCentsFee() {
+        return taxaA.calculateFee(money[next()]);
+    }
+
+    @Benchmark
+    public LegacyBigDecimalMoney bigDecimalFee() {
+        return legacyMoney[next()].calculateFee(PERCENTAGE, legacyFixedFee);
+    }
+
+    @Benchmark
+    public Money longCentsTotal() {
+        Money amount = money[next()];
+        return amount.add(taxaA.calculateFee(amount));
+    }
+
+    @Benchmark
+    public LegacyBigDecimalMoney bigDecimalTotal() {
+        LegacyBigDecimalMoney amount = legacyMoney[next()];
+        return amount.add(amount.calculateFee(PERCENTAGE, legacyFixedFee));
+    }
+
+    @Benchmark
+    public long longCentsFeePrimitive() {
+        long cents = money[next()].getCents();
+        return Money.addCents(Money.multiplyCents(cents, 300, 4), 300);
+    }
+
+    @Benchmark
+    public Money longCentsFromBigDecimal() {
+        return new Money(amounts[next()]);
+    }
+
+    @Benchmark
+    public LegacyBigDecimalMoney bigDecimalFromBigDecimal() {
+        return new LegacyBigDecimalMoney(amounts[next()]);
+    }
+}
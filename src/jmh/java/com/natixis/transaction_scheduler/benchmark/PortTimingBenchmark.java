@@ -0,0 +1,105 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.MeteredFeeConfigurationRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.TimedPorts;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the metrics on a single fee lookup.
+ * <p>
+ * {@code direct} calls the rule index through the port; {@code timed} goes
+ * through the timing proxy and the fee lookup counters, as wired in the
+ * application, into a Prometheus registry publishing percentile histograms.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PortTimingBenchmark {
+
+    private static final int TRANSFERS = 4096;
+
+    @Param({"B", "MIXED"})
+    private BenchmarkFixtures.Band band;
+
+    private final long[] days = new long[TRANSFERS];
+    private Money[] amounts;
+    private FeeConfigurationRepository direct;
+    private FeeConfigurationRepository timed;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        amounts = BenchmarkFixtures.amounts(TRANSFERS, band, days);
+        direct = new IndexRepository(BenchmarkFixtures.SEED_FEE_RULE_INDEX);
+
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) TimeUnit.MICROSECONDS.toNanos(10))
+                        .maximumExpectedValue((double) TimeUnit.SECONDS.toNanos(10))
+                        .build()
+                        .merge(config);
+            }
+        });
+        timed = TimedPorts.timed(FeeConfigurationRepository.class,
+                new MeteredFeeConfigurationRepository(direct, registry), registry, TimedPorts.REPOSITORY_METRIC);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (TRANSFERS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public Optional<FeeConfiguration> direct() {
+        int i = next();
+        return direct.findBestMatch(amounts[i], days[i]);
+    }
+
+    @Benchmark
+    public Optional<FeeConfiguration> timed() {
+        int i = next();
+        return timed.findBestMatch(amounts[i], days[i]);
+    }
+
+    private record IndexRepository(FeeRuleIndex index) implements FeeConfigurationRepository {
+
+        @Override
+        public Optional<FeeConfiguration> findBestMatch(Money transferAmount, Long days) {
+            return index.findBestMatch(transferAmount, days);
+        }
+
+        @Override
+        public FeeRuleIndex getRuleIndex() {
+            return index;
+        }
+    }
+}
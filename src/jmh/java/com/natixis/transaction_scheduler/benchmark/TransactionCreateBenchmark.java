@@ -0,0 +1,85 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Transaction#create} with pre-parsed accounts and pre-priced fees, so
+ * the score is the domain validation and object construction alone.
+ * <p>
+ * {@code pricing} adds the fee lookup and calculation the use case does before
+ * creating, and {@code timeSlot} gives every transfer a time of day, which adds
+ * the past-time check. The reference time is fixed.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionCreateBenchmark {
+
+    private static final int TRANSFERS = 4096;
+
+    @Param({"false", "true"})
+    private boolean timeSlot;
+
+    @Param({"false", "true"})
+    private boolean pricing;
+
+    private final AccountNumber[] sources = new AccountNumber[TRANSFERS];
+    private final AccountNumber[] destinations = new AccountNumber[TRANSFERS];
+    private final LocalDate[] dates = new LocalDate[TRANSFERS];
+    private final LocalTime[] times = new LocalTime[TRANSFERS];
+    private final FeeConfiguration[] rules = new FeeConfiguration[TRANSFERS];
+    private final Money[] fees = new Money[TRANSFERS];
+    private final long[] days = new long[TRANSFERS];
+    private Money[] amounts;
+    private LocalDateTime now;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        String[] ibans = BenchmarkFixtures.ibans(TRANSFERS + 1, false);
+        amounts = BenchmarkFixtures.amounts(TRANSFERS, BenchmarkFixtures.Band.MIXED, days);
+        now = BenchmarkFixtures.fixedClock().now();
+        for (int i = 0; i < TRANSFERS; i++) {
+            sources[i] = AccountNumber.of(ibans[i]);
+            destinations[i] = AccountNumber.of(ibans[i + 1]);
+            dates[i] = BenchmarkFixtures.TODAY.plusDays(days[i]);
+            times[i] = timeSlot ? LocalTime.of(23, i % 60) : null;
+            rules[i] = BenchmarkFixtures.SEED_FEE_RULE_INDEX.findBestMatch(amounts[i], days[i]).orElseThrow();
+            fees[i] = rules[i].calculateFee(amounts[i]);
+        }
+    }
+
+    @Benchmark
+    public Transaction create() {
+        int i = cursor = (cursor + 1) & (TRANSFERS - 1);
+        FeeConfiguration rule = rules[i];
+        Money fee = fees[i];
+        if (pricing) {
+            rule = BenchmarkFixtures.SEED_FEE_RULE_INDEX.findBestMatch(amounts[i], days[i]).orElseThrow();
+            fee = rule.calculateFee(amounts[i]);
+        }
+        return Transaction.create(sources[i], destinations[i], amounts[i], dates[i], times[i], fee, rule, now);
+    }
+}
@@ -0,0 +1,129 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.TransactionSchedulerApplication;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.TransactionEntity;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.JpaTransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time to insert {@value #ROWS} transactions through JPA in one
+ * transaction, flushing and clearing every {@value #CHUNK_SIZE} rows.
+ * <p>
+ * {@code idStrategy=IDENTITY} reapplies the previous key generation through
+ * {@code META-INF/identity-orm.xml}; {@code SEQUENCE} is the current mapping.
+ * Inserts per second = {@value #ROWS} / (score / 1000). Numbers are against
+ * embedded H2, so they show the relative gain of batching rather than what a
+ * networked database would do, where the per-row round trip costs far more.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionInsertBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"SEQUENCE", "IDENTITY"})
+    public String idStrategy;
+
+    @Param({"50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private JpaTransactionRepository jpaTransactionRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        // Passed as arguments so they win over application.properties (SQL logging in particular).
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:insert_benchmark_" + idStrategy.toLowerCase(),
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                "--fee-configuration.refresh-interval-ms=3600000",
+                "--logging.level.com.natixis=WARN",
+                "--logging.level.org.hibernate=WARN"
+        ));
+        if ("IDENTITY".equals(idStrategy)) {
+            args.add("--spring.jpa.mapping-resources=META-INF/identity-orm.xml");
+        }
+
+        context = new SpringApplicationBuilder(TransactionSchedulerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+        jpaTransactionRepository = context.getBean(JpaTransactionRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        transactionTemplate.executeWithoutResult(status -> jpaTransactionRepository.deleteAllInBatch());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public long insert100k() {
+        return transactionTemplate.execute(status -> {
+            List<TransactionEntity> chunk = new ArrayList<>(CHUNK_SIZE);
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < ROWS; i++) {
+                chunk.add(newEntity(i, today));
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(chunk);
+                }
+            }
+            flush(chunk);
+            return (long) ROWS;
+        });
+    }
+
+    private void flush(List<TransactionEntity> chunk) {
+        jpaTransactionRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    private static TransactionEntity newEntity(int i, LocalDate today) {
+        return TransactionEntity.builder()
+                .sourceAccount("PT50000201231234567890154")
+                .destinationAccount("DE89370400440532013000")
+                .transferAmount(BigDecimal.valueOf(50_000 + i % 100_000, 2))
+                .transferFee(BigDecimal.valueOf(1_800, 2))
+                .scheduledDate(today.plusDays(i % 60))
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.natixis.transaction_scheduler.benchmark;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.TransactionResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper.TransactionDtoMapper;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.TransactionEntity;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.TransactionEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The read path of a listing row, from what the database hands back to the
+ * response body.
+ * <p>
+ * {@code entityToResponse} is the domain path: {@link TransactionEntityMapper#toModel}
+ * re-parses both IBANs and rebuilds the amounts, then
+ * {@link TransactionDtoMapper#toResponse(Transaction)} flattens them again.
+ * {@code viewToResponse} is the path listings take, mapping the projected
+ * {@link TransactionView} directly. {@code accounts} above the IBAN instance
+ * cache size (4096) shows the domain path when most parses miss the cache.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionMapperBenchmark {
+
+    private static final TransactionEntityMapper ENTITY_MAPPER = TransactionEntityMapper.INSTANCE;
+    private static final TransactionDtoMapper DTO_MAPPER = TransactionDtoMapper.INSTANCE;
+
+    @Param({"1024", "65536"})
+    private int accounts;
+
+    private TransactionEntity[] entities;
+    private Transaction[] transactions;
+    private TransactionView[] views;
+    private int mask;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        String[] ibans = BenchmarkFixtures.ibans(accounts, false);
+        long[] days = new long[accounts];
+        Money[] amounts = BenchmarkFixtures.amounts(accounts, BenchmarkFixtures.Band.MIXED, days);
+
+        entities = new TransactionEntity[accounts];
+        transactions = new Transaction[accounts];
+        views = new TransactionView[accounts];
+        for (int i = 0; i < accounts; i++) {
+            TransactionEntity entity = TransactionEntity.builder()
+                    .id((long) i + 1)
+                    .sourceAccount(ibans[i])
+                    .destinationAccount(ibans[(i + 1) % accounts])
+                    .transferAmount(amounts[i].getAmount())
+                    .transferFee(Money.ofCents(300).getAmount())
+                    .scheduledDate(BenchmarkFixtures.TODAY.plusDays(days[i]))
+                    .status(TransactionStatus.SCHEDULED)
+                    .createdAt(BenchmarkFixtures.NOW)
+                    .build();
+            entities[i] = entity;
+            transactions[i] = ENTITY_MAPPER.toModel(entity);
+            views[i] = new TransactionView(entity.getId(), entity.getSourceAccount(), entity.getDestinationAccount(),
+                    entity.getTransferAmount(), entity.getTransferFee(), entity.getScheduledDate(),
+                    entity.getScheduledTime(), entity.getStatus(), entity.getAttempts(),
+                    entity.getCreatedAt(), entity.getUpdatedAt());
+        }
+        mask = accounts - 1;
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & mask;
+        return cursor;
+    }
+
+    @Benchmark
+    public Transaction entityToModel() {
+        return ENTITY_MAPPER.toModel(entities[next()]);
+    }
+
+    @Benchmark
+    public TransactionResponse modelToResponse() {
+        return DTO_MAPPER.toResponse(transactions[next()]);
+    }
+
+    @Benchmark
+    public TransactionResponse entityToResponse() {
+        return DTO_MAPPER.toResponse(ENTITY_MAPPER.toModel(entities[next()]));
+    }
+
+    @Benchmark
+    public TransactionResponse viewToResponse() {
+        return DTO_MAPPER.toResponse(views[next()]);
+    }
+}
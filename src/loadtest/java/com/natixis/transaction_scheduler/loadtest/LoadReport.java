@@ -0,0 +1,110 @@
+package com.natixis.transaction_scheduler.loadtest;
+
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON report of a run, a console summary, and the comparison with an
+ * earlier report. Latencies are in milliseconds; {@code latencyMs} is the
+ * corrected response time and {@code serviceTimeMs} the uncorrected one.
+ */
+final class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ObjectNode report;
+
+    LoadReport(LoadTestOptions options, String baseUrl, String threads, Recording recording) {
+        report = jsonMapper.createObjectNode();
+        report.put("startedAt", Instant.now().toString());
+        report.put("baseUrl", baseUrl);
+        report.put("threads", threads);
+        report.put("concurrency", options.concurrency());
+        report.put("targetRate", options.rate());
+        report.put("warmupSeconds", options.warmup().toSeconds());
+        report.put("durationSeconds", options.duration().toSeconds());
+        ObjectNode mix = report.putObject("mix");
+        options.mix().forEach((operation, share) -> mix.put(operation.key(), share));
+
+        double seconds = options.duration().toNanos() / 1e9;
+        ObjectNode endpoints = report.putObject("endpoints");
+        for (Operation operation : Operation.values()) {
+            Histogram latency = recording.responseTime.get(operation);
+            if (latency.getTotalCount() == 0) {
+                continue;
+            }
+            ObjectNode endpoint = endpoints.putObject(operation.endpoint());
+            endpoint.put("requests", latency.getTotalCount());
+            endpoint.put("errors", recording.errors.get(operation)[0]);
+            endpoint.put("throughput", latency.getTotalCount() / seconds);
+            putLatencies(endpoint.putObject("latencyMs"), latency);
+            putLatencies(endpoint.putObject("serviceTimeMs"), recording.serviceTime.get(operation));
+        }
+    }
+
+    void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-38s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint (latency ms)", "Requests", "Errors", "Req/s", "p50", "p90", "p99", "p99.9", "Max");
+        for (Map.Entry<String, JsonNode> entry : report.get("endpoints").properties()) {
+            JsonNode endpoint = entry.getValue();
+            JsonNode latency = endpoint.get("latencyMs");
+            out.printf("%-38s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), endpoint.get("requests").longValue(), endpoint.get("errors").longValue(),
+                    endpoint.get("throughput").doubleValue(), latency.get("p50").doubleValue(),
+                    latency.get("p90").doubleValue(), latency.get("p99").doubleValue(),
+                    latency.get("p999").doubleValue(), latency.get("max").doubleValue());
+        }
+    }
+
+    /**
+     * Endpoints whose corrected p99 grew by more than {@code tolerance}
+     * percent over the baseline report. Endpoints missing from either report
+     * are not compared.
+     */
+    List<String> regressionsAgainst(Path baseline, double tolerance) throws IOException {
+        JsonNode previous = jsonMapper.readTree(Files.readString(baseline)).path("endpoints");
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> entry : report.get("endpoints").properties()) {
+            JsonNode before = previous.path(entry.getKey()).path("latencyMs").path("p99");
+            if (!before.isNumber()) {
+                continue;
+            }
+            double was = before.doubleValue();
+            double now = entry.getValue().get("latencyMs").get("p99").doubleValue();
+            if (now > was * (1 + tolerance / 100)) {
+                regressions.add(String.format("%s p99 %.2f ms, baseline %.2f ms", entry.getKey(), now, was));
+            }
+        }
+        return regressions;
+    }
+
+    private static void putLatencies(ObjectNode node, Histogram histogram) {
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            node.put(PERCENTILE_NAMES[i], histogram.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_MILLI);
+        }
+        node.put("max", histogram.getMaxValue() / NANOS_PER_MILLI);
+        node.put("mean", histogram.getMean() / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,185 @@
+package com.natixis.transaction_scheduler.loadtest;
+
+import com.natixis.transaction_scheduler.TransactionSchedulerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-loop HTTP load test of the transaction API.
+ * <p>
+ * Each of {@code concurrency} workers keeps one request in flight and is
+ * paced to {@code rate / concurrency} requests per second. Requests have an
+ * intended start on that schedule; when a response is late, the worker sends
+ * the next one immediately and its latency still counts from the intended
+ * start, so a stall shows up in every request it delayed (coordinated
+ * omission correction, as in wrk2). Latencies go to HdrHistogram per
+ * endpoint, and the run ends with a JSON report and, given a baseline
+ * report, a non-zero exit when a p99 regressed beyond the tolerance.
+ * <p>
+ * Without {@code baseUrl} the application is started in this JVM on a free
+ * port against a private in-memory H2 database, with the daily execution
+ * off, and {@code dataset} synthetic transactions loaded at startup.
+ * Client and server then share the CPU; for release comparisons start
+ * the application separately and pass its URL. Workers run on virtual
+ * threads when the JVM has them (Java 21+), otherwise on platform threads.
+ */
+public final class LoadTest {
+
+    private static final long RANDOM_SEED = 42;
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor} on Java 21+, so a run
+     * can use far more workers than cores; null on older JVMs, which get a
+     * fixed pool of platform threads.
+     */
+    private static final Method VIRTUAL_THREADS = virtualThreadExecutor();
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            context = startApplication(options.dataset());
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + context.getEnvironment().getProperty("server.servlet.context-path", "");
+        }
+
+        ExecutorService workers = VIRTUAL_THREADS != null
+                ? (ExecutorService) VIRTUAL_THREADS.invoke(null)
+                : Executors.newFixedThreadPool(options.concurrency());
+        int exitCode;
+        try {
+            exitCode = run(options, baseUrl, workers);
+        } finally {
+            workers.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(LoadTestOptions options, String baseUrl, ExecutorService workers) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Workload workload = new Workload(client, baseUrl, LocalDate.now());
+        System.out.printf("Seeding %d transactions at %s%n", options.seed(), baseUrl);
+        workload.seed(options.seed(), new SplittableRandom(RANDOM_SEED));
+
+        String threads = VIRTUAL_THREADS != null ? "virtual" : "platform";
+        System.out.printf("Loading with %d workers (%s threads) at %.0f req/s: %s warm-up, %s recorded%n",
+                options.concurrency(), threads, options.rate(), options.warmup(), options.duration());
+
+        long interval = options.intervalNanos();
+        long start = System.nanoTime();
+        long recordFrom = start + options.warmup().toNanos();
+        long end = recordFrom + options.duration().toNanos();
+        List<Future<Recording>> futures = new ArrayList<>();
+        for (int worker = 0; worker < options.concurrency(); worker++) {
+            long firstStart = start + interval * worker / options.concurrency();
+            SplittableRandom random = new SplittableRandom(RANDOM_SEED + 1 + worker);
+            futures.add(workers.submit(() -> work(client, workload, options.mix(), random,
+                    firstStart, interval, recordFrom, end)));
+        }
+
+        Recording recording = new Recording();
+        for (Future<Recording> future : futures) {
+            recording.add(future.get());
+        }
+
+        LoadReport report = new LoadReport(options, baseUrl, threads, recording);
+        report.print(System.out);
+        report.write(options.report());
+        System.out.println("Report written to " + options.report().toAbsolutePath());
+
+        if (options.baseline() == null) {
+            return 0;
+        }
+        List<String> regressions = report.regressionsAgainst(options.baseline(), options.tolerance());
+        regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+        return regressions.isEmpty() ? 0 : 1;
+    }
+
+    private static Recording work(HttpClient client, Workload workload, Map<Operation, Integer> mix,
+                                  SplittableRandom random, long firstStart, long interval, long recordFrom,
+                                  long end) throws InterruptedException {
+        Recording recording = new Recording();
+        for (long intended = firstStart; intended < end; intended += interval) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            Operation operation = pick(mix, random);
+            HttpRequest request = workload.request(operation, random);
+
+            long sent = System.nanoTime();
+            boolean failed;
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                failed = status >= 400;
+            } catch (IOException e) {
+                failed = true;
+            }
+            long done = System.nanoTime();
+
+            if (intended >= recordFrom) {
+                recording.record(operation, done - intended, done - sent, failed);
+            }
+        }
+        return recording;
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (Map.Entry<Operation, Integer> share : mix.entrySet()) {
+            roll -= share.getValue();
+            if (roll < 0) {
+                return share.getKey();
+            }
+        }
+        throw new IllegalStateException("Mix shares must add up to 100");
+    }
+
+    private static ConfigurableApplicationContext startApplication(long dataset) {
+        // Passed as arguments so they win over application.properties (SQL logging in particular).
+        return new SpringApplicationBuilder(TransactionSchedulerApplication.class).run(
+                "--dataset.transactions=" + dataset,
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest",
+                "--spring.jpa.show-sql=false",
+                "--transaction-execution.enabled=false",
+                "--transaction-execution.lease.enabled=false",
+                "--logging.level.com.natixis=WARN",
+                "--logging.level.org.hibernate=WARN");
+    }
+
+    private static Method virtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.natixis.transaction_scheduler.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code key=value} arguments. Every setting
+ * has a default, so an empty argument list runs the standard mix.
+ *
+ * @param baseUrl     application to load, context path included (e.g. {@code http://localhost:8080/api});
+ *                    when null, one is started in-process on a free port
+ * @param concurrency closed-loop workers, each with at most one request in flight
+ * @param rate        intended requests per second over all workers, which
+ *                    latencies are measured against
+ * @param warmup      time spent loading before anything is recorded
+ * @param duration    recorded time after the warm-up
+ * @param mix         share of each operation, in percent
+ * @param seed        transactions created before the run for reads and patches
+ * @param dataset     synthetic transactions bulk-loaded into the in-process application at startup
+ * @param report      where the JSON report is written
+ * @param baseline    earlier report to compare against, or null
+ * @param tolerance   p99 growth over the baseline, in percent, that fails the run
+ */
+record LoadTestOptions(String baseUrl, int concurrency, double rate, Duration warmup, Duration duration,
+                       Map<Operation, Integer> mix, int seed, long dataset, Path report, Path baseline, double tolerance) {
+
+    static final String DEFAULT_MIX = "get=70,create=20,patch=5,list=5";
+
+    private static final List<String> KEYS = List.of("baseUrl", "concurrency", "rate", "warmup", "duration",
+            "mix", "seed", "dataset", "report", "baseline", "tolerance");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got '" + arg + "'");
+            }
+            String key = arg.substring(0, separator);
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown option '" + key + "', expected one of " + KEYS);
+            }
+            values.put(key, arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+                values.get("baseUrl"),
+                Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                Double.parseDouble(values.getOrDefault("rate", "500")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "30"))),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(values.getOrDefault("seed", "1000")),
+                Long.parseLong(values.getOrDefault("dataset", "0")),
+                Path.of(values.getOrDefault("report", "target/loadtest-report.json")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("tolerance", "20")));
+    }
+
+    LoadTestOptions {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive: latencies are measured against it");
+        }
+        if (duration.isZero() || duration.isNegative() || warmup.isNegative()) {
+            throw new IllegalArgumentException("duration must be positive and warmup not negative");
+        }
+        if (seed < 1) {
+            throw new IllegalArgumentException("seed must be at least 1");
+        }
+        if (dataset < 0 || (dataset > 0 && baseUrl != null)) {
+            throw new IllegalArgumentException("dataset cannot be negative and only applies without baseUrl");
+        }
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+    }
+
+    /**
+     * Nanoseconds between two intended request starts of one worker.
+     */
+    long intervalNanos() {
+        return (long) (concurrency * 1_000_000_000d / rate);
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> shares = new EnumMap<>(Operation.class);
+        int total = 0;
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=percent in mix, got '" + entry + "'");
+            }
+            int share = Integer.parseInt(parts[1].trim());
+            if (share < 0) {
+                throw new IllegalArgumentException("Mix shares cannot be negative");
+            }
+            shares.merge(Operation.ofKey(parts[0].trim()), share, Integer::sum);
+            total += share;
+        }
+        if (total != 100) {
+            throw new IllegalArgumentException("Mix shares must add up to 100, got " + total);
+        }
+        return shares;
+    }
+}
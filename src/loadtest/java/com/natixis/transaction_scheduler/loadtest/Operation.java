@@ -0,0 +1,39 @@
+package com.natixis.transaction_scheduler.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * The endpoints the load test exercises. {@code key} is the name used in the
+ * {@code mix} option and {@code endpoint} the name used in the report.
+ */
+enum Operation {
+
+    GET_BY_ID("get", "GET /v1/transactions/{id}"),
+    CREATE("create", "POST /v1/transactions"),
+    PATCH("patch", "PATCH /v1/transactions/{id}"),
+    LIST_BY_DATE("list", "GET /v1/transactions/scheduled/{date}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation ofKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown operation '" + key + "' in mix, expected get, create, patch or list"));
+    }
+}
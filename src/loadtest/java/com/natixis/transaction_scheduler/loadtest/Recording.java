@@ -0,0 +1,49 @@
+package com.natixis.transaction_scheduler.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Latencies of one worker, or of all workers once merged. Not thread-safe:
+ * each worker records into its own instance.
+ * <p>
+ * {@code responseTime} runs from the intended start of a request, so time a
+ * request spent waiting behind a slow predecessor of the same worker counts
+ * against it; this is the coordinated-omission-corrected latency.
+ * {@code serviceTime} runs from the moment the request was actually sent, as
+ * a naive closed-loop client would measure it.
+ */
+final class Recording {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    final Map<Operation, Histogram> responseTime = new EnumMap<>(Operation.class);
+    final Map<Operation, Histogram> serviceTime = new EnumMap<>(Operation.class);
+    final Map<Operation, long[]> errors = new EnumMap<>(Operation.class);
+
+    Recording() {
+        for (Operation operation : Operation.values()) {
+            responseTime.put(operation, new Histogram(SIGNIFICANT_DIGITS));
+            serviceTime.put(operation, new Histogram(SIGNIFICANT_DIGITS));
+            errors.put(operation, new long[1]);
+        }
+    }
+
+    void record(Operation operation, long responseNanos, long serviceNanos, boolean failed) {
+        responseTime.get(operation).recordValue(responseNanos);
+        serviceTime.get(operation).recordValue(serviceNanos);
+        if (failed) {
+            errors.get(operation)[0]++;
+        }
+    }
+
+    void add(Recording other) {
+        for (Operation operation : Operation.values()) {
+            responseTime.get(operation).add(other.responseTime.get(operation));
+            serviceTime.get(operation).add(other.serviceTime.get(operation));
+            errors.get(operation)[0] += other.errors.get(operation)[0];
+        }
+    }
+}
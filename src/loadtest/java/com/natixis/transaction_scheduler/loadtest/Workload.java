@@ -0,0 +1,104 @@
+package com.natixis.transaction_scheduler.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Builds the requests of the mix. Every transfer is priced by Fee B (1001 to
+ * 2000 EUR, 1 to 10 days ahead) so creates and patches succeed on the seeded
+ * fee rules; reads and patches target transactions created by {@link #seed}.
+ */
+final class Workload {
+
+    private static final String[] ACCOUNTS = {
+            "FR7630006000011234567890189",
+            "PT50000201231234567890154",
+            "DE89370400440532013000",
+            "GB82WEST12345698765432",
+            "ES9121000418450200051332",
+            "IT60X0542811101000000123456",
+            "NL91ABNA0417164300",
+            "BE68539007547034"
+    };
+    private static final int MAX_DAYS_AHEAD = 10;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI transactions;
+    private final LocalDate today;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private long[] ids;
+
+    Workload(HttpClient client, String baseUrl, LocalDate today) {
+        this.client = client;
+        this.transactions = URI.create(baseUrl.replaceAll("/+$", "") + "/v1/transactions");
+        this.today = today;
+    }
+
+    /**
+     * Create {@code count} transactions one at a time and keep their ids.
+     */
+    void seed(int count, SplittableRandom random) throws IOException, InterruptedException {
+        ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> response = client.send(create(random), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException(String.format(
+                        "Seeding failed with HTTP %d: %s", response.statusCode(), response.body()));
+            }
+            ids[i] = jsonMapper.readTree(response.body()).get("id").longValue();
+        }
+    }
+
+    HttpRequest request(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case GET_BY_ID -> HttpRequest.newBuilder(byId(random)).timeout(TIMEOUT).GET().build();
+            case CREATE -> create(random);
+            case PATCH -> HttpRequest.newBuilder(byId(random))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"transferAmount\":" + amount(random) + "}"))
+                    .build();
+            case LIST_BY_DATE -> HttpRequest.newBuilder(transactions.resolve(
+                            "transactions/scheduled/" + scheduledDate(random) + "?limit=50"))
+                    .timeout(TIMEOUT)
+                    .GET()
+                    .build();
+        };
+    }
+
+    private HttpRequest create(SplittableRandom random) {
+        int source = random.nextInt(ACCOUNTS.length);
+        int destination = (source + 1 + random.nextInt(ACCOUNTS.length - 1)) % ACCOUNTS.length;
+        String body = String.format(
+                "{\"sourceAccount\":\"%s\",\"destinationAccount\":\"%s\",\"transferAmount\":%s,\"scheduledDate\":\"%s\"}",
+                ACCOUNTS[source], ACCOUNTS[destination], amount(random), scheduledDate(random));
+        return HttpRequest.newBuilder(transactions)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private URI byId(SplittableRandom random) {
+        return transactions.resolve("transactions/" + ids[random.nextInt(ids.length)]);
+    }
+
+    private static String amount(SplittableRandom random) {
+        return BigDecimal.valueOf(random.nextLong(100_100, 200_001), 2).toPlainString();
+    }
+
+    private LocalDate scheduledDate(SplittableRandom random) {
+        return today.plusDays(random.nextInt(1, MAX_DAYS_AHEAD + 1));
+    }
+}
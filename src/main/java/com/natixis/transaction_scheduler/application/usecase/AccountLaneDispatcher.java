@@ -0,0 +1,190 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs work for many accounts in parallel while keeping the work of any one
+ * account strictly ordered.
+ * <p>
+ * Accounts are hashed onto a fixed number of lanes. Each lane is a FIFO queue
+ * drained by at most one task at a time on the shared executor, so tasks for
+ * the same account run one after another in submission order, while tasks on
+ * different lanes run concurrently. No lock is shared between lanes, and the
+ * lane count is also the upper bound on concurrency.
+ * <p>
+ * Each lane keeps its queue depth and the latency of its tasks (from
+ * submission to completion, so queueing is included). A lane that stands out
+ * points at a hot account, or at several busy accounts sharing a lane.
+ */
+public final class AccountLaneDispatcher {
+
+    /**
+     * Tasks a lane runs before handing its thread back, so a busy lane cannot
+     * keep a pool thread from lanes waiting behind it.
+     */
+    static final int DRAIN_BATCH = 64;
+
+    private final Executor executor;
+    private final Lane[] lanes;
+
+    public AccountLaneDispatcher(Executor executor, int laneCount) {
+        this.executor = Objects.requireNonNull(executor, "executor cannot be null");
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    /**
+     * Queue a task behind every task previously submitted for the same account.
+     */
+    public <T> CompletableFuture<T> submit(AccountNumber account, Supplier<T> task) {
+        Objects.requireNonNull(account, "account cannot be null");
+        Objects.requireNonNull(task, "task cannot be null");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        Lane lane = lanes[laneOf(account)];
+        lane.enqueue(() -> {
+            try {
+                result.complete(task.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                lane.recordCompletion(System.nanoTime() - submittedAt);
+            }
+        });
+        return result;
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    int laneOf(AccountNumber account) {
+        int hash = account.getValue().hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x7feb352d;
+        hash ^= hash >>> 15;
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    /**
+     * Point-in-time statistics of every lane, in lane order.
+     */
+    public List<LaneStats> stats() {
+        List<LaneStats> stats = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            stats.add(lane.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Point-in-time statistics of one lane.
+     */
+    public LaneStats stats(int lane) {
+        return lanes[lane].stats();
+    }
+
+    /**
+     * @param depth             tasks queued or running right now
+     * @param peakDepth         highest depth seen
+     * @param completed         tasks finished
+     * @param totalLatencyNanos sum of submission-to-completion times
+     * @param maxLatencyNanos   longest submission-to-completion time
+     */
+    public record LaneStats(
+            int lane,
+            int depth,
+            int peakDepth,
+            long completed,
+            long totalLatencyNanos,
+            long maxLatencyNanos
+    ) {
+        public double meanLatencyMillis() {
+            return completed == 0 ? 0.0 : totalLatencyNanos / (completed * 1_000_000.0);
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final int index;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicInteger peakDepth = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder totalLatencyNanos = new LongAdder();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+        private Lane(int index) {
+            this.index = index;
+        }
+
+        void enqueue(Runnable task) {
+            peakDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
+            queue.add(task);
+            schedule();
+        }
+
+        /**
+         * Single writer: only the task that flipped {@code scheduled} drains
+         * the queue. It re-checks the queue after clearing the flag so a task
+         * added in between is never stranded.
+         */
+        @Override
+        public void run() {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    break;
+                }
+                task.run();
+            }
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void recordCompletion(long latencyNanos) {
+            depth.decrementAndGet();
+            completed.increment();
+            totalLatencyNanos.add(latencyNanos);
+            maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        }
+
+        LaneStats stats() {
+            return new LaneStats(index, depth.get(), peakDepth.get(), completed.sum(),
+                    totalLatencyNanos.sum(), maxLatencyNanos.get());
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -6,13 +6,15 @@ import com.natixis.transaction_scheduler.domain.model.Transaction;
 import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
 import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
 import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDateTime;
 
 /**
  * Use Case implementation for creating transactions.
@@ -23,22 +25,26 @@ public class CreateTransactionUseCaseImpl implements CreateTransactionUseCase {
 
     private final TransactionRepository transactionRepository;
     private final FeeConfigurationRepository feeConfigurationRepository;
+    private final ExecutionTimer executionTimer;
+    private final SchedulingCalendar schedulingCalendar;
+    private final SchedulingClock schedulingClock;
 
     @Override
 
     public Transaction execute(CreateTransactionCommand command) {
         log.info("Creating transaction: {} -> {}",
                 command.sourceAccount(), command.destinationAccount());
-        AccountNumber sourceAccount = new AccountNumber(command.sourceAccount());
-        AccountNumber destinationAccount = new AccountNumber(command.destinationAccount());
+        AccountNumber sourceAccount = AccountNumber.of(command.sourceAccount());
+        AccountNumber destinationAccount = AccountNumber.of(command.destinationAccount());
         Money transferAmount = new Money(command.transferAmount());
-        LocalDate scheduledDate = command.scheduledDate();
+        LocalDate scheduledDate = schedulingCalendar.scheduledDate(command.scheduledDate());
 
         log.info("Creating transaction: {} -> {} | Amount: {} | Date: {}",
                 sourceAccount, destinationAccount, transferAmount, scheduledDate);
 
 
-        long daysBetween = ChronoUnit.DAYS.between(LocalDate.now(), scheduledDate);
+        LocalDateTime now = schedulingClock.now();
+        long daysBetween = schedulingCalendar.feeDays(now.toLocalDate(), scheduledDate);
         FeeConfiguration feeConfiguration = feeConfigurationRepository
                 .findBestMatch(transferAmount, daysBetween)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -58,11 +64,14 @@ public class CreateTransactionUseCaseImpl implements CreateTransactionUseCase {
                 destinationAccount,
                 transferAmount,
                 scheduledDate,
+                command.scheduledTime(),
                 calculatedFee,
-                feeConfiguration
+                feeConfiguration,
+                now
         );
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        executionTimer.schedule(savedTransaction);
 
         log.info("Transaction created successfully with ID: {}", savedTransaction.getId());
         log.info("Transaction summary: {}", savedTransaction.getSummary());
@@ -0,0 +1,168 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase.CreateTransactionCommand;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use Case implementation for creating transactions in bulk.
+ * <p>
+ * All items are priced against the same fee rule index and the same "today",
+ * so a batch is consistent even if the rules are reloaded while it runs.
+ * Valid transactions are saved {@value #CHUNK_SIZE} at a time, which the
+ * persistence adapter turns into JDBC batch inserts.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class CreateTransactionsBatchUseCaseImpl implements CreateTransactionsBatchUseCase {
+
+    public static final int MAX_ITEMS = 10_000;
+    static final int CHUNK_SIZE = 500;
+
+    private static final int MAX_AMOUNT_FRACTION_DIGITS = 2;
+    private static final int MAX_AMOUNT_INTEGER_DIGITS = 10;
+
+    private final TransactionRepository transactionRepository;
+    private final FeeConfigurationRepository feeConfigurationRepository;
+    private final ExecutionTimer executionTimer;
+    private final SchedulingCalendar schedulingCalendar;
+    private final SchedulingClock schedulingClock;
+
+    @Override
+    public BatchResult execute(CreateTransactionsBatchCommand command) {
+        List<CreateTransactionCommand> items = command.items();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException(
+                    String.format("Too many items: %d (maximum %d)", items.size(), MAX_ITEMS));
+        }
+
+        FeeRuleIndex ruleIndex = feeConfigurationRepository.getRuleIndex();
+        LocalDateTime now = schedulingClock.now();
+
+        log.info("Creating batch of {} transactions against {} fee rules", items.size(), ruleIndex.size());
+
+        ItemResult[] results = new ItemResult[items.size()];
+        List<Transaction> pending = new ArrayList<>(Math.min(items.size(), CHUNK_SIZE));
+        int[] pendingIndexes = new int[CHUNK_SIZE];
+
+        for (int index = 0; index < items.size(); index++) {
+            try {
+                pendingIndexes[pending.size()] = index;
+                pending.add(prepare(items.get(index), ruleIndex, now));
+            } catch (IllegalArgumentException e) {
+                results[index] = new ItemResult(index, null, e.getMessage());
+                continue;
+            }
+            if (pending.size() == CHUNK_SIZE) {
+                saveChunk(pending, pendingIndexes, results);
+            }
+        }
+        saveChunk(pending, pendingIndexes, results);
+
+        BatchResult batchResult = new BatchResult(Arrays.asList(results));
+
+        log.info("Batch finished: {} created, {} rejected",
+                batchResult.createdCount(), batchResult.rejectedCount());
+
+        return batchResult;
+    }
+
+    private Transaction prepare(CreateTransactionCommand item, FeeRuleIndex ruleIndex, LocalDateTime now) {
+        if (item == null) {
+            throw new IllegalArgumentException("Transaction item is required");
+        }
+        if (item.sourceAccount() == null || item.sourceAccount().isBlank()) {
+            throw new IllegalArgumentException("Source account is required");
+        }
+        if (item.destinationAccount() == null || item.destinationAccount().isBlank()) {
+            throw new IllegalArgumentException("Destination account is required");
+        }
+        if (item.transferAmount() == null) {
+            throw new IllegalArgumentException("Transfer amount is required");
+        }
+        if (item.scheduledDate() == null) {
+            throw new IllegalArgumentException("Scheduled date is required");
+        }
+        if (!hasValidAmountFormat(item)) {
+            throw new IllegalArgumentException("Invalid amount format");
+        }
+
+        AccountNumber sourceAccount = parseAccount(item.sourceAccount(), "source");
+        AccountNumber destinationAccount = parseAccount(item.destinationAccount(), "destination");
+        Money transferAmount = new Money(item.transferAmount());
+        LocalDate scheduledDate = schedulingCalendar.scheduledDate(item.scheduledDate());
+
+        long daysBetween = schedulingCalendar.feeDays(now.toLocalDate(), scheduledDate);
+        Optional<FeeConfiguration> match = ruleIndex.findBestMatch(transferAmount, daysBetween);
+        if (match.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "No fee configuration found for amount %s and %d days", transferAmount, daysBetween));
+        }
+        FeeConfiguration feeConfiguration = match.get();
+
+        return Transaction.create(
+                sourceAccount,
+                destinationAccount,
+                transferAmount,
+                scheduledDate,
+                item.scheduledTime(),
+                feeConfiguration.calculateFee(transferAmount),
+                feeConfiguration,
+                now
+        );
+    }
+
+    /**
+     * Same limits as the single-item request ({@code @Digits(integer = 10, fraction = 2)}).
+     */
+    private static boolean hasValidAmountFormat(CreateTransactionCommand item) {
+        BigDecimal amount = item.transferAmount().stripTrailingZeros();
+        int fractionDigits = Math.max(amount.scale(), 0);
+        int integerDigits = amount.precision() - amount.scale();
+        return fractionDigits <= MAX_AMOUNT_FRACTION_DIGITS && integerDigits <= MAX_AMOUNT_INTEGER_DIGITS;
+    }
+
+    private static AccountNumber parseAccount(String value, String role) {
+        try {
+            return AccountNumber.of(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid %s account format: %s", role, e.getMessage()), e);
+        }
+    }
+
+    private void saveChunk(List<Transaction> pending, int[] pendingIndexes, ItemResult[] results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Transaction> saved = transactionRepository.saveAll(pending);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = pendingIndexes[i];
+            results[index] = new ItemResult(index, saved.get(i), null);
+            executionTimer.schedule(saved.get(i));
+        }
+        log.debug("Saved chunk of {} transactions", saved.size());
+        pending.clear();
+    }
+}
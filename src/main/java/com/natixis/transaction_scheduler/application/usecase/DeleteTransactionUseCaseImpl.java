@@ -3,6 +3,7 @@ package com.natixis.transaction_scheduler.application.usecase;
 import com.natixis.transaction_scheduler.domain.exception.ResourceNotFoundException;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
 import com.natixis.transaction_scheduler.domain.port.in.DeleteTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 public class DeleteTransactionUseCaseImpl implements DeleteTransactionUseCase {
 
     private final TransactionRepository transactionRepository;
+    private final ExecutionTimer executionTimer;
 
     @Override
     public void execute(Long id) {
@@ -25,6 +27,7 @@ public class DeleteTransactionUseCaseImpl implements DeleteTransactionUseCase {
         log.debug("Found transaction to delete: {}", transaction.getSummary());
 
         transactionRepository.delete(transaction);
+        executionTimer.cancel(id);
 
         log.info("Transaction deleted successfully: ID {}", id);
     }
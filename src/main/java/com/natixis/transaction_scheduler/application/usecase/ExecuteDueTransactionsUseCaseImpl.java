@@ -0,0 +1,388 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionCheckpoint;
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionRunRepository;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership;
+import com.natixis.transaction_scheduler.domain.port.out.PaymentGateway;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionExecutionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Use Case implementation for executing due transactions.
+ * <p>
+ * Only the execution partitions this node owns are worked on; ownership is
+ * re-read before every batch, so partitions gained or lost during a run are
+ * taken into account. Due transactions are claimed one batch at a time, which
+ * moves them to {@code IN_PROGRESS} so no other worker picks them up. A batch
+ * is filled from the owned partitions in turn and handed to the
+ * {@link AccountLaneDispatcher}: transfers from the same source account run
+ * one after another in id order, different accounts run in parallel, and the
+ * lane count caps the gateway calls in flight. The batch's outcomes and final
+ * statuses are written once it is done, before the next batch is claimed, so
+ * per-account order also holds across batches. Memory use is therefore
+ * bounded by the batch size, not by the day's volume.
+ * <p>
+ * The daily run only claims transactions without a time slot; those with one
+ * are handed in by id when their slot comes and go through the same batches.
+ * <p>
+ * A claimed transaction that already has a successful execution (for example
+ * when a previous run stopped between the gateway call and the status update)
+ * is marked executed without calling the gateway again.
+ * <p>
+ * The daily run of a date is recorded as an {@link ExecutionRun}. After each
+ * batch's statuses are written, the checkpoints of the partitions it touched
+ * are written together, and a partition is checkpointed as completed once it
+ * has been drained. When a run is started again (after a crash, or by a node
+ * taking over partitions), transactions that an interrupted start claimed in
+ * the partitions not yet completed go back to scheduled, provided they were
+ * claimed longer than the recovery delay ago: a younger claim may still
+ * belong to a live worker. The next claims pick them up again, and the
+ * successful-execution check above keeps each transaction to one recorded
+ * success. Claims go by status rather than by the checkpoint's last id,
+ * because ids from the pooled sequence are not in insertion order across nodes.
+ * <p>
+ * A gateway rejection fails the transaction. A gateway error instead hands it
+ * to {@link ExecutionRetries}, which schedules another attempt or
+ * dead-letters it; retries come back by id once they are due.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ExecuteDueTransactionsUseCaseImpl implements ExecuteDueTransactionsUseCase {
+
+    private static final int SLOWEST_LANES_LOGGED = 3;
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionExecutionRepository transactionExecutionRepository;
+    private final ExecutionRunRepository executionRunRepository;
+    private final ExecutionRetries executionRetries;
+    private final PaymentGateway paymentGateway;
+    private final PartitionOwnership partitionOwnership;
+    private final AccountLaneDispatcher laneDispatcher;
+    private final SchedulingClock schedulingClock;
+    private final int pageSize;
+    private final Duration recoverAfter;
+
+    @Override
+    public ExecutionReport execute(LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        ExecutionRun run = executionRunRepository.start(businessDate);
+        log.info("{} execution run {} for transactions due on {} ({} lanes, page size {})",
+                run.isResumed() ? "Resuming" : "Starting", run.getId(), businessDate,
+                laneDispatcher.laneCount(), pageSize);
+
+        RunProgress progress = new RunProgress(run);
+        ExecutionReport report = run(businessDate, () -> claimBatch(businessDate, progress), progress::record);
+        progress.flush();
+        if (!run.isCompleted() && executionRunRepository.completeIfDrained(run.getId())) {
+            log.info("Execution run {} for {} completed", run.getId(), businessDate);
+        }
+        return report;
+    }
+
+    @Override
+    public Optional<ExecutionReport> resume(LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        return executionRunRepository.findByBusinessDate(businessDate)
+                .filter(run -> !run.isCompleted())
+                .map(run -> execute(businessDate));
+    }
+
+    @Override
+    public ExecutionReport execute(LocalDate businessDate, Collection<Long> transactionIds) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        Objects.requireNonNull(transactionIds, "transactionIds cannot be null");
+        log.debug("Executing {} timed transactions", transactionIds.size());
+        return runByIds(businessDate, transactionIds, transactionRepository::claimPending);
+    }
+
+    @Override
+    public ExecutionReport retry(LocalDate businessDate, Collection<Long> transactionIds) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        Objects.requireNonNull(transactionIds, "transactionIds cannot be null");
+        log.debug("Retrying {} transactions", transactionIds.size());
+        return runByIds(businessDate, transactionIds,
+                ids -> transactionRepository.claimRetries(ids, schedulingClock.now()));
+    }
+
+    private ExecutionReport runByIds(LocalDate businessDate, Collection<Long> transactionIds,
+                                     Function<List<Long>, List<Transaction>> claim) {
+        Iterator<List<Long>> chunks = chunks(List.copyOf(transactionIds)).iterator();
+        return run(businessDate, () -> {
+            while (chunks.hasNext()) {
+                List<Transaction> claimed = claim.apply(chunks.next());
+                if (!claimed.isEmpty()) {
+                    return claimed;
+                }
+            }
+            return List.of();
+        }, batch -> { });
+    }
+
+    private ExecutionReport run(LocalDate businessDate, Supplier<List<Transaction>> nextBatch,
+                                Consumer<BatchOutcome> onBatchDone) {
+        long started = System.nanoTime();
+        long dispatched = 0;
+        long succeeded = 0;
+        long retrying = 0;
+        long skipped = 0;
+
+        List<Transaction> claimed;
+        while (!(claimed = nextBatch.get()).isEmpty()) {
+            Set<Long> alreadyExecuted = succeededIds(claimed);
+            List<Transaction> due = claimed.stream()
+                    .filter(transaction -> !alreadyExecuted.contains(transaction.getId()))
+                    .toList();
+            skipped += alreadyExecuted.size();
+
+            List<TransactionExecution> outcomes = dispatch(due);
+            transactionExecutionRepository.saveAll(outcomes);
+
+            Map<Long, Transaction> byId = new HashMap<>();
+            due.forEach(transaction -> byId.put(transaction.getId(), transaction));
+            List<Long> executedIds = new ArrayList<>(alreadyExecuted);
+            List<Long> failedIds = new ArrayList<>();
+            List<ExecutionRetries.Failure> errors = new ArrayList<>();
+            for (TransactionExecution outcome : outcomes) {
+                if (outcome.isSucceeded()) {
+                    executedIds.add(outcome.getTransactionId());
+                } else if (outcome.isError()) {
+                    errors.add(new ExecutionRetries.Failure(byId.get(outcome.getTransactionId()), outcome));
+                } else {
+                    failedIds.add(outcome.getTransactionId());
+                }
+            }
+            transactionRepository.updateStatus(executedIds, TransactionStatus.IN_PROGRESS, TransactionStatus.EXECUTED);
+            transactionRepository.updateStatus(failedIds, TransactionStatus.IN_PROGRESS, TransactionStatus.FAILED);
+            retrying += executionRetries.handle(errors);
+
+            Set<Long> unsuccessful = new HashSet<>(failedIds);
+            errors.forEach(error -> unsuccessful.add(error.transaction().getId()));
+            onBatchDone.accept(new BatchOutcome(claimed, alreadyExecuted, unsuccessful));
+
+            dispatched += outcomes.size();
+            succeeded += outcomes.size() - unsuccessful.size();
+        }
+
+        ExecutionReport report = new ExecutionReport(businessDate, dispatched, succeeded,
+                dispatched - succeeded, retrying, skipped, Duration.ofNanos(System.nanoTime() - started));
+
+        log.info("Executed {} transactions due on {}: {} succeeded, {} failed ({} to retry), {} skipped in {} ms ({} tx/s)",
+                report.dispatched(), businessDate, report.succeeded(), report.failed(), report.retrying(),
+                report.skipped(), report.elapsed().toMillis(), String.format("%.1f", report.throughputPerSecond()));
+        logSlowestLanes();
+
+        return report;
+    }
+
+    /**
+     * Fill one batch from the owned partitions that still have work. A
+     * partition is only marked drained when a claim on it returns nothing:
+     * a short claim can mean another worker held some of its rows.
+     * Partitions already completed in an earlier start are still claimed
+     * from, for transactions created for the date since.
+     */
+    private List<Transaction> claimBatch(LocalDate businessDate, RunProgress progress) {
+        List<Transaction> batch = new ArrayList<>(pageSize);
+        while (batch.isEmpty()) {
+            List<Integer> partitions = partitionOwnership.ownedPartitions().stream()
+                    .filter(partition -> !progress.isDrained(partition))
+                    .sorted()
+                    .toList();
+            if (partitions.isEmpty()) {
+                return batch;
+            }
+            for (Integer partition : partitions) {
+                progress.visit(businessDate, partition);
+                List<Transaction> claimed = transactionRepository.claimDue(
+                        businessDate, partition, pageSize - batch.size());
+                if (claimed.isEmpty()) {
+                    progress.drained(businessDate, partition);
+                }
+                batch.addAll(claimed);
+                if (batch.size() == pageSize) {
+                    break;
+                }
+            }
+        }
+        return batch;
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += pageSize) {
+            chunks.add(ids.subList(from, Math.min(from + pageSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private void logSlowestLanes() {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        laneDispatcher.stats().stream()
+                .sorted(Comparator.comparingLong(AccountLaneDispatcher.LaneStats::maxLatencyNanos).reversed())
+                .limit(SLOWEST_LANES_LOGGED)
+                .forEach(lane -> log.debug("Lane {}: peak depth {}, {} completed, mean {} ms, max {} ms",
+                        lane.lane(), lane.peakDepth(), lane.completed(),
+                        String.format("%.1f", lane.meanLatencyMillis()), lane.maxLatencyNanos() / 1_000_000));
+    }
+
+    private record BatchOutcome(List<Transaction> claimed, Set<Long> alreadyExecuted, Set<Long> failedIds) {
+    }
+
+    /**
+     * Checkpoints of the run as seen by this start, with the ones changed
+     * since the last write.
+     */
+    private final class RunProgress {
+
+        private final ExecutionRun run;
+        private final Map<Integer, ExecutionCheckpoint> checkpoints;
+        private final Map<Integer, ExecutionCheckpoint> unsaved = new HashMap<>();
+        private final Set<Integer> visited = new HashSet<>();
+        private final Set<Integer> drained = new HashSet<>();
+
+        private RunProgress(ExecutionRun run) {
+            this.run = run;
+            this.checkpoints = new HashMap<>(run.checkpointsByPartition());
+        }
+
+        boolean isDrained(int partition) {
+            return drained.contains(partition);
+        }
+
+        /**
+         * On the first claim from a partition this start, hand back what an
+         * interrupted start left claimed there.
+         */
+        void visit(LocalDate businessDate, int partition) {
+            if (!visited.add(partition) || !run.isResumed() || checkpoints.get(partition).isCompleted()) {
+                return;
+            }
+            int released = transactionRepository.releaseClaimed(
+                    businessDate, partition, schedulingClock.now().minus(recoverAfter));
+            if (released > 0) {
+                log.info("Released {} transactions of partition {} left in progress by an interrupted run",
+                        released, partition);
+            }
+        }
+
+        /**
+         * A partition is completed once nothing is left to claim and no
+         * worker still holds any of its transactions.
+         */
+        void drained(LocalDate businessDate, int partition) {
+            drained.add(partition);
+            ExecutionCheckpoint checkpoint = checkpoints.get(partition);
+            if (!checkpoint.isCompleted() && !transactionRepository.hasClaimed(businessDate, partition)) {
+                update(checkpoint.complete(schedulingClock.now()));
+            }
+        }
+
+        void record(BatchOutcome batch) {
+            Map<Integer, List<Transaction>> byPartition = new HashMap<>();
+            for (Transaction transaction : batch.claimed()) {
+                byPartition.computeIfAbsent(transaction.getPartitionId(), partition -> new ArrayList<>())
+                        .add(transaction);
+            }
+            LocalDateTime now = schedulingClock.now();
+            byPartition.forEach((partition, transactions) -> {
+                long lastId = 0;
+                long skipped = 0;
+                long failed = 0;
+                for (Transaction transaction : transactions) {
+                    lastId = Math.max(lastId, transaction.getId());
+                    if (batch.alreadyExecuted().contains(transaction.getId())) {
+                        skipped++;
+                    } else if (batch.failedIds().contains(transaction.getId())) {
+                        failed++;
+                    }
+                }
+                long succeeded = transactions.size() - skipped - failed;
+                update(checkpoints.get(partition).advance(lastId, succeeded, failed, skipped, now));
+            });
+            flush();
+        }
+
+        void flush() {
+            if (!unsaved.isEmpty()) {
+                executionRunRepository.saveCheckpoints(run.getId(), List.copyOf(unsaved.values()));
+                unsaved.clear();
+            }
+        }
+
+        private void update(ExecutionCheckpoint checkpoint) {
+            checkpoints.put(checkpoint.getPartitionId(), checkpoint);
+            unsaved.put(checkpoint.getPartitionId(), checkpoint);
+        }
+    }
+
+    private Set<Long> succeededIds(List<Transaction> transactions) {
+        return transactionExecutionRepository.findSucceededTransactionIds(
+                transactions.stream().map(Transaction::getId).toList());
+    }
+
+    private List<TransactionExecution> dispatch(List<Transaction> due) {
+        List<CompletableFuture<TransactionExecution>> futures = new ArrayList<>(due.size());
+        for (Transaction transaction : due) {
+            futures.add(laneDispatcher.submit(transaction.getSourceAccount(), () -> executeOne(transaction)));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Executions are recorded under the transaction's scheduled date, which
+     * is also the date of its daily run, however late it is retried.
+     */
+    private TransactionExecution executeOne(Transaction transaction) {
+        long started = System.nanoTime();
+        TransactionExecution.TransactionExecutionBuilder execution = TransactionExecution.builder()
+                .transactionId(transaction.getId())
+                .businessDate(transaction.getScheduledDate());
+        try {
+            PaymentGateway.PaymentResult result = paymentGateway.execute(transaction);
+            if (result.accepted()) {
+                execution.outcome(TransactionExecution.Outcome.SUCCEEDED)
+                        .gatewayReference(result.reference());
+            } else {
+                execution.outcome(TransactionExecution.Outcome.FAILED)
+                        .failureReason(result.failureReason());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Payment gateway error for transaction {}: {}", transaction.getId(), e.getMessage());
+            execution.outcome(TransactionExecution.Outcome.ERROR)
+                    .failureReason("Gateway error: " + e.getMessage());
+        }
+        return execution
+                .executedAt(schedulingClock.now())
+                .durationMillis(Duration.ofNanos(System.nanoTime() - started).toMillis())
+                .build();
+    }
+}
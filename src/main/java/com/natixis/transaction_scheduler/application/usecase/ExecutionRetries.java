@@ -0,0 +1,103 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.DeadLetter;
+import com.natixis.transaction_scheduler.domain.model.RetryPolicy;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.RetryQueue;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * What happens to transactions whose execution ended in a gateway error:
+ * another attempt after the {@link RetryPolicy}'s backoff, or the
+ * dead-letter store once their attempts are used up.
+ * <p>
+ * Waiting retries are persisted with their due time and handed to the
+ * {@link RetryQueue}; no thread sleeps on them.
+ */
+@Slf4j
+public class ExecutionRetries {
+
+    private final TransactionRepository transactionRepository;
+    private final DeadLetterRepository deadLetterRepository;
+    private final RetryQueue retryQueue;
+    private final RetryPolicy retryPolicy;
+    private final SchedulingClock schedulingClock;
+    private final DoubleSupplier random;
+
+    public ExecutionRetries(TransactionRepository transactionRepository,
+                            DeadLetterRepository deadLetterRepository,
+                            RetryQueue retryQueue,
+                            RetryPolicy retryPolicy,
+                            SchedulingClock schedulingClock) {
+        this(transactionRepository, deadLetterRepository, retryQueue, retryPolicy, schedulingClock,
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    ExecutionRetries(TransactionRepository transactionRepository,
+                     DeadLetterRepository deadLetterRepository,
+                     RetryQueue retryQueue,
+                     RetryPolicy retryPolicy,
+                     SchedulingClock schedulingClock,
+                     DoubleSupplier random) {
+        this.transactionRepository = transactionRepository;
+        this.deadLetterRepository = deadLetterRepository;
+        this.retryQueue = retryQueue;
+        this.retryPolicy = retryPolicy;
+        this.schedulingClock = schedulingClock;
+        this.random = random;
+    }
+
+    public record Failure(Transaction transaction, TransactionExecution execution) {
+    }
+
+    /**
+     * Schedule another attempt for each failure, or dead-letter it.
+     *
+     * @return number of transactions scheduled for another attempt
+     */
+    public int handle(List<Failure> failures) {
+        Objects.requireNonNull(failures, "failures cannot be null");
+        if (failures.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = schedulingClock.now();
+        Map<Long, LocalDateTime> retries = new HashMap<>();
+        List<DeadLetter> deadLetters = new ArrayList<>();
+        for (Failure failure : failures) {
+            Transaction transaction = failure.transaction();
+            int attempts = transaction.getAttempts() + 1;
+            if (retryPolicy.canRetry(attempts)) {
+                retries.put(transaction.getId(), now.plus(retryPolicy.delayAfter(attempts, random)));
+            } else {
+                deadLetters.add(DeadLetter.builder()
+                        .transactionId(transaction.getId())
+                        .businessDate(failure.execution().getBusinessDate())
+                        .attempts(attempts)
+                        .lastFailureReason(failure.execution().getFailureReason())
+                        .deadLetteredAt(now)
+                        .build());
+            }
+        }
+
+        transactionRepository.scheduleRetries(retries);
+        retries.forEach(retryQueue::schedule);
+        deadLetterRepository.deadLetter(deadLetters);
+        if (!deadLetters.isEmpty()) {
+            log.warn("Dead-lettered {} transactions after {} attempts", deadLetters.size(), retryPolicy.maxAttempts());
+        }
+        return retries.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.in.ExportTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Use Case implementation for streaming transaction exports.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ExportTransactionsUseCaseImpl implements ExportTransactionsUseCase {
+
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    public long execute(ExportTransactionsCommand command, Consumer<Transaction> sink) {
+        Objects.requireNonNull(sink, "sink cannot be null");
+        if (command.from() == null || command.to() == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (command.from().isAfter(command.to())) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+
+        log.info("Exporting transactions scheduled from {} to {}", command.from(), command.to());
+
+        long exported = transactionRepository.forEachScheduledBetween(command.from(), command.to(), sink);
+
+        log.info("Exported {} transactions scheduled from {} to {}", exported, command.from(), command.to());
+
+        return exported;
+    }
+}
@@ -1,14 +1,15 @@
 package com.natixis.transaction_scheduler.application.usecase;
 
 import com.natixis.transaction_scheduler.domain.exception.ResourceNotFoundException;
+import com.natixis.transaction_scheduler.domain.model.KeysetPage;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
 import com.natixis.transaction_scheduler.domain.port.in.GetTransactionUseCase;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
-import java.util.List;
 /**
  * Use Case implementation for querying transactions.
  */
@@ -29,35 +30,36 @@ public class GetTransactionUseCaseImpl implements GetTransactionUseCase {
     }
 
     @Override
-    public List<Transaction> getAll() {
-        log.debug("Fetching all transactions");
+    public KeysetPage<TransactionView> getAllViews(PageQuery query) {
+        validate(query);
+        log.debug("Fetching transaction views after ID {} (limit {})", query.afterId(), query.limit());
 
-        List<Transaction> transactions = transactionRepository.findAll();
-
-        log.info("Found {} transactions", transactions.size());
-
-        return transactions;
+        return transactionRepository.findViews(query.afterId(), query.limit());
     }
 
     @Override
-    public List<Transaction> getByScheduledDate(LocalDate date) {
-        log.debug("Fetching transactions scheduled for: {}", date);
-
-        List<Transaction> transactions = transactionRepository.findByScheduledDate(date);
+    public KeysetPage<TransactionView> getViewsByScheduledDate(LocalDate date, PageQuery query) {
+        validate(query);
+        log.debug("Fetching transaction views scheduled for: {} after ID {}", date, query.afterId());
 
-        log.info("Found {} transactions for date {}", transactions.size(), date);
-
-        return transactions;
+        return transactionRepository.findViewsByScheduledDate(date, query.afterId(), query.limit());
     }
 
     @Override
-    public List<Transaction> getBySourceAccount(String accountNumber) {
-        log.debug("Fetching transactions for source account: {}", accountNumber);
-
-        List<Transaction> transactions = transactionRepository.findBySourceAccount(accountNumber);
+    public KeysetPage<TransactionView> getViewsBySourceAccount(String accountNumber, PageQuery query) {
+        validate(query);
+        log.debug("Fetching transaction views for source account: {} after ID {}", accountNumber, query.afterId());
 
-        log.info("Found {} transactions for account {}", transactions.size(), accountNumber);
+        return transactionRepository.findViewsBySourceAccount(accountNumber, query.afterId(), query.limit());
+    }
 
-        return transactions;
+    private static void validate(PageQuery query) {
+        if (query.limit() < 1 || query.limit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Page limit must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+        if (query.afterId() != null && query.afterId() < 0) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,228 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding keyed entries due at a point in time.
+ * <p>
+ * Level 0 has {@code wheelSize} slots of one tick each; every level above
+ * has the same number of slots, each as wide as a full turn of the level
+ * below. An entry is placed on the lowest level whose window still covers
+ * its deadline, and when a higher-level slot comes round its entries are
+ * cascaded down until they reach level 0 and expire. With one-second ticks,
+ * 60 slots and 3 levels the wheel covers 59 hours ahead.
+ * <p>
+ * Slots are intrusive doubly linked lists and entries are indexed by key, so
+ * {@link #schedule} and {@link #cancel} are O(1). Advancing costs one step
+ * per elapsed tick plus one move per cascaded entry; an empty wheel jumps
+ * straight to the target time.
+ * <p>
+ * All methods are synchronized; the expiry callback runs while the lock is
+ * held, so it should only hand the payload off.
+ *
+ * @param <T> payload delivered when the entry expires
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTicks;
+    private final Node<T>[][] slots;
+    private final Map<Long, Node<T>> entries = new HashMap<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Tick, wheel size and levels must be positive, with at least 2 slots");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTicks = new long[levels + 1];
+        this.levelTicks[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            this.levelTicks[level] = Math.multiplyExact(levelTicks[level - 1], wheelSize);
+        }
+        this.slots = new Node[levels][wheelSize];
+        for (Node<T>[] level : slots) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                level[slot] = Node.sentinel();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Longest delay from the current time the wheel is guaranteed to hold:
+     * the top level, less the turn of it already under way.
+     */
+    public long horizonMillis() {
+        return (levelTicks[slots.length] - levelTicks[slots.length - 1]) * tickMillis;
+    }
+
+    /**
+     * Add an entry, replacing any entry with the same key. A deadline that
+     * has already passed expires on the next tick.
+     *
+     * @return false when the deadline is beyond the horizon; the entry is
+     * then not held and any previous entry for the key is removed
+     */
+    public synchronized boolean schedule(long key, long deadlineMillis, T payload) {
+        cancel(key);
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Node<T> node = new Node<>(key, deadlineTick, payload);
+        if (!place(node)) {
+            return false;
+        }
+        entries.put(key, node);
+        return true;
+    }
+
+    /**
+     * @return true if an entry with the key was held
+     */
+    public synchronized boolean cancel(long key) {
+        Node<T> node = entries.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    public synchronized boolean contains(long key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Move the wheel forward to the given time, passing the payload of every
+     * entry whose deadline is reached, in deadline order.
+     *
+     * @return number of expired entries
+     */
+    public synchronized int advanceTo(long nowMillis, Consumer<T> expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int count = 0;
+        while (currentTick < targetTick) {
+            if (entries.isEmpty()) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            cascade();
+            count += expire(slots[0][slotOf(currentTick, 0)], expired);
+        }
+        return count;
+    }
+
+    /**
+     * Bring down the entries of every higher-level slot that starts at the
+     * current tick, top level first, so an entry can fall through several
+     * levels in one step.
+     */
+    private void cascade() {
+        for (int level = slots.length - 1; level > 0; level--) {
+            if (currentTick % levelTicks[level] != 0) {
+                continue;
+            }
+            Node<T> head = slots[level][slotOf(currentTick, level)];
+            Node<T> node = head.next;
+            head.clear();
+            while (node != head) {
+                Node<T> next = node.next;
+                node.detach();
+                place(node);
+                node = next;
+            }
+        }
+    }
+
+    private int expire(Node<T> head, Consumer<T> expired) {
+        int count = 0;
+        Node<T> node = head.next;
+        head.clear();
+        while (node != head) {
+            Node<T> next = node.next;
+            node.detach();
+            entries.remove(node.key);
+            expired.accept(node.payload);
+            count++;
+            node = next;
+        }
+        return count;
+    }
+
+    /**
+     * Place on the lowest level whose slot for the deadline is less than one
+     * turn ahead of the current one, so each slot only ever holds a single
+     * turn's entries.
+     */
+    private boolean place(Node<T> node) {
+        for (int level = 0; level < slots.length; level++) {
+            long ahead = node.deadlineTick / levelTicks[level] - currentTick / levelTicks[level];
+            if (ahead < wheelSize) {
+                slots[level][slotOf(node.deadlineTick, level)].append(node);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) ((tick / levelTicks[level]) % wheelSize);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static final class Node<T> {
+        private final long key;
+        private final long deadlineTick;
+        private final T payload;
+        private Node<T> prev;
+        private Node<T> next;
+
+        private Node(long key, long deadlineTick, T payload) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        private static <T> Node<T> sentinel() {
+            Node<T> head = new Node<>(0, 0, null);
+            head.clear();
+            return head;
+        }
+
+        private void clear() {
+            prev = this;
+            next = this;
+        }
+
+        private void append(Node<T> node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            detach();
+        }
+
+        private void detach() {
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.NettingReport;
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.port.in.NetTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementInstructionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Use Case implementation for netting a business date.
+ * <p>
+ * The date's transactions are streamed once through {@link PaymentNetting};
+ * only those still {@code SCHEDULED} for the daily run take part, so timed
+ * transfers and those already executed or failed are left out.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class NetTransactionsUseCaseImpl implements NetTransactionsUseCase {
+
+    private final TransactionRepository transactionRepository;
+    private final SettlementInstructionRepository settlementInstructionRepository;
+
+    @Override
+    public NettingReport execute(LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+
+        PaymentNetting netting = new PaymentNetting();
+        transactionRepository.forEachScheduledBetween(businessDate, businessDate, transaction -> {
+            if (transaction.getStatus() == TransactionStatus.SCHEDULED && !transaction.hasTimeSlot()) {
+                netting.add(transaction);
+            }
+        });
+        List<SettlementInstruction> instructions = netting.instructions(businessDate);
+        settlementInstructionRepository.replace(businessDate, instructions);
+
+        NettingReport report = netting.report(businessDate);
+        log.info("Netted {} transactions due on {} into {} payments over {} account pairs "
+                        + "({} directed groups, gross {}, net {}, {}% fewer payments)",
+                report.transactions(), businessDate, report.payments(), report.accountPairs(),
+                report.directedGroups(), report.grossAmount().getAmount(), report.netAmount().getAmount(),
+                String.format("%.1f", report.reductionRatio() * 100));
+        return report;
+    }
+
+    @Override
+    public List<SettlementInstruction> getInstructions(LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        return settlementInstructionRepository.findByBusinessDate(businessDate);
+    }
+}
@@ -0,0 +1,218 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.NettingReport;
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Nets the transfers of one business date into one settlement instruction
+ * per unordered account pair, in a single pass over the transfers.
+ * <p>
+ * Each account is given a dense int number the first time it is seen; a pair
+ * is then the long {@code (low << 32) | high} and is looked up in an
+ * open-addressing long-to-int map. Per pair, the amounts and counts in each
+ * direction sit in primitive arrays indexed by pair number, so a transfer
+ * costs one map probe and a few array writes, with no object allocated.
+ * Each transfer's id and pair number are also kept in two primitive arrays
+ * and grouped by pair with a counting sort at the end.
+ * <p>
+ * Not thread-safe; one instance nets one date.
+ */
+public class PaymentNetting {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Map<AccountNumber, Integer> accountNumbers = new HashMap<>();
+    private final List<AccountNumber> accounts = new ArrayList<>();
+    private final PairIndex pairIndex = new PairIndex(INITIAL_CAPACITY);
+
+    private int[] low = new int[INITIAL_CAPACITY];
+    private int[] high = new int[INITIAL_CAPACITY];
+    private long[] lowToHighCents = new long[INITIAL_CAPACITY];
+    private long[] highToLowCents = new long[INITIAL_CAPACITY];
+    private int[] lowToHighCount = new int[INITIAL_CAPACITY];
+    private int[] highToLowCount = new int[INITIAL_CAPACITY];
+    private int pairs;
+
+    private long[] transactionIds = new long[INITIAL_CAPACITY];
+    private int[] transactionPairs = new int[INITIAL_CAPACITY];
+    private int transactions;
+    private long grossCents;
+
+    public void add(Transaction transaction) {
+        Objects.requireNonNull(transaction, "transaction cannot be null");
+        int source = accountNumber(transaction.getSourceAccount());
+        int destination = accountNumber(transaction.getDestinationAccount());
+        long cents = transaction.getTransferAmount().getCents();
+
+        int pair = pairIndex.get(pairKey(source, destination));
+        if (pair < 0) {
+            pair = newPair(Math.min(source, destination), Math.max(source, destination));
+        }
+        if (source < destination) {
+            lowToHighCents[pair] = Math.addExact(lowToHighCents[pair], cents);
+            lowToHighCount[pair]++;
+        } else {
+            highToLowCents[pair] = Math.addExact(highToLowCents[pair], cents);
+            highToLowCount[pair]++;
+        }
+
+        if (transactions == transactionIds.length) {
+            transactionIds = Arrays.copyOf(transactionIds, transactions * 2);
+            transactionPairs = Arrays.copyOf(transactionPairs, transactions * 2);
+        }
+        transactionIds[transactions] = transaction.getId();
+        transactionPairs[transactions++] = pair;
+        grossCents = Math.addExact(grossCents, cents);
+    }
+
+    /**
+     * One instruction per account pair, in the order the pairs were first
+     * seen, each listing its transfers in the order they were added.
+     */
+    public List<SettlementInstruction> instructions(LocalDate businessDate) {
+        int[] start = new int[pairs + 1];
+        for (int i = 0; i < transactions; i++) {
+            start[transactionPairs[i] + 1]++;
+        }
+        for (int pair = 0; pair < pairs; pair++) {
+            start[pair + 1] += start[pair];
+        }
+        Long[] grouped = new Long[transactions];
+        int[] next = Arrays.copyOf(start, pairs);
+        for (int i = 0; i < transactions; i++) {
+            grouped[next[transactionPairs[i]]++] = transactionIds[i];
+        }
+
+        List<SettlementInstruction> instructions = new ArrayList<>(pairs);
+        List<Long> all = Arrays.asList(grouped);
+        for (int pair = 0; pair < pairs; pair++) {
+            long net = lowToHighCents[pair] - highToLowCents[pair];
+            boolean lowPays = net >= 0;
+            instructions.add(SettlementInstruction.builder()
+                    .businessDate(businessDate)
+                    .debtorAccount(accounts.get(lowPays ? low[pair] : high[pair]))
+                    .creditorAccount(accounts.get(lowPays ? high[pair] : low[pair]))
+                    .amount(Money.ofCents(Math.abs(net)))
+                    .transactionIds(List.copyOf(all.subList(start[pair], start[pair + 1])))
+                    .build());
+        }
+        return instructions;
+    }
+
+    public NettingReport report(LocalDate businessDate) {
+        long directedGroups = 0;
+        long payments = 0;
+        long netCents = 0;
+        for (int pair = 0; pair < pairs; pair++) {
+            directedGroups += (lowToHighCount[pair] > 0 ? 1 : 0) + (highToLowCount[pair] > 0 ? 1 : 0);
+            long net = Math.abs(lowToHighCents[pair] - highToLowCents[pair]);
+            payments += net > 0 ? 1 : 0;
+            netCents += net;
+        }
+        return new NettingReport(businessDate, transactions, directedGroups, pairs, payments,
+                Money.ofCents(grossCents), Money.ofCents(netCents));
+    }
+
+    private int accountNumber(AccountNumber account) {
+        Integer number = accountNumbers.get(account);
+        if (number == null) {
+            number = accounts.size();
+            accountNumbers.put(account, number);
+            accounts.add(account);
+        }
+        return number;
+    }
+
+    private int newPair(int lowAccount, int highAccount) {
+        if (pairs == low.length) {
+            int capacity = pairs * 2;
+            low = Arrays.copyOf(low, capacity);
+            high = Arrays.copyOf(high, capacity);
+            lowToHighCents = Arrays.copyOf(lowToHighCents, capacity);
+            highToLowCents = Arrays.copyOf(highToLowCents, capacity);
+            lowToHighCount = Arrays.copyOf(lowToHighCount, capacity);
+            highToLowCount = Arrays.copyOf(highToLowCount, capacity);
+        }
+        low[pairs] = lowAccount;
+        high[pairs] = highAccount;
+        pairIndex.put(pairKey(lowAccount, highAccount), pairs);
+        return pairs++;
+    }
+
+    private static long pairKey(int first, int second) {
+        return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+    }
+
+    /**
+     * Open-addressing map from a pair key to its pair number, with linear
+     * probing over a power-of-two table kept at most half full.
+     */
+    private static final class PairIndex {
+
+        private static final int EMPTY = -1;
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        private PairIndex(int capacity) {
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, EMPTY);
+        }
+
+        private int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+                if (values[slot] == EMPTY || keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+        }
+
+        private void put(long key, int value) {
+            if (2 * (size + 1) > keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (values[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (values[slot] == EMPTY) {
+                size++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            Arrays.fill(values, EMPTY);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        }
+    }
+}
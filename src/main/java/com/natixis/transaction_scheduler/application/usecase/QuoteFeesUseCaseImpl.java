@@ -0,0 +1,98 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.QuoteFeesUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Use Case implementation for pricing transfers in bulk.
+ * Nothing is persisted.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteFeesUseCaseImpl implements QuoteFeesUseCase {
+
+    public static final int MAX_ITEMS = 100_000;
+
+    private final FeeConfigurationRepository feeConfigurationRepository;
+    private final SchedulingCalendar schedulingCalendar;
+    private final SchedulingClock schedulingClock;
+
+    @Override
+    public Stream<FeeQuote> execute(QuoteFeesCommand command) {
+        List<QuoteItem> items = command.items();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException(
+                    String.format("Too many items: %d (maximum %d)", items.size(), MAX_ITEMS));
+        }
+
+        FeeRuleIndex ruleIndex = feeConfigurationRepository.getRuleIndex();
+        LocalDate today = schedulingClock.today();
+
+        log.info("Quoting {} items against {} fee rules", items.size(), ruleIndex.size());
+
+        return IntStream.range(0, items.size())
+                .mapToObj(index -> quote(index, items.get(index), ruleIndex, today));
+    }
+
+    private FeeQuote quote(int index, QuoteItem item, FeeRuleIndex ruleIndex, LocalDate today) {
+        if (item == null || item.transferAmount() == null || item.scheduledDate() == null) {
+            return rejected(index, null, item == null ? null : item.scheduledDate(), null,
+                    "Transfer amount and scheduled date are required");
+        }
+
+        Money transferAmount;
+        try {
+            transferAmount = new Money(item.transferAmount());
+        } catch (IllegalArgumentException e) {
+            return rejected(index, null, item.scheduledDate(), null, e.getMessage());
+        }
+
+        LocalDate scheduledDate = item.scheduledDate();
+        if (transferAmount.isLessThanOrEqual(Money.zero())) {
+            return rejected(index, transferAmount, scheduledDate, null, "Transfer amount must be greater than zero");
+        }
+        if (scheduledDate.isBefore(today)) {
+            return rejected(index, transferAmount, scheduledDate, null, "Scheduled date cannot be in the past");
+        }
+
+        long daysBetween;
+        try {
+            scheduledDate = schedulingCalendar.scheduledDate(scheduledDate);
+            daysBetween = schedulingCalendar.feeDays(today, scheduledDate);
+        } catch (IllegalArgumentException e) {
+            return rejected(index, transferAmount, scheduledDate, null, e.getMessage());
+        }
+        Optional<FeeConfiguration> feeConfiguration = ruleIndex.findBestMatch(transferAmount, daysBetween);
+        if (feeConfiguration.isEmpty()) {
+            return rejected(index, transferAmount, scheduledDate, daysBetween,
+                    String.format("No fee configuration found for amount %s and %d days",
+                            transferAmount, daysBetween));
+        }
+
+        FeeConfiguration rule = feeConfiguration.get();
+        Money fee = rule.calculateFee(transferAmount);
+
+        return new FeeQuote(index, transferAmount, scheduledDate, daysBetween,
+                rule.getFeeType(), fee, transferAmount.add(fee), null);
+    }
+
+    private static FeeQuote rejected(int index, Money transferAmount, LocalDate scheduledDate,
+                                     Long days, String error) {
+        return new FeeQuote(index, transferAmount, scheduledDate, days, null, null, null, error);
+    }
+}
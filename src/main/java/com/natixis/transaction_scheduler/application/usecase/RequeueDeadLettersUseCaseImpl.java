@@ -0,0 +1,58 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.port.in.RequeueDeadLettersUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.RetryQueue;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use Case implementation for requeueing dead letters.
+ * <p>
+ * Requeued transactions are also put on this node's retry queue, so they run
+ * on its next poll; other nodes pick them up on their next reload.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RequeueDeadLettersUseCaseImpl implements RequeueDeadLettersUseCase {
+
+    public static final int DEFAULT_LIMIT = 1_000;
+    public static final int MAX_ITEMS = 10_000;
+
+    private final DeadLetterRepository deadLetterRepository;
+    private final RetryQueue retryQueue;
+    private final SchedulingClock schedulingClock;
+
+    @Override
+    public List<Long> execute(RequeueCommand command) {
+        List<Long> transactionIds = command.transactionIds();
+        LocalDateTime now = schedulingClock.now();
+
+        List<Long> requeued;
+        if (transactionIds != null && !transactionIds.isEmpty()) {
+            if (transactionIds.size() > MAX_ITEMS) {
+                throw new IllegalArgumentException(
+                        String.format("Too many transactions: %d (maximum %d)", transactionIds.size(), MAX_ITEMS));
+            }
+            if (transactionIds.contains(null)) {
+                throw new IllegalArgumentException("Transaction ids cannot be null");
+            }
+            requeued = deadLetterRepository.requeue(transactionIds, now);
+        } else {
+            int limit = command.limit() == null ? DEFAULT_LIMIT : command.limit();
+            if (limit < 1 || limit > MAX_ITEMS) {
+                throw new IllegalArgumentException(
+                        String.format("Requeue limit must be between 1 and %d", MAX_ITEMS));
+            }
+            requeued = deadLetterRepository.requeueOldest(limit, now);
+        }
+
+        requeued.forEach(id -> retryQueue.schedule(id, now));
+        log.info("Requeued {} dead-lettered transactions", requeued.size());
+        return requeued;
+    }
+}
@@ -0,0 +1,145 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.PendingRetry;
+import com.natixis.transaction_scheduler.domain.port.out.RetryQueue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * In-memory queue of retries ordered by next-attempt time: a binary min-heap
+ * over two parallel {@code long[]} arrays, one for the due time and one for
+ * the transaction id.
+ * <p>
+ * There is no object per entry, so a pending retry costs 16 bytes and
+ * half a million of them fit in 8 MB. Offering and polling are
+ * O(log n); rebuilding from the database is O(n). Nothing waits on the
+ * queue: it is polled, and entries that are not due yet stay put.
+ */
+public class RetryDelayQueue implements RetryQueue {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ZoneId zone;
+    private long[] dueAt = new long[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    public RetryDelayQueue() {
+        this(ZoneId.systemDefault());
+    }
+
+    public RetryDelayQueue(ZoneId zone) {
+        this.zone = Objects.requireNonNull(zone, "zone cannot be null");
+    }
+
+    @Override
+    public void schedule(Long transactionId, LocalDateTime nextAttemptAt) {
+        Objects.requireNonNull(transactionId, "transactionId cannot be null");
+        Objects.requireNonNull(nextAttemptAt, "nextAttemptAt cannot be null");
+        offer(transactionId, toMillis(nextAttemptAt));
+    }
+
+    public synchronized void offer(long transactionId, long dueAtMillis) {
+        if (size == ids.length) {
+            int capacity = size + (size >> 1);
+            dueAt = Arrays.copyOf(dueAt, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        dueAt[size] = dueAtMillis;
+        ids[size] = transactionId;
+        siftUp(size++);
+    }
+
+    /**
+     * Remove and return up to {@code max} transaction ids due by {@code now},
+     * earliest first.
+     */
+    public List<Long> pollDue(LocalDateTime now, int max) {
+        return pollDue(toMillis(now), max);
+    }
+
+    public synchronized List<Long> pollDue(long nowMillis, int max) {
+        List<Long> due = new ArrayList<>(Math.min(max, size));
+        while (size > 0 && due.size() < max && dueAt[0] <= nowMillis) {
+            due.add(ids[0]);
+            size--;
+            if (size > 0) {
+                dueAt[0] = dueAt[size];
+                ids[0] = ids[size];
+                siftDown(0);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Replace the whole content, typically with what the database holds.
+     */
+    public void replaceAll(Collection<PendingRetry> retries) {
+        long[] newDueAt = new long[Math.max(INITIAL_CAPACITY, retries.size())];
+        long[] newIds = new long[newDueAt.length];
+        int count = 0;
+        for (PendingRetry retry : retries) {
+            newDueAt[count] = retry.nextAttemptAt() == null ? 0 : toMillis(retry.nextAttemptAt());
+            newIds[count++] = retry.transactionId();
+        }
+        synchronized (this) {
+            dueAt = newDueAt;
+            ids = newIds;
+            size = count;
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        long key = dueAt[index];
+        long id = ids[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (dueAt[parent] <= key) {
+                break;
+            }
+            dueAt[index] = dueAt[parent];
+            ids[index] = ids[parent];
+            index = parent;
+        }
+        dueAt[index] = key;
+        ids[index] = id;
+    }
+
+    private void siftDown(int index) {
+        long key = dueAt[index];
+        long id = ids[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && dueAt[child + 1] < dueAt[child]) {
+                child++;
+            }
+            if (key <= dueAt[child]) {
+                break;
+            }
+            dueAt[index] = dueAt[child];
+            ids[index] = ids[child];
+            index = child;
+        }
+        dueAt[index] = key;
+        ids[index] = id;
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+}
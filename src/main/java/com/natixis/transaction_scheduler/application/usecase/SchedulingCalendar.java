@@ -0,0 +1,60 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.BusinessCalendar;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * How requested dates meet the business calendar when scheduling and
+ * pricing transfers.
+ * <p>
+ * With {@code rollScheduledDates}, a transfer requested for a weekend or
+ * holiday is scheduled on the following business day. With
+ * {@code businessDayFees}, the fee rules' day ranges count business days
+ * until the scheduled date instead of calendar days. Both are off in
+ * {@link #calendarDays()}, which keeps dates as requested and counts
+ * calendar days.
+ */
+public class SchedulingCalendar {
+
+    private final BusinessCalendar calendar;
+    private final boolean rollScheduledDates;
+    private final boolean businessDayFees;
+
+    public SchedulingCalendar(BusinessCalendar calendar, boolean rollScheduledDates, boolean businessDayFees) {
+        if ((rollScheduledDates || businessDayFees) && calendar == null) {
+            throw new IllegalArgumentException("A business calendar is required to roll dates or count business days");
+        }
+        this.calendar = calendar;
+        this.rollScheduledDates = rollScheduledDates;
+        this.businessDayFees = businessDayFees;
+    }
+
+    public static SchedulingCalendar calendarDays() {
+        return new SchedulingCalendar(null, false, false);
+    }
+
+    /**
+     * The date a transfer requested for {@code requestedDate} is scheduled on.
+     *
+     * @throws IllegalArgumentException when the date is outside the business calendar
+     */
+    public LocalDate scheduledDate(LocalDate requestedDate) {
+        Objects.requireNonNull(requestedDate, "requestedDate cannot be null");
+        return rollScheduledDates ? calendar.onOrNextBusinessDay(requestedDate) : requestedDate;
+    }
+
+    /**
+     * Days from {@code today} to {@code scheduledDate} as matched against the
+     * fee rules' day ranges.
+     *
+     * @throws IllegalArgumentException when a date is outside the business calendar
+     */
+    public long feeDays(LocalDate today, LocalDate scheduledDate) {
+        return businessDayFees
+                ? calendar.businessDaysBetween(today, scheduledDate)
+                : ChronoUnit.DAYS.between(today, scheduledDate);
+    }
+}
@@ -6,13 +6,16 @@ import com.natixis.transaction_scheduler.domain.model.Transaction;
 import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
 import com.natixis.transaction_scheduler.domain.port.in.UpdateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
 import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * Use Case implementation for updating transactions.
@@ -24,6 +27,9 @@ public class UpdateTransactionUseCaseImpl implements UpdateTransactionUseCase {
 
     private final TransactionRepository transactionRepository;
     private final FeeConfigurationRepository feeConfigurationRepository;
+    private final ExecutionTimer executionTimer;
+    private final SchedulingCalendar schedulingCalendar;
+    private final SchedulingClock schedulingClock;
 
     @Override
     public Transaction execute(UpdateTransactionCommand command) {
@@ -40,11 +46,11 @@ public class UpdateTransactionUseCaseImpl implements UpdateTransactionUseCase {
         log.debug("Existing transaction: {}", existingTransaction.getSummary());
 
         AccountNumber sourceAccount = command.sourceAccount()
-                .map(AccountNumber::new)
+                .map(AccountNumber::of)
                 .orElse(existingTransaction.getSourceAccount());
 
         AccountNumber destinationAccount = command.destinationAccount()
-                .map(AccountNumber::new)
+                .map(AccountNumber::of)
                 .orElse(existingTransaction.getDestinationAccount());
 
         Money transferAmount = command.transferAmount()
@@ -52,8 +58,12 @@ public class UpdateTransactionUseCaseImpl implements UpdateTransactionUseCase {
                 .orElse(existingTransaction.getTransferAmount());
 
         LocalDate scheduledDate = command.scheduledDate()
+                .map(schedulingCalendar::scheduledDate)
                 .orElse(existingTransaction.getScheduledDate());
 
+        LocalTime scheduledTime = command.scheduledTime()
+                .orElse(existingTransaction.getScheduledTime());
+
         // Check if fee recalculation is needed
         boolean needsRecalculation =
                 (command.transferAmount().isPresent() &&
@@ -61,13 +71,14 @@ public class UpdateTransactionUseCaseImpl implements UpdateTransactionUseCase {
                         (command.scheduledDate().isPresent() &&
                                 !existingTransaction.getScheduledDate().equals(scheduledDate));
 
+        LocalDateTime now = schedulingClock.now();
         Money newFee;
         FeeConfiguration newFeeConfiguration;
 
         if (needsRecalculation) {
             log.info("Amount or date changed. Recalculating fee...");
 
-            long daysBetween = ChronoUnit.DAYS.between(LocalDate.now(), scheduledDate);
+            long daysBetween = schedulingCalendar.feeDays(now.toLocalDate(), scheduledDate);
             newFeeConfiguration = feeConfigurationRepository
                     .findBestMatch(transferAmount, daysBetween)
                     .orElseThrow(() -> new ResourceNotFoundException(
@@ -90,11 +101,14 @@ public class UpdateTransactionUseCaseImpl implements UpdateTransactionUseCase {
                 destinationAccount,
                 transferAmount,
                 scheduledDate,
+                scheduledTime,
                 newFee,
-                newFeeConfiguration
+                newFeeConfiguration,
+                now
         );
 
         Transaction savedTransaction = transactionRepository.save(updatedTransaction);
+        executionTimer.schedule(savedTransaction);
 
         log.info("Transaction updated successfully: {}", savedTransaction.getSummary());
 
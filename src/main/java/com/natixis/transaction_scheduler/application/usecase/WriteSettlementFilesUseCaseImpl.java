@@ -0,0 +1,51 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementFile;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.port.in.WriteSettlementFilesUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementFileWriter;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Use Case implementation for writing settlement files.
+ * <p>
+ * Transactions are streamed from the store straight into the writer, grouped
+ * by source account, so neither side holds the day in memory. Cancelled and
+ * failed transactions are left out.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class WriteSettlementFilesUseCaseImpl implements WriteSettlementFilesUseCase {
+
+    private static final Set<TransactionStatus> SETTLED_STATUSES = EnumSet.of(
+            TransactionStatus.SCHEDULED, TransactionStatus.IN_PROGRESS,
+            TransactionStatus.RETRYING, TransactionStatus.EXECUTED);
+
+    private final TransactionRepository transactionRepository;
+    private final SettlementFileWriter settlementFileWriter;
+
+    @Override
+    public List<SettlementFile> execute(LocalDate executionDate) {
+        Objects.requireNonNull(executionDate, "executionDate cannot be null");
+        long started = System.nanoTime();
+
+        List<SettlementFile> files;
+        try (SettlementFileWriter.Session session = settlementFileWriter.open(executionDate)) {
+            transactionRepository.forEachScheduledOnBySourceAccount(executionDate, SETTLED_STATUSES, session::write);
+            files = session.finish();
+        }
+
+        log.info("Wrote {} transactions due on {} to {} settlement files in {} ms",
+                files.stream().mapToLong(SettlementFile::transactions).sum(), executionDate, files.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return files;
+    }
+}
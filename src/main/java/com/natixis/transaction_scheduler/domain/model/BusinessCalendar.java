@@ -0,0 +1,185 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Business days of a fixed range of years, precomputed into a bitset.
+ * <p>
+ * Bit {@code i} is set when the {@code i}-th day from the first of January of
+ * the first year is a business day. Next to the bitset, {@code ranks[w]}
+ * holds the number of business days before word {@code w}, so the number of
+ * business days before any date (its rank) is one array read plus one
+ * {@link Long#bitCount}. Going back from a rank to a date (select) starts
+ * from a sampled index holding the word of every 64th business day; unless
+ * whole weeks are holidays, that word is at most two words short of the
+ * target. Both are constant time, and ten years take under 1 KB.
+ * <p>
+ * Immutable and thread-safe. Dates outside the range are rejected with an
+ * {@link IllegalArgumentException}.
+ */
+public final class BusinessCalendar {
+
+    private static final int WORD_BITS = 64;
+    private static final int SELECT_SAMPLE_SHIFT = 6;
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final long firstEpochDay;
+    private final long[] words;
+    private final int[] ranks;
+    private final int[] selectSamples;
+    private final int businessDays;
+
+    private BusinessCalendar(LocalDate firstDay, LocalDate lastDay, long[] words) {
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.firstEpochDay = firstDay.toEpochDay();
+        this.words = words;
+        this.ranks = new int[words.length + 1];
+        for (int word = 0; word < words.length; word++) {
+            ranks[word + 1] = ranks[word] + Long.bitCount(words[word]);
+        }
+        this.businessDays = ranks[words.length];
+
+        this.selectSamples = new int[(businessDays >>> SELECT_SAMPLE_SHIFT) + 1];
+        int word = 0;
+        for (int sample = 0; sample < selectSamples.length; sample++) {
+            int target = sample << SELECT_SAMPLE_SHIFT;
+            while (word + 1 < words.length && ranks[word + 1] <= target) {
+                word++;
+            }
+            selectSamples[sample] = word;
+        }
+    }
+
+    /**
+     * Calendar of {@code firstYear} to {@code lastYear} inclusive where every
+     * day is a business day except the weekend days and the holidays.
+     * Holidays outside the range are ignored.
+     */
+    public static BusinessCalendar of(int firstYear, int lastYear, Set<DayOfWeek> weekend,
+                                      Collection<LocalDate> holidays) {
+        Objects.requireNonNull(weekend, "weekend cannot be null");
+        Objects.requireNonNull(holidays, "holidays cannot be null");
+        if (firstYear > lastYear) {
+            throw new IllegalArgumentException("firstYear cannot be after lastYear");
+        }
+        if (weekend.size() == DayOfWeek.values().length) {
+            throw new IllegalArgumentException("A calendar needs at least one working day of the week");
+        }
+
+        LocalDate firstDay = LocalDate.of(firstYear, 1, 1);
+        LocalDate lastDay = LocalDate.of(lastYear, 12, 31);
+        int days = (int) (lastDay.toEpochDay() - firstDay.toEpochDay() + 1);
+        long[] words = new long[(days + WORD_BITS - 1) / WORD_BITS];
+
+        DayOfWeek dayOfWeek = firstDay.getDayOfWeek();
+        for (int day = 0; day < days; day++) {
+            if (!weekend.contains(dayOfWeek)) {
+                words[day / WORD_BITS] |= 1L << day;
+            }
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        for (LocalDate holiday : holidays) {
+            if (!holiday.isBefore(firstDay) && !holiday.isAfter(lastDay)) {
+                int day = (int) (holiday.toEpochDay() - firstDay.toEpochDay());
+                words[day / WORD_BITS] &= ~(1L << day);
+            }
+        }
+        return new BusinessCalendar(firstDay, lastDay, words);
+    }
+
+    /**
+     * Saturday and Sunday weekends plus the given holidays.
+     */
+    public static BusinessCalendar weekdays(int firstYear, int lastYear, Collection<LocalDate> holidays) {
+        return of(firstYear, lastYear, EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), holidays);
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public LocalDate getLastDay() {
+        return lastDay;
+    }
+
+    public boolean isBusinessDay(LocalDate date) {
+        int day = index(date);
+        return (words[day / WORD_BITS] & (1L << day)) != 0;
+    }
+
+    /**
+     * The date itself when it is a business day, otherwise the first
+     * business day after it.
+     *
+     * @throws IllegalArgumentException when there is no business day left in the range
+     */
+    public LocalDate onOrNextBusinessDay(LocalDate date) {
+        return dayOfRank(rank(index(date)), date);
+    }
+
+    /**
+     * The first business day strictly after the date.
+     *
+     * @throws IllegalArgumentException when there is no business day left in the range
+     */
+    public LocalDate nextBusinessDay(LocalDate date) {
+        int day = index(date);
+        return dayOfRank(rank(day + 1), date);
+    }
+
+    /**
+     * Business days in {@code [from, to)}: 0 for the same date, 1 from a
+     * Friday to the next Monday. Negative when {@code to} is before
+     * {@code from}.
+     */
+    public long businessDaysBetween(LocalDate from, LocalDate to) {
+        return rank(index(to)) - (long) rank(index(from));
+    }
+
+    /**
+     * Number of business days before the given day index.
+     */
+    private int rank(int day) {
+        int word = day / WORD_BITS;
+        if (word == words.length) {
+            return businessDays;
+        }
+        return ranks[word] + Long.bitCount(words[word] & ((1L << day) - 1));
+    }
+
+    /**
+     * The business day with the given rank, i.e. preceded by {@code rank}
+     * business days.
+     */
+    private LocalDate dayOfRank(int rank, LocalDate requested) {
+        if (rank >= businessDays) {
+            throw new IllegalArgumentException(String.format(
+                    "No business day after %s within the calendar (up to %s)", requested, lastDay));
+        }
+        int word = selectSamples[rank >>> SELECT_SAMPLE_SHIFT];
+        while (ranks[word + 1] <= rank) {
+            word++;
+        }
+        long bits = words[word];
+        for (int skip = rank - ranks[word]; skip > 0; skip--) {
+            bits &= bits - 1;
+        }
+        return LocalDate.ofEpochDay(firstEpochDay + (long) word * WORD_BITS + Long.numberOfTrailingZeros(bits));
+    }
+
+    private int index(LocalDate date) {
+        Objects.requireNonNull(date, "date cannot be null");
+        if (date.isBefore(firstDay) || date.isAfter(lastDay)) {
+            throw new IllegalArgumentException(String.format(
+                    "Date %s is outside the business calendar (%s to %s)", date, firstDay, lastDay));
+        }
+        return (int) (date.toEpochDay() - firstEpochDay);
+    }
+}
@@ -0,0 +1,94 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Objects;
+
+/**
+ * {@link SchedulingClock} that resolves the zone once per day.
+ * <p>
+ * The current date and UTC offset are cached with the span of instants they
+ * hold for: until the next midnight or offset transition, whichever comes
+ * first. Reading the date is then the underlying clock's millis and one
+ * volatile read; the zone rules are only consulted again once the span is
+ * left, in either direction. Threads racing past midnight may each compute
+ * the new day; they compute the same value.
+ */
+public final class CachedDayClock implements SchedulingClock {
+
+    /**
+     * System clock in the default zone, behind the domain model's overloads
+     * that take no date. The application reads the clock built from its
+     * configured zone instead.
+     */
+    public static final CachedDayClock SYSTEM = new CachedDayClock(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Day day;
+
+    public CachedDayClock(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    @Override
+    public LocalDate today() {
+        return day(clock.millis()).date();
+    }
+
+    @Override
+    public LocalDateTime now() {
+        Instant instant = clock.instant();
+        Day current = day(instant.toEpochMilli());
+        return LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), current.offset());
+    }
+
+    @Override
+    public Instant instant() {
+        return clock.instant();
+    }
+
+    @Override
+    public ZoneId zone() {
+        return clock.getZone();
+    }
+
+    private Day day(long epochMilli) {
+        Day current = day;
+        if (current == null || epochMilli < current.fromMillis() || epochMilli >= current.untilMillis()) {
+            current = Day.containing(Instant.ofEpochMilli(epochMilli), clock.getZone());
+            day = current;
+        }
+        return current;
+    }
+
+    /**
+     * A date and offset, valid for instants in {@code [fromMillis, untilMillis)}.
+     */
+    private record Day(LocalDate date, ZoneOffset offset, long fromMillis, long untilMillis) {
+
+        static Day containing(Instant instant, ZoneId zone) {
+            ZoneRules rules = zone.getRules();
+            LocalDate date = LocalDate.ofInstant(instant, zone);
+            long from = date.atStartOfDay(zone).toInstant().toEpochMilli();
+            long until = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+            if (previous != null) {
+                from = Math.max(from, previous.getInstant().toEpochMilli());
+            }
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            if (next != null) {
+                until = Math.min(until, next.getInstant().toEpochMilli());
+            }
+            return new Day(date, rules.getOffset(instant), from, until);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A transaction that used up its execution attempts without reaching the
+ * gateway. It stays failed until it is requeued.
+ */
+@Getter
+@Builder
+public class DeadLetter {
+    private final Long id;
+    private final Long transactionId;
+    private final LocalDate businessDate;
+    private final int attempts;
+    private final String lastFailureReason;
+    private final LocalDateTime deadLetteredAt;
+}
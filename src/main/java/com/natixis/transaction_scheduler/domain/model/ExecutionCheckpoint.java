@@ -0,0 +1,52 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of an execution run in one partition: the highest transaction id
+ * whose outcome and final status have been written, running totals, and
+ * whether the partition has been drained for the run's date.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ExecutionCheckpoint {
+    private final int partitionId;
+    private final Long lastTransactionId;
+    private final long processed;
+    private final long succeeded;
+    private final long failed;
+    private final long skipped;
+    private final boolean completed;
+    private final LocalDateTime updatedAt;
+
+    public static ExecutionCheckpoint start(int partitionId, LocalDateTime now) {
+        return ExecutionCheckpoint.builder()
+                .partitionId(partitionId)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Record a finished batch of this partition, as of {@code now}.
+     */
+    public ExecutionCheckpoint advance(long lastId, long succeeded, long failed, long skipped, LocalDateTime now) {
+        return toBuilder()
+                .lastTransactionId(lastTransactionId == null ? lastId : Math.max(lastTransactionId, lastId))
+                .processed(processed + succeeded + failed + skipped)
+                .succeeded(this.succeeded + succeeded)
+                .failed(this.failed + failed)
+                .skipped(this.skipped + skipped)
+                .updatedAt(now)
+                .build();
+    }
+
+    public ExecutionCheckpoint complete(LocalDateTime now) {
+        return toBuilder()
+                .completed(true)
+                .updatedAt(now)
+                .build();
+    }
+}
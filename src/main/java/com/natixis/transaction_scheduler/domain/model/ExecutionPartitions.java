@@ -0,0 +1,46 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Fixed split of the transactions into execution partitions by source account.
+ * <p>
+ * Partitions are the unit of work handed out to nodes: each node executes
+ * only the partitions it holds a lease on. The count bounds how many nodes
+ * can usefully share a run, and it is part of the stored data
+ * ({@code transactions.partition_id}), so changing it requires
+ * re-partitioning existing rows.
+ */
+public final class ExecutionPartitions {
+
+    public static final int COUNT = 64;
+
+    private static final Set<Integer> ALL = IntStream.range(0, COUNT).boxed()
+            .collect(Collectors.toUnmodifiableSet());
+
+    private ExecutionPartitions() {
+    }
+
+    /**
+     * Partition of a source account. {@link String#hashCode()} is specified,
+     * so every node computes the same value; the bits are spread before the
+     * modulo so accounts sharing a prefix still scatter.
+     */
+    public static int of(AccountNumber sourceAccount) {
+        Objects.requireNonNull(sourceAccount, "sourceAccount cannot be null");
+        int hash = sourceAccount.getValue().hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x45d9f3b;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, COUNT);
+    }
+
+    public static Set<Integer> all() {
+        return ALL;
+    }
+}
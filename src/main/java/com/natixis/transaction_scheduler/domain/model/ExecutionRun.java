@@ -0,0 +1,53 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The daily execution of one business date, shared by every node working on
+ * it, with one {@link ExecutionCheckpoint} per execution partition.
+ * <p>
+ * A run is started once and then resumed by every later start for the same
+ * date: after a crash, by a node taking over partitions, or by the same node
+ * running again. It completes once every partition has been drained.
+ */
+@Getter
+@Builder
+public class ExecutionRun {
+    private final Long id;
+    private final LocalDate businessDate;
+    private final Status status;
+    private final int starts;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime completedAt;
+    private final List<ExecutionCheckpoint> checkpoints;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    /**
+     * Whether the run was started before, so an earlier start may have been
+     * interrupted with transactions still claimed.
+     */
+    public boolean isResumed() {
+        return starts > 1;
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    public Map<Integer, ExecutionCheckpoint> checkpointsByPartition() {
+        return checkpoints.stream()
+                .collect(Collectors.toMap(ExecutionCheckpoint::getPartitionId, Function.identity()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.natixis.transaction_scheduler.domain.model;
 
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,7 +16,6 @@ import java.time.LocalDateTime;
  * @author Lucas dos Santos Guimarães
  */
 @Getter
-@Builder
 public class FeeConfiguration {
 
     private Long id;
@@ -32,6 +32,53 @@ public class FeeConfiguration {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * Percentage fee split into unscaled value and scale, so fees are computed
+     * on longs. Unused when the percentage does not fit (see {@link #calculateFee}).
+     */
+    @Getter(AccessLevel.NONE)
+    private final long percentageUnscaled;
+    @Getter(AccessLevel.NONE)
+    private final int percentageScale;
+    @Getter(AccessLevel.NONE)
+    private final boolean compactPercentage;
+
+    @Builder
+    private FeeConfiguration(
+            Long id,
+            String feeType,
+            Money minAmount,
+            Money maxAmount,
+            Integer minDays,
+            Integer maxDays,
+            BigDecimal percentageFee,
+            Money fixedFee,
+            Integer priority,
+            Boolean active,
+            String description,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt) {
+        this.id = id;
+        this.feeType = feeType;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.minDays = minDays;
+        this.maxDays = maxDays;
+        this.percentageFee = percentageFee;
+        this.fixedFee = fixedFee;
+        this.priority = priority;
+        this.active = active;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+
+        BigDecimal normalized = percentageFee == null ? null : percentageFee.stripTrailingZeros();
+        this.compactPercentage = normalized != null
+                && normalized.scale() >= 0 && normalized.scale() <= 18 && normalized.precision() <= 18;
+        this.percentageScale = compactPercentage ? normalized.scale() : 0;
+        this.percentageUnscaled = compactPercentage ? normalized.scaleByPowerOfTen(normalized.scale()).longValueExact() : 0L;
+    }
+
     /**
      * Factory method to create a new fee configuration.
      * Validates business rules at creation time.
@@ -101,9 +148,9 @@ public class FeeConfiguration {
         }
 
         // Check amount range
-        boolean amountAboveMin = transferAmount.getAmount().compareTo(minAmount.getAmount()) >= 0;
+        boolean amountAboveMin = transferAmount.getCents() >= minAmount.getCents();
         boolean amountBelowMax = maxAmount == null ||
-                transferAmount.getAmount().compareTo(maxAmount.getAmount()) <= 0;
+                transferAmount.getCents() <= maxAmount.getCents();
 
         // Check days range
         boolean daysAboveMin = minDays == null || daysBetween >= minDays;
@@ -121,15 +168,17 @@ public class FeeConfiguration {
             throw new IllegalStateException("Cannot calculate fee with inactive configuration");
         }
 
-        // Calculate percentage fee
-        Money percentageFeeAmount = transferAmount.multiply(percentageFee);
+        // Calculate percentage fee, rounded HALF_UP to the cent
+        long feeCents = compactPercentage
+                ? Money.multiplyCents(transferAmount.getCents(), percentageUnscaled, percentageScale)
+                : transferAmount.multiply(percentageFee).getCents();
 
         // Add fixed fee if present
         if (fixedFee != null) {
-            return percentageFeeAmount.add(fixedFee);
+            feeCents = Money.addCents(feeCents, fixedFee.getCents());
         }
 
-        return percentageFeeAmount;
+        return Money.ofCents(feeCents);
     }
 
     /**
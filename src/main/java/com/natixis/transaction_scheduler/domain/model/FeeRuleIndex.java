@@ -0,0 +1,145 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Immutable, precompiled lookup structure over the active fee rules.
+ * <p>
+ * The amount axis (in cents) and the days axis are each cut into elementary
+ * intervals at every rule boundary, and the winning rule for every
+ * (amount interval, days interval) cell is resolved once at build time.
+ * A lookup is then two binary searches over a handful of boundaries plus an
+ * array read, with no database access and no allocation.
+ * <p>
+ * Null bounds are open: a null {@code maxAmount}, {@code minDays} or
+ * {@code maxDays} means the rule is unbounded on that side, exactly as in
+ * {@link FeeConfiguration#matches(Money, long)}. When several rules cover the
+ * same cell, the one with the higher priority wins
+ * (see {@link FeeConfiguration#hasHigherPriorityThan(FeeConfiguration)}).
+ */
+public final class FeeRuleIndex {
+
+    private static final FeeRuleIndex EMPTY = new FeeRuleIndex(List.of());
+
+    private final List<FeeConfiguration> rules;
+    private final long[] amountStarts;
+    private final long[] dayStarts;
+    private final FeeConfiguration[] cells;
+
+    private FeeRuleIndex(Collection<FeeConfiguration> configurations) {
+        this.rules = configurations.stream()
+                .filter(FeeConfiguration::isActive)
+                .toList();
+
+        TreeSet<Long> amountBounds = new TreeSet<>();
+        TreeSet<Long> dayBounds = new TreeSet<>();
+        amountBounds.add(Long.MIN_VALUE);
+        dayBounds.add(Long.MIN_VALUE);
+
+        for (FeeConfiguration rule : rules) {
+            amountBounds.add(minAmountCents(rule));
+            addExclusiveUpperBound(amountBounds, maxAmountCents(rule));
+            dayBounds.add(minDays(rule));
+            addExclusiveUpperBound(dayBounds, maxDays(rule));
+        }
+
+        this.amountStarts = amountBounds.stream().mapToLong(Long::longValue).toArray();
+        this.dayStarts = dayBounds.stream().mapToLong(Long::longValue).toArray();
+        this.cells = new FeeConfiguration[amountStarts.length * dayStarts.length];
+
+        for (FeeConfiguration rule : rules) {
+            int amountFrom = Arrays.binarySearch(amountStarts, minAmountCents(rule));
+            int amountTo = lastCellBefore(amountStarts, maxAmountCents(rule));
+            int daysFrom = Arrays.binarySearch(dayStarts, minDays(rule));
+            int daysTo = lastCellBefore(dayStarts, maxDays(rule));
+
+            for (int a = amountFrom; a <= amountTo; a++) {
+                for (int d = daysFrom; d <= daysTo; d++) {
+                    int cell = a * dayStarts.length + d;
+                    FeeConfiguration current = cells[cell];
+                    if (current == null || rule.hasHigherPriorityThan(current)) {
+                        cells[cell] = rule;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Compile an index from the given configurations. Inactive rules are ignored.
+     */
+    public static FeeRuleIndex of(Collection<FeeConfiguration> configurations) {
+        Objects.requireNonNull(configurations, "configurations cannot be null");
+        return configurations.isEmpty() ? EMPTY : new FeeRuleIndex(configurations);
+    }
+
+    public static FeeRuleIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Find the highest priority active rule matching the amount and days.
+     */
+    public Optional<FeeConfiguration> findBestMatch(Money transferAmount, long daysBetween) {
+        Objects.requireNonNull(transferAmount, "transferAmount cannot be null");
+        if (rules.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int a = cellOf(amountStarts, transferAmount.getCents());
+        int d = cellOf(dayStarts, daysBetween);
+        return Optional.ofNullable(cells[a * dayStarts.length + d]);
+    }
+
+    /**
+     * Active rules this index was compiled from.
+     */
+    public List<FeeConfiguration> getRules() {
+        return rules;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    private static int cellOf(long[] starts, long value) {
+        int position = Arrays.binarySearch(starts, value);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    private static int lastCellBefore(long[] starts, long inclusiveMax) {
+        if (inclusiveMax == Long.MAX_VALUE) {
+            return starts.length - 1;
+        }
+        return Arrays.binarySearch(starts, inclusiveMax + 1) - 1;
+    }
+
+    private static void addExclusiveUpperBound(TreeSet<Long> bounds, long inclusiveMax) {
+        if (inclusiveMax != Long.MAX_VALUE) {
+            bounds.add(inclusiveMax + 1);
+        }
+    }
+
+    private static long minAmountCents(FeeConfiguration rule) {
+        return rule.getMinAmount().getCents();
+    }
+
+    private static long maxAmountCents(FeeConfiguration rule) {
+        return rule.getMaxAmount() == null ? Long.MAX_VALUE : rule.getMaxAmount().getCents();
+    }
+
+    private static long minDays(FeeConfiguration rule) {
+        return rule.getMinDays() == null ? Long.MIN_VALUE : rule.getMinDays();
+    }
+
+    private static long maxDays(FeeConfiguration rule) {
+        return rule.getMaxDays() == null ? Long.MAX_VALUE : rule.getMaxDays();
+    }
+}
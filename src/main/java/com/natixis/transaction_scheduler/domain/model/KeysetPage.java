@@ -0,0 +1,21 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated listing ordered by id.
+ * <p>
+ * {@code nextAfterId} is the id of the last element when more rows follow,
+ * and null on the last page. Passing it back as {@code afterId} resumes the
+ * listing with an index range scan instead of an OFFSET skip.
+ */
+public record KeysetPage<T>(List<T> content, Long nextAfterId) {
+
+    public KeysetPage {
+        content = List.copyOf(content);
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+
+import java.time.LocalDate;
+
+/**
+ * Outcome of netting one business date.
+ *
+ * @param transactions   transfers netted
+ * @param directedGroups distinct (source, destination) pairs among them
+ * @param accountPairs   distinct unordered account pairs, one instruction each
+ * @param payments       instructions with a non-zero amount, i.e. the payments left to send
+ * @param grossAmount    sum of the transfers netted
+ * @param netAmount      sum of the instructions
+ */
+public record NettingReport(
+        LocalDate businessDate,
+        long transactions,
+        long directedGroups,
+        long accountPairs,
+        long payments,
+        Money grossAmount,
+        Money netAmount
+) {
+
+    /**
+     * Share of transfers no longer needing a payment of their own, between 0 and 1.
+     */
+    public double reductionRatio() {
+        return transactions == 0 ? 0 : 1 - (double) payments / transactions;
+    }
+}
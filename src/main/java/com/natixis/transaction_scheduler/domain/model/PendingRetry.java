@@ -0,0 +1,9 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A transaction waiting for another execution attempt, and when it is due.
+ */
+public record PendingRetry(Long transactionId, int partitionId, LocalDateTime nextAttemptAt) {
+}
@@ -0,0 +1,48 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+
+/**
+ * When to try a transaction again after its execution ended in a gateway
+ * error, and when to give up on it.
+ * <p>
+ * The delay doubles with every attempt, from {@code baseDelay} up to
+ * {@code maxDelay}. Half of it is fixed and the other half random, so
+ * transactions that failed together (for example during a gateway outage)
+ * do not all come back at the same moment.
+ */
+public record RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive");
+        }
+        if (baseDelay.isNegative() || baseDelay.isZero() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Retry delays must be positive, with maxDelay >= baseDelay");
+        }
+    }
+
+    /**
+     * Whether a transaction that has now failed {@code attempts} times may be
+     * attempted again.
+     */
+    public boolean canRetry(int attempts) {
+        return attempts < maxAttempts;
+    }
+
+    /**
+     * Delay before the attempt following the given failed attempt.
+     *
+     * @param attempts failed attempts so far, at least 1
+     * @param random   uniform value in {@code [0, 1)}
+     */
+    public Duration delayAfter(int attempts, DoubleSupplier random) {
+        long capped = baseDelay.toMillis() << Math.min(attempts - 1, 30);
+        if (capped <= 0 || capped > maxDelay.toMillis()) {
+            capped = maxDelay.toMillis();
+        }
+        long half = capped / 2;
+        return Duration.ofMillis(capped - half + (long) (half * random.getAsDouble()));
+    }
+}
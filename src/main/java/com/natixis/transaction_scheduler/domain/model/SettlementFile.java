@@ -0,0 +1,14 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+
+/**
+ * A credit transfer file written for an execution date.
+ *
+ * @param name         file name, unique per date and sequence
+ * @param transactions credit transfers in the file
+ * @param controlSum   sum of their amounts
+ * @param sizeBytes    file size
+ */
+public record SettlementFile(String name, long transactions, Money controlSum, long sizeBytes) {
+}
@@ -0,0 +1,31 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The net obligation between two accounts for a business date, settling
+ * every transfer between them in either direction.
+ * <p>
+ * When the transfers cancel out exactly the amount is zero and nothing has
+ * to be paid; the instruction still records which transfers it settles.
+ */
+@Getter
+@Builder
+public class SettlementInstruction {
+    private final Long id;
+    private final LocalDate businessDate;
+    private final AccountNumber debtorAccount;
+    private final AccountNumber creditorAccount;
+    private final Money amount;
+    private final List<Long> transactionIds;
+
+    public boolean requiresPayment() {
+        return amount.getCents() > 0;
+    }
+}
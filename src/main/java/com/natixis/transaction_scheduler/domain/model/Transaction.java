@@ -7,14 +7,22 @@ import lombok.Getter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * Transaction Aggregate Root.
+ * <p>
+ * A transaction may carry an execution time slot. Without one it runs with
+ * the daily execution of its scheduled date; with one it is executed at that
+ * time of the scheduled date.
+ * <p>
+ * {@code attempts} counts the executions that ended in a gateway error;
+ * {@code nextAttemptAt} is when a transaction waiting for a retry is due.
  *
  * @author Lucas dos Santos Guimarães
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class Transaction {
     private final Long id;
     private final AccountNumber sourceAccount;
@@ -23,6 +31,11 @@ public class Transaction {
     private final Money transferFee;
     private final FeeConfiguration feeConfiguration;
     private final LocalDate scheduledDate;
+    private final LocalTime scheduledTime;
+    @Builder.Default
+    private final TransactionStatus status = TransactionStatus.SCHEDULED;
+    private final int attempts;
+    private final LocalDateTime nextAttemptAt;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
 
@@ -36,8 +49,41 @@ public class Transaction {
             LocalDate scheduledDate,
             Money calculatedFee,
             FeeConfiguration feeConfiguration) {
+        return create(sourceAccount, destinationAccount, transferAmount, scheduledDate, null,
+                calculatedFee, feeConfiguration);
+    }
+
+    /**
+     * Factory method to create a new transaction executed at a time slot of
+     * its scheduled date. A null time leaves it to the daily execution.
+     */
+    public static Transaction create(
+            AccountNumber sourceAccount,
+            AccountNumber destinationAccount,
+            Money transferAmount,
+            LocalDate scheduledDate,
+            LocalTime scheduledTime,
+            Money calculatedFee,
+            FeeConfiguration feeConfiguration) {
+        return create(sourceAccount, destinationAccount, transferAmount, scheduledDate, scheduledTime,
+                calculatedFee, feeConfiguration, CachedDayClock.SYSTEM.now());
+    }
+
+    /**
+     * Create a transaction as of {@code now}, which is both the reference for
+     * the past-date checks and its creation time.
+     */
+    public static Transaction create(
+            AccountNumber sourceAccount,
+            AccountNumber destinationAccount,
+            Money transferAmount,
+            LocalDate scheduledDate,
+            LocalTime scheduledTime,
+            Money calculatedFee,
+            FeeConfiguration feeConfiguration,
+            LocalDateTime now) {
 
-        validateBusinessRules(sourceAccount, destinationAccount, transferAmount, scheduledDate);
+        validateBusinessRules(sourceAccount, destinationAccount, transferAmount, scheduledDate, scheduledTime, now);
 
         return Transaction.builder()
                 .sourceAccount(sourceAccount)
@@ -46,8 +92,9 @@ public class Transaction {
                 .transferFee(calculatedFee)
                 .feeConfiguration(feeConfiguration)
                 .scheduledDate(scheduledDate)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
+                .scheduledTime(scheduledTime)
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
     }
 
@@ -58,33 +105,76 @@ public class Transaction {
             AccountNumber sourceAccount,
             AccountNumber destinationAccount,
             Money transferAmount,
-            LocalDate scheduledDate) {
+            LocalDate scheduledDate,
+            LocalTime scheduledTime,
+            LocalDateTime now) {
 
         if (sourceAccount.equals(destinationAccount)) {
             throw new IllegalArgumentException("Source and destination accounts cannot be the same");
         }
 
-        if (scheduledDate.isBefore(LocalDate.now())) {
+        if (scheduledDate.isBefore(now.toLocalDate())) {
             throw new IllegalArgumentException("Scheduled date cannot be in the past");
         }
 
+        if (scheduledTime != null && scheduledDate.atTime(scheduledTime).isBefore(now)) {
+            throw new IllegalArgumentException("Scheduled time cannot be in the past");
+        }
+
         if (transferAmount.isLessThanOrEqual(Money.zero())) {
             throw new IllegalArgumentException("Transfer amount must be greater than zero");
         }
     }
 
+    /**
+     * Update transaction maintaining domain invariants, keeping its time slot.
+     * Only transactions that have not been picked up for execution can change.
+     */
+    public Transaction update(
+            AccountNumber sourceAccount,
+            AccountNumber destinationAccount,
+            Money transferAmount,
+            LocalDate scheduledDate,
+            Money newFee,
+            FeeConfiguration newFeeConfiguration) {
+        return update(sourceAccount, destinationAccount, transferAmount, scheduledDate, this.scheduledTime,
+                newFee, newFeeConfiguration);
+    }
+
     /**
      * Update transaction maintaining domain invariants.
+     * Only transactions that have not been picked up for execution can change.
      */
     public Transaction update(
             AccountNumber sourceAccount,
             AccountNumber destinationAccount,
             Money transferAmount,
             LocalDate scheduledDate,
+            LocalTime scheduledTime,
             Money newFee,
             FeeConfiguration newFeeConfiguration) {
+        return update(sourceAccount, destinationAccount, transferAmount, scheduledDate, scheduledTime,
+                newFee, newFeeConfiguration, CachedDayClock.SYSTEM.now());
+    }
+
+    /**
+     * Update transaction as of {@code now}, maintaining domain invariants.
+     * Only transactions that have not been picked up for execution can change.
+     */
+    public Transaction update(
+            AccountNumber sourceAccount,
+            AccountNumber destinationAccount,
+            Money transferAmount,
+            LocalDate scheduledDate,
+            LocalTime scheduledTime,
+            Money newFee,
+            FeeConfiguration newFeeConfiguration,
+            LocalDateTime now) {
 
-        validateBusinessRules(sourceAccount, destinationAccount, transferAmount, scheduledDate);
+        if (!isPending()) {
+            throw new IllegalArgumentException("Only scheduled transactions can be changed, current status is " + status);
+        }
+        validateBusinessRules(sourceAccount, destinationAccount, transferAmount, scheduledDate, scheduledTime, now);
 
         return Transaction.builder()
                 .id(this.id)
@@ -94,11 +184,37 @@ public class Transaction {
                 .transferFee(newFee)
                 .feeConfiguration(newFeeConfiguration)
                 .scheduledDate(scheduledDate)
+                .scheduledTime(scheduledTime)
+                .status(this.status)
+                .attempts(this.attempts)
+                .nextAttemptAt(this.nextAttemptAt)
                 .createdAt(this.createdAt)
-                .updatedAt(LocalDateTime.now())
+                .updatedAt(now)
                 .build();
     }
 
+    /**
+     * Whether the transaction is still waiting to be picked up for execution.
+     */
+    public boolean isPending() {
+        return status == TransactionStatus.SCHEDULED;
+    }
+
+    /**
+     * Whether the transaction is executed at a time slot rather than with
+     * the daily execution.
+     */
+    public boolean hasTimeSlot() {
+        return scheduledTime != null;
+    }
+
+    /**
+     * Execution partition, derived from the source account.
+     */
+    public int getPartitionId() {
+        return ExecutionPartitions.of(sourceAccount);
+    }
+
     /**
      * Calculate total amount (transfer + fee).
      */
@@ -110,7 +226,11 @@ public class Transaction {
      * Check if transaction is scheduled for today.
      */
     public boolean isScheduledForToday() {
-        return scheduledDate.equals(LocalDate.now());
+        return isScheduledFor(CachedDayClock.SYSTEM.today());
+    }
+
+    public boolean isScheduledFor(LocalDate today) {
+        return scheduledDate.equals(today);
     }
 
     /**
@@ -118,7 +238,11 @@ public class Transaction {
      * Returns 0 for today, negative for past (shouldn't happen due to validation).
      */
     public long getDaysUntilScheduled() {
-        return LocalDate.now().until(scheduledDate, java.time.temporal.ChronoUnit.DAYS);
+        return getDaysUntilScheduled(CachedDayClock.SYSTEM.today());
+    }
+
+    public long getDaysUntilScheduled(LocalDate today) {
+        return today.until(scheduledDate, java.time.temporal.ChronoUnit.DAYS);
     }
 
     /**
@@ -126,7 +250,11 @@ public class Transaction {
      * Defensive check - shouldn't happen due to creation validation.
      */
     public boolean isOverdue() {
-        return scheduledDate.isBefore(LocalDate.now());
+        return isOverdue(CachedDayClock.SYSTEM.today());
+    }
+
+    public boolean isOverdue(LocalDate today) {
+        return scheduledDate.isBefore(today);
     }
 
     /**
@@ -134,7 +262,7 @@ public class Transaction {
      * Returns percentage as decimal (e.g., 0.09 for 9%).
      */
     public java.math.BigDecimal getEffectiveFeeRate() {
-        if (transferAmount.getAmount().compareTo(java.math.BigDecimal.ZERO) == 0) {
+        if (transferAmount.getCents() == 0) {
             return java.math.BigDecimal.ZERO;
         }
         return transferFee.getAmount()
@@ -0,0 +1,43 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one attempt to execute a scheduled transaction through the
+ * payment gateway.
+ */
+@Getter
+@Builder
+public class TransactionExecution {
+    private final Long id;
+    private final Long transactionId;
+    private final LocalDate businessDate;
+    private final Outcome outcome;
+    private final String gatewayReference;
+    private final String failureReason;
+    private final LocalDateTime executedAt;
+    private final long durationMillis;
+
+    /**
+     * {@code ERROR} means the gateway could not be reached or did not
+     * answer, so the transfer may be attempted again; {@code FAILED} is a
+     * rejection by the gateway.
+     */
+    public enum Outcome {
+        SUCCEEDED,
+        FAILED,
+        ERROR
+    }
+
+    public boolean isSucceeded() {
+        return outcome == Outcome.SUCCEEDED;
+    }
+
+    public boolean isError() {
+        return outcome == Outcome.ERROR;
+    }
+}
@@ -0,0 +1,37 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+/**
+ * Lifecycle of a scheduled transaction.
+ * <p>
+ * {@code SCHEDULED -> IN_PROGRESS -> EXECUTED | FAILED}, and
+ * {@code SCHEDULED -> CANCELLED}. Executed, failed and cancelled
+ * transactions are final. {@code IN_PROGRESS -> SCHEDULED} only hands back
+ * a claim left behind by an interrupted run, so it can be claimed again.
+ * <p>
+ * When the gateway cannot be reached, the transaction waits for another
+ * attempt: {@code IN_PROGRESS -> RETRYING -> IN_PROGRESS}. Once its attempts
+ * are used up it fails and is dead-lettered; requeueing the dead letter is
+ * the only way out of {@code FAILED} ({@code FAILED -> RETRYING}).
+ */
+public enum TransactionStatus {
+    SCHEDULED,
+    IN_PROGRESS,
+    EXECUTED,
+    FAILED,
+    CANCELLED,
+    RETRYING;
+
+    public boolean canTransitionTo(TransactionStatus next) {
+        return switch (this) {
+            case SCHEDULED -> next == IN_PROGRESS || next == CANCELLED;
+            case IN_PROGRESS -> next == EXECUTED || next == FAILED || next == SCHEDULED || next == RETRYING;
+            case RETRYING -> next == IN_PROGRESS;
+            case FAILED -> next == RETRYING;
+            case EXECUTED, CANCELLED -> false;
+        };
+    }
+
+    public boolean isFinal() {
+        return this == EXECUTED || this == FAILED || this == CANCELLED;
+    }
+}
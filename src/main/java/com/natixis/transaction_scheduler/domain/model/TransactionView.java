@@ -0,0 +1,32 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Read-only view of a stored transaction, for listings.
+ * <p>
+ * Values are taken as stored: accounts and amounts were validated when the
+ * transaction was written, so they are not parsed into value objects again.
+ * Anything that changes a transaction works on {@link Transaction} instead.
+ */
+public record TransactionView(
+        Long id,
+        String sourceAccount,
+        String destinationAccount,
+        BigDecimal transferAmount,
+        BigDecimal transferFee,
+        LocalDate scheduledDate,
+        LocalTime scheduledTime,
+        TransactionStatus status,
+        int attempts,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public BigDecimal totalAmount() {
+        return transferFee == null ? transferAmount : transferAmount.add(transferFee);
+    }
+}
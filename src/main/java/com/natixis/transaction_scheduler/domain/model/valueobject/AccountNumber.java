@@ -11,30 +11,82 @@ import lombok.Value;
  * - France: FR76 3000 6000 0112 3456 7890 189 (27 chars)<br />
  * - Portugal: PT50 0002 0123 1234 5678 9015 4 (25 chars)<br />
  * - Germany: DE89 3704 0044 0532 0130 00 (22 chars)<br />
+ * <p>
+ * Parsing is a single hand-written pass that strips whitespace, upper-cases,
+ * checks the structure described by {@link #IBAN_FORMAT} and verifies the
+ * ISO 13616 mod-97 check digits, without regular expressions or intermediate
+ * strings. {@link #of(String)} and {@link #fromTrustedSource(String)} keep
+ * small bounded caches so frequently used accounts reuse one instance. Values
+ * that skipped validation are cached apart, so {@link #of(String)} never
+ * returns an instance it has not validated.
  */
 @Value
 public class AccountNumber {
 
+    /**
+     * Structure of a normalized IBAN, kept as documentation of the accepted
+     * format. Validation no longer goes through this regular expression.
+     */
     public static final String IBAN_FORMAT = "^[A-Z]{2}\\d{2}[A-Z0-9]{11,30}$";
 
+    static final int MIN_LENGTH = 15;
+    static final int MAX_LENGTH = 34;
+
+    private static final String EMPTY_MESSAGE = "Account number cannot be empty";
+    private static final String FORMAT_MESSAGE =
+            "Invalid IBAN format. Expected format: XX00XXXXXXXXXXX... (15-34 characters)";
+    private static final String CHECKSUM_MESSAGE = "Invalid IBAN check digits";
+
+    private static final int CACHE_SIZE = 4096;
+    private static final AccountNumber[] VALIDATED = new AccountNumber[CACHE_SIZE];
+    private static final AccountNumber[] TRUSTED = new AccountNumber[CACHE_SIZE];
+
     String value;
 
     public AccountNumber(String value) {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("Account number cannot be empty");
-        }
+        this(value, true);
+    }
+
+    private AccountNumber(String value, boolean validate) {
+        this.value = validate ? parse(value, true) : value;
+    }
 
-        // Remove spaces and normalize
-        String normalized = value.replaceAll("\\s+", "").toUpperCase();
+    /**
+     * Parse and validate an IBAN, reusing a cached instance when the same
+     * value was seen recently.
+     */
+    public static AccountNumber of(String value) {
+        AccountNumber cached = lookup(VALIDATED, value);
+        if (cached != null) {
+            return cached;
+        }
+        return intern(VALIDATED, new AccountNumber(value));
+    }
 
-        // IBAN validation: 15-34 alphanumeric characters
-        if (!normalized.matches(IBAN_FORMAT)) {
-            throw new IllegalArgumentException(
-                    "Invalid IBAN format. Expected format: XX00XXXXXXXXXXX... (15-34 characters)"
-            );
+    /**
+     * Wrap a value that was validated before it was stored, such as an
+     * account read back from the transactions table. Skips parsing entirely.
+     */
+    public static AccountNumber fromTrustedSource(String normalized) {
+        if (normalized == null) {
+            throw new IllegalArgumentException(EMPTY_MESSAGE);
+        }
+        AccountNumber cached = lookup(VALIDATED, normalized);
+        if (cached == null) {
+            cached = lookup(TRUSTED, normalized);
         }
+        if (cached != null) {
+            return cached;
+        }
+        return intern(TRUSTED, new AccountNumber(normalized, false));
+    }
 
-        this.value = normalized;
+    /**
+     * Check whether a raw value is a structurally valid IBAN with correct
+     * check digits. Null and blank values are not valid.
+     */
+    public static boolean isValid(String value) {
+        return parse(value, false) != null;
     }
 
     /**
@@ -42,11 +94,114 @@ public class AccountNumber {
      * Example: FR7630006000011234567890189 -> FR76 3000 6000 0112 3456 7890 189
      */
     public String getFormattedValue() {
-        return value.replaceAll("(.{4})", "$1 ").trim();
+        int length = value.length();
+        StringBuilder formatted = new StringBuilder(length + length / 4);
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && i % 4 == 0) {
+                formatted.append(' ');
+            }
+            formatted.append(value.charAt(i));
+        }
+        return formatted.toString();
     }
 
     @Override
     public String toString() {
         return value;
     }
+
+    /**
+     * Normalize and validate in one pass.
+     *
+     * @param raw   the user supplied value
+     * @param throwOnError whether to throw or return null on invalid input
+     * @return the normalized IBAN, or null when invalid and not throwing
+     */
+    private static String parse(String raw, boolean throwOnError) {
+        if (raw == null) {
+            return fail(EMPTY_MESSAGE, throwOnError);
+        }
+
+        char[] normalized = new char[MAX_LENGTH];
+        int length = 0;
+        boolean changed = false;
+
+        for (int i = 0, n = raw.length(); i < n; i++) {
+            char c = raw.charAt(i);
+            if (Character.isWhitespace(c)) {
+                changed = true;
+                continue;
+            }
+            if (c >= 'a' && c <= 'z') {
+                c = (char) (c - ('a' - 'A'));
+                changed = true;
+            }
+            if (length == MAX_LENGTH || !isAllowedAt(length, c)) {
+                return fail(FORMAT_MESSAGE, throwOnError);
+            }
+            normalized[length++] = c;
+        }
+
+        if (length == 0) {
+            return fail(EMPTY_MESSAGE, throwOnError);
+        }
+        if (length < MIN_LENGTH) {
+            return fail(FORMAT_MESSAGE, throwOnError);
+        }
+        if (mod97(normalized, length) != 1) {
+            return fail(CHECKSUM_MESSAGE, throwOnError);
+        }
+
+        return changed ? new String(normalized, 0, length) : raw;
+    }
+
+    private static boolean isAllowedAt(int position, char c) {
+        boolean letter = c >= 'A' && c <= 'Z';
+        boolean digit = c >= '0' && c <= '9';
+        if (position < 2) {
+            return letter;
+        }
+        if (position < 4) {
+            return digit;
+        }
+        return letter || digit;
+    }
+
+    /**
+     * ISO 13616 / ISO 7064 mod 97-10 over the rearranged IBAN
+     * (BBAN followed by country code and check digits), letters as 10..35.
+     */
+    private static int mod97(char[] iban, int length) {
+        int remainder = 0;
+        for (int i = 0; i < length; i++) {
+            char c = iban[(i + 4) % length];
+            if (c <= '9') {
+                remainder = (remainder * 10 + (c - '0')) % 97;
+            } else {
+                remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+            }
+        }
+        return remainder;
+    }
+
+    private static String fail(String message, boolean throwOnError) {
+        if (throwOnError) {
+            throw new IllegalArgumentException(message);
+        }
+        return null;
+    }
+
+    private static AccountNumber lookup(AccountNumber[] cache, String value) {
+        if (value == null) {
+            return null;
+        }
+        // Racy read is safe: AccountNumber is immutable with a final field.
+        AccountNumber cached = cache[value.hashCode() & (CACHE_SIZE - 1)];
+        return cached != null && cached.value.equals(value) ? cached : null;
+    }
+
+    private static AccountNumber intern(AccountNumber[] cache, AccountNumber accountNumber) {
+        cache[accountNumber.value.hashCode() & (CACHE_SIZE - 1)] = accountNumber;
+        return accountNumber;
+    }
 }
@@ -7,10 +7,29 @@ import java.math.RoundingMode;
 
 /**
  * Value Object representing monetary amounts.
+ * <p>
+ * Amounts are held as a primitive count of euro cents. {@link BigDecimal}
+ * is only used at the edges: parsing input and {@link #getAmount()} for
+ * persistence and API mapping. Arithmetic runs on longs, and the static
+ * {@code *Cents} helpers allow whole calculations without intermediate
+ * objects.
  */
 @Value
 public class Money {
-    BigDecimal amount;
+
+    private static final int SCALE = 2;
+    private static final int MAX_FAST_MULTIPLIER_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_FAST_MULTIPLIER_SCALE + 1];
+    private static final Money ZERO = new Money(0L);
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    long cents;
 
     public Money(BigDecimal amount) {
         if (amount == null) {
@@ -19,40 +38,102 @@ public class Money {
         if (amount.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Amount cannot be negative");
         }
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        this.cents = toCents(amount);
     }
 
     public Money(String amount) {
         this(new BigDecimal(amount));
     }
 
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        if (cents < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
     public static Money zero() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
+    }
+
+    /**
+     * Amount as a {@link BigDecimal} with scale 2, for mapping at the edges.
+     */
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(cents, SCALE);
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        return ofCents(Math.addExact(this.cents, other.cents));
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return ofCents(Math.subtractExact(this.cents, other.cents));
     }
 
     public Money multiply(BigDecimal multiplier) {
-        return new Money(this.amount.multiply(multiplier));
+        int scale = multiplier.scale();
+        if (scale >= 0 && scale <= MAX_FAST_MULTIPLIER_SCALE && multiplier.precision() <= MAX_FAST_MULTIPLIER_SCALE) {
+            long unscaled = multiplier.scaleByPowerOfTen(scale).longValueExact();
+            long high = Math.multiplyHigh(this.cents, unscaled);
+            long low = this.cents * unscaled;
+            if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+                return ofCents(divideHalfUp(low, POWERS_OF_TEN[scale]));
+            }
+        }
+        return new Money(getAmount().multiply(multiplier));
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return this.cents > other.cents;
     }
 
     public boolean isLessThanOrEqual(Money other) {
-        return this.amount.compareTo(other.amount) <= 0;
+        return this.cents <= other.cents;
+    }
+
+    /**
+     * Apply a rate given as {@code rateUnscaled / 10^rateScale} to an amount in
+     * cents, rounding HALF_UP to the cent. Exact for every input that does not
+     * overflow a long; throws {@link ArithmeticException} otherwise.
+     */
+    public static long multiplyCents(long cents, long rateUnscaled, int rateScale) {
+        if (rateScale < 0 || rateScale > MAX_FAST_MULTIPLIER_SCALE) {
+            throw new IllegalArgumentException("Rate scale must be between 0 and " + MAX_FAST_MULTIPLIER_SCALE);
+        }
+        return divideHalfUp(Math.multiplyExact(cents, rateUnscaled), POWERS_OF_TEN[rateScale]);
+    }
+
+    /**
+     * Add two amounts in cents, failing on overflow.
+     */
+    public static long addCents(long cents, long otherCents) {
+        return Math.addExact(cents, otherCents);
     }
 
     @Override
     public String toString() {
-        return amount.toString() + " EUR";
+        return getAmount().toString() + " EUR";
     }
-}
 
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) >= divisor - Math.abs(remainder)) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is out of range", e);
+        }
+    }
+}
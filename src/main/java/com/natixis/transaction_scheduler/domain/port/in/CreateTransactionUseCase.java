@@ -3,6 +3,7 @@ package com.natixis.transaction_scheduler.domain.port.in;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 /**
  * Input Port for creating transactions.
  */
@@ -16,10 +17,15 @@ public interface CreateTransactionUseCase {
      */
     Transaction execute(CreateTransactionCommand command);
 
+    /**
+     * A null {@code scheduledTime} leaves the transaction to the daily
+     * execution of its scheduled date.
+     */
     record CreateTransactionCommand(
             String sourceAccount,
             String destinationAccount,
             BigDecimal transferAmount,
-            LocalDate scheduledDate
+            LocalDate scheduledDate,
+            LocalTime scheduledTime
     ) {}
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.natixis.transaction_scheduler.domain.port.in;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+
+import java.util.List;
+
+/**
+ * Input Port for creating many transactions in one call.
+ */
+public interface CreateTransactionsBatchUseCase {
+
+    /**
+     * Validate and price every item against one fee rule snapshot, then
+     * persist the valid ones in chunks. An invalid item is reported in its
+     * result and does not prevent the others from being created.
+     *
+     * @param command the items to create
+     * @return one result per item, in request order
+     */
+    BatchResult execute(CreateTransactionsBatchCommand command);
+
+    record CreateTransactionsBatchCommand(List<CreateTransactionUseCase.CreateTransactionCommand> items) {}
+
+    /**
+     * Outcome of one item: the created transaction, or the reason it was rejected.
+     */
+    record ItemResult(
+            int index,
+            Transaction transaction,
+            String error
+    ) {
+        public boolean isCreated() {
+            return transaction != null;
+        }
+    }
+
+    record BatchResult(List<ItemResult> results) {
+
+        public long createdCount() {
+            return results.stream().filter(ItemResult::isCreated).count();
+        }
+
+        public long rejectedCount() {
+            return results.size() - createdCount();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.natixis.transaction_scheduler.domain.port.in;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Input Port for executing the transactions due on a business date.
+ */
+public interface ExecuteDueTransactionsUseCase {
+
+    /**
+     * Claim the pending transactions scheduled for the date batch by batch,
+     * execute them through the payment gateway, record one outcome per
+     * transaction and move each to {@code EXECUTED} or {@code FAILED}.
+     * Safe to run from several workers at once: each claims a disjoint batch.
+     * <p>
+     * Progress is checkpointed per partition in the date's execution run.
+     * Running the date again resumes that run: transactions an interrupted
+     * run left claimed are released and executed, and a transaction whose
+     * success was already recorded is never sent again.
+     *
+     * @param businessDate the date whose transactions are due
+     * @return counts and throughput of the run
+     */
+    ExecutionReport execute(LocalDate businessDate);
+
+    /**
+     * Execute the given transactions now, typically because their time slot
+     * has come. Transactions that are no longer scheduled, or are claimed by
+     * another worker, are left alone.
+     *
+     * @param businessDate     the date the executions are recorded under
+     * @param transactionIds   the transactions to execute
+     * @return counts and throughput of the run
+     */
+    ExecutionReport execute(LocalDate businessDate, Collection<Long> transactionIds);
+
+    /**
+     * Attempt the given transactions again, for those still waiting for a
+     * retry that is due. Another gateway error schedules the next attempt,
+     * or dead-letters the transaction once its attempts are used up.
+     *
+     * @param businessDate   the date the retries run on, for the report
+     * @param transactionIds the transactions to retry
+     * @return counts and throughput of the run
+     */
+    ExecutionReport retry(LocalDate businessDate, Collection<Long> transactionIds);
+
+    /**
+     * Run the date again if its execution run was started but has not
+     * completed, typically after this or another node stopped mid-run.
+     *
+     * @return the report, or empty when there was nothing to resume
+     */
+    Optional<ExecutionReport> resume(LocalDate businessDate);
+
+    /**
+     * {@code failed} counts every execution that did not succeed;
+     * {@code retrying} is the part of them scheduled for another attempt.
+     */
+    record ExecutionReport(
+            LocalDate businessDate,
+            long dispatched,
+            long succeeded,
+            long failed,
+            long retrying,
+            long skipped,
+            Duration elapsed
+    ) {
+        /**
+         * Dispatched transactions per second over the whole run.
+         */
+        public double throughputPerSecond() {
+            long nanos = elapsed.toNanos();
+            return nanos == 0 ? 0.0 : dispatched * 1_000_000_000.0 / nanos;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.natixis.transaction_scheduler.domain.port.in;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Input Port for exporting transactions in bulk.
+ */
+public interface ExportTransactionsUseCase {
+
+    /**
+     * Push every transaction scheduled in the range to the sink, ordered by
+     * scheduled date then id, one at a time. Nothing is buffered, so memory
+     * use does not depend on the size of the range.
+     *
+     * @param command the inclusive date range
+     * @param sink    receives each transaction as it is read
+     * @return number of exported transactions
+     */
+    long execute(ExportTransactionsCommand command, Consumer<Transaction> sink);
+
+    record ExportTransactionsCommand(
+            LocalDate from,
+            LocalDate to
+    ) {}
+}
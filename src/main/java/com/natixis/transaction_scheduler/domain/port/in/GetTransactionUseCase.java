@@ -1,32 +1,51 @@
 package com.natixis.transaction_scheduler.domain.port.in;
 
+import com.natixis.transaction_scheduler.domain.model.KeysetPage;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
 
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Input Port for querying transactions.
+ * <p>
+ * Listings are keyset paginated on the transaction id and never load more
+ * than {@link PageQuery#limit()} rows at once. They return stored values as
+ * {@link TransactionView}s, without rebuilding and re-validating domain
+ * objects; the listing callers are all read-only.
  */
 public interface GetTransactionUseCase {
 
+    int MAX_PAGE_SIZE = 1000;
+
     /**
      * Get transaction by ID.
      */
     Transaction getById(Long id);
 
     /**
-     * Get all transactions.
+     * Get one page of all transactions.
      */
-    List<Transaction> getAll();
+    KeysetPage<TransactionView> getAllViews(PageQuery query);
 
     /**
-     * Get transactions by scheduled date.
+     * Get one page of transactions by scheduled date.
      */
-    List<Transaction> getByScheduledDate(LocalDate date);
+    KeysetPage<TransactionView> getViewsByScheduledDate(LocalDate date, PageQuery query);
 
     /**
-     * Get transactions by source account.
+     * Get one page of transactions by source account.
      */
-    List<Transaction> getBySourceAccount(String accountNumber);
-}
\ No newline at end of file
+    KeysetPage<TransactionView> getViewsBySourceAccount(String accountNumber, PageQuery query);
+
+    /**
+     * @param afterId id of the last transaction already seen, or null to start
+     * @param limit   page size, between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    record PageQuery(Long afterId, int limit) {
+
+        public static PageQuery first(int limit) {
+            return new PageQuery(null, limit);
+        }
+    }
+}
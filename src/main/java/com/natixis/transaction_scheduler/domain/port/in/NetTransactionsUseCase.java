@@ -0,0 +1,29 @@
+package com.natixis.transaction_scheduler.domain.port.in;
+
+import com.natixis.transaction_scheduler.domain.model.NettingReport;
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Input Port for netting a business date's transfers into settlement instructions.
+ */
+public interface NetTransactionsUseCase {
+
+    /**
+     * Net the pending transfers of the daily run of a date by account pair and
+     * store the resulting settlement instructions, replacing any earlier
+     * netting of that date.
+     *
+     * @param businessDate the scheduled date to net
+     * @return counts, amounts and reduction ratio of the netting
+     */
+    NettingReport execute(LocalDate businessDate);
+
+    /**
+     * Settlement instructions from the latest netting of a date, each with
+     * the transactions it settles.
+     */
+    List<SettlementInstruction> getInstructions(LocalDate businessDate);
+}
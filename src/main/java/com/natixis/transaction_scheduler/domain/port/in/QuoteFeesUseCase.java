@@ -0,0 +1,52 @@
+package com.natixis.transaction_scheduler.domain.port.in;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Input Port for pricing transfers without scheduling them.
+ */
+public interface QuoteFeesUseCase {
+
+    /**
+     * Price every item against one fee rule snapshot and one "today".
+     * Items are priced lazily, in request order, as the stream is consumed.
+     * An item that cannot be priced yields a quote carrying an error instead
+     * of failing the whole batch.
+     *
+     * @param command the items to price
+     * @return one quote per item, in the same order
+     */
+    Stream<FeeQuote> execute(QuoteFeesCommand command);
+
+    record QuoteFeesCommand(List<QuoteItem> items) {}
+
+    record QuoteItem(
+            BigDecimal transferAmount,
+            LocalDate scheduledDate
+    ) {}
+
+    /**
+     * Result of pricing one item. Fee fields are null when {@code error} is set.
+     * {@code scheduledDate} is the date the transfer would be scheduled on,
+     * which differs from the requested one when dates roll to business days.
+     */
+    record FeeQuote(
+            int index,
+            Money transferAmount,
+            LocalDate scheduledDate,
+            Long days,
+            String feeType,
+            Money transferFee,
+            Money totalAmount,
+            String error
+    ) {
+        public boolean isPriced() {
+            return error == null;
+        }
+    }
+}
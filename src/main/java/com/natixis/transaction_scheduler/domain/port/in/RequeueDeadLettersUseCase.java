@@ -0,0 +1,25 @@
+package com.natixis.transaction_scheduler.domain.port.in;
+
+import java.util.List;
+
+/**
+ * Input Port for sending dead-lettered transactions back for execution.
+ */
+public interface RequeueDeadLettersUseCase {
+
+    /**
+     * Requeue the given dead-lettered transactions or, when none are given,
+     * the oldest ones up to the limit. Requeued transactions get a fresh set
+     * of attempts, the first of them due straight away.
+     *
+     * @param command the transactions to requeue, or how many of the oldest
+     * @return ids of the transactions requeued
+     */
+    List<Long> execute(RequeueCommand command);
+
+    /**
+     * @param transactionIds transactions to requeue; empty or {@code null} to take the oldest
+     * @param limit          how many of the oldest to requeue; {@code null} for the default
+     */
+    record RequeueCommand(List<Long> transactionIds, Integer limit) {}
+}
@@ -4,6 +4,7 @@ import com.natixis.transaction_scheduler.domain.model.Transaction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Optional;
 
 /**
@@ -26,7 +27,8 @@ public interface UpdateTransactionUseCase {
             Optional<String> sourceAccount,
             Optional<String> destinationAccount,
             Optional<BigDecimal> transferAmount,
-            Optional<LocalDate> scheduledDate
+            Optional<LocalDate> scheduledDate,
+            Optional<LocalTime> scheduledTime
     ) {
         /**
          * Check if any field needs to be updated.
@@ -35,7 +37,8 @@ public interface UpdateTransactionUseCase {
             return sourceAccount.isPresent()
                     || destinationAccount.isPresent()
                     || transferAmount.isPresent()
-                    || scheduledDate.isPresent();
+                    || scheduledDate.isPresent()
+                    || scheduledTime.isPresent();
         }
 
         /**
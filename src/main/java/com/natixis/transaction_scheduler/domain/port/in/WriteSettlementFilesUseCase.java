@@ -0,0 +1,22 @@
+package com.natixis.transaction_scheduler.domain.port.in;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementFile;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Input Port for writing the credit transfer files of an execution date.
+ */
+public interface WriteSettlementFilesUseCase {
+
+    /**
+     * Write every transfer of the date still to be settled or already
+     * executed to credit transfer files, replacing any earlier files of
+     * that date.
+     *
+     * @param executionDate the scheduled date to write
+     * @return the files written, in order
+     */
+    List<SettlementFile> execute(LocalDate executionDate);
+}
@@ -0,0 +1,35 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import com.natixis.transaction_scheduler.domain.model.DeadLetter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Output Port for transactions that used up their execution attempts.
+ */
+public interface DeadLetterRepository {
+
+    /**
+     * Store the dead letters and move their transactions from
+     * {@code IN_PROGRESS} to {@code FAILED}, together.
+     */
+    void deadLetter(List<DeadLetter> deadLetters);
+
+    /**
+     * Remove the dead letters of the given transactions and send those
+     * transactions back to {@code RETRYING} with their attempts reset, due at
+     * {@code nextAttemptAt}.
+     *
+     * @return ids of the transactions requeued
+     */
+    List<Long> requeue(Collection<Long> transactionIds, LocalDateTime nextAttemptAt);
+
+    /**
+     * Requeue the oldest dead letters, at most {@code limit} of them.
+     *
+     * @return ids of the transactions requeued
+     */
+    List<Long> requeueOldest(int limit, LocalDateTime nextAttemptAt);
+}
@@ -0,0 +1,38 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionCheckpoint;
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Output Port for execution runs and their per-partition checkpoints.
+ */
+public interface ExecutionRunRepository {
+
+    /**
+     * Open the run for the date. The first start creates it with one
+     * checkpoint per execution partition; every later start resumes it and
+     * is counted in {@link ExecutionRun#getStarts()}. Safe to call from
+     * several nodes at once.
+     *
+     * @return the run with its current checkpoints
+     */
+    ExecutionRun start(LocalDate businessDate);
+
+    Optional<ExecutionRun> findByBusinessDate(LocalDate businessDate);
+
+    /**
+     * Write the checkpoints of a run together, as one batch of updates.
+     */
+    void saveCheckpoints(Long runId, Collection<ExecutionCheckpoint> checkpoints);
+
+    /**
+     * Mark the run completed if every partition has been drained.
+     *
+     * @return whether the run is now completed
+     */
+    boolean completeIfDrained(Long runId);
+}
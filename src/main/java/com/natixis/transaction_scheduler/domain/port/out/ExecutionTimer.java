@@ -0,0 +1,24 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+
+/**
+ * Output Port for executing transactions at their time slot.
+ * <p>
+ * Use cases that change transactions keep the timer in step with the store;
+ * the timer itself only triggers execution, which still claims the
+ * transaction, so a stale entry never executes anything twice.
+ */
+public interface ExecutionTimer {
+
+    /**
+     * Fire the transaction at its time slot, replacing any earlier entry for
+     * it. A transaction without a time slot, or no longer pending, is removed.
+     */
+    void schedule(Transaction transaction);
+
+    /**
+     * Forget the transaction. Unknown ids are ignored.
+     */
+    void cancel(Long transactionId);
+}
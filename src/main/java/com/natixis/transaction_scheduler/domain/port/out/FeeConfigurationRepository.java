@@ -1,6 +1,7 @@
 package com.natixis.transaction_scheduler.domain.port.out;
 
 import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
 
 import java.util.Optional;
@@ -10,4 +11,10 @@ import java.util.Optional;
  */
 public interface FeeConfigurationRepository {
     Optional<FeeConfiguration> findBestMatch(Money transferAmount, Long days);
+
+    /**
+     * Current immutable rule snapshot, for callers that price many transfers
+     * and must see one consistent rule set.
+     */
+    FeeRuleIndex getRuleIndex();
 }
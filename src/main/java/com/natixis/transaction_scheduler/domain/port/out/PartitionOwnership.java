@@ -0,0 +1,21 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import java.util.Set;
+
+/**
+ * Output Port telling this node which execution partitions it currently owns.
+ */
+public interface PartitionOwnership {
+
+    /**
+     * Partitions this node may execute right now. May change between calls
+     * as leases are acquired, released or lost.
+     */
+    Set<Integer> ownedPartitions();
+
+    /**
+     * Published when this node gains partitions, so work that was already
+     * run for the day can be repeated for them.
+     */
+    record PartitionsAcquired(Set<Integer> partitions) {}
+}
@@ -0,0 +1,35 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+
+/**
+ * Output Port for handing a transaction over to the payment rails.
+ * Implementations must be thread-safe: calls are made concurrently.
+ * <p>
+ * They must also be idempotent per transaction id. A run interrupted between
+ * the call and recording its outcome sends the transaction again when it is
+ * resumed, and the rails must treat that as the same payment.
+ */
+public interface PaymentGateway {
+
+    /**
+     * Execute the transfer. Business rejections are reported in the result;
+     * exceptions are reserved for technical failures and are recorded as
+     * failed executions by the caller.
+     */
+    PaymentResult execute(Transaction transaction);
+
+    record PaymentResult(
+            boolean accepted,
+            String reference,
+            String failureReason
+    ) {
+        public static PaymentResult accepted(String reference) {
+            return new PaymentResult(true, reference, null);
+        }
+
+        public static PaymentResult rejected(String failureReason) {
+            return new PaymentResult(false, null, failureReason);
+        }
+    }
+}
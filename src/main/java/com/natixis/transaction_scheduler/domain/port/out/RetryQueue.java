@@ -0,0 +1,15 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * Output Port for transactions waiting for another execution attempt.
+ * <p>
+ * Queueing only schedules the attempt; the transaction is claimed again when
+ * it comes due, and only if it is still waiting for a retry, so an entry
+ * that is queued twice or outdated is harmless.
+ */
+public interface RetryQueue {
+
+    void schedule(Long transactionId, LocalDateTime nextAttemptAt);
+}
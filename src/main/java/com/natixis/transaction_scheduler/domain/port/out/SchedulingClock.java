@@ -0,0 +1,29 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Output Port for the current date and time used by scheduling, pricing and
+ * execution.
+ * <p>
+ * Every date and time is read in the one {@link #zone()}, so "today" is the
+ * same for a request accepting a transfer and for the run executing it. A
+ * request should read {@link #now()} once and derive its "today" from it,
+ * so validation and fee day counts agree even when it straddles midnight.
+ */
+public interface SchedulingClock {
+
+    LocalDate today();
+
+    LocalDateTime now();
+
+    /**
+     * The current instant, for timers counting in epoch milliseconds.
+     */
+    Instant instant();
+
+    ZoneId zone();
+}
@@ -0,0 +1,39 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementFile;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Output Port writing the credit transfer files of an execution date, one
+ * transaction at a time.
+ */
+public interface SettlementFileWriter {
+
+    /**
+     * Start the files of a date, replacing any written for it before.
+     */
+    Session open(LocalDate executionDate);
+
+    /**
+     * Files being written for one date. Transactions of the same source
+     * account must be written one after the other. Closing a session that
+     * was not finished discards its files.
+     */
+    interface Session extends AutoCloseable {
+
+        void write(Transaction transaction);
+
+        /**
+         * Complete the last file.
+         *
+         * @return every file written, in order; empty when nothing was written
+         */
+        List<SettlementFile> finish();
+
+        @Override
+        void close();
+    }
+}
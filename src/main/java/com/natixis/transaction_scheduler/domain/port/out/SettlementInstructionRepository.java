@@ -0,0 +1,19 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Output Port for settlement instructions produced by netting.
+ */
+public interface SettlementInstructionRepository {
+
+    /**
+     * Replace the instructions of a business date with the given ones.
+     */
+    void replace(LocalDate businessDate, List<SettlementInstruction> instructions);
+
+    List<SettlementInstruction> findByBusinessDate(LocalDate businessDate);
+}
@@ -0,0 +1,20 @@
+package com.natixis.transaction_scheduler.domain.port.out;
+
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Output Port for recording transaction execution outcomes.
+ */
+public interface TransactionExecutionRepository {
+    void saveAll(List<TransactionExecution> executions);
+    List<TransactionExecution> findByTransactionId(Long transactionId);
+
+    /**
+     * @return the subset of the given transaction ids that already have a successful execution
+     */
+    Set<Long> findSucceededTransactionIds(Collection<Long> transactionIds);
+}
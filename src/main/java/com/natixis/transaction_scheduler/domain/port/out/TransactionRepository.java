@@ -1,20 +1,137 @@
 package com.natixis.transaction_scheduler.domain.port.out;
 
+import com.natixis.transaction_scheduler.domain.model.KeysetPage;
+import com.natixis.transaction_scheduler.domain.model.PendingRetry;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Output Port for transaction persistence.
  */
 public interface TransactionRepository {
     Transaction save(Transaction transaction);
+
+    /**
+     * Save transactions together so the inserts can be sent as JDBC batches.
+     *
+     * @return the saved transactions, in the same order
+     */
+    List<Transaction> saveAll(List<Transaction> transactions);
     Optional<Transaction> findById(Long id);
     List<Transaction> findAll();
-    List<Transaction> findByScheduledDate(LocalDate date);
-    List<Transaction> findBySourceAccount(String accountNumber);
+    /**
+     * Keyset page over all transactions in id order, read straight into
+     * views without building domain objects.
+     *
+     * @param afterId last id of the previous page, or null for the first page
+     * @param limit   maximum number of transactions to return
+     */
+    KeysetPage<TransactionView> findViews(Long afterId, int limit);
+    KeysetPage<TransactionView> findViewsByScheduledDate(LocalDate date, Long afterId, int limit);
+    KeysetPage<TransactionView> findViewsBySourceAccount(String accountNumber, Long afterId, int limit);
+
+    /**
+     * Stream transactions scheduled between the dates (inclusive) to the
+     * consumer in (scheduled date, id) order without holding them in memory.
+     *
+     * @return number of transactions passed to the consumer
+     */
+    long forEachScheduledBetween(LocalDate from, LocalDate to, Consumer<Transaction> consumer);
+
+    /**
+     * Stream a date's transactions in the given statuses to the consumer in
+     * (source account, id) order without holding them in memory.
+     *
+     * @return number of transactions passed to the consumer
+     */
+    long forEachScheduledOnBySourceAccount(LocalDate date, Collection<TransactionStatus> statuses,
+                                           Consumer<Transaction> consumer);
+
+    /**
+     * Claim up to {@code limit} scheduled transactions without a time slot
+     * due on the date in one execution partition, in id order, and move them
+     * to {@link TransactionStatus#IN_PROGRESS}.
+     * <p>
+     * Rows locked by another worker's claim are skipped rather than waited
+     * on, so concurrent workers receive disjoint batches. A claim that
+     * overlaps another may return fewer rows than are pending (H2 applies the
+     * limit before skipping locked rows), so callers should keep claiming
+     * until nothing is returned.
+     *
+     * @return the claimed transactions, already marked in progress
+     */
+    List<Transaction> claimDue(LocalDate date, int partitionId, int limit);
+
+    /**
+     * Claim those of the given transactions that are still scheduled and not
+     * held by another worker, and move them to
+     * {@link TransactionStatus#IN_PROGRESS}.
+     *
+     * @return the claimed transactions in id order, already marked in progress
+     */
+    List<Transaction> claimPending(Collection<Long> ids);
+
+    /**
+     * Scheduled transactions with a time slot on or before the date,
+     * including overdue ones.
+     */
+    List<Transaction> findPendingWithTimeSlotUntil(LocalDate date);
+
+    /**
+     * Hand back claims an interrupted run left behind: transactions without a
+     * time slot for the date and partition that were moved to
+     * {@link TransactionStatus#IN_PROGRESS} before {@code claimedBefore} go
+     * back to {@link TransactionStatus#SCHEDULED}.
+     *
+     * @return number of transactions released
+     */
+    int releaseClaimed(LocalDate date, int partitionId, LocalDateTime claimedBefore);
+
+    /**
+     * Whether a worker still holds transactions without a time slot for the
+     * date and partition.
+     */
+    boolean hasClaimed(LocalDate date, int partitionId);
+
+    /**
+     * Move the given in-progress transactions to
+     * {@link TransactionStatus#RETRYING}, counting one more failed attempt
+     * and recording when each is due again.
+     *
+     * @return number of transactions updated
+     */
+    int scheduleRetries(Map<Long, LocalDateTime> nextAttemptAt);
+
+    /**
+     * Claim those of the given transactions that are waiting for a retry
+     * due by {@code now} and not held by another worker, and move them to
+     * {@link TransactionStatus#IN_PROGRESS}.
+     *
+     * @return the claimed transactions in id order, already marked in progress
+     */
+    List<Transaction> claimRetries(Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * Transactions of the given partitions waiting for a retry.
+     */
+    List<PendingRetry> findPendingRetries(Collection<Integer> partitionIds);
+
+    /**
+     * Move the given transactions from one status to another. Transactions
+     * not currently in {@code from} are left untouched.
+     *
+     * @return number of transactions updated
+     */
+    int updateStatus(Collection<Long> ids, TransactionStatus from, TransactionStatus to);
     void delete(Transaction transaction);
     boolean existsById(Long id);
 }
@@ -0,0 +1,96 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.configuration;
+
+import com.natixis.transaction_scheduler.application.usecase.SchedulingCalendar;
+import com.natixis.transaction_scheduler.domain.model.BusinessCalendar;
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wiring for the scheduling clock and the business-day calendar.
+ * <p>
+ * The calendar is built once at startup from a holiday file (one ISO date
+ * per line, optionally followed by a name; {@code #} starts a comment) and
+ * covers the years from its first to its last date, with Saturday and Sunday
+ * weekends.
+ */
+@Configuration
+@Slf4j
+public class CalendarConfig {
+
+    /**
+     * System clock in the execution zone, which is the zone transactions are
+     * scheduled, priced and executed in.
+     */
+    @Bean
+    public SchedulingClock schedulingClock(@Value("${transaction-execution.zone:Europe/Lisbon}") String zone) {
+        return new CachedDayClock(Clock.system(ZoneId.of(zone)));
+    }
+
+    @Bean
+    public BusinessCalendar businessCalendar(
+            @Value("${business-calendar.holidays:classpath:calendar/target2-holidays.txt}") Resource holidays) {
+        List<LocalDate> dates = readHolidays(holidays);
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("Holiday file " + holidays.getDescription() + " lists no dates");
+        }
+        int firstYear = dates.stream().mapToInt(LocalDate::getYear).min().getAsInt();
+        int lastYear = dates.stream().mapToInt(LocalDate::getYear).max().getAsInt();
+
+        BusinessCalendar calendar = BusinessCalendar.weekdays(firstYear, lastYear, dates);
+        log.info("Loaded business calendar {} to {} with {} holidays from {}",
+                calendar.getFirstDay(), calendar.getLastDay(), dates.size(), holidays.getDescription());
+        return calendar;
+    }
+
+    @Bean
+    public SchedulingCalendar schedulingCalendar(
+            BusinessCalendar businessCalendar,
+            @Value("${business-calendar.roll-scheduled-dates:false}") boolean rollScheduledDates,
+            @Value("${business-calendar.business-day-fees:false}") boolean businessDayFees) {
+        return new SchedulingCalendar(businessCalendar, rollScheduledDates, businessDayFees);
+    }
+
+    private static List<LocalDate> readHolidays(Resource holidays) {
+        List<LocalDate> dates = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(holidays.getInputStream(), StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                String content = (comment < 0 ? line : line.substring(0, comment)).strip();
+                if (content.isEmpty()) {
+                    continue;
+                }
+                int end = content.indexOf(' ');
+                String date = end < 0 ? content : content.substring(0, end);
+                try {
+                    dates.add(LocalDate.parse(date));
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException(String.format(
+                            "Invalid date '%s' on line %d of %s", date, lineNumber, holidays.getDescription()), e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read holiday file " + holidays.getDescription(), e);
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,176 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.configuration;
+
+import com.natixis.transaction_scheduler.application.usecase.AccountLaneDispatcher;
+import com.natixis.transaction_scheduler.application.usecase.ExecuteDueTransactionsUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.ExecutionRetries;
+import com.natixis.transaction_scheduler.application.usecase.RetryDelayQueue;
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.RetryPolicy;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionRunRepository;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership;
+import com.natixis.transaction_scheduler.domain.port.out.PaymentGateway;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionExecutionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.AccountLaneMetrics;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.TimedPorts;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wiring for the due-transaction execution engine.
+ * <p>
+ * The executor is owned by this class rather than exposed as a bean: an
+ * {@code Executor} bean would replace Spring's {@code applicationTaskExecutor},
+ * which the asynchronous MVC endpoints rely on.
+ * <p>
+ * Virtual threads are used when the runtime provides them (Java 21+). On
+ * older runtimes a fixed pool sized to the configured concurrency is used.
+ * Either way, in-flight gateway calls are bounded by the number of account
+ * lanes, which is the configured concurrency.
+ */
+@Configuration
+@Slf4j
+public class ExecutionConfig {
+
+    private static final String THREAD_PREFIX = "tx-exec-";
+
+    private final int maxConcurrency;
+    private final ExecutorService executor;
+
+    public ExecutionConfig(@Value("${transaction-execution.max-concurrency:64}") int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("transaction-execution.max-concurrency must be positive");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.executor = newExecutor(maxConcurrency);
+    }
+
+    /**
+     * One lane per unit of concurrency; the executor has at least that many
+     * threads, so every lane can make progress at once. Lane depth and
+     * latency are published per lane ({@code scheduler.lanes.*}).
+     */
+    @Bean
+    public AccountLaneDispatcher accountLaneDispatcher(MeterRegistry meterRegistry) {
+        AccountLaneDispatcher dispatcher = new AccountLaneDispatcher(executor, maxConcurrency);
+        new AccountLaneMetrics(dispatcher).bindTo(meterRegistry);
+        return dispatcher;
+    }
+
+    @Bean
+    public RetryPolicy retryPolicy(
+            @Value("${transaction-execution.retry.max-attempts:5}") int maxAttempts,
+            @Value("${transaction-execution.retry.base-delay-ms:1000}") long baseDelayMillis,
+            @Value("${transaction-execution.retry.max-delay-ms:600000}") long maxDelayMillis) {
+        return new RetryPolicy(maxAttempts, Duration.ofMillis(baseDelayMillis), Duration.ofMillis(maxDelayMillis));
+    }
+
+    /**
+     * Due times are read from the scheduling clock, so the queue reads them
+     * in its zone.
+     */
+    @Bean
+    public RetryDelayQueue retryDelayQueue(SchedulingClock schedulingClock) {
+        return new RetryDelayQueue(schedulingClock.zone());
+    }
+
+    @Bean
+    public ExecuteDueTransactionsUseCase executeDueTransactionsUseCase(
+            TransactionRepository transactionRepository,
+            TransactionExecutionRepository transactionExecutionRepository,
+            ExecutionRunRepository executionRunRepository,
+            DeadLetterRepository deadLetterRepository,
+            PaymentGateway paymentGateway,
+            PartitionOwnership partitionOwnership,
+            AccountLaneDispatcher accountLaneDispatcher,
+            RetryDelayQueue retryDelayQueue,
+            RetryPolicy retryPolicy,
+            SchedulingClock schedulingClock,
+            MeterRegistry meterRegistry,
+            @Value("${transaction-execution.page-size:500}") int pageSize,
+            @Value("${transaction-execution.recovery.claimed-for-ms:60000}") long recoverAfterMillis) {
+        ExecutionRetries executionRetries = new ExecutionRetries(transactionRepository, deadLetterRepository,
+                retryDelayQueue, retryPolicy, schedulingClock);
+        ExecuteDueTransactionsUseCase useCase = new ExecuteDueTransactionsUseCaseImpl(transactionRepository,
+                transactionExecutionRepository, executionRunRepository, executionRetries, paymentGateway,
+                partitionOwnership, accountLaneDispatcher, schedulingClock, pageSize,
+                Duration.ofMillis(recoverAfterMillis));
+        return TimedPorts.timed(ExecuteDueTransactionsUseCase.class, useCase, meterRegistry,
+                TimedPorts.USE_CASE_METRIC);
+    }
+
+    /**
+     * Single-node mode: without leases this node owns every partition.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "transaction-execution.lease.enabled", havingValue = "false")
+    public PartitionOwnership allPartitionsOwnership() {
+        return ExecutionPartitions::all;
+    }
+
+    /**
+     * Without the execution engine nothing fires; time slots are only stored.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "transaction-execution.enabled", havingValue = "false")
+    public ExecutionTimer noExecutionTimer() {
+        return new ExecutionTimer() {
+            @Override
+            public void schedule(Transaction transaction) {
+                // nothing to fire
+            }
+
+            @Override
+            public void cancel(Long transactionId) {
+                // nothing to forget
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int maxConcurrency) {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            log.info("Transaction execution running on virtual threads");
+            return virtual;
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads unavailable, using a pool of {} platform threads", maxConcurrency);
+            return Executors.newFixedThreadPool(maxConcurrency, namedThreads());
+        }
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.configuration;
+
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionRunRepository;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementInstructionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionExecutionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.CreatedTransactionMetrics;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.MeteredFeeConfigurationRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.TimedPorts;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.DeadLetterRepositoryAdapter;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.ExecutionRunRepositoryAdapter;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.FeeConfigurationRepositoryAdapter;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.SettlementInstructionRepositoryAdapter;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.TransactionExecutionRepositoryAdapter;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.TransactionRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Timed repository ports.
+ * <p>
+ * Each repository port is exposed a second time, as a {@link Primary} bean
+ * timing every method ({@code scheduler.repository}), so use cases and the
+ * execution engine get the timed one while the adapter bean itself stays in
+ * the context unchanged (its scheduled refreshes keep running on it). Use
+ * cases are timed where they are wired, in {@link UseCaseConfig} and
+ * {@link ExecutionConfig}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    @Primary
+    public TransactionRepository timedTransactionRepository(TransactionRepositoryAdapter adapter,
+                                                            MeterRegistry registry) {
+        return TimedPorts.timed(TransactionRepository.class, adapter, registry, TimedPorts.REPOSITORY_METRIC);
+    }
+
+    /**
+     * Also counts single fee lookups no rule matched.
+     */
+    @Bean
+    @Primary
+    public FeeConfigurationRepository timedFeeConfigurationRepository(FeeConfigurationRepositoryAdapter adapter,
+                                                                      MeterRegistry registry) {
+        return TimedPorts.timed(FeeConfigurationRepository.class,
+                new MeteredFeeConfigurationRepository(adapter, registry), registry, TimedPorts.REPOSITORY_METRIC);
+    }
+
+    @Bean
+    @Primary
+    public TransactionExecutionRepository timedTransactionExecutionRepository(
+            TransactionExecutionRepositoryAdapter adapter, MeterRegistry registry) {
+        return TimedPorts.timed(TransactionExecutionRepository.class, adapter, registry,
+                TimedPorts.REPOSITORY_METRIC);
+    }
+
+    @Bean
+    @Primary
+    public ExecutionRunRepository timedExecutionRunRepository(ExecutionRunRepositoryAdapter adapter,
+                                                              MeterRegistry registry) {
+        return TimedPorts.timed(ExecutionRunRepository.class, adapter, registry, TimedPorts.REPOSITORY_METRIC);
+    }
+
+    @Bean
+    @Primary
+    public DeadLetterRepository timedDeadLetterRepository(DeadLetterRepositoryAdapter adapter,
+                                                          MeterRegistry registry) {
+        return TimedPorts.timed(DeadLetterRepository.class, adapter, registry, TimedPorts.REPOSITORY_METRIC);
+    }
+
+    @Bean
+    @Primary
+    public SettlementInstructionRepository timedSettlementInstructionRepository(
+            SettlementInstructionRepositoryAdapter adapter, MeterRegistry registry) {
+        return TimedPorts.timed(SettlementInstructionRepository.class, adapter, registry,
+                TimedPorts.REPOSITORY_METRIC);
+    }
+
+    @Bean
+    public CreatedTransactionMetrics createdTransactionMetrics(MeterRegistry registry,
+                                                              SchedulingClock schedulingClock) {
+        return new CreatedTransactionMetrics(registry, schedulingClock);
+    }
+}
@@ -1,43 +1,123 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.configuration;
 
 import com.natixis.transaction_scheduler.application.usecase.CreateTransactionUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.CreateTransactionsBatchUseCaseImpl;
 import com.natixis.transaction_scheduler.application.usecase.DeleteTransactionUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.ExportTransactionsUseCaseImpl;
 import com.natixis.transaction_scheduler.application.usecase.GetTransactionUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.NetTransactionsUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.QuoteFeesUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.RequeueDeadLettersUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.SchedulingCalendar;
 import com.natixis.transaction_scheduler.application.usecase.UpdateTransactionUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.WriteSettlementFilesUseCaseImpl;
 import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase;
 import com.natixis.transaction_scheduler.domain.port.in.DeleteTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.ExportTransactionsUseCase;
 import com.natixis.transaction_scheduler.domain.port.in.GetTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.NetTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.QuoteFeesUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.RequeueDeadLettersUseCase;
 import com.natixis.transaction_scheduler.domain.port.in.UpdateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.WriteSettlementFilesUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
 import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.RetryQueue;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementFileWriter;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementInstructionRepository;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.CreatedTransactionMetrics;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics.TimedPorts;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * Wiring for the use cases. Every use case is timed
+ * ({@code scheduler.usecase}), and created transactions are counted by
+ * applied fee type and scheduled-day bucket.
+ */
 @Configuration
 @RequiredArgsConstructor
 public class UseCaseConfig {
 
     private final TransactionRepository transactionRepository;
     private final FeeConfigurationRepository feeConfigurationRepository;
+    private final ExecutionTimer executionTimer;
+    private final DeadLetterRepository deadLetterRepository;
+    private final RetryQueue retryQueue;
+    private final SettlementInstructionRepository settlementInstructionRepository;
+    private final SettlementFileWriter settlementFileWriter;
+    private final SchedulingCalendar schedulingCalendar;
+    private final SchedulingClock schedulingClock;
+    private final MeterRegistry meterRegistry;
+    private final CreatedTransactionMetrics createdTransactionMetrics;
 
     @Bean
     public CreateTransactionUseCase createCustomerUseCase() {
-        return new CreateTransactionUseCaseImpl(transactionRepository, feeConfigurationRepository);
+        CreateTransactionUseCase useCase = new CreateTransactionUseCaseImpl(transactionRepository,
+                feeConfigurationRepository, executionTimer, schedulingCalendar, schedulingClock);
+        return timed(CreateTransactionUseCase.class, createdTransactionMetrics.counting(useCase));
+    }
+
+    @Bean
+    public CreateTransactionsBatchUseCase createTransactionsBatchUseCase() {
+        CreateTransactionsBatchUseCase useCase = new CreateTransactionsBatchUseCaseImpl(transactionRepository,
+                feeConfigurationRepository, executionTimer, schedulingCalendar, schedulingClock);
+        return timed(CreateTransactionsBatchUseCase.class, createdTransactionMetrics.counting(useCase));
     }
 
     @Bean
     public UpdateTransactionUseCase updateCustomerUseCase() {
-        return new UpdateTransactionUseCaseImpl(transactionRepository, feeConfigurationRepository);
+        return timed(UpdateTransactionUseCase.class, new UpdateTransactionUseCaseImpl(transactionRepository,
+                feeConfigurationRepository, executionTimer, schedulingCalendar, schedulingClock));
     }
 
     @Bean
     public GetTransactionUseCase getCustomerUseCase() {
-        return new GetTransactionUseCaseImpl(transactionRepository);
+        return timed(GetTransactionUseCase.class, new GetTransactionUseCaseImpl(transactionRepository));
     }
 
     @Bean
     public DeleteTransactionUseCase deleteCustomerUseCase() {
-        return new DeleteTransactionUseCaseImpl(transactionRepository);
+        return timed(DeleteTransactionUseCase.class,
+                new DeleteTransactionUseCaseImpl(transactionRepository, executionTimer));
+    }
+
+    @Bean
+    public QuoteFeesUseCase quoteFeesUseCase() {
+        return timed(QuoteFeesUseCase.class,
+                new QuoteFeesUseCaseImpl(feeConfigurationRepository, schedulingCalendar, schedulingClock));
+    }
+
+    @Bean
+    public ExportTransactionsUseCase exportTransactionsUseCase() {
+        return timed(ExportTransactionsUseCase.class, new ExportTransactionsUseCaseImpl(transactionRepository));
+    }
+
+    @Bean
+    public RequeueDeadLettersUseCase requeueDeadLettersUseCase() {
+        return timed(RequeueDeadLettersUseCase.class,
+                new RequeueDeadLettersUseCaseImpl(deadLetterRepository, retryQueue, schedulingClock));
+    }
+
+    @Bean
+    public NetTransactionsUseCase netTransactionsUseCase() {
+        return timed(NetTransactionsUseCase.class,
+                new NetTransactionsUseCaseImpl(transactionRepository, settlementInstructionRepository));
+    }
+
+    @Bean
+    public WriteSettlementFilesUseCase writeSettlementFilesUseCase() {
+        return timed(WriteSettlementFilesUseCase.class,
+                new WriteSettlementFilesUseCaseImpl(transactionRepository, settlementFileWriter));
+    }
+
+    private <T> T timed(Class<T> useCase, T target) {
+        return TimedPorts.timed(useCase, target, meterRegistry, TimedPorts.USE_CASE_METRIC);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.controller;
+
+import com.natixis.transaction_scheduler.domain.port.in.RequeueDeadLettersUseCase;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.DeadLetterRequeueRequest;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.DeadLetterRequeueResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper.DeadLetterDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dead letters", description = "Transactions that used up their execution attempts")
+public class DeadLetterController {
+    private final RequeueDeadLettersUseCase requeueDeadLettersUseCase;
+
+    @Operation(
+            summary = "Requeue dead-lettered transactions",
+            description = "Sends the given dead-lettered transactions, or the oldest ones up to the limit, back for "
+                    + "execution with a fresh set of attempts"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Transactions requeued; ids that were not dead-lettered are ignored",
+                    content = @Content(schema = @Schema(implementation = DeadLetterRequeueResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many ids or limit out of range",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping(value = "/requeue", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DeadLetterRequeueResponse> requeue(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Dead letters to requeue",
+                    required = true
+            )
+            @RequestBody DeadLetterRequeueRequest request) {
+
+        log.info("REST: Received request to requeue dead letters");
+
+        List<Long> requeued = requeueDeadLettersUseCase.execute(DeadLetterDtoMapper.INSTANCE.toCommand(request));
+        return ResponseEntity.ok(DeadLetterDtoMapper.INSTANCE.toResponse(requeued));
+    }
+}
@@ -0,0 +1,82 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.controller;
+
+import com.natixis.transaction_scheduler.domain.port.in.QuoteFeesUseCase;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.FeeQuoteRequest;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.FeeQuoteResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper.FeeQuoteDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/v1/fees")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Fees", description = "Fee pricing APIs")
+public class FeeQuoteController {
+    private final QuoteFeesUseCase quoteFeesUseCase;
+    private final JsonMapper jsonMapper;
+
+    @Operation(
+            summary = "Quote fees for a batch of transfers",
+            description = "Prices every (amount, scheduled date) pair against a single fee rule snapshot without "
+                    + "persisting anything. Results are streamed back as a JSON array in request order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Quotes computed; unpriceable items carry an error message",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = FeeQuoteResponse.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty or oversized batch",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping(value = "/quote", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> quoteFees(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Transfers to price",
+                    required = true
+            )
+            @RequestBody List<FeeQuoteRequest> requests) {
+
+        log.info("REST: Received request to quote {} transfers", requests.size());
+
+        // Validates the batch eagerly so errors still map to a 400; pricing itself is lazy.
+        Stream<QuoteFeesUseCase.FeeQuote> quotes =
+                quoteFeesUseCase.execute(FeeQuoteDtoMapper.INSTANCE.toCommand(requests));
+
+        StreamingResponseBody body = outputStream -> {
+            try (quotes; JsonGenerator generator = jsonMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                quotes.forEach(quote -> generator.writePOJO(FeeQuoteDtoMapper.INSTANCE.toResponse(quote)));
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
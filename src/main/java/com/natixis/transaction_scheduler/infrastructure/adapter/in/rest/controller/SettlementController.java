@@ -0,0 +1,94 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.controller;
+
+import com.natixis.transaction_scheduler.domain.port.in.NetTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.WriteSettlementFilesUseCase;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.NettingResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.SettlementFileResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.SettlementInstructionResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper.SettlementDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/v1/settlements")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Settlements", description = "Netting and settlement files of same-day transfers")
+public class SettlementController {
+    private final NetTransactionsUseCase netTransactionsUseCase;
+    private final WriteSettlementFilesUseCase writeSettlementFilesUseCase;
+
+    @Operation(
+            summary = "Net a business date",
+            description = "Nets the date's pending daily-run transfers into one settlement instruction per account "
+                    + "pair, replacing any earlier netting of that date, and reports the reduction"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Date netted",
+                    content = @Content(schema = @Schema(implementation = NettingResponse.class))
+            )
+    })
+    @PostMapping("/{date}/netting")
+    public ResponseEntity<NettingResponse> net(@PathVariable LocalDate date) {
+        log.info("REST: Netting transactions scheduled for {}", date);
+
+        return ResponseEntity.ok(SettlementDtoMapper.INSTANCE.toResponse(netTransactionsUseCase.execute(date)));
+    }
+
+    @Operation(
+            summary = "Get settlement instructions",
+            description = "Settlement instructions from the latest netting of a date, with the transactions each settles"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Instructions retrieved (empty when the date was not netted)",
+                    content = @Content(array = @ArraySchema(
+                            schema = @Schema(implementation = SettlementInstructionResponse.class)))
+            )
+    })
+    @GetMapping("/{date}")
+    public ResponseEntity<List<SettlementInstructionResponse>> getInstructions(@PathVariable LocalDate date) {
+        log.info("REST: Getting settlement instructions for {}", date);
+
+        return ResponseEntity.ok(SettlementDtoMapper.INSTANCE.toResponses(netTransactionsUseCase.getInstructions(date)));
+    }
+
+    @Operation(
+            summary = "Write settlement files",
+            description = "Writes the date's transfers as SEPA pain.001 credit transfer files, split at the "
+                    + "configured size, replacing any files written earlier for that date"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Files written (empty when nothing is scheduled on the date)",
+                    content = @Content(array = @ArraySchema(
+                            schema = @Schema(implementation = SettlementFileResponse.class)))
+            )
+    })
+    @PostMapping("/{date}/files")
+    public ResponseEntity<List<SettlementFileResponse>> writeFiles(@PathVariable LocalDate date) {
+        log.info("REST: Writing settlement files for {}", date);
+
+        return ResponseEntity.ok(SettlementDtoMapper.INSTANCE.toFileResponses(writeSettlementFilesUseCase.execute(date)));
+    }
+}
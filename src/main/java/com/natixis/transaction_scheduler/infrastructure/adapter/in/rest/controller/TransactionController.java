@@ -1,24 +1,34 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.controller;
 
+import com.natixis.transaction_scheduler.domain.model.KeysetPage;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
 import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase;
 import com.natixis.transaction_scheduler.domain.port.in.DeleteTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.ExportTransactionsUseCase;
 import com.natixis.transaction_scheduler.domain.port.in.GetTransactionUseCase;
 import com.natixis.transaction_scheduler.domain.port.in.UpdateTransactionUseCase;
 import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.TransactionPatchRequest;
 import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.TransactionRequest;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.TransactionBatchResponse;
 import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.TransactionResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper.PageCursorMapper;
 import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper.TransactionDtoMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.ErrorResponse;
@@ -30,8 +40,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -41,10 +56,16 @@ import java.util.List;
 @Slf4j
 @Tag(name = "Transactions", description = "Transaction management APIs")
 public class TransactionController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String DEFAULT_PAGE_SIZE = "100";
+
     private final CreateTransactionUseCase createTransactionUseCase;
+    private final CreateTransactionsBatchUseCase createTransactionsBatchUseCase;
     private final GetTransactionUseCase getTransactionUseCase;
     private final UpdateTransactionUseCase updateTransactionUseCase;
     private final DeleteTransactionUseCase deleteTransactionUseCase;
+    private final ExportTransactionsUseCase exportTransactionsUseCase;
+    private final JsonMapper jsonMapper;
 
     @Operation(
             summary = "Create a new transaction",
@@ -87,6 +108,40 @@ public class TransactionController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Operation(
+            summary = "Create transactions in bulk",
+            description = "Validates and prices every item against one fee rule snapshot and persists the valid ones "
+                    + "in JDBC batches. Each item gets its own result; an invalid item does not reject the batch"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see per-item results",
+                    content = @Content(schema = @Schema(implementation = TransactionBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Empty batch or more than 10,000 items",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/batch")
+    @Transactional
+    public ResponseEntity<TransactionBatchResponse> createTransactionsBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Transactions to create, validated per item",
+                    required = true
+            )
+            @RequestBody List<TransactionRequest> requests) {
+
+        log.info("REST: Received request to create {} transactions", requests.size());
+
+        CreateTransactionsBatchUseCase.BatchResult result =
+                createTransactionsBatchUseCase.execute(TransactionDtoMapper.INSTANCE.toBatchCommand(requests));
+
+        return ResponseEntity.ok(TransactionDtoMapper.INSTANCE.toBatchResponse(result));
+    }
+
     @Operation(
             summary = "Get transaction by ID",
             description = "Retrieves a specific transaction by its unique identifier"
@@ -116,74 +171,148 @@ public class TransactionController {
 
     @Operation(
             summary = "Get all transactions",
-            description = "Retrieves a list of all transactions in the system"
+            description = "Retrieves all transactions in id order, one page at a time"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "List of transactions retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = TransactionResponse.class))
+                    description = "Page of transactions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionResponse.class)),
+                    headers = @Header(name = NEXT_CURSOR_HEADER,
+                            description = "Opaque cursor for the next page, absent on the last page")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid limit or cursor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     @GetMapping
     @Transactional(readOnly = true)
-    public ResponseEntity<List<TransactionResponse>> getAllTransactions() {
+    public ResponseEntity<List<TransactionResponse>> getAllTransactions(
+            @Parameter(description = "Page size (1-1000)")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor) {
         log.info("REST: Getting all transactions");
 
-        List<Transaction> transactions = getTransactionUseCase.getAll();
-        List<TransactionResponse> responses = transactions.stream()
-                .map(TransactionDtoMapper.INSTANCE::toResponse)
-                .toList();
+        KeysetPage<TransactionView> page = getTransactionUseCase.getAllViews(toPageQuery(limit, cursor));
 
-        return ResponseEntity.ok(responses);
+        return toPageResponse(page);
     }
 
     @Operation(
             summary = "Get transactions by scheduled date",
-            description = "Retrieves a list of transactions by scheduled date in the system"
+            description = "Retrieves transactions by scheduled date in id order, one page at a time"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "List of transactions retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = TransactionResponse.class))
+                    description = "Page of transactions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionResponse.class)),
+                    headers = @Header(name = NEXT_CURSOR_HEADER,
+                            description = "Opaque cursor for the next page, absent on the last page")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid limit or cursor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     @GetMapping("/scheduled/{date}")
     @Transactional(readOnly = true)
-    public ResponseEntity<List<TransactionResponse>> getTransactionByScheduledDate(@PathVariable LocalDate date) {
+    public ResponseEntity<List<TransactionResponse>> getTransactionByScheduledDate(
+            @PathVariable LocalDate date,
+            @Parameter(description = "Page size (1-1000)")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor) {
         log.info("REST: Getting transactions by scheduled date: " + date);
 
-        List<Transaction> transactions = getTransactionUseCase.getByScheduledDate(date);
-        List<TransactionResponse> responses = transactions.stream()
-                .map(TransactionDtoMapper.INSTANCE::toResponse)
-                .toList();
+        KeysetPage<TransactionView> page = getTransactionUseCase.getViewsByScheduledDate(date, toPageQuery(limit, cursor));
 
-        return ResponseEntity.ok(responses);
+        return toPageResponse(page);
     }
 
     @Operation(
             summary = "Get transactions by account number",
-            description = "Retrieves a list of transactions by account number in the system"
+            description = "Retrieves transactions by account number in id order, one page at a time"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "List of transactions retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = TransactionResponse.class))
+                    description = "Page of transactions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionResponse.class)),
+                    headers = @Header(name = NEXT_CURSOR_HEADER,
+                            description = "Opaque cursor for the next page, absent on the last page")
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid limit or cursor",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     @GetMapping("/accounts/{accountNumber}")
     @Transactional(readOnly = true)
-    public ResponseEntity<List<TransactionResponse>> getTransactionBySourceAccount(@PathVariable String accountNumber) {
+    public ResponseEntity<List<TransactionResponse>> getTransactionBySourceAccount(
+            @PathVariable String accountNumber,
+            @Parameter(description = "Page size (1-1000)")
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit,
+            @Parameter(description = "Cursor from the X-Next-Cursor header of the previous page")
+            @RequestParam(required = false) String cursor) {
         log.info("REST: Getting transactions by account number: " + accountNumber);
 
-        List<Transaction> transactions = getTransactionUseCase.getBySourceAccount(accountNumber);
-        List<TransactionResponse> responses = transactions.stream()
-                .map(TransactionDtoMapper.INSTANCE::toResponse)
-                .toList();
+        KeysetPage<TransactionView> page = getTransactionUseCase.getViewsBySourceAccount(accountNumber, toPageQuery(limit, cursor));
 
-        return ResponseEntity.ok(responses);
+        return toPageResponse(page);
+    }
+
+    @Operation(
+            summary = "Export transactions as NDJSON",
+            description = "Streams every transaction scheduled between from and to (inclusive) as newline-delimited "
+                    + "JSON, ordered by scheduled date then id. Rows are written as they are read, so the response "
+                    + "size does not affect server memory"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One TransactionResponse JSON object per line",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = TransactionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing dates or from after to",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/export")
+    @Transactional(readOnly = true)
+    public void exportTransactions(
+            @Parameter(description = "First scheduled date, inclusive (yyyy-MM-dd)")
+            @RequestParam(required = false) LocalDate from,
+            @Parameter(description = "Last scheduled date, inclusive (yyyy-MM-dd)")
+            @RequestParam(required = false) LocalDate to,
+            HttpServletResponse response) throws IOException {
+        log.info("REST: Exporting transactions scheduled from {} to {}", from, to);
+
+        ExportTransactionsUseCase.ExportTransactionsCommand command =
+                new ExportTransactionsUseCase.ExportTransactionsCommand(from, to);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        // Neither closing nor flushing reaches the servlet stream, so the response is not
+        // committed before the first row and a validation error can still become a 400.
+        try (JsonGenerator generator = jsonMapper.writer()
+                .withRootValueSeparator((String) null)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .without(StreamWriteFeature.FLUSH_PASSED_TO_STREAM)
+                .createGenerator(response.getOutputStream())) {
+            exportTransactionsUseCase.execute(command, transaction -> {
+                generator.writePOJO(TransactionDtoMapper.INSTANCE.toResponse(transaction));
+                generator.writeRaw('\n');
+            });
+        }
     }
 
     @Operation(
@@ -284,4 +413,24 @@ public class TransactionController {
         deleteTransactionUseCase.execute(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static GetTransactionUseCase.PageQuery toPageQuery(int limit, String cursor) {
+        return new GetTransactionUseCase.PageQuery(PageCursorMapper.toAfterId(cursor), limit);
+    }
+
+    /**
+     * The body stays a plain JSON array; the continuation token travels in a header.
+     * Listings map stored views directly, skipping the domain model.
+     */
+    private static ResponseEntity<List<TransactionResponse>> toPageResponse(KeysetPage<TransactionView> page) {
+        List<TransactionResponse> responses = page.content().stream()
+                .map(TransactionDtoMapper.INSTANCE::toResponse)
+                .toList();
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, PageCursorMapper.toCursor(page.nextAfterId()));
+        }
+        return builder.body(responses);
+    }
 }
@@ -0,0 +1,23 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Dead letters to requeue: the given transactions, or else the oldest ones up to the limit")
+public record DeadLetterRequeueRequest(
+
+        @Schema(
+                description = "Transactions to requeue (up to 10,000); omit to requeue the oldest dead letters",
+                example = "[1, 2, 3]"
+        )
+        List<Long> transactionIds,
+
+        @Schema(
+                description = "How many of the oldest dead letters to requeue when no ids are given",
+                example = "1000",
+                defaultValue = "1000"
+        )
+        Integer limit
+) {
+}
@@ -0,0 +1,25 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Schema(description = "One transfer to price. Invalid items are reported per item instead of rejecting the batch")
+public record FeeQuoteRequest(
+
+        @Schema(
+                description = "Amount to transfer in EUR",
+                example = "1500.00",
+                requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        BigDecimal transferAmount,
+
+        @Schema(
+                description = "Date when the transaction would be executed",
+                example = "2026-01-20",
+                requiredMode = Schema.RequiredMode.REQUIRED
+        )
+        LocalDate scheduledDate
+) {
+}
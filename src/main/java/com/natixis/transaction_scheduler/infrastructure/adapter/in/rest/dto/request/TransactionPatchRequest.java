@@ -1,14 +1,14 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request;
 
-import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.validation.Iban;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.FutureOrPresent;
-import jakarta.validation.constraints.Pattern;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Schema(description = "Request object for creating or updating a transaction")
 public record TransactionPatchRequest(
@@ -18,7 +18,7 @@ public record TransactionPatchRequest(
                 example = "PT50000201231234567890154",
                 requiredMode = Schema.RequiredMode.NOT_REQUIRED
         )
-        @Pattern(regexp = AccountNumber.IBAN_FORMAT, message = "Invalid source account format")
+        @Iban(message = "Invalid source account format")
         String sourceAccount,
 
         @Schema(
@@ -26,7 +26,7 @@ public record TransactionPatchRequest(
                 example = "DE89370400440532013000",
                 requiredMode = Schema.RequiredMode.NOT_REQUIRED
         )
-        @Pattern(regexp = AccountNumber.IBAN_FORMAT, message = "Invalid destination account format")
+        @Iban(message = "Invalid destination account format")
         String destinationAccount,
 
         @Schema(
@@ -44,6 +44,15 @@ public record TransactionPatchRequest(
                 requiredMode = Schema.RequiredMode.NOT_REQUIRED
         )
         @FutureOrPresent(message = "Scheduled date must be today or in the future")
-        LocalDate scheduledDate
+        LocalDate scheduledDate,
+
+        @Schema(
+                description = "Time of the scheduled date when the transaction should be executed; "
+                        + "without it the transaction runs with the daily execution",
+                example = "14:30",
+                type = "string",
+                requiredMode = Schema.RequiredMode.NOT_REQUIRED
+        )
+        LocalTime scheduledTime
 ) {
 }
@@ -1,16 +1,16 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request;
 
-import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.validation.Iban;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Schema(description = "Request object for creating or updating a transaction")
 public record TransactionRequest(
@@ -21,7 +21,7 @@ public record TransactionRequest(
                 requiredMode = Schema.RequiredMode.REQUIRED
         )
         @NotBlank(message = "Source account is required")
-        @Pattern(regexp = AccountNumber.IBAN_FORMAT, message = "Invalid source account format")
+        @Iban(message = "Invalid source account format")
         String sourceAccount,
 
         @Schema(
@@ -30,7 +30,7 @@ public record TransactionRequest(
                 requiredMode = Schema.RequiredMode.REQUIRED
         )
         @NotBlank(message = "Destination account is required")
-        @Pattern(regexp = AccountNumber.IBAN_FORMAT, message = "Invalid destination account format")
+        @Iban(message = "Invalid destination account format")
         String destinationAccount,
 
         @Schema(
@@ -50,6 +50,15 @@ public record TransactionRequest(
         )
         @NotNull(message = "Scheduled date is required")
         @FutureOrPresent(message = "Scheduled date must be today or in the future")
-        LocalDate scheduledDate
+        LocalDate scheduledDate,
+
+        @Schema(
+                description = "Time of the scheduled date when the transaction should be executed; "
+                        + "without it the transaction runs with the daily execution",
+                example = "14:30",
+                type = "string",
+                requiredMode = Schema.RequiredMode.NOT_REQUIRED
+        )
+        LocalTime scheduledTime
 ) {
 }
@@ -0,0 +1,9 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response;
+
+import java.util.List;
+
+public record DeadLetterRequeueResponse(
+
+        int requeued,
+        List<Long> transactionIds
+) {}
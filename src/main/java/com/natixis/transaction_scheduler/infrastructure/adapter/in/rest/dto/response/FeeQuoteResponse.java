@@ -0,0 +1,23 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FeeQuoteResponse(
+
+        int index,
+        BigDecimal transferAmount,
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate scheduledDate,
+
+        Long days,
+        String feeType,
+        BigDecimal transferFee,
+        BigDecimal totalAmount,
+        String error
+) {}
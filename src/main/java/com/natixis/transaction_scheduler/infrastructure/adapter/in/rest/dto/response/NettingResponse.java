@@ -0,0 +1,20 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record NettingResponse(
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate businessDate,
+
+        long transactions,
+        long directedGroups,
+        long accountPairs,
+        long payments,
+        BigDecimal grossAmount,
+        BigDecimal netAmount,
+        double reductionRatio
+) {}
@@ -0,0 +1,10 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response;
+
+import java.math.BigDecimal;
+
+public record SettlementFileResponse(
+        String name,
+        long transactions,
+        BigDecimal controlSum,
+        long sizeBytes
+) {}
@@ -0,0 +1,13 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record SettlementInstructionResponse(
+
+        Long id,
+        String debtorAccount,
+        String creditorAccount,
+        BigDecimal amount,
+        List<Long> transactionIds
+) {}
@@ -0,0 +1,15 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransactionBatchItemResponse(
+
+        int index,
+        String status,
+        TransactionResponse transaction,
+        String error
+) {
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+}
@@ -0,0 +1,10 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response;
+
+import java.util.List;
+
+public record TransactionBatchResponse(
+
+        long created,
+        long rejected,
+        List<TransactionBatchItemResponse> results
+) {}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 public record TransactionResponse(
 
@@ -18,6 +19,13 @@ public record TransactionResponse(
         @JsonFormat(pattern = "yyyy-MM-dd")
         LocalDate scheduledDate,
 
+        @JsonFormat(pattern = "HH:mm")
+        LocalTime scheduledTime,
+
+        String status,
+
+        int attempts,
+
         @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
         LocalDateTime createdAt,
 
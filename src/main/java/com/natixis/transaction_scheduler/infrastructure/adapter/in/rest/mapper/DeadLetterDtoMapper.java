@@ -0,0 +1,27 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper;
+
+import com.natixis.transaction_scheduler.domain.port.in.RequeueDeadLettersUseCase;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.DeadLetterRequeueRequest;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.DeadLetterRequeueResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for dead letter requeues to/from DTOs.
+ * <p>
+ * MapStruct generates implementation at compile-time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface DeadLetterDtoMapper {
+
+    DeadLetterDtoMapper INSTANCE = Mappers.getMapper(DeadLetterDtoMapper.class);
+
+    RequeueDeadLettersUseCase.RequeueCommand toCommand(DeadLetterRequeueRequest request);
+
+    default DeadLetterRequeueResponse toResponse(List<Long> requeued) {
+        return new DeadLetterRequeueResponse(requeued.size(), requeued);
+    }
+}
@@ -0,0 +1,35 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper;
+
+import com.natixis.transaction_scheduler.domain.port.in.QuoteFeesUseCase;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.FeeQuoteRequest;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.FeeQuoteResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for fee quotes to/from DTOs.
+ * <p>
+ * MapStruct generates implementation at compile-time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface FeeQuoteDtoMapper {
+
+    FeeQuoteDtoMapper INSTANCE = Mappers.getMapper(FeeQuoteDtoMapper.class);
+
+    QuoteFeesUseCase.QuoteItem toQuoteItem(FeeQuoteRequest request);
+
+    List<QuoteFeesUseCase.QuoteItem> toQuoteItems(List<FeeQuoteRequest> requests);
+
+    default QuoteFeesUseCase.QuoteFeesCommand toCommand(List<FeeQuoteRequest> requests) {
+        return new QuoteFeesUseCase.QuoteFeesCommand(toQuoteItems(requests));
+    }
+
+    @Mapping(target = "transferAmount", source = "transferAmount.amount")
+    @Mapping(target = "transferFee", source = "transferFee.amount")
+    @Mapping(target = "totalAmount", source = "totalAmount.amount")
+    FeeQuoteResponse toResponse(QuoteFeesUseCase.FeeQuote quote);
+}
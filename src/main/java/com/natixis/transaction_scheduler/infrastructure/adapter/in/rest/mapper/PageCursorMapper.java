@@ -0,0 +1,51 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque continuation tokens.
+ * <p>
+ * Clients must treat the token as an opaque string and only echo it back in
+ * the {@code cursor} query parameter; the encoding can change without notice.
+ */
+public final class PageCursorMapper {
+
+    private static final String PREFIX = "id:";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PageCursorMapper() {
+    }
+
+    public static String toCursor(Long afterId) {
+        if (afterId == null) {
+            return null;
+        }
+        return ENCODER.encodeToString((PREFIX + afterId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return the id to seek past, or null when no cursor was given
+     * @throws IllegalArgumentException when the token was not issued by {@link #toCursor(Long)}
+     */
+    public static Long toAfterId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            long afterId = Long.parseLong(decoded, PREFIX.length(), decoded.length(), 10);
+            if (afterId < 0) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return afterId;
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and Base64 decoding errors are IllegalArgumentExceptions too
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper;
+
+import com.natixis.transaction_scheduler.domain.model.NettingReport;
+import com.natixis.transaction_scheduler.domain.model.SettlementFile;
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.NettingResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.SettlementFileResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.SettlementInstructionResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for netting results and settlement files to DTOs.
+ * <p>
+ * MapStruct generates implementation at compile-time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface SettlementDtoMapper {
+
+    SettlementDtoMapper INSTANCE = Mappers.getMapper(SettlementDtoMapper.class);
+
+    @Mapping(target = "grossAmount", source = "grossAmount.amount")
+    @Mapping(target = "netAmount", source = "netAmount.amount")
+    @Mapping(target = "reductionRatio", expression = "java(report.reductionRatio())")
+    NettingResponse toResponse(NettingReport report);
+
+    @Mapping(target = "debtorAccount", source = "debtorAccount.value")
+    @Mapping(target = "creditorAccount", source = "creditorAccount.value")
+    @Mapping(target = "amount", source = "amount.amount")
+    SettlementInstructionResponse toResponse(SettlementInstruction instruction);
+
+    List<SettlementInstructionResponse> toResponses(List<SettlementInstruction> instructions);
+
+    @Mapping(target = "controlSum", source = "controlSum.amount")
+    SettlementFileResponse toFileResponse(SettlementFile file);
+
+    List<SettlementFileResponse> toFileResponses(List<SettlementFile> files);
+}
@@ -1,10 +1,14 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.mapper;
 
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
 import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase;
 import com.natixis.transaction_scheduler.domain.port.in.UpdateTransactionUseCase;
 import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.TransactionPatchRequest;
 import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.request.TransactionRequest;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.TransactionBatchItemResponse;
+import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.TransactionBatchResponse;
 import com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.dto.response.TransactionResponse;
 import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.UtilsMapper;
 import jakarta.validation.Valid;
@@ -13,6 +17,8 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 /**
  * MapStruct mapper for Transaction domain model to/from DTOs.
  * Supports Java Records seamlessly.
@@ -35,13 +41,35 @@ public interface TransactionDtoMapper extends UtilsMapper {
     @Mapping(target = "totalAmount", expression = "java(transaction.getTotalAmount().getAmount())")
     TransactionResponse toResponse(Transaction transaction);
 
+    /**
+     * Map a stored view to the response without going through the domain
+     * model; the values were validated when the transaction was written.
+     */
+    @Mapping(target = "status", expression = "java(view.status().name())")
+    @Mapping(target = "totalAmount", expression = "java(view.totalAmount())")
+    TransactionResponse toResponse(TransactionView view);
+
     CreateTransactionUseCase.CreateTransactionCommand toCreateCommand(@Valid TransactionRequest request);
 
+    List<CreateTransactionUseCase.CreateTransactionCommand> toCreateCommands(List<TransactionRequest> requests);
+
+    default CreateTransactionsBatchUseCase.CreateTransactionsBatchCommand toBatchCommand(List<TransactionRequest> requests) {
+        return new CreateTransactionsBatchUseCase.CreateTransactionsBatchCommand(toCreateCommands(requests));
+    }
+
+    @Mapping(target = "status", expression = "java(result.isCreated() ? TransactionBatchItemResponse.CREATED : TransactionBatchItemResponse.REJECTED)")
+    TransactionBatchItemResponse toBatchItemResponse(CreateTransactionsBatchUseCase.ItemResult result);
+
+    @Mapping(target = "created", expression = "java(result.createdCount())")
+    @Mapping(target = "rejected", expression = "java(result.rejectedCount())")
+    TransactionBatchResponse toBatchResponse(CreateTransactionsBatchUseCase.BatchResult result);
+
     @Mapping(source = "id", target = "transactionId")
     @Mapping(source = "request.sourceAccount", target = "sourceAccount", qualifiedByName = "wrapAsOptional")
     @Mapping(source = "request.destinationAccount", target = "destinationAccount", qualifiedByName = "wrapAsOptional")
     @Mapping(source = "request.transferAmount", target = "transferAmount", qualifiedByName = "wrapAsOptional")
     @Mapping(source = "request.scheduledDate", target = "scheduledDate", qualifiedByName = "wrapAsOptional")
+    @Mapping(source = "request.scheduledTime", target = "scheduledTime", qualifiedByName = "wrapAsOptional")
     UpdateTransactionUseCase.UpdateTransactionCommand toUpdateCommand(Long id, @Valid TransactionRequest request);
 
     @Mapping(source = "id", target = "transactionId")
@@ -49,5 +77,6 @@ public interface TransactionDtoMapper extends UtilsMapper {
     @Mapping(source = "request.destinationAccount", target = "destinationAccount", qualifiedByName = "wrapAsOptional")
     @Mapping(source = "request.transferAmount", target = "transferAmount", qualifiedByName = "wrapAsOptional")
     @Mapping(source = "request.scheduledDate", target = "scheduledDate", qualifiedByName = "wrapAsOptional")
+    @Mapping(source = "request.scheduledTime", target = "scheduledTime", qualifiedByName = "wrapAsOptional")
     UpdateTransactionUseCase.UpdateTransactionCommand toUpdateCommand(Long id, @Valid TransactionPatchRequest request);
 }
@@ -0,0 +1,28 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated string must be a valid IBAN: structure and mod-97 check digits.
+ * Whitespace and lower case are accepted, as they are normalized by the domain.
+ * {@code null} is considered valid; combine with {@code @NotBlank} when required.
+ */
+@Documented
+@Constraint(validatedBy = IbanValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Iban {
+
+    String message() default "Invalid IBAN";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,16 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.validation;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validates {@link Iban} with the same single-pass parser as {@link AccountNumber}.
+ */
+public class IbanValidator implements ConstraintValidator<Iban, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || AccountNumber.isValid(value);
+    }
+}
@@ -0,0 +1,89 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.scheduler;
+
+import com.natixis.transaction_scheduler.application.usecase.RetryDelayQueue;
+import com.natixis.transaction_scheduler.domain.model.PendingRetry;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership.PartitionsAcquired;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs retries as they fall due from the {@link RetryDelayQueue}. A poll
+ * only takes what is due, so waiting retries cost no thread and no query.
+ * <p>
+ * The queue holds the retries of the partitions this node owns. It is
+ * rebuilt from the store on startup, on every reload interval and when
+ * partitions are acquired; in between, failed executions on this node add to
+ * it directly. A polled retry another node has already claimed, or that is
+ * no longer waiting, is skipped by the claim.
+ */
+@Component
+@ConditionalOnProperty(name = "transaction-execution.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RetryScheduler {
+
+    private final ExecuteDueTransactionsUseCase executeDueTransactionsUseCase;
+    private final TransactionRepository transactionRepository;
+    private final PartitionOwnership partitionOwnership;
+    private final RetryDelayQueue retryQueue;
+    private final TaskScheduler taskScheduler;
+    private final SchedulingClock schedulingClock;
+    private final int pageSize;
+
+    public RetryScheduler(ExecuteDueTransactionsUseCase executeDueTransactionsUseCase,
+                          TransactionRepository transactionRepository,
+                          PartitionOwnership partitionOwnership,
+                          RetryDelayQueue retryQueue,
+                          TaskScheduler taskScheduler,
+                          SchedulingClock schedulingClock,
+                          @Value("${transaction-execution.page-size:500}") int pageSize) {
+        this.executeDueTransactionsUseCase = executeDueTransactionsUseCase;
+        this.transactionRepository = transactionRepository;
+        this.partitionOwnership = partitionOwnership;
+        this.retryQueue = retryQueue;
+        this.taskScheduler = taskScheduler;
+        this.schedulingClock = schedulingClock;
+        this.pageSize = pageSize;
+    }
+
+    @Scheduled(fixedDelayString = "${transaction-execution.retry.poll-ms:1000}")
+    public void poll() {
+        while (true) {
+            LocalDateTime now = schedulingClock.now();
+            List<Long> due = retryQueue.pollDue(now, pageSize);
+            if (due.isEmpty()) {
+                return;
+            }
+            executeDueTransactionsUseCase.retry(now.toLocalDate(), due);
+        }
+    }
+
+    /**
+     * Replace the queue with the retries waiting in the owned partitions.
+     * The first run happens on startup.
+     */
+    @Scheduled(fixedDelayString = "${transaction-execution.retry.reload-ms:300000}")
+    public void reload() {
+        Set<Integer> owned = partitionOwnership.ownedPartitions();
+        List<PendingRetry> pending = transactionRepository.findPendingRetries(owned);
+        retryQueue.replaceAll(pending);
+        log.debug("Retry queue reloaded {} pending retries from {} partitions", pending.size(), owned.size());
+    }
+
+    @EventListener
+    public void onPartitionsAcquired(PartitionsAcquired event) {
+        taskScheduler.schedule(this::reload, schedulingClock.instant());
+    }
+}
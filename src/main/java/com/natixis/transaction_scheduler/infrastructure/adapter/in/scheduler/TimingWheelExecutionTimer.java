@@ -0,0 +1,170 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.scheduler;
+
+import com.natixis.transaction_scheduler.application.usecase.HierarchicalTimingWheel;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership.PartitionsAcquired;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Executes transactions at their time slot from an in-memory
+ * {@link HierarchicalTimingWheel}, so timed transfers are spread over the
+ * day instead of all waiting for the daily run.
+ * <p>
+ * The wheel holds the pending timed transactions due within the horizon.
+ * It is rebuilt from the store on startup and reloaded every reload
+ * interval, which brings in transactions entering the horizon and those
+ * changed on other nodes; in between, the create, update and delete use
+ * cases keep it in step through {@link ExecutionTimer}.
+ * <p>
+ * Every node holds every timed transaction but only fires those in the
+ * partitions it owns at that moment. One dropped while its partition was
+ * changing hands is still pending, so the next reload puts it back overdue
+ * and its owner fires it on the following tick.
+ * <p>
+ * Expired entries are executed on the tick thread, grouped by scheduled
+ * date. A long execution delays the next tick; entries expiring meanwhile
+ * are fired together when it comes.
+ */
+@Component
+@ConditionalOnProperty(name = "transaction-execution.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TimingWheelExecutionTimer implements ExecutionTimer {
+
+    private static final int WHEEL_SIZE = 60;
+    private static final int LEVELS = 3;
+
+    private final ExecuteDueTransactionsUseCase executeDueTransactionsUseCase;
+    private final TransactionRepository transactionRepository;
+    private final PartitionOwnership partitionOwnership;
+    private final TaskScheduler taskScheduler;
+    private final SchedulingClock schedulingClock;
+    private final long horizonMillis;
+    private final HierarchicalTimingWheel<TimedExecution> wheel;
+
+    public TimingWheelExecutionTimer(ExecuteDueTransactionsUseCase executeDueTransactionsUseCase,
+                                     TransactionRepository transactionRepository,
+                                     PartitionOwnership partitionOwnership,
+                                     TaskScheduler taskScheduler,
+                                     SchedulingClock schedulingClock,
+                                     @Value("${transaction-execution.timer.tick-ms:1000}") long tickMillis,
+                                     @Value("${transaction-execution.timer.horizon-hours:24}") long horizonHours) {
+        this.executeDueTransactionsUseCase = executeDueTransactionsUseCase;
+        this.transactionRepository = transactionRepository;
+        this.partitionOwnership = partitionOwnership;
+        this.taskScheduler = taskScheduler;
+        this.schedulingClock = schedulingClock;
+        this.horizonMillis = Duration.ofHours(horizonHours).toMillis();
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, LEVELS, currentMillis());
+        if (horizonMillis < 1 || horizonMillis > wheel.horizonMillis()) {
+            throw new IllegalArgumentException(String.format(
+                    "transaction-execution.timer.horizon-hours must be between 1 and %d for a %d ms tick",
+                    Duration.ofMillis(wheel.horizonMillis()).toHours(), tickMillis));
+        }
+    }
+
+    @Override
+    public void schedule(Transaction transaction) {
+        Objects.requireNonNull(transaction, "transaction cannot be null");
+        if (transaction.getId() == null) {
+            return;
+        }
+        if (!transaction.isPending() || !transaction.hasTimeSlot()) {
+            wheel.cancel(transaction.getId());
+            return;
+        }
+        long dueAt = transaction.getScheduledDate()
+                .atTime(transaction.getScheduledTime())
+                .atZone(schedulingClock.zone())
+                .toInstant()
+                .toEpochMilli();
+        if (dueAt > currentMillis() + horizonMillis) {
+            // Out of reach for now; a later reload brings it in.
+            wheel.cancel(transaction.getId());
+            return;
+        }
+        wheel.schedule(transaction.getId(), dueAt, new TimedExecution(
+                transaction.getId(), transaction.getPartitionId(), transaction.getScheduledDate()));
+    }
+
+    @Override
+    public void cancel(Long transactionId) {
+        if (transactionId != null) {
+            wheel.cancel(transactionId);
+        }
+    }
+
+    /**
+     * Load every pending timed transaction due before the end of the
+     * horizon, overdue ones included. The first run happens on startup.
+     */
+    @Scheduled(fixedDelayString = "${transaction-execution.timer.reload-ms:300000}")
+    public void reload() {
+        LocalDate until = schedulingClock.instant()
+                .plusMillis(horizonMillis)
+                .atZone(schedulingClock.zone())
+                .toLocalDate();
+        List<Transaction> pending = transactionRepository.findPendingWithTimeSlotUntil(until);
+        pending.forEach(this::schedule);
+        log.debug("Execution timer reloaded {} timed transactions up to {}, {} held",
+                pending.size(), until, wheel.size());
+    }
+
+    @Scheduled(fixedDelayString = "${transaction-execution.timer.tick-ms:1000}")
+    public void tick() {
+        List<TimedExecution> expired = new ArrayList<>();
+        wheel.advanceTo(currentMillis(), expired::add);
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> owned = partitionOwnership.ownedPartitions();
+        Map<LocalDate, List<Long>> dueByDate = expired.stream()
+                .filter(execution -> owned.contains(execution.partitionId()))
+                .collect(Collectors.groupingBy(TimedExecution::scheduledDate, TreeMap::new,
+                        Collectors.mapping(TimedExecution::transactionId, Collectors.toList())));
+        log.debug("{} timed transactions expired, {} in owned partitions",
+                expired.size(), dueByDate.values().stream().mapToInt(List::size).sum());
+        dueByDate.forEach(executeDueTransactionsUseCase::execute);
+    }
+
+    /**
+     * Partitions taken over from another node may hold timed transactions
+     * this node dropped earlier; reload so they fire without waiting for the
+     * next interval.
+     */
+    @EventListener
+    public void onPartitionsAcquired(PartitionsAcquired event) {
+        taskScheduler.schedule(this::reload, schedulingClock.instant());
+    }
+
+    private long currentMillis() {
+        return schedulingClock.instant().toEpochMilli();
+    }
+
+    int size() {
+        return wheel.size();
+    }
+
+    private record TimedExecution(Long transactionId, int partitionId, LocalDate scheduledDate) {}
+}
@@ -0,0 +1,104 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.scheduler;
+
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.NetTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership.PartitionsAcquired;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Triggers execution of the transactions due today, "today" being read from
+ * the {@link SchedulingClock}, which is built in the cron expression's zone.
+ * <p>
+ * When this node takes over partitions after today's run has already
+ * happened (typically from a node that died mid-run), the run is repeated so
+ * the orphaned partitions are not left until tomorrow. Partitions that were
+ * already done only cost one empty claim each.
+ * <p>
+ * Today's run is also resumed periodically while it is not completed, which
+ * covers a node restarting after a crash: the cron has already fired, but
+ * the run is picked up again once its claims are old enough to release.
+ * <p>
+ * With netting enabled, the day's transfers are netted into settlement
+ * instructions just before the run.
+ */
+@Component
+@ConditionalOnProperty(name = "transaction-execution.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class TransactionExecutionScheduler {
+
+    private final ExecuteDueTransactionsUseCase executeDueTransactionsUseCase;
+    private final NetTransactionsUseCase netTransactionsUseCase;
+    private final TaskScheduler taskScheduler;
+    private final SchedulingClock schedulingClock;
+    private final boolean netting;
+
+    private volatile LocalDate lastRunDate;
+
+    public TransactionExecutionScheduler(ExecuteDueTransactionsUseCase executeDueTransactionsUseCase,
+                                         NetTransactionsUseCase netTransactionsUseCase,
+                                         TaskScheduler taskScheduler,
+                                         SchedulingClock schedulingClock,
+                                         @Value("${transaction-execution.netting.enabled:false}") boolean netting) {
+        this.executeDueTransactionsUseCase = executeDueTransactionsUseCase;
+        this.netTransactionsUseCase = netTransactionsUseCase;
+        this.taskScheduler = taskScheduler;
+        this.schedulingClock = schedulingClock;
+        this.netting = netting;
+    }
+
+    @Scheduled(
+            cron = "${transaction-execution.cron:0 0 6 * * *}",
+            zone = "${transaction-execution.zone:Europe/Lisbon}"
+    )
+    public synchronized void executeDueToday() {
+        LocalDate today = schedulingClock.today();
+        if (netting && !today.equals(lastRunDate)) {
+            netBeforeRun(today);
+        }
+        executeDueTransactionsUseCase.execute(today);
+        lastRunDate = today;
+    }
+
+    /**
+     * Every node nets the whole day, so with several nodes one netting may
+     * lose to another storing the same date; the run goes ahead either way.
+     */
+    private void netBeforeRun(LocalDate today) {
+        try {
+            netTransactionsUseCase.execute(today);
+        } catch (RuntimeException e) {
+            log.warn("Netting of {} failed, executing without it: {}", today, e.getMessage());
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${transaction-execution.recovery.check-ms:60000}",
+            fixedDelayString = "${transaction-execution.recovery.check-ms:60000}"
+    )
+    public synchronized void resumeInterruptedRun() {
+        LocalDate today = schedulingClock.today();
+        executeDueTransactionsUseCase.resume(today)
+                .ifPresent(report -> lastRunDate = today);
+    }
+
+    /**
+     * Published from the lease heartbeat; the run is handed to the task
+     * scheduler so the heartbeat thread is not held up.
+     */
+    @EventListener
+    public void onPartitionsAcquired(PartitionsAcquired event) {
+        if (schedulingClock.today().equals(lastRunDate)) {
+            log.info("Partitions {} acquired after today's run, executing them now", event.partitions());
+            taskScheduler.schedule(this::executeDueToday, schedulingClock.instant());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import com.natixis.transaction_scheduler.application.usecase.AccountLaneDispatcher;
+import com.natixis.transaction_scheduler.application.usecase.AccountLaneDispatcher.LaneStats;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-lane meters of the {@link AccountLaneDispatcher}, tagged {@code lane}:
+ * queue depth and peak depth, and the submission-to-completion latency of
+ * the lane's tasks. A lane standing out points at a hot account.
+ * <p>
+ * The meters read the counters the lanes already keep when scraped, so the
+ * dispatcher's hot path is unchanged.
+ */
+public class AccountLaneMetrics implements MeterBinder {
+
+    public static final String DEPTH_METRIC = "scheduler.lanes.depth";
+    public static final String PEAK_DEPTH_METRIC = "scheduler.lanes.depth.peak";
+    public static final String LATENCY_METRIC = "scheduler.lanes.latency";
+    public static final String MAX_LATENCY_METRIC = "scheduler.lanes.latency.max";
+
+    private final AccountLaneDispatcher dispatcher;
+
+    public AccountLaneMetrics(AccountLaneDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < dispatcher.laneCount(); i++) {
+            int lane = i;
+            String tag = Integer.toString(lane);
+            Gauge.builder(DEPTH_METRIC, dispatcher, d -> d.stats(lane).depth())
+                    .tag("lane", tag)
+                    .description("Tasks queued or running on the lane")
+                    .register(registry);
+            Gauge.builder(PEAK_DEPTH_METRIC, dispatcher, d -> d.stats(lane).peakDepth())
+                    .tag("lane", tag)
+                    .description("Highest depth the lane has reached")
+                    .register(registry);
+            FunctionTimer.builder(LATENCY_METRIC, dispatcher,
+                            d -> d.stats(lane).completed(),
+                            d -> d.stats(lane).totalLatencyNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .tag("lane", tag)
+                    .description("Submission-to-completion time of the lane's tasks")
+                    .register(registry);
+            Gauge.builder(MAX_LATENCY_METRIC, dispatcher, d -> maxLatencySeconds(d.stats(lane)))
+                    .tag("lane", tag)
+                    .baseUnit("seconds")
+                    .description("Longest submission-to-completion time on the lane")
+                    .register(registry);
+        }
+    }
+
+    private static double maxLatencySeconds(LaneStats stats) {
+        return stats.maxLatencyNanos() / 1_000_000_000.0;
+    }
+}
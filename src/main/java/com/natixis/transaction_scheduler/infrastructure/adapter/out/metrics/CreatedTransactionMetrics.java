@@ -0,0 +1,90 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase.BatchResult;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase.ItemResult;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts created transactions, single and batch alike:
+ * <ul>
+ *   <li>by the fee type they were priced with;</li>
+ *   <li>by how many days ahead they are scheduled, in the day ranges of the
+ *   fee rules: {@code 0}, {@code 1-10}, {@code 11-20}, {@code 21-30},
+ *   {@code 31-40} and {@code 41+}.</li>
+ * </ul>
+ */
+public final class CreatedTransactionMetrics {
+
+    public static final String SCHEDULED_METRIC = "scheduler.transactions.scheduled";
+    public static final String FEE_APPLIED_METRIC = "scheduler.fee.applied";
+
+    private static final String[] BUCKETS = {"0", "1-10", "11-20", "21-30", "31-40", "41+"};
+
+    private final MeterRegistry registry;
+    private final SchedulingClock schedulingClock;
+    private final Counter[] scheduled = new Counter[BUCKETS.length];
+    private final Map<String, Counter> feeApplied = new ConcurrentHashMap<>();
+
+    public CreatedTransactionMetrics(MeterRegistry registry, SchedulingClock schedulingClock) {
+        this.registry = registry;
+        this.schedulingClock = schedulingClock;
+        for (int i = 0; i < BUCKETS.length; i++) {
+            scheduled[i] = Counter.builder(SCHEDULED_METRIC)
+                    .tag("scheduledDays", BUCKETS[i])
+                    .register(registry);
+        }
+    }
+
+    public void record(Transaction transaction) {
+        long days = transaction.getDaysUntilScheduled(schedulingClock.today());
+        scheduled[bucket(days)].increment();
+
+        FeeConfiguration feeConfiguration = transaction.getFeeConfiguration();
+        if (feeConfiguration != null) {
+            String feeType = feeConfiguration.getFeeType();
+            Counter counter = feeApplied.get(feeType);
+            if (counter == null) {
+                counter = feeApplied.computeIfAbsent(feeType, type -> Counter.builder(FEE_APPLIED_METRIC)
+                        .tag("feeType", type)
+                        .register(registry));
+            }
+            counter.increment();
+        }
+    }
+
+    public CreateTransactionUseCase counting(CreateTransactionUseCase delegate) {
+        return command -> {
+            Transaction transaction = delegate.execute(command);
+            record(transaction);
+            return transaction;
+        };
+    }
+
+    public CreateTransactionsBatchUseCase counting(CreateTransactionsBatchUseCase delegate) {
+        return command -> {
+            BatchResult result = delegate.execute(command);
+            for (ItemResult item : result.results()) {
+                if (item.isCreated()) {
+                    record(item.transaction());
+                }
+            }
+            return result;
+        };
+    }
+
+    static int bucket(long days) {
+        if (days <= 0) {
+            return 0;
+        }
+        return (int) Math.min((days + 9) / 10, BUCKETS.length - 1);
+    }
+}
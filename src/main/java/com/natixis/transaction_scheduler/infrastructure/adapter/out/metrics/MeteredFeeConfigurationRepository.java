@@ -0,0 +1,46 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Optional;
+
+/**
+ * Counts single fee lookups no rule matched, which creating or updating a
+ * transaction answers with a 404.
+ * <p>
+ * Fee types actually applied are counted on the created transactions, by
+ * {@link CreatedTransactionMetrics}, so batch creation is included. Batch
+ * items no rule matched are rejected in the batch result rather than
+ * answered with a 404, and are not counted here.
+ */
+public class MeteredFeeConfigurationRepository implements FeeConfigurationRepository {
+
+    public static final String UNMATCHED_METRIC = "scheduler.fee.unmatched";
+
+    private final FeeConfigurationRepository delegate;
+    private final Counter unmatched;
+
+    public MeteredFeeConfigurationRepository(FeeConfigurationRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.unmatched = Counter.builder(UNMATCHED_METRIC).register(registry);
+    }
+
+    @Override
+    public Optional<FeeConfiguration> findBestMatch(Money transferAmount, Long days) {
+        Optional<FeeConfiguration> match = delegate.findBestMatch(transferAmount, days);
+        if (match.isEmpty()) {
+            unmatched.increment();
+        }
+        return match;
+    }
+
+    @Override
+    public FeeRuleIndex getRuleIndex() {
+        return delegate.getRuleIndex();
+    }
+}
@@ -0,0 +1,105 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call through a port with one Micrometer {@link Timer} per
+ * method, tagged with the port and method names and the exception thrown
+ * ({@code none} on success).
+ * <p>
+ * The timed port is a JDK proxy of the interface around the implementation,
+ * so the implementation and any proxies Spring put around it (transactions,
+ * scheduling) stay as they are. Success timers are registered up front and
+ * looked up in a read-only map; a call costs two {@link System#nanoTime}
+ * reads, a reflective invoke and the timer update. Whether a timer publishes
+ * a percentile histogram is configured by metric name, through
+ * {@code management.metrics.distribution.*}.
+ */
+public final class TimedPorts {
+
+    public static final String USE_CASE_METRIC = "scheduler.usecase";
+    public static final String REPOSITORY_METRIC = "scheduler.repository";
+
+    private TimedPorts() {
+    }
+
+    public static <T> T timed(Class<T> port, T target, MeterRegistry registry, String metricName) {
+        if (!port.isInterface()) {
+            throw new IllegalArgumentException(port.getName() + " is not an interface");
+        }
+        Object proxy = Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port},
+                new TimingHandler(port, target, registry, metricName));
+        return port.cast(proxy);
+    }
+
+    private static final class TimingHandler implements InvocationHandler {
+
+        private final Object target;
+        private final MeterRegistry registry;
+        private final String metricName;
+        private final String portName;
+        private final Map<Method, Timer> timers = new HashMap<>();
+
+        TimingHandler(Class<?> port, Object target, MeterRegistry registry, String metricName) {
+            this.target = target;
+            this.registry = registry;
+            this.metricName = metricName;
+            this.portName = port.getSimpleName();
+            for (Method method : port.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    timers.put(method, timer(method, "none"));
+                }
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Timer timer = timers.get(method);
+            if (timer == null) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Timed" + portName + "(" + target + ")";
+                    default -> invokeTarget(method, args);
+                };
+            }
+
+            long start = System.nanoTime();
+            try {
+                Object result = invokeTarget(method, args);
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable failure) {
+                timer(method, failure.getClass().getSimpleName())
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw failure;
+            }
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Timer timer(Method method, String exception) {
+            return Timer.builder(metricName)
+                    .tag("port", portName)
+                    .tag("method", method.getName())
+                    .tag("exception", exception)
+                    .register(registry);
+        }
+    }
+}
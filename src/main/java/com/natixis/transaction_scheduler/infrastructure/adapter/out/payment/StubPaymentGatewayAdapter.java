@@ -0,0 +1,37 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.payment;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.out.PaymentGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Payment gateway stand-in that accepts every transaction.
+ * <p>
+ * An optional fixed latency simulates the round trip to a real gateway so the
+ * execution engine can be exercised under realistic I/O wait.
+ */
+@Component
+@ConditionalOnProperty(name = "payment-gateway.type", havingValue = "stub", matchIfMissing = true)
+public class StubPaymentGatewayAdapter implements PaymentGateway {
+
+    private final long latencyMillis;
+
+    public StubPaymentGatewayAdapter(@Value("${payment-gateway.stub.latency-ms:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public PaymentResult execute(Transaction transaction) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return PaymentResult.rejected("Interrupted");
+            }
+        }
+        return PaymentResult.accepted("STUB-" + transaction.getId());
+    }
+}
@@ -0,0 +1,198 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.dataset;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic synthetic transactions for testing at scale: the same seed,
+ * account count and exponent produce the same rows, relative to the given
+ * date.
+ * <p>
+ * Accounts are valid IBANs (mod-97 check digits) in a FR/DE/PT/ES/IT/NL/BE
+ * mix. Sources and destinations follow a Zipf distribution over the accounts,
+ * so a few accounts hold most of the transfers as in real payment data. Each
+ * transfer is drawn in a fee band (60% A, 25% B, 15% C) with a matching
+ * amount and lead time, then placed on a creation day in the last
+ * {@code historyDays} days: the scheduled dates run from the past, already
+ * executed, to about four months ahead. Fees come from the given rule index.
+ */
+public final class SyntheticDataset {
+
+    /**
+     * Country share of generated IBANs, in percent, with each country's BBAN
+     * length and how many leading letters it has (bank code or CIN).
+     */
+    private static final String[] COUNTRIES = {"FR", "DE", "PT", "ES", "IT", "NL", "BE"};
+    private static final int[] COUNTRY_SHARE = {35, 20, 15, 10, 10, 5, 5};
+    private static final int[] BBAN_LENGTH = {23, 18, 21, 20, 23, 14, 12};
+    private static final int[] BBAN_LETTERS = {0, 0, 0, 0, 1, 4, 0};
+
+    private static final int MAX_FEE_C_DAYS = 120;
+    private static final int TIME_SLOT_PERCENT = 10;
+    private static final int FAILED_PERCENT = 2;
+    private static final int CANCELLED_PERCENT = 1;
+
+    private final long seed;
+    private final String[] accounts;
+    private final int[] partitions;
+    private final double[] popularity;
+    private final FeeRuleIndex feeRules;
+    private final LocalDateTime now;
+    private final int historyDays;
+
+    /**
+     * @param accountCount  distinct accounts
+     * @param zipfExponent  skew of account popularity; 0 is uniform, around 1 is typical
+     * @param historyDays   how far back transfers are created
+     */
+    public SyntheticDataset(long seed, int accountCount, double zipfExponent, int historyDays,
+                            FeeRuleIndex feeRules, LocalDateTime now) {
+        if (accountCount < 2) {
+            throw new IllegalArgumentException("A dataset needs at least two accounts");
+        }
+        if (zipfExponent < 0 || historyDays < 0) {
+            throw new IllegalArgumentException("zipfExponent and historyDays cannot be negative");
+        }
+        this.seed = seed;
+        this.feeRules = feeRules;
+        this.now = now;
+        this.historyDays = historyDays;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        accounts = new String[accountCount];
+        partitions = new int[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            int country = pick(COUNTRY_SHARE, random.nextInt(100));
+            accounts[i] = iban(COUNTRIES[country], BBAN_LENGTH[country], BBAN_LETTERS[country], random);
+            partitions[i] = ExecutionPartitions.of(new AccountNumber(accounts[i]));
+        }
+
+        // Cumulative distribution of rank i having weight 1 / (i + 1)^s.
+        popularity = new double[accountCount];
+        double total = 0;
+        for (int i = 0; i < accountCount; i++) {
+            total += 1 / Math.pow(i + 1, zipfExponent);
+            popularity[i] = total;
+        }
+        for (int i = 0; i < accountCount; i++) {
+            popularity[i] /= total;
+        }
+    }
+
+    /**
+     * A generated transfer, with the values stored in {@code transactions}.
+     */
+    public record Row(long id, String sourceAccount, String destinationAccount, BigDecimal transferAmount,
+                      BigDecimal transferFee, LocalDate scheduledDate, LocalTime scheduledTime, int partitionId,
+                      TransactionStatus status, int attempts, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * Generate {@code count} rows with ids from {@code firstId}, in id order.
+     */
+    public void forEach(long firstId, long count, Consumer<Row> consumer) {
+        // Split from the seed so the rows do not reuse the draws of the accounts.
+        SplittableRandom random = new SplittableRandom(seed).split();
+        LocalDate today = now.toLocalDate();
+        for (long i = 0; i < count; i++) {
+            int source = account(random);
+            int destination = account(random);
+            while (destination == source) {
+                destination = account(random);
+            }
+
+            int roll = random.nextInt(100);
+            long amountCents;
+            int leadDays;
+            if (roll < 60) {
+                amountCents = logUniform(random, 1_00, 1000_00);
+                leadDays = 0;
+            } else if (roll < 85) {
+                amountCents = logUniform(random, 1000_01, 2000_00);
+                leadDays = random.nextInt(1, 11);
+            } else {
+                amountCents = logUniform(random, 2000_01, 500_000_00);
+                leadDays = random.nextInt(11, MAX_FEE_C_DAYS + 1);
+            }
+            Money amount = Money.ofCents(amountCents);
+            BigDecimal fee = feeRules.findBestMatch(amount, leadDays)
+                    .map(rule -> rule.calculateFee(amount).getAmount())
+                    .orElse(null);
+
+            LocalDateTime createdAt = today.minusDays(random.nextInt(historyDays + 1))
+                    .atTime(LocalTime.ofSecondOfDay(random.nextInt(8 * 3600, 20 * 3600)));
+            if (createdAt.isAfter(now)) {
+                createdAt = now;
+            }
+            LocalDate scheduledDate = createdAt.toLocalDate().plusDays(leadDays);
+            LocalTime scheduledTime = random.nextInt(100) < TIME_SLOT_PERCENT
+                    ? LocalTime.of(random.nextInt(8, 19), random.nextInt(4) * 15)
+                    : null;
+
+            TransactionStatus status = TransactionStatus.SCHEDULED;
+            int attempts = 0;
+            LocalDateTime updatedAt = createdAt;
+            int outcome = random.nextInt(100);
+            if (scheduledDate.isBefore(today)) {
+                status = outcome < FAILED_PERCENT ? TransactionStatus.FAILED : TransactionStatus.EXECUTED;
+                attempts = 1;
+                updatedAt = scheduledDate.atTime(scheduledTime != null ? scheduledTime : LocalTime.of(6, 0));
+            } else if (outcome < CANCELLED_PERCENT) {
+                status = TransactionStatus.CANCELLED;
+            }
+
+            consumer.accept(new Row(firstId + i, accounts[source], accounts[destination], amount.getAmount(), fee,
+                    scheduledDate, scheduledTime, partitions[source], status, attempts, createdAt, updatedAt));
+        }
+    }
+
+    private int account(SplittableRandom random) {
+        int index = Arrays.binarySearch(popularity, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, accounts.length - 1);
+    }
+
+    private static long logUniform(SplittableRandom random, long min, long max) {
+        double log = Math.log(min) + random.nextDouble() * (Math.log(max) - Math.log(min));
+        return Math.max(min, Math.min(max, Math.round(Math.exp(log))));
+    }
+
+    private static int pick(int[] shares, int roll) {
+        int cumulative = 0;
+        for (int i = 0; i < shares.length; i++) {
+            cumulative += shares[i];
+            if (roll < cumulative) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static String iban(String country, int bbanLength, int letters, SplittableRandom random) {
+        StringBuilder bban = new StringBuilder(bbanLength);
+        for (int i = 0; i < bbanLength; i++) {
+            bban.append(i < letters ? (char) ('A' + random.nextInt(26)) : (char) ('0' + random.nextInt(10)));
+        }
+        int remainder = 0;
+        String rearranged = bban + country + "00";
+        for (int i = 0; i < rearranged.length(); i++) {
+            char c = rearranged.charAt(i);
+            if (c >= 'A') {
+                remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+            } else {
+                remainder = (remainder * 10 + (c - '0')) % 97;
+            }
+        }
+        return String.format("%s%02d%s", country, 98 - remainder, bban);
+    }
+}
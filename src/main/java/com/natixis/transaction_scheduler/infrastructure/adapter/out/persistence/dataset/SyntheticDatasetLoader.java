@@ -0,0 +1,159 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.dataset;
+
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk-loads a {@link SyntheticDataset} into the configured datasource at
+ * startup, when {@code dataset.transactions} is set.
+ * <p>
+ * Rows bypass JPA and go through plain JDBC batches of
+ * {@code dataset.batch-size}, each committed on its own, with ids after the
+ * highest existing one. {@code transactions_seq} is then restarted past the
+ * loaded ids so transactions created afterwards do not collide with them,
+ * with the statement of the configured Hibernate dialect (or through the
+ * table Hibernate emulates the sequence with, on databases without
+ * sequences).
+ * Loading happens once the application has started; requests served before
+ * it finishes see a partial dataset.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "dataset.transactions")
+public class SyntheticDatasetLoader implements ApplicationRunner {
+
+    private static final String INSERT = "INSERT INTO transactions (id, source_account, destination_account, "
+            + "transfer_amount, transfer_fee, scheduled_date, scheduled_time, partition_id, status, attempts, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SEQUENCE = "transactions_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final FeeConfigurationRepository feeConfigurationRepository;
+    private final SchedulingClock schedulingClock;
+    private final long transactions;
+    private final int accounts;
+    private final double zipfExponent;
+    private final long seed;
+    private final int historyDays;
+    private final int batchSize;
+
+    public SyntheticDatasetLoader(DataSource dataSource,
+                                  EntityManagerFactory entityManagerFactory,
+                                  FeeConfigurationRepository feeConfigurationRepository,
+                                  SchedulingClock schedulingClock,
+                                  @Value("${dataset.transactions}") long transactions,
+                                  @Value("${dataset.accounts:100000}") int accounts,
+                                  @Value("${dataset.zipf-exponent:1.1}") double zipfExponent,
+                                  @Value("${dataset.seed:42}") long seed,
+                                  @Value("${dataset.history-days:30}") int historyDays,
+                                  @Value("${dataset.batch-size:1000}") int batchSize) {
+        if (transactions < 0 || batchSize < 1) {
+            throw new IllegalArgumentException("dataset.transactions cannot be negative and dataset.batch-size must be positive");
+        }
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.entityManagerFactory = entityManagerFactory;
+        this.feeConfigurationRepository = feeConfigurationRepository;
+        this.schedulingClock = schedulingClock;
+        this.transactions = transactions;
+        this.accounts = accounts;
+        this.zipfExponent = zipfExponent;
+        this.seed = seed;
+        this.historyDays = historyDays;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (transactions == 0) {
+            return;
+        }
+        log.info("Generating {} synthetic transactions over {} accounts (seed {}, Zipf exponent {})",
+                transactions, accounts, seed, zipfExponent);
+        SyntheticDataset dataset = new SyntheticDataset(seed, accounts, zipfExponent, historyDays,
+                feeConfigurationRepository.getRuleIndex(), schedulingClock.now());
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM transactions", Long.class);
+        long firstId = (maxId == null ? 0 : maxId) + 1;
+        long started = System.nanoTime();
+        long reportEvery = Math.max(batchSize, transactions / 10);
+
+        List<SyntheticDataset.Row> batch = new ArrayList<>(batchSize);
+        long[] loaded = {0};
+        dataset.forEach(firstId, transactions, row -> {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                insert(batch);
+                loaded[0] += batch.size();
+                batch.clear();
+                if (loaded[0] % reportEvery < batchSize) {
+                    log.info("Loaded {} of {} synthetic transactions", loaded[0], transactions);
+                }
+            }
+        });
+        insert(batch);
+
+        long nextId = firstId + transactions;
+        restartSequence(nextId);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Loaded {} synthetic transactions (ids {} to {}) in {} s, {} rows/s",
+                transactions, firstId, nextId - 1, String.format("%.1f", seconds),
+                Math.round(transactions / seconds));
+    }
+
+    private void restartSequence(long nextId) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+        SequenceSupport sequenceSupport = dialect.getSequenceSupport();
+        if (sequenceSupport.supportsSequences()) {
+            jdbcTemplate.execute(sequenceSupport.getRestartSequenceString(SEQUENCE, nextId));
+        } else {
+            jdbcTemplate.update("UPDATE " + SEQUENCE + " SET next_val = ?", nextId);
+        }
+    }
+
+    private void insert(List<SyntheticDataset.Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows, rows.size(), (statement, row) -> {
+            statement.setLong(1, row.id());
+            statement.setString(2, row.sourceAccount());
+            statement.setString(3, row.destinationAccount());
+            statement.setBigDecimal(4, row.transferAmount());
+            statement.setBigDecimal(5, row.transferFee());
+            statement.setDate(6, Date.valueOf(row.scheduledDate()));
+            if (row.scheduledTime() != null) {
+                statement.setTime(7, Time.valueOf(row.scheduledTime()));
+            } else {
+                statement.setNull(7, Types.TIME);
+            }
+            statement.setInt(8, row.partitionId());
+            statement.setString(9, row.status().name());
+            statement.setInt(10, row.attempts());
+            statement.setTimestamp(11, Timestamp.valueOf(row.createdAt()));
+            statement.setTimestamp(12, Timestamp.valueOf(row.updatedAt()));
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row per transaction that used up its execution attempts, removed again
+ * when it is requeued. {@code idx_dead_letter_age} serves "oldest first" requeues.
+ */
+@Entity
+@Table(name = "dead_letters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dead_letter_transaction", columnNames = "transaction_id")
+}, indexes = {
+        @Index(name = "idx_dead_letter_age", columnList = "dead_lettered_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dead_letters_seq")
+    @SequenceGenerator(name = "dead_letters_seq", sequenceName = "dead_letters_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_failure_reason", length = 255)
+    private String lastFailureReason;
+
+    @Column(name = "dead_lettered_at", nullable = false)
+    private LocalDateTime deadLetteredAt;
+}
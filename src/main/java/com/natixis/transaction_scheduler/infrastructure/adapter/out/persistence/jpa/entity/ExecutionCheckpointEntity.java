@@ -0,0 +1,69 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionCheckpoint;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.ExecutionRunEntityMapper;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a run in one partition, keyed by run and partition.
+ */
+@Entity
+@Table(name = "execution_checkpoints")
+@IdClass(ExecutionCheckpointEntity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionCheckpointEntity {
+
+    @Id
+    @Column(name = "run_id")
+    private Long runId;
+
+    @Id
+    @Column(name = "partition_id")
+    private Integer partitionId;
+
+    @Column(name = "last_transaction_id")
+    private Long lastTransactionId;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(nullable = false)
+    private long succeeded;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(nullable = false)
+    private long skipped;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static ExecutionCheckpointEntity of(Long runId, ExecutionCheckpoint checkpoint) {
+        return ExecutionRunEntityMapper.INSTANCE.toEntity(runId, checkpoint);
+    }
+
+    public ExecutionCheckpoint toExecutionCheckpoint() {
+        return ExecutionRunEntityMapper.INSTANCE.toModel(this);
+    }
+
+    public record Key(Long runId, Integer partitionId) implements Serializable {
+    }
+}
@@ -0,0 +1,43 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease on one execution partition.
+ * A partition is owned by {@code owner} until {@code expires_at}; a free or
+ * expired lease can be taken by any node with a conditional update.
+ * {@code version} grows on every change of owner.
+ */
+@Entity
+@Table(name = "execution_leases", indexes = {
+        @Index(name = "idx_lease_owner", columnList = "owner")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionLeaseEntity {
+
+    @Id
+    @Column(name = "partition_id")
+    private Integer partitionId;
+
+    @Column(length = 128)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,56 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row per business date that has been executed. The unique date makes
+ * nodes starting the same run at once agree on a single row.
+ */
+@Entity
+@Table(name = "execution_runs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_execution_run_business_date", columnNames = "business_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExecutionRunEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "execution_runs_seq")
+    @SequenceGenerator(name = "execution_runs_seq", sequenceName = "execution_runs_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ExecutionRun.Status status;
+
+    @Column(nullable = false)
+    private int starts;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -106,10 +106,17 @@ public class FeeConfigurationEntity {
 
     private LocalDateTime updatedAt;
 
+    /**
+     * Timestamps set by the domain, from the scheduling clock, are kept.
+     */
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updatedAt == null) {
+            updatedAt = createdAt;
+        }
         if (active == null) {
             active = true;
         }
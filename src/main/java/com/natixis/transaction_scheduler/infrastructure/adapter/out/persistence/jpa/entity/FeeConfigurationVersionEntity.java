@@ -0,0 +1,38 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single-row epoch of the fee_configurations table.
+ * Any change to fee_configurations must increment the version in the same
+ * database transaction; every node polls it and rebuilds its in-memory fee
+ * rule index when the value changes.
+ */
+@Entity
+@Table(name = "fee_configuration_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeeConfigurationVersionEntity {
+
+    public static final long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,67 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One row per account pair and business date, with the transactions it
+ * settles in {@code settlement_instruction_transactions}. The unique pair
+ * keeps two nettings of the same date from both being stored.
+ */
+@Entity
+@Table(name = "settlement_instructions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_settlement_instruction_pair",
+                columnNames = {"business_date", "debtor_account", "creditor_account"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementInstructionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "settlement_instructions_seq")
+    @SequenceGenerator(name = "settlement_instructions_seq", sequenceName = "settlement_instructions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Column(name = "debtor_account", nullable = false, length = 34)
+    private String debtorAccount;
+
+    @Column(name = "creditor_account", nullable = false, length = 34)
+    private String creditorAccount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @ElementCollection
+    @CollectionTable(name = "settlement_instruction_transactions",
+            joinColumns = @JoinColumn(name = "instruction_id"),
+            indexes = @Index(name = "idx_settlement_transaction", columnList = "transaction_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "transaction_id", nullable = false)
+    @Builder.Default
+    private List<Long> transactionIds = new ArrayList<>();
+}
@@ -1,15 +1,19 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
 
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
 import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.TransactionEntityMapper;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
@@ -22,14 +26,20 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * Transaction entity representing a scheduled bank transfer.
+ * <p>
+ * {@code idx_status_scheduled_date} serves the executor's "pending for this
+ * date and partition, in id order" claim query as a single index range scan,
+ * and the timer's "pending up to this date" reload as a range on its prefix.
  */
 @Entity
 @Table(name = "transactions", indexes = {
-        @Index(name = "idx_scheduled_date", columnList = "scheduled_date"),
-        @Index(name = "idx_source_account", columnList = "source_account")
+        @Index(name = "idx_scheduled_date", columnList = "scheduled_date, id"),
+        @Index(name = "idx_status_scheduled_date", columnList = "status, scheduled_date, partition_id, id"),
+        @Index(name = "idx_source_account", columnList = "source_account, id")
 })
 @Data
 @NoArgsConstructor
@@ -37,8 +47,15 @@ import java.time.LocalDateTime;
 @Builder
 public class TransactionEntity {
 
+    /**
+     * Sequence ids let Hibernate assign keys before the INSERT, which keeps
+     * JDBC batching enabled (IDENTITY needs one round trip per row to read the
+     * key back). The allocation size must match the sequence increment; the
+     * pooled-lo optimizer hands out a block of 50 ids per sequence call.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -69,6 +86,27 @@ public class TransactionEntity {
     @Column(name = "scheduled_date", nullable = false)
     private LocalDate scheduledDate;
 
+    /**
+     * Optional execution time slot on the scheduled date; null means the
+     * daily execution.
+     */
+    @Column(name = "scheduled_time")
+    private LocalTime scheduledTime;
+
+    @Column(name = "partition_id", nullable = false)
+    private Integer partitionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private TransactionStatus status = TransactionStatus.SCHEDULED;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -79,15 +117,31 @@ public class TransactionEntity {
         return TransactionEntityMapper.INSTANCE.toEntity(transaction);
     }
 
+    /**
+     * Timestamps set by the domain, from the scheduling clock, are kept.
+     */
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        if (updatedAt == null) {
+            updatedAt = createdAt;
+        }
+        if (status == null) {
+            status = TransactionStatus.SCHEDULED;
+        }
     }
 
+    /**
+     * Keeps the domain's timestamp too; adapter writes that bypass the
+     * domain set {@code updatedAt} themselves.
+     */
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        if (updatedAt == null) {
+            updatedAt = LocalDateTime.now();
+        }
     }
 
     public Transaction toTransaction() {
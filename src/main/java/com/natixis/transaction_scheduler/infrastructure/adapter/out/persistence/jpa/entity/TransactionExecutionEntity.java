@@ -0,0 +1,71 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity;
+
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.TransactionExecutionEntityMapper;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row per execution attempt of a transaction.
+ */
+@Entity
+@Table(name = "transaction_executions", indexes = {
+        @Index(name = "idx_execution_transaction", columnList = "transaction_id, outcome"),
+        @Index(name = "idx_execution_business_date", columnList = "business_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionExecutionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_executions_seq")
+    @SequenceGenerator(name = "transaction_executions_seq", sequenceName = "transaction_executions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TransactionExecution.Outcome outcome;
+
+    @Column(name = "gateway_reference", length = 64)
+    private String gatewayReference;
+
+    @Column(name = "failure_reason", length = 255)
+    private String failureReason;
+
+    @Column(name = "executed_at", nullable = false)
+    private LocalDateTime executedAt;
+
+    @Column(name = "duration_ms", nullable = false)
+    private long durationMillis;
+
+    public static TransactionExecutionEntity of(TransactionExecution execution) {
+        return TransactionExecutionEntityMapper.INSTANCE.toEntity(execution);
+    }
+
+    public TransactionExecution toTransactionExecution() {
+        return TransactionExecutionEntityMapper.INSTANCE.toModel(this);
+    }
+}
@@ -0,0 +1,22 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper;
+
+import com.natixis.transaction_scheduler.domain.model.DeadLetter;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.DeadLetterEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * MapStruct mapper for DeadLetter domain model to/from entities.
+ * <p>
+ * MapStruct generates implementation at compile-time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface DeadLetterEntityMapper {
+
+    DeadLetterEntityMapper INSTANCE = Mappers.getMapper(DeadLetterEntityMapper.class);
+
+    DeadLetterEntity toEntity(DeadLetter deadLetter);
+
+    DeadLetter toModel(DeadLetterEntity entity);
+}
@@ -0,0 +1,40 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionCheckpoint;
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionCheckpointEntity;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionRunEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for ExecutionRun and ExecutionCheckpoint domain models to/from entities.
+ * <p>
+ * MapStruct generates implementation at compile-time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ExecutionRunEntityMapper {
+
+    ExecutionRunEntityMapper INSTANCE = Mappers.getMapper(ExecutionRunEntityMapper.class);
+
+    @Mapping(target = "id", source = "entity.id")
+    ExecutionRun toModel(ExecutionRunEntity entity, List<ExecutionCheckpoint> checkpoints);
+
+    ExecutionCheckpoint toModel(ExecutionCheckpointEntity entity);
+
+    @Mapping(target = "runId", source = "runId")
+    @Mapping(target = "partitionId", source = "checkpoint.partitionId")
+    ExecutionCheckpointEntity toEntity(Long runId, ExecutionCheckpoint checkpoint);
+
+    /**
+     * Copy progress onto a managed row, leaving its key alone.
+     */
+    @Mapping(target = "runId", ignore = true)
+    @Mapping(target = "partitionId", ignore = true)
+    void updateEntity(ExecutionCheckpoint checkpoint, @MappingTarget ExecutionCheckpointEntity entity);
+}
@@ -0,0 +1,29 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.SettlementInstructionEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * MapStruct mapper for SettlementInstruction domain model to/from entities.
+ * <p>
+ * MapStruct generates implementation at compile-time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface SettlementInstructionEntityMapper extends UtilsMapper {
+
+    SettlementInstructionEntityMapper INSTANCE = Mappers.getMapper(SettlementInstructionEntityMapper.class);
+
+    @Mapping(target = "debtorAccount", source = "debtorAccount.value")
+    @Mapping(target = "creditorAccount", source = "creditorAccount.value")
+    @Mapping(target = "amount", source = "amount.amount")
+    SettlementInstructionEntity toEntity(SettlementInstruction instruction);
+
+    @Mapping(target = "debtorAccount", source = "debtorAccount", qualifiedByName = "toAccountNumber")
+    @Mapping(target = "creditorAccount", source = "creditorAccount", qualifiedByName = "toAccountNumber")
+    @Mapping(target = "amount", source = "amount", qualifiedByName = "toMoney")
+    SettlementInstruction toModel(SettlementInstructionEntity entity);
+}
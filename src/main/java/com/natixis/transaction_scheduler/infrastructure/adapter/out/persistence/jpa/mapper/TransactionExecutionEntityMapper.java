@@ -0,0 +1,22 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper;
+
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.TransactionExecutionEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * MapStruct mapper for TransactionExecution domain model to/from entities.
+ * <p>
+ * MapStruct generates implementation at compile-time.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface TransactionExecutionEntityMapper {
+
+    TransactionExecutionEntityMapper INSTANCE = Mappers.getMapper(TransactionExecutionEntityMapper.class);
+
+    TransactionExecutionEntity toEntity(TransactionExecution execution);
+
+    TransactionExecution toModel(TransactionExecutionEntity entity);
+}
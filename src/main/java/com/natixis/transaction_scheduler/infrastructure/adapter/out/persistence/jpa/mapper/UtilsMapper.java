@@ -17,13 +17,17 @@ public interface UtilsMapper {
         return new Money(amount);
     }
 
+    /**
+     * Accounts read back from the database were validated before being stored,
+     * so they take the trusted path instead of being parsed again.
+     */
     @Named("toAccountNumber")
     default AccountNumber toAccountNumber(String accountNumber) {
         if (accountNumber == null) {
             return null;
         }
 
-        return new AccountNumber(accountNumber);
+        return AccountNumber.fromTrustedSource(accountNumber);
     }
 
     @Named("wrapAsOptional")
@@ -0,0 +1,81 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.DeadLetter;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.DeadLetterEntityMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Dead letters and the status of their transactions change in the same
+ * database transaction, so a transaction is never failed without its dead
+ * letter, nor requeued while keeping it.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadLetterRepositoryAdapter implements DeadLetterRepository {
+
+    private final JpaDeadLetterRepository jpaDeadLetterRepository;
+    private final JpaTransactionRepository jpaTransactionRepository;
+    private final SchedulingClock schedulingClock;
+
+    @Override
+    @Transactional
+    public void deadLetter(List<DeadLetter> deadLetters) {
+        Objects.requireNonNull(deadLetters, "deadLetters cannot be null");
+        if (deadLetters.isEmpty()) {
+            return;
+        }
+        this.jpaDeadLetterRepository.saveAll(deadLetters.stream()
+                .map(DeadLetterEntityMapper.INSTANCE::toEntity)
+                .toList());
+        this.jpaTransactionRepository.updateStatus(
+                deadLetters.stream().map(DeadLetter::getTransactionId).toList(),
+                TransactionStatus.IN_PROGRESS, TransactionStatus.FAILED, schedulingClock.now());
+    }
+
+    /**
+     * Only dead-lettered transactions that are still failed are requeued.
+     * Dead letters whose transaction has since been deleted are dropped.
+     */
+    @Override
+    @Transactional
+    public List<Long> requeue(Collection<Long> transactionIds, LocalDateTime nextAttemptAt) {
+        Objects.requireNonNull(transactionIds, "transactionIds cannot be null");
+        Objects.requireNonNull(nextAttemptAt, "nextAttemptAt cannot be null");
+        if (transactionIds.isEmpty()) {
+            return List.of();
+        }
+        return requeueDeadLettered(this.jpaDeadLetterRepository.findTransactionIds(transactionIds), nextAttemptAt);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> requeueOldest(int limit, LocalDateTime nextAttemptAt) {
+        Objects.requireNonNull(nextAttemptAt, "nextAttemptAt cannot be null");
+        return requeueDeadLettered(this.jpaDeadLetterRepository.findOldestTransactionIds(Limit.of(limit)),
+                nextAttemptAt);
+    }
+
+    private List<Long> requeueDeadLettered(List<Long> deadLettered, LocalDateTime nextAttemptAt) {
+        if (deadLettered.isEmpty()) {
+            return List.of();
+        }
+        List<Long> failed = this.jpaTransactionRepository.findIdsByIdInAndStatus(deadLettered, TransactionStatus.FAILED);
+        if (!failed.isEmpty()) {
+            this.jpaTransactionRepository.requeue(failed, TransactionStatus.FAILED, TransactionStatus.RETRYING,
+                    nextAttemptAt, schedulingClock.now());
+        }
+        this.jpaDeadLetterRepository.deleteByTransactionIds(deadLettered);
+        return failed;
+    }
+}
@@ -0,0 +1,200 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionLeaseEntity;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionNodeEntity;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Lease-based ownership of the execution partitions, shared by every node
+ * through the database.
+ * <p>
+ * On each heartbeat a node records itself in {@code execution_nodes}, renews
+ * its leases, and computes its fair share as the partition count divided by
+ * the number of live nodes. It releases partitions above that share, so a
+ * node that joins gets work on the next heartbeat. It then takes free or
+ * expired partitions up to its share. A node that stops heartbeating loses
+ * its partitions once its leases expire, and the survivors pick them up.
+ * <p>
+ * Leases only decide who should work on a partition. Double execution is
+ * prevented by the {@code SKIP LOCKED} claim on the transactions themselves,
+ * so a short overlap while a partition changes hands is harmless.
+ */
+@Component
+@ConditionalOnProperty(name = "transaction-execution.lease.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ExecutionLeaseAdapter implements PartitionOwnership {
+
+    private final JpaExecutionLeaseRepository jpaExecutionLeaseRepository;
+    private final JpaExecutionNodeRepository jpaExecutionNodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final Duration ttl;
+    private final SchedulingClock schedulingClock;
+
+    private volatile Set<Integer> owned = Set.of();
+    private volatile long ownedUntilNanos;
+    private volatile boolean started;
+
+    public ExecutionLeaseAdapter(JpaExecutionLeaseRepository jpaExecutionLeaseRepository,
+                                 JpaExecutionNodeRepository jpaExecutionNodeRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 SchedulingClock schedulingClock,
+                                 @Value("${transaction-execution.node-id:}") String nodeId,
+                                 @Value("${transaction-execution.lease.ttl-ms:10000}") long ttlMillis) {
+        this.jpaExecutionLeaseRepository = jpaExecutionLeaseRepository;
+        this.jpaExecutionNodeRepository = jpaExecutionNodeRepository;
+        this.eventPublisher = eventPublisher;
+        // Lease changes must commit on their own, whatever the caller is doing
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.schedulingClock = schedulingClock;
+    }
+
+    /**
+     * Partitions held under a lease that cannot have expired yet. If
+     * heartbeats stop succeeding, this drops to empty once the TTL has passed
+     * since the last good one, as other nodes may have taken over by then.
+     */
+    @Override
+    public Set<Integer> ownedPartitions() {
+        if (!started) {
+            heartbeat();
+        }
+        return System.nanoTime() - ownedUntilNanos < 0 ? owned : Set.of();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(fixedDelayString = "${transaction-execution.lease.heartbeat-ms:2000}")
+    public synchronized void heartbeat() {
+        long startedNanos = System.nanoTime();
+        Set<Integer> previous = owned;
+        try {
+            ensurePartitions();
+            Set<Integer> current = transactionTemplate.execute(status -> rebalance());
+            owned = current;
+            ownedUntilNanos = startedNanos + ttl.toNanos();
+            started = true;
+
+            Set<Integer> gained = new TreeSet<>(current);
+            gained.removeAll(previous);
+            if (!gained.isEmpty()) {
+                log.info("Node {} acquired partitions {} (now owns {})", nodeId, gained, current.size());
+                eventPublisher.publishEvent(new PartitionsAcquired(Set.copyOf(gained)));
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Lease heartbeat failed for node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Hand every partition back so the other nodes can take over without
+     * waiting for the leases to expire.
+     */
+    @PreDestroy
+    public synchronized void releaseAll() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jpaExecutionLeaseRepository.release(ExecutionPartitions.all(), nodeId, schedulingClock.now());
+                jpaExecutionNodeRepository.deleteById(nodeId);
+            });
+            log.info("Node {} released its partitions", nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Could not release partitions of node {}: {}", nodeId, e.getMessage());
+        }
+        owned = Set.of();
+    }
+
+    private Set<Integer> rebalance() {
+        LocalDateTime now = schedulingClock.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+
+        if (jpaExecutionNodeRepository.touch(nodeId, now) == 0) {
+            jpaExecutionNodeRepository.save(new ExecutionNodeEntity(nodeId, now));
+        }
+        jpaExecutionNodeRepository.deleteDeadBefore(now.minus(ttl.multipliedBy(6)));
+        jpaExecutionLeaseRepository.renew(nodeId, expiresAt);
+
+        long liveNodes = Math.max(1, jpaExecutionNodeRepository.countAlive(now.minus(ttl)));
+        int fairShare = (int) ((ExecutionPartitions.COUNT + liveNodes - 1) / liveNodes);
+
+        List<Integer> current = jpaExecutionLeaseRepository.findOwnedPartitions(nodeId, now);
+        Set<Integer> result = new HashSet<>(current);
+
+        if (current.size() > fairShare) {
+            List<Integer> surplus = current.subList(fairShare, current.size());
+            jpaExecutionLeaseRepository.release(surplus, nodeId, now);
+            log.info("Node {} released partitions {} to rebalance across {} nodes", nodeId, surplus, liveNodes);
+            surplus.forEach(result::remove);
+        } else if (current.size() < fairShare) {
+            // Shuffled so nodes racing for the same free partitions mostly miss each other
+            List<Integer> available = new ArrayList<>(jpaExecutionLeaseRepository.findAvailablePartitions(now));
+            Collections.shuffle(available);
+            for (Integer partitionId : available) {
+                if (result.size() >= fairShare) {
+                    break;
+                }
+                if (jpaExecutionLeaseRepository.acquire(partitionId, nodeId, now, expiresAt) == 1) {
+                    result.add(partitionId);
+                }
+            }
+        }
+        return Set.copyOf(result);
+    }
+
+    /**
+     * Create the lease rows on first start. Nodes starting together may race;
+     * the loser's insert fails and the next heartbeat sees the rows.
+     */
+    private void ensurePartitions() {
+        if (started || jpaExecutionLeaseRepository.count() >= ExecutionPartitions.COUNT) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Integer> existing = new HashSet<>();
+            jpaExecutionLeaseRepository.findAll().forEach(lease -> existing.add(lease.getPartitionId()));
+            List<ExecutionLeaseEntity> missing = new ArrayList<>();
+            for (int partitionId = 0; partitionId < ExecutionPartitions.COUNT; partitionId++) {
+                if (!existing.contains(partitionId)) {
+                    missing.add(new ExecutionLeaseEntity(partitionId, null, schedulingClock.now(), 0L));
+                }
+            }
+            jpaExecutionLeaseRepository.saveAll(missing);
+        });
+    }
+
+    private static String defaultNodeId() {
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,147 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionCheckpoint;
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionRunRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionCheckpointEntity;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionRunEntity;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.ExecutionRunEntityMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs and checkpoints in {@code execution_runs} and
+ * {@code execution_checkpoints}.
+ * <p>
+ * Checkpoint rows are persisted and updated through the persistence context
+ * rather than saved one by one, so the 64 inserts of a new run and the
+ * updates of a batch each go out as JDBC batches.
+ */
+@Component
+@Slf4j
+public class ExecutionRunRepositoryAdapter implements ExecutionRunRepository {
+
+    private final JpaExecutionRunRepository jpaExecutionRunRepository;
+    private final JpaExecutionCheckpointRepository jpaExecutionCheckpointRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulingClock schedulingClock;
+
+    public ExecutionRunRepositoryAdapter(JpaExecutionRunRepository jpaExecutionRunRepository,
+                                         JpaExecutionCheckpointRepository jpaExecutionCheckpointRepository,
+                                         EntityManager entityManager,
+                                         PlatformTransactionManager transactionManager,
+                                         SchedulingClock schedulingClock) {
+        this.jpaExecutionRunRepository = jpaExecutionRunRepository;
+        this.jpaExecutionCheckpointRepository = jpaExecutionCheckpointRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulingClock = schedulingClock;
+    }
+
+    /**
+     * Nodes starting together may both try to create the run; the loser's
+     * insert fails on the unique date and it opens the winner's run instead.
+     */
+    @Override
+    public ExecutionRun start(LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        try {
+            return transactionTemplate.execute(status -> openOrCreate(businessDate));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Execution run for {} created concurrently, opening it", businessDate);
+            return transactionTemplate.execute(status -> openOrCreate(businessDate));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ExecutionRun> findByBusinessDate(LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        return this.jpaExecutionRunRepository.findByBusinessDate(businessDate)
+                .map(this::toModel);
+    }
+
+    @Override
+    @Transactional
+    public void saveCheckpoints(Long runId, Collection<ExecutionCheckpoint> checkpoints) {
+        Objects.requireNonNull(runId, "runId cannot be null");
+        Objects.requireNonNull(checkpoints, "checkpoints cannot be null");
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        Map<Integer, ExecutionCheckpointEntity> rows = this.jpaExecutionCheckpointRepository
+                .findByRunIdAndPartitionIdIn(runId, checkpoints.stream().map(ExecutionCheckpoint::getPartitionId).toList())
+                .stream()
+                .collect(Collectors.toMap(ExecutionCheckpointEntity::getPartitionId, Function.identity()));
+        for (ExecutionCheckpoint checkpoint : checkpoints) {
+            ExecutionCheckpointEntity row = rows.get(checkpoint.getPartitionId());
+            if (row == null) {
+                throw new IllegalArgumentException("Run " + runId + " has no checkpoint for partition "
+                        + checkpoint.getPartitionId());
+            }
+            ExecutionRunEntityMapper.INSTANCE.updateEntity(checkpoint, row);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean completeIfDrained(Long runId) {
+        Objects.requireNonNull(runId, "runId cannot be null");
+        if (this.jpaExecutionRunRepository.completeIfDrained(runId, ExecutionRun.Status.COMPLETED,
+                schedulingClock.now()) == 1) {
+            return true;
+        }
+        return this.jpaExecutionRunRepository.findById(runId)
+                .map(run -> run.getStatus() == ExecutionRun.Status.COMPLETED)
+                .orElse(false);
+    }
+
+    private ExecutionRun openOrCreate(LocalDate businessDate) {
+        Optional<ExecutionRunEntity> existing = this.jpaExecutionRunRepository.lockByBusinessDate(businessDate);
+        if (existing.isPresent()) {
+            ExecutionRunEntity run = existing.get();
+            run.setStarts(run.getStarts() + 1);
+            return toModel(run);
+        }
+
+        LocalDateTime now = schedulingClock.now();
+        ExecutionRunEntity run = this.jpaExecutionRunRepository.saveAndFlush(ExecutionRunEntity.builder()
+                .businessDate(businessDate)
+                .status(ExecutionRun.Status.RUNNING)
+                .starts(1)
+                .startedAt(now)
+                .build());
+        List<ExecutionCheckpoint> checkpoints = IntStream.range(0, ExecutionPartitions.COUNT)
+                .mapToObj(partitionId -> ExecutionCheckpoint.start(partitionId, now))
+                .toList();
+        checkpoints.forEach(checkpoint -> this.entityManager.persist(ExecutionCheckpointEntity.of(run.getId(), checkpoint)));
+        return ExecutionRunEntityMapper.INSTANCE.toModel(run, checkpoints);
+    }
+
+    private ExecutionRun toModel(ExecutionRunEntity run) {
+        List<ExecutionCheckpoint> checkpoints = this.jpaExecutionCheckpointRepository
+                .findByRunIdOrderByPartitionIdAsc(run.getId()).stream()
+                .map(ExecutionCheckpointEntity::toExecutionCheckpoint)
+                .toList();
+        return ExecutionRunEntityMapper.INSTANCE.toModel(run, checkpoints);
+    }
+}
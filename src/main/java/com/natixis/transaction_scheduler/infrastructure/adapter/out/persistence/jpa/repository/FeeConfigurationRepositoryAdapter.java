@@ -1,25 +1,111 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
 
 import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
 import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
 import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.FeeConfigurationEntity;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * Serves fee lookups from an in-memory {@link FeeRuleIndex}.
+ * <p>
+ * The index is paired with the fee_configurations version it was built from.
+ * A background poll compares that version with the one stored in
+ * fee_configuration_versions and, when it differs, compiles a fresh index
+ * and publishes it with a single volatile write. Readers on the create and
+ * update paths only ever see a complete snapshot and never wait for a reload.
+ */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class FeeConfigurationRepositoryAdapter implements FeeConfigurationRepository {
 
     private final JpaFeeConfigurationRepository jpaFeeConfigurationRepository;
+    private final JpaFeeConfigurationVersionRepository jpaFeeConfigurationVersionRepository;
+
+    private volatile Snapshot snapshot;
 
     @Override
     public Optional<FeeConfiguration> findBestMatch(Money transferAmount, Long days) {
-        return this.jpaFeeConfigurationRepository
-                .findBestMatch(transferAmount.getAmount(), days).stream()
-                .findFirst().flatMap(feeConfiguration ->
-                        Optional.ofNullable(feeConfiguration.toFeeConfiguration()));
+        Objects.requireNonNull(days, "days cannot be null");
+        return getRuleIndex().findBestMatch(transferAmount, days);
+    }
+
+    @Override
+    public FeeRuleIndex getRuleIndex() {
+        return currentSnapshot().index();
+    }
+
+    /**
+     * Version of the rule set currently served, or -1 before the first load.
+     */
+    public long getLoadedVersion() {
+        Snapshot current = this.snapshot;
+        return current == null ? -1L : current.version();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshIfStale();
+    }
+
+    /**
+     * Reload the rule set when the stored version differs from the loaded one.
+     * Runs on the scheduler thread; concurrent callers are serialized so only
+     * one index is compiled per version change.
+     */
+    @Scheduled(
+            initialDelayString = "${fee-configuration.refresh-interval-ms:5000}",
+            fixedDelayString = "${fee-configuration.refresh-interval-ms:5000}"
+    )
+    public synchronized void refreshIfStale() {
+        long storedVersion = readStoredVersion();
+        Snapshot current = this.snapshot;
+        if (current != null && current.version() == storedVersion) {
+            return;
+        }
+
+        // The version is read before the rows, so a concurrent change can only
+        // make the snapshot newer than its label and trigger one extra reload.
+        this.snapshot = new Snapshot(storedVersion, loadRuleIndex());
+
+        log.info("Fee rule index refreshed to version {} (was {})",
+                storedVersion, current == null ? "none" : current.version());
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            refreshIfStale();
+            current = this.snapshot;
+        }
+        return current;
+    }
+
+    private long readStoredVersion() {
+        return this.jpaFeeConfigurationVersionRepository.findCurrentVersion().orElse(0L);
+    }
+
+    private FeeRuleIndex loadRuleIndex() {
+        List<FeeConfiguration> configurations = this.jpaFeeConfigurationRepository.findByActiveTrue().stream()
+                .map(FeeConfigurationEntity::toFeeConfiguration)
+                .toList();
+
+        log.debug("Compiled fee rule index with {} active configurations", configurations.size());
+
+        return FeeRuleIndex.of(configurations);
+    }
+
+    private record Snapshot(long version, FeeRuleIndex index) {
     }
 }
@@ -0,0 +1,23 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.DeadLetterEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaDeadLetterRepository extends JpaRepository<DeadLetterEntity, Long> {
+
+    @Query("SELECT d.transactionId FROM DeadLetterEntity d WHERE d.transactionId IN :transactionIds")
+    List<Long> findTransactionIds(Collection<Long> transactionIds);
+
+    @Query("SELECT d.transactionId FROM DeadLetterEntity d ORDER BY d.deadLetteredAt, d.id")
+    List<Long> findOldestTransactionIds(Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DeadLetterEntity d WHERE d.transactionId IN :transactionIds")
+    int deleteByTransactionIds(Collection<Long> transactionIds);
+}
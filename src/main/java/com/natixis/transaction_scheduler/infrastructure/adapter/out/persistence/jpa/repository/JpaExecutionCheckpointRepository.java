@@ -0,0 +1,15 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaExecutionCheckpointRepository
+        extends JpaRepository<ExecutionCheckpointEntity, ExecutionCheckpointEntity.Key> {
+
+    List<ExecutionCheckpointEntity> findByRunIdOrderByPartitionIdAsc(Long runId);
+
+    List<ExecutionCheckpointEntity> findByRunIdAndPartitionIdIn(Long runId, Collection<Integer> partitionIds);
+}
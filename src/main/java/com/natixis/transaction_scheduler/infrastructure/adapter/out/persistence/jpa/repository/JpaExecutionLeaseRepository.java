@@ -0,0 +1,43 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Every ownership change is a conditional UPDATE on the lease row, so two
+ * nodes racing for the same partition cannot both win.
+ */
+public interface JpaExecutionLeaseRepository extends JpaRepository<ExecutionLeaseEntity, Integer> {
+
+    @Query("SELECT l.partitionId FROM ExecutionLeaseEntity l WHERE l.owner = :owner AND l.expiresAt > :now "
+            + "ORDER BY l.partitionId")
+    List<Integer> findOwnedPartitions(String owner, LocalDateTime now);
+
+    @Query("SELECT l.partitionId FROM ExecutionLeaseEntity l WHERE l.owner IS NULL OR l.expiresAt <= :now")
+    List<Integer> findAvailablePartitions(LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ExecutionLeaseEntity l SET l.expiresAt = :expiresAt WHERE l.owner = :owner")
+    int renew(String owner, LocalDateTime expiresAt);
+
+    /**
+     * Take the partition if it is free or its lease has expired.
+     *
+     * @return 1 when this node now owns the partition, 0 when another node won
+     */
+    @Modifying
+    @Query("UPDATE ExecutionLeaseEntity l SET l.owner = :owner, l.expiresAt = :expiresAt, l.version = l.version + 1 "
+            + "WHERE l.partitionId = :partitionId AND (l.owner IS NULL OR l.expiresAt <= :now)")
+    int acquire(Integer partitionId, String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE ExecutionLeaseEntity l SET l.owner = NULL, l.expiresAt = :now, l.version = l.version + 1 "
+            + "WHERE l.partitionId IN :partitionIds AND l.owner = :owner")
+    int release(Collection<Integer> partitionIds, String owner, LocalDateTime now);
+}
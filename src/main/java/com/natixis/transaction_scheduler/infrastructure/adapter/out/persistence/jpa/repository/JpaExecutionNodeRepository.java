@@ -0,0 +1,22 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionNodeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface JpaExecutionNodeRepository extends JpaRepository<ExecutionNodeEntity, String> {
+
+    @Query("SELECT COUNT(n) FROM ExecutionNodeEntity n WHERE n.heartbeatAt > :since")
+    long countAlive(LocalDateTime since);
+
+    @Modifying
+    @Query("UPDATE ExecutionNodeEntity n SET n.heartbeatAt = :heartbeatAt WHERE n.nodeId = :nodeId")
+    int touch(String nodeId, LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Query("DELETE FROM ExecutionNodeEntity n WHERE n.heartbeatAt <= :before")
+    int deleteDeadBefore(LocalDateTime before);
+}
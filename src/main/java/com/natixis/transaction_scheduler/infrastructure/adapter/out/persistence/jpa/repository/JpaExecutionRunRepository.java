@@ -0,0 +1,34 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.ExecutionRunEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JpaExecutionRunRepository extends JpaRepository<ExecutionRunEntity, Long> {
+
+    Optional<ExecutionRunEntity> findByBusinessDate(LocalDate businessDate);
+
+    /**
+     * Lock the run so concurrent starts are counted one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ExecutionRunEntity r WHERE r.businessDate = :businessDate")
+    Optional<ExecutionRunEntity> lockByBusinessDate(LocalDate businessDate);
+
+    /**
+     * Complete the run unless one of its partitions is still open.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExecutionRunEntity r SET r.status = :completed, r.completedAt = :completedAt "
+            + "WHERE r.id = :id AND r.status <> :completed AND NOT EXISTS ("
+            + "SELECT c FROM ExecutionCheckpointEntity c WHERE c.runId = r.id AND c.completed = false)")
+    int completeIfDrained(Long id, ExecutionRun.Status completed, LocalDateTime completedAt);
+}
@@ -2,37 +2,17 @@ package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence
 
 import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.FeeConfigurationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 public interface JpaFeeConfigurationRepository extends JpaRepository<FeeConfigurationEntity, Long> {
 
     /**
-     * Find best matching fee configuration.
-     * Filters by:
-     * - Active = true
-     * - Amount within min/max range (or no max)
-     * - Days within min/max range
-     * Orders by priority DESC (highest first)
+     * Load every active fee configuration.
+     * The rule set is small and rarely changes, so it is compiled into an
+     * in-memory index instead of being queried per transaction.
      *
-     * @param amount Transfer amount
-     * @param daysBetween Days between now and scheduled date
-     * @return List of matching configurations ordered by priority
+     * @return active configurations, in no particular order
      */
-    @Query("""
-            SELECT f FROM FeeConfigurationEntity f
-            WHERE f.active = true
-              AND f.minAmount <= :amount
-              AND (f.maxAmount IS NULL OR f.maxAmount >= :amount)
-              AND f.minDays <= :daysBetween
-              AND f.maxDays >= :daysBetween
-            ORDER BY f.priority DESC
-            """)
-    List<FeeConfigurationEntity> findBestMatch(
-            @Param("amount") BigDecimal amount,
-            @Param("daysBetween") long daysBetween
-    );
+    List<FeeConfigurationEntity> findByActiveTrue();
 }
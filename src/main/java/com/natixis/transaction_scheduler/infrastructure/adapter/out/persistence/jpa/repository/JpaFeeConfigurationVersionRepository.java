@@ -0,0 +1,30 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.FeeConfigurationVersionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface JpaFeeConfigurationVersionRepository extends JpaRepository<FeeConfigurationVersionEntity, Long> {
+
+    /**
+     * Read the current fee configuration epoch.
+     * Single primary key lookup projected to one column, cheap enough to poll.
+     */
+    @Query("SELECT v.version FROM FeeConfigurationVersionEntity v WHERE v.id = 1")
+    Optional<Long> findCurrentVersion();
+
+    /**
+     * Bump the epoch so every node reloads its fee rule index.
+     * Must run in the same transaction as the fee_configurations change.
+     *
+     * @return number of updated rows (1 when the version row exists)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE FeeConfigurationVersionEntity v SET v.version = v.version + 1, v.updatedAt = CURRENT_TIMESTAMP WHERE v.id = 1")
+    int incrementVersion();
+}
@@ -0,0 +1,14 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.SettlementInstructionEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface JpaSettlementInstructionRepository extends JpaRepository<SettlementInstructionEntity, Long> {
+
+    @EntityGraph(attributePaths = "transactionIds")
+    List<SettlementInstructionEntity> findByBusinessDateOrderByIdAsc(LocalDate businessDate);
+}
@@ -0,0 +1,22 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.TransactionExecutionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaTransactionExecutionRepository extends JpaRepository<TransactionExecutionEntity, Long> {
+
+    List<TransactionExecutionEntity> findByTransactionIdOrderByIdAsc(Long transactionId);
+
+    /**
+     * Ids among the given ones that have an execution with the given outcome.
+     * Projected to the id column so no entities are loaded.
+     */
+    @Query("SELECT DISTINCT e.transactionId FROM TransactionExecutionEntity e "
+            + "WHERE e.transactionId IN :transactionIds AND e.outcome = :outcome")
+    List<Long> findTransactionIdsWithOutcome(Collection<Long> transactionIds, TransactionExecution.Outcome outcome);
+}
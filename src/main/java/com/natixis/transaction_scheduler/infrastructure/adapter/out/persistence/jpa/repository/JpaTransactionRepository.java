@@ -1,14 +1,156 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
 
+import com.natixis.transaction_scheduler.domain.model.PendingRetry;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
 import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.TransactionEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * Listing queries seek past the last id already returned ({@code id > :afterId})
+ * and read at most {@code limit} rows in id order, so every page costs one
+ * index range scan no matter how deep into the table it is.
+ */
 public interface JpaTransactionRepository extends JpaRepository<TransactionEntity, Long> {
 
-    List<TransactionEntity> findByScheduledDate(LocalDate date);
+    /**
+     * Rows pulled from the database per round trip when streaming exports.
+     */
+    int EXPORT_FETCH_SIZE = 500;
 
-    List<TransactionEntity> findBySourceAccount(String accountNumber);
+    /**
+     * {@code jakarta.persistence.lock.timeout} value Hibernate translates to
+     * {@code SKIP LOCKED} on dialects that support it (H2, PostgreSQL).
+     */
+    String SKIP_LOCKED = "-2";
+
+    String SELECT_VIEW = "SELECT new com.natixis.transaction_scheduler.domain.model.TransactionView("
+            + "t.id, t.sourceAccount, t.destinationAccount, t.transferAmount, t.transferFee, t.scheduledDate, "
+            + "t.scheduledTime, t.status, t.attempts, t.createdAt, t.updatedAt) FROM TransactionEntity t ";
+
+    /**
+     * Listing pages projected straight into {@link TransactionView}: no
+     * entity is materialized or tracked by the persistence context.
+     */
+    @Query(SELECT_VIEW + "WHERE t.id > :afterId ORDER BY t.id")
+    List<TransactionView> findViews(Long afterId, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE t.scheduledDate = :date AND t.id > :afterId ORDER BY t.id")
+    List<TransactionView> findViewsByScheduledDate(LocalDate date, Long afterId, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE t.sourceAccount = :accountNumber AND t.id > :afterId ORDER BY t.id")
+    List<TransactionView> findViewsBySourceAccount(String accountNumber, Long afterId, Limit limit);
+
+    /**
+     * Scroll over a date range for export. The caller must consume the stream
+     * inside a transaction and close it. Entities are loaded read-only, so
+     * Hibernate keeps no dirty-checking snapshots for them.
+     */
+    @Query("SELECT t FROM TransactionEntity t WHERE t.scheduledDate BETWEEN :from AND :to ORDER BY t.scheduledDate, t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<TransactionEntity> streamByScheduledDateBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Scroll over a date's transactions in the given statuses, grouped by
+     * source account. Same contract as {@link #streamByScheduledDateBetween}.
+     */
+    @Query("SELECT t FROM TransactionEntity t WHERE t.scheduledDate = :date AND t.status IN :statuses "
+            + "ORDER BY t.sourceAccount, t.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<TransactionEntity> streamByScheduledDateAndStatusInOrderBySourceAccount(
+            LocalDate date, Collection<TransactionStatus> statuses);
+
+    /**
+     * Lock the next pending rows without a time slot for a date and partition
+     * with {@code SELECT ... FOR UPDATE SKIP LOCKED}, walking
+     * {@code idx_status_scheduled_date}. Must run inside a transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    List<TransactionEntity> findByStatusAndScheduledDateAndPartitionIdAndScheduledTimeIsNullOrderByIdAsc(
+            TransactionStatus status, LocalDate date, Integer partitionId, Limit limit);
+
+    /**
+     * Lock the given rows that still have the status, skipping rows another
+     * worker holds. Must run inside a transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    List<TransactionEntity> findByStatusAndIdInOrderByIdAsc(TransactionStatus status, Collection<Long> ids);
+
+    /**
+     * Lock the given rows waiting for a retry that is due by {@code now},
+     * skipping rows another worker holds. Must run inside a transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    List<TransactionEntity> findByStatusAndIdInAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            TransactionStatus status, Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * Retries waiting in the given partitions, projected straight into
+     * {@link PendingRetry} so reloading the retry queue materializes no entity.
+     */
+    @Query("SELECT new com.natixis.transaction_scheduler.domain.model.PendingRetry("
+            + "t.id, t.partitionId, t.nextAttemptAt) "
+            + "FROM TransactionEntity t WHERE t.status = :status AND t.partitionId IN :partitionIds")
+    List<PendingRetry> findPendingRetries(TransactionStatus status, Collection<Integer> partitionIds);
+
+    @Query("SELECT t.id FROM TransactionEntity t WHERE t.id IN :ids AND t.status = :status")
+    List<Long> findIdsByIdInAndStatus(Collection<Long> ids, TransactionStatus status);
+
+    /**
+     * Send failed rows back for another round of attempts.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TransactionEntity t SET t.status = :to, t.attempts = 0, t.nextAttemptAt = :nextAttemptAt, "
+            + "t.updatedAt = :updatedAt WHERE t.id IN :ids AND t.status = :from")
+    int requeue(Collection<Long> ids, TransactionStatus from, TransactionStatus to,
+                LocalDateTime nextAttemptAt, LocalDateTime updatedAt);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<TransactionEntity> findByStatusAndScheduledDateLessThanEqualAndScheduledTimeIsNotNull(
+            TransactionStatus status, LocalDate date);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TransactionEntity t SET t.status = :to, t.updatedAt = :updatedAt "
+            + "WHERE t.id IN :ids AND t.status = :from")
+    int updateStatus(Collection<Long> ids, TransactionStatus from, TransactionStatus to, LocalDateTime updatedAt);
+
+    /**
+     * Move the rows without a time slot of a date and partition that have
+     * not changed since {@code before} from one status to another. The claim
+     * updates {@code updated_at}, so for in-progress rows this is the claim time.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TransactionEntity t SET t.status = :to, t.updatedAt = :updatedAt "
+            + "WHERE t.status = :from AND t.scheduledDate = :date AND t.partitionId = :partitionId "
+            + "AND t.scheduledTime IS NULL AND t.updatedAt < :before")
+    int updateStatusUnchangedSince(LocalDate date, Integer partitionId, LocalDateTime before,
+                                   TransactionStatus from, TransactionStatus to, LocalDateTime updatedAt);
+
+    boolean existsByStatusAndScheduledDateAndPartitionIdAndScheduledTimeIsNull(
+            TransactionStatus status, LocalDate date, Integer partitionId);
 }
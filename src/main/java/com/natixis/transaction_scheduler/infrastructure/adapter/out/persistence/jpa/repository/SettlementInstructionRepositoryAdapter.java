@@ -0,0 +1,51 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementInstructionRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.mapper.SettlementInstructionEntityMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class SettlementInstructionRepositoryAdapter implements SettlementInstructionRepository {
+
+    private final JpaSettlementInstructionRepository jpaSettlementInstructionRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * The old instructions are deleted and the new ones inserted in one
+     * database transaction, as JDBC batches. The persistence context is
+     * cleared afterwards so a large date does not stay managed.
+     */
+    @Override
+    @Transactional
+    public void replace(LocalDate businessDate, List<SettlementInstruction> instructions) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        Objects.requireNonNull(instructions, "instructions cannot be null");
+        this.jpaSettlementInstructionRepository.deleteAll(
+                this.jpaSettlementInstructionRepository.findByBusinessDateOrderByIdAsc(businessDate));
+        // Hibernate flushes inserts before deletes; the old pairs must be gone first
+        this.entityManager.flush();
+        this.jpaSettlementInstructionRepository.saveAll(instructions.stream()
+                .map(SettlementInstructionEntityMapper.INSTANCE::toEntity)
+                .toList());
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SettlementInstruction> findByBusinessDate(LocalDate businessDate) {
+        Objects.requireNonNull(businessDate, "businessDate cannot be null");
+        return this.jpaSettlementInstructionRepository.findByBusinessDateOrderByIdAsc(businessDate).stream()
+                .map(SettlementInstructionEntityMapper.INSTANCE::toModel)
+                .toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionExecutionRepository;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.TransactionExecutionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionExecutionRepositoryAdapter implements TransactionExecutionRepository {
+
+    private final JpaTransactionExecutionRepository jpaTransactionExecutionRepository;
+
+    @Override
+    @Transactional
+    public void saveAll(List<TransactionExecution> executions) {
+        Objects.requireNonNull(executions, "executions cannot be null");
+        if (executions.isEmpty()) {
+            return;
+        }
+        this.jpaTransactionExecutionRepository.saveAll(executions.stream()
+                .map(TransactionExecutionEntity::of)
+                .toList());
+    }
+
+    @Override
+    public List<TransactionExecution> findByTransactionId(Long transactionId) {
+        Objects.requireNonNull(transactionId, "transactionId cannot be null");
+        return this.jpaTransactionExecutionRepository.findByTransactionIdOrderByIdAsc(transactionId).stream()
+                .map(TransactionExecutionEntity::toTransactionExecution)
+                .toList();
+    }
+
+    @Override
+    public Set<Long> findSucceededTransactionIds(Collection<Long> transactionIds) {
+        Objects.requireNonNull(transactionIds, "transactionIds cannot be null");
+        if (transactionIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(this.jpaTransactionExecutionRepository.findTransactionIdsWithOutcome(
+                transactionIds, TransactionExecution.Outcome.SUCCEEDED));
+    }
+}
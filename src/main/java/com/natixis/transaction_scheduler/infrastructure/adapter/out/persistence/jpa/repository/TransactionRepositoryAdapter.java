@@ -1,27 +1,69 @@
 package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
 
+import com.natixis.transaction_scheduler.domain.model.KeysetPage;
+import com.natixis.transaction_scheduler.domain.model.PendingRetry;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.TransactionEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class TransactionRepositoryAdapter implements TransactionRepository {
 
     private final JpaTransactionRepository jpaTransactionRepository;
+    private final EntityManager entityManager;
+    private final SchedulingClock schedulingClock;
 
+    /**
+     * The fee configuration a transaction was priced with is not stored; the
+     * saved transaction keeps the one it was given.
+     */
     @Override
     public Transaction save(Transaction transaction) {
-        return jpaTransactionRepository
+        return withFeeConfiguration(jpaTransactionRepository
                 .save(TransactionEntity.of(transaction))
-                .toTransaction();
+                .toTransaction(), transaction);
+    }
+
+    /**
+     * Flushes the whole list as JDBC batches and then clears the persistence
+     * context, so a large batch does not keep every inserted entity managed.
+     */
+    @Override
+    @Transactional
+    public List<Transaction> saveAll(List<Transaction> transactions) {
+        Objects.requireNonNull(transactions, "transactions cannot be null");
+        List<TransactionEntity> entities = transactions.stream()
+                .map(TransactionEntity::of)
+                .toList();
+        List<TransactionEntity> savedEntities = this.jpaTransactionRepository.saveAll(entities);
+        List<Transaction> saved = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            saved.add(withFeeConfiguration(savedEntities.get(i).toTransaction(), transactions.get(i)));
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+        return saved;
     }
 
     @Override
@@ -38,17 +80,181 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> findByScheduledDate(LocalDate date) {
+    public KeysetPage<TransactionView> findViews(Long afterId, int limit) {
+        return toViewPage(this.jpaTransactionRepository.findViews(seekFrom(afterId), Limit.of(limit + 1)), limit);
+    }
+
+    @Override
+    public KeysetPage<TransactionView> findViewsByScheduledDate(LocalDate date, Long afterId, int limit) {
         Objects.requireNonNull(date, "date cannot be null");
-        return this.jpaTransactionRepository.findByScheduledDate(date).stream()
-                .map(TransactionEntity::toTransaction).toList();
+        return toViewPage(this.jpaTransactionRepository.findViewsByScheduledDate(
+                date, seekFrom(afterId), Limit.of(limit + 1)), limit);
     }
 
     @Override
-    public List<Transaction> findBySourceAccount(String accountNumber) {
+    public KeysetPage<TransactionView> findViewsBySourceAccount(String accountNumber, Long afterId, int limit) {
         Objects.requireNonNull(accountNumber, "accountNumber cannot be null");
-        return this.jpaTransactionRepository.findBySourceAccount(accountNumber).stream()
-                .map(TransactionEntity::toTransaction).toList();
+        return toViewPage(this.jpaTransactionRepository.findViewsBySourceAccount(
+                accountNumber, seekFrom(afterId), Limit.of(limit + 1)), limit);
+    }
+
+    /**
+     * Scrolls the range and clears the persistence context every
+     * {@link JpaTransactionRepository#EXPORT_FETCH_SIZE} rows, so neither the
+     * result set nor the first-level cache grows with the size of the export.
+     * The same goes for {@link #forEachScheduledOnBySourceAccount}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachScheduledBetween(LocalDate from, LocalDate to, Consumer<Transaction> consumer) {
+        Objects.requireNonNull(from, "from cannot be null");
+        Objects.requireNonNull(to, "to cannot be null");
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+
+        return forEach(this.jpaTransactionRepository.streamByScheduledDateBetween(from, to), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachScheduledOnBySourceAccount(LocalDate date, Collection<TransactionStatus> statuses,
+                                                  Consumer<Transaction> consumer) {
+        Objects.requireNonNull(date, "date cannot be null");
+        Objects.requireNonNull(statuses, "statuses cannot be null");
+        Objects.requireNonNull(consumer, "consumer cannot be null");
+        if (statuses.isEmpty()) {
+            return 0;
+        }
+        return forEach(this.jpaTransactionRepository.streamByScheduledDateAndStatusInOrderBySourceAccount(
+                date, statuses), consumer);
+    }
+
+    private long forEach(Stream<TransactionEntity> stream, Consumer<Transaction> consumer) {
+        long count = 0;
+        try (Stream<TransactionEntity> rows = stream) {
+            Iterator<TransactionEntity> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next().toTransaction());
+                if (++count % JpaTransactionRepository.EXPORT_FETCH_SIZE == 0) {
+                    this.entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Locks the batch with {@code SKIP LOCKED} and flips it to in progress in
+     * the same transaction; once that commits the rows no longer match the
+     * pending query, so later claims move on to the next ones.
+     */
+    @Override
+    @Transactional
+    public List<Transaction> claimDue(LocalDate date, int partitionId, int limit) {
+        Objects.requireNonNull(date, "date cannot be null");
+        List<TransactionEntity> claimed = this.jpaTransactionRepository
+                .findByStatusAndScheduledDateAndPartitionIdAndScheduledTimeIsNullOrderByIdAsc(
+                        TransactionStatus.SCHEDULED, date, partitionId, Limit.of(limit));
+        return markInProgress(claimed);
+    }
+
+    @Override
+    @Transactional
+    public List<Transaction> claimPending(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "ids cannot be null");
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return markInProgress(this.jpaTransactionRepository.findByStatusAndIdInOrderByIdAsc(
+                TransactionStatus.SCHEDULED, ids));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transaction> findPendingWithTimeSlotUntil(LocalDate date) {
+        Objects.requireNonNull(date, "date cannot be null");
+        return this.jpaTransactionRepository
+                .findByStatusAndScheduledDateLessThanEqualAndScheduledTimeIsNotNull(TransactionStatus.SCHEDULED, date)
+                .stream()
+                .map(TransactionEntity::toTransaction)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int releaseClaimed(LocalDate date, int partitionId, LocalDateTime claimedBefore) {
+        Objects.requireNonNull(date, "date cannot be null");
+        Objects.requireNonNull(claimedBefore, "claimedBefore cannot be null");
+        return this.jpaTransactionRepository.updateStatusUnchangedSince(date, partitionId, claimedBefore,
+                TransactionStatus.IN_PROGRESS, TransactionStatus.SCHEDULED, schedulingClock.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasClaimed(LocalDate date, int partitionId) {
+        Objects.requireNonNull(date, "date cannot be null");
+        return this.jpaTransactionRepository.existsByStatusAndScheduledDateAndPartitionIdAndScheduledTimeIsNull(
+                TransactionStatus.IN_PROGRESS, date, partitionId);
+    }
+
+    /**
+     * Loads the rows and updates them through dirty checking, which Hibernate
+     * sends as one JDBC batch; each row has its own due time, so a single
+     * bulk UPDATE cannot express it.
+     */
+    @Override
+    @Transactional
+    public int scheduleRetries(Map<Long, LocalDateTime> nextAttemptAt) {
+        Objects.requireNonNull(nextAttemptAt, "nextAttemptAt cannot be null");
+        if (nextAttemptAt.isEmpty()) {
+            return 0;
+        }
+        int scheduled = 0;
+        LocalDateTime updatedAt = schedulingClock.now();
+        for (TransactionEntity entity : this.jpaTransactionRepository.findAllById(nextAttemptAt.keySet())) {
+            if (entity.getStatus() == TransactionStatus.IN_PROGRESS) {
+                entity.setStatus(TransactionStatus.RETRYING);
+                entity.setAttempts(entity.getAttempts() + 1);
+                entity.setNextAttemptAt(nextAttemptAt.get(entity.getId()));
+                entity.setUpdatedAt(updatedAt);
+                scheduled++;
+            }
+        }
+        return scheduled;
+    }
+
+    @Override
+    @Transactional
+    public List<Transaction> claimRetries(Collection<Long> ids, LocalDateTime now) {
+        Objects.requireNonNull(ids, "ids cannot be null");
+        Objects.requireNonNull(now, "now cannot be null");
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return markInProgress(this.jpaTransactionRepository.findByStatusAndIdInAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                TransactionStatus.RETRYING, ids, now));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PendingRetry> findPendingRetries(Collection<Integer> partitionIds) {
+        Objects.requireNonNull(partitionIds, "partitionIds cannot be null");
+        if (partitionIds.isEmpty()) {
+            return List.of();
+        }
+        return this.jpaTransactionRepository.findPendingRetries(TransactionStatus.RETRYING, partitionIds);
+    }
+
+    @Override
+    @Transactional
+    public int updateStatus(Collection<Long> ids, TransactionStatus from, TransactionStatus to) {
+        Objects.requireNonNull(ids, "ids cannot be null");
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalArgumentException("Transaction cannot move from " + from + " to " + to);
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return this.jpaTransactionRepository.updateStatus(ids, from, to, schedulingClock.now());
     }
 
     @Override
@@ -61,4 +267,37 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
     public boolean existsById(Long id) {
         return this.jpaTransactionRepository.existsById(id);
     }
+
+    private List<Transaction> markInProgress(List<TransactionEntity> claimed) {
+        LocalDateTime updatedAt = schedulingClock.now();
+        claimed.forEach(entity -> {
+            entity.setStatus(TransactionStatus.IN_PROGRESS);
+            entity.setUpdatedAt(updatedAt);
+        });
+        this.entityManager.flush();
+        return claimed.stream()
+                .map(TransactionEntity::toTransaction)
+                .toList();
+    }
+
+    private static Transaction withFeeConfiguration(Transaction saved, Transaction priced) {
+        if (priced.getFeeConfiguration() == null) {
+            return saved;
+        }
+        return saved.toBuilder().feeConfiguration(priced.getFeeConfiguration()).build();
+    }
+
+    private static Long seekFrom(Long afterId) {
+        return afterId == null ? 0L : afterId;
+    }
+
+    /**
+     * One extra row is fetched to detect a following page without a count query.
+     */
+    private static KeysetPage<TransactionView> toViewPage(List<TransactionView> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<TransactionView> content = hasNext ? rows.subList(0, limit) : rows;
+        Long nextAfterId = hasNext ? content.get(limit - 1).id() : null;
+        return new KeysetPage<>(content, nextAfterId);
+    }
 }
@@ -0,0 +1,401 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.settlement;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementFile;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementFileWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes ISO 20022 pain.001.001.03 customer credit transfer initiations with
+ * a StAX writer, straight through a buffer into a {@link FileChannel}.
+ * <p>
+ * Transactions are grouped into one payment information block per source
+ * account. The group header and every block start with their transaction
+ * count and control sum, which are only known once the block is written.
+ * They are written as fixed-width, zero-padded placeholders (still valid
+ * {@code Max15NumericText} and decimal values), their byte offsets are
+ * recorded, and the real values are written over them with positional
+ * channel writes when the file is complete. Memory therefore does not grow
+ * with the number of transactions, only by 32 bytes per block.
+ * <p>
+ * A new file is started when the current one reaches the configured number
+ * of transactions or bytes. Files are written under a temporary name and
+ * moved into place once complete.
+ */
+@Component
+@Slf4j
+public class Pain001FileWriter implements SettlementFileWriter {
+
+    static final String NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pain.001.001.03";
+    static final String NOT_PROVIDED = "NOTPROVIDED";
+
+    private static final String FILE_PREFIX = "pain001-";
+    private static final String FILE_SUFFIX = ".xml";
+    private static final String PART_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_BLOCKS = 256;
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter CREATION_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+    private final Path directory;
+    private final long maxTransactionsPerFile;
+    private final long maxFileBytes;
+    private final String initiatingParty;
+
+    public Pain001FileWriter(@Value("${settlement-file.directory:settlement-files}") Path directory,
+                             @Value("${settlement-file.max-transactions:100000}") long maxTransactionsPerFile,
+                             @Value("${settlement-file.max-bytes:67108864}") long maxFileBytes,
+                             @Value("${settlement-file.initiating-party:Transaction Scheduler}") String initiatingParty) {
+        if (maxTransactionsPerFile < 1 || maxFileBytes < 1) {
+            throw new IllegalArgumentException("settlement-file limits must be positive");
+        }
+        this.directory = directory;
+        this.maxTransactionsPerFile = maxTransactionsPerFile;
+        this.maxFileBytes = maxFileBytes;
+        this.initiatingParty = initiatingParty;
+    }
+
+    @Override
+    public Session open(LocalDate executionDate) {
+        Objects.requireNonNull(executionDate, "executionDate cannot be null");
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> previous = Files.newDirectoryStream(directory, filePrefix(executionDate) + "*")) {
+                for (Path file : previous) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare settlement directory " + directory, e);
+        }
+        return new Pain001Session(executionDate);
+    }
+
+    private static String filePrefix(LocalDate executionDate) {
+        return FILE_PREFIX + FILE_DATE.format(executionDate) + "-";
+    }
+
+    /**
+     * Fixed width of a count placeholder: the 15 digits of Max15NumericText.
+     */
+    static String count(long count) {
+        return String.format("%015d", count);
+    }
+
+    /**
+     * Fixed width of an amount placeholder: 15 integer digits and 2 decimals.
+     */
+    static String amount(long cents) {
+        return String.format("%015d.%02d", cents / 100, cents % 100);
+    }
+
+    private final class Pain001Session implements Session {
+
+        private final LocalDate executionDate;
+        private final String prefix;
+        private final List<SettlementFile> written = new ArrayList<>();
+        private int sequence;
+
+        private Path partFile;
+        private FileChannel channel;
+        private CountingOutputStream out;
+        private XMLStreamWriter xml;
+        private long fileTransactions;
+        private long fileCents;
+        private long fileCountAt;
+        private long fileSumAt;
+
+        private String blockAccount;
+        private long[] blockCountAt = new long[INITIAL_BLOCKS];
+        private long[] blockSumAt = new long[INITIAL_BLOCKS];
+        private long[] blockTransactions = new long[INITIAL_BLOCKS];
+        private long[] blockCents = new long[INITIAL_BLOCKS];
+        private int blocks;
+
+        private Pain001Session(LocalDate executionDate) {
+            this.executionDate = executionDate;
+            this.prefix = filePrefix(executionDate);
+        }
+
+        @Override
+        public void write(Transaction transaction) {
+            Objects.requireNonNull(transaction, "transaction cannot be null");
+            try {
+                if (xml == null) {
+                    openFile();
+                } else if (fileTransactions >= maxTransactionsPerFile || out.count() >= maxFileBytes) {
+                    closeFile();
+                    openFile();
+                }
+                String source = transaction.getSourceAccount().getValue();
+                if (!source.equals(blockAccount)) {
+                    if (blockAccount != null) {
+                        xml.writeEndElement();
+                    }
+                    startBlock(source);
+                }
+                writeTransfer(transaction);
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException("Cannot write settlement file " + partFile, e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write settlement file " + partFile, e);
+            }
+        }
+
+        @Override
+        public List<SettlementFile> finish() {
+            try {
+                if (xml != null) {
+                    closeFile();
+                }
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException("Cannot write settlement file " + partFile, e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write settlement file " + partFile, e);
+            }
+            return List.copyOf(written);
+        }
+
+        /**
+         * Only has work to do when the session was not finished, in which
+         * case the file in progress is dropped along with the complete ones.
+         */
+        @Override
+        public void close() {
+            if (xml == null) {
+                return;
+            }
+            try {
+                channel.close();
+                Files.deleteIfExists(partFile);
+                for (SettlementFile file : written) {
+                    Files.deleteIfExists(directory.resolve(file.name()));
+                }
+            } catch (IOException e) {
+                log.warn("Cannot remove incomplete settlement files for {}: {}", executionDate, e.getMessage());
+            } finally {
+                xml = null;
+            }
+        }
+
+        private void openFile() throws IOException, XMLStreamException {
+            sequence++;
+            String messageId = "TS" + FILE_DATE.format(executionDate) + String.format("%06d", sequence);
+            partFile = directory.resolve(prefix + String.format("%03d", sequence) + FILE_SUFFIX + PART_SUFFIX);
+            channel = FileChannel.open(partFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            out = new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            xml = xmlOutputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            fileTransactions = 0;
+            fileCents = 0;
+            blocks = 0;
+            blockAccount = null;
+
+            xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            xml.writeStartElement("Document");
+            xml.writeDefaultNamespace(NAMESPACE);
+            xml.writeStartElement("CstmrCdtTrfInitn");
+            xml.writeStartElement("GrpHdr");
+            element("MsgId", messageId);
+            element("CreDtTm", CREATION_TIME.format(LocalDateTime.now()));
+            fileCountAt = placeholder("NbOfTxs", count(0));
+            fileSumAt = placeholder("CtrlSum", amount(0));
+            xml.writeStartElement("InitgPty");
+            element("Nm", initiatingParty);
+            xml.writeEndElement();
+            xml.writeEndElement();
+        }
+
+        private void startBlock(String sourceAccount) throws XMLStreamException {
+            if (blocks == blockCountAt.length) {
+                int capacity = blocks * 2;
+                blockCountAt = Arrays.copyOf(blockCountAt, capacity);
+                blockSumAt = Arrays.copyOf(blockSumAt, capacity);
+                blockTransactions = Arrays.copyOf(blockTransactions, capacity);
+                blockCents = Arrays.copyOf(blockCents, capacity);
+            }
+            blockAccount = sourceAccount;
+            xml.writeStartElement("PmtInf");
+            element("PmtInfId", String.format("%03d-%d", sequence, blocks + 1));
+            element("PmtMtd", "TRF");
+            blockCountAt[blocks] = placeholder("NbOfTxs", count(0));
+            blockSumAt[blocks] = placeholder("CtrlSum", amount(0));
+            blockTransactions[blocks] = 0;
+            blockCents[blocks] = 0;
+            xml.writeStartElement("PmtTpInf");
+            xml.writeStartElement("SvcLvl");
+            element("Cd", "SEPA");
+            xml.writeEndElement();
+            xml.writeEndElement();
+            element("ReqdExctnDt", executionDate.toString());
+            party("Dbtr");
+            account("DbtrAcct", sourceAccount);
+            xml.writeStartElement("DbtrAgt");
+            xml.writeStartElement("FinInstnId");
+            xml.writeStartElement("Othr");
+            element("Id", NOT_PROVIDED);
+            xml.writeEndElement();
+            xml.writeEndElement();
+            xml.writeEndElement();
+            element("ChrgBr", "SLEV");
+            blocks++;
+        }
+
+        private void writeTransfer(Transaction transaction) throws XMLStreamException {
+            long cents = transaction.getTransferAmount().getCents();
+            xml.writeStartElement("CdtTrfTxInf");
+            xml.writeStartElement("PmtId");
+            element("EndToEndId", String.valueOf(transaction.getId()));
+            xml.writeEndElement();
+            xml.writeStartElement("Amt");
+            xml.writeStartElement("InstdAmt");
+            xml.writeAttribute("Ccy", "EUR");
+            xml.writeCharacters(transaction.getTransferAmount().getAmount().toPlainString());
+            xml.writeEndElement();
+            xml.writeEndElement();
+            party("Cdtr");
+            account("CdtrAcct", transaction.getDestinationAccount().getValue());
+            xml.writeEndElement();
+
+            blockTransactions[blocks - 1]++;
+            blockCents[blocks - 1] = Math.addExact(blockCents[blocks - 1], cents);
+            fileTransactions++;
+            fileCents = Math.addExact(fileCents, cents);
+        }
+
+        private void closeFile() throws XMLStreamException, IOException {
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+            out.flushFully();
+
+            patch(fileCountAt, count(fileTransactions));
+            patch(fileSumAt, amount(fileCents));
+            for (int block = 0; block < blocks; block++) {
+                patch(blockCountAt[block], count(blockTransactions[block]));
+                patch(blockSumAt[block], amount(blockCents[block]));
+            }
+            long size = channel.size();
+            channel.force(false);
+            channel.close();
+
+            String name = partFile.getFileName().toString();
+            name = name.substring(0, name.length() - PART_SUFFIX.length());
+            Files.move(partFile, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            written.add(new SettlementFile(name, fileTransactions, Money.ofCents(fileCents), size));
+            log.debug("Wrote settlement file {}: {} transactions in {} payment blocks, {} bytes",
+                    name, fileTransactions, blocks, size);
+            xml = null;
+        }
+
+        /**
+         * Write a placeholder element and return the offset of its text,
+         * which is the last thing written once the writer is flushed.
+         */
+        private long placeholder(String name, String value) throws XMLStreamException {
+            xml.writeStartElement(name);
+            xml.writeCharacters(value);
+            xml.flush();
+            long at = out.count() - value.length();
+            xml.writeEndElement();
+            return at;
+        }
+
+        private void patch(long position, String value) throws IOException {
+            ByteBuffer bytes = ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes, position + bytes.position());
+            }
+        }
+
+        private void party(String name) throws XMLStreamException {
+            xml.writeStartElement(name);
+            element("Nm", NOT_PROVIDED);
+            xml.writeEndElement();
+        }
+
+        private void account(String name, String iban) throws XMLStreamException {
+            xml.writeStartElement(name);
+            xml.writeStartElement("Id");
+            element("IBAN", iban);
+            xml.writeEndElement();
+            xml.writeEndElement();
+        }
+
+        private void element(String name, String text) throws XMLStreamException {
+            xml.writeStartElement(name);
+            xml.writeCharacters(text);
+            xml.writeEndElement();
+        }
+    }
+
+    /**
+     * Counts the bytes passing through. {@link #flush()} only counts, so the
+     * StAX writer can be flushed to read an exact offset without pushing the
+     * buffer to the file; {@link #flushFully()} does that.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+            // see class comment
+        }
+
+        void flushFully() throws IOException {
+            delegate.flush();
+        }
+    }
+}
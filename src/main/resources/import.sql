@@ -4,3 +4,5 @@ INSERT INTO fee_configurations (fee_type, min_amount, max_amount, min_days, max_
 INSERT INTO fee_configurations (fee_type, min_amount, max_amount, min_days, max_days, percentage_fee, fixed_fee, priority, active, description, created_at, updated_at) VALUES ('TAXA_C_21_30', 2000.01, NULL, 21, 30, 0.0690, NULL, 4, true, 'Transfer scheduled 21-30 days over 2000€', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 INSERT INTO fee_configurations (fee_type, min_amount, max_amount, min_days, max_days, percentage_fee, fixed_fee, priority, active, description, created_at, updated_at) VALUES ('TAXA_C_31_40', 2000.01, NULL, 31, 40, 0.0470, NULL, 5, true, 'Transfer scheduled 31-40 days over 2000€', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 INSERT INTO fee_configurations (fee_type, min_amount, max_amount, min_days, max_days, percentage_fee, fixed_fee, priority, active, description, created_at, updated_at) VALUES ('TAXA_C_40_PLUS', 2000.01, NULL, 41, NULL, 0.0170, NULL, 6, true, 'Transfer scheduled over 40 days over 2000€', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO fee_configuration_versions (id, version, updated_at) VALUES (1, 1, CURRENT_TIMESTAMP);
@@ -0,0 +1,126 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.application.usecase.AccountLaneDispatcher.LaneStats;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AccountLaneDispatcher Tests")
+class AccountLaneDispatcherTest {
+
+    private static final AccountNumber FRANCE = new AccountNumber("FR76 3000 6000 0112 3456 7890 189");
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run tasks of one account in submission order, beyond one drain batch")
+    void shouldPreserveOrderPerAccount() {
+        // Given
+        AccountLaneDispatcher dispatcher = new AccountLaneDispatcher(executor, 4);
+        List<Integer> executed = new ArrayList<>();
+        int tasks = AccountLaneDispatcher.DRAIN_BATCH * 3;
+
+        // When
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            int sequence = i;
+            futures.add(dispatcher.submit(FRANCE, () -> {
+                // Unsynchronized on purpose: a single lane has a single writer
+                executed.add(sequence);
+                return sequence;
+            }));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        // Then
+        assertThat(executed).hasSize(tasks).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should run different lanes in parallel")
+    void shouldRunLanesInParallel() throws Exception {
+        // Given
+        AccountLaneDispatcher dispatcher = new AccountLaneDispatcher(executor, 2);
+        AccountNumber other = accountOnOtherLane(dispatcher, FRANCE);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+
+        // When
+        CompletableFuture<Boolean> first = dispatcher.submit(FRANCE, () -> meet(bothRunning));
+        CompletableFuture<Boolean> second = dispatcher.submit(other, () -> meet(bothRunning));
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report depth, completions and latency per lane, and surface task failures")
+    void shouldReportLaneStats() {
+        // Given
+        AccountLaneDispatcher dispatcher = new AccountLaneDispatcher(executor, 4);
+        int lane = dispatcher.laneOf(FRANCE);
+
+        // When
+        CompletableFuture<Integer> ok = dispatcher.submit(FRANCE, () -> 1);
+        CompletableFuture<Integer> failed = dispatcher.submit(FRANCE, () -> {
+            throw new IllegalStateException("boom");
+        });
+        ok.join();
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalStateException.class);
+
+        // Then
+        LaneStats stats = dispatcher.stats().get(lane);
+        assertThat(stats.lane()).isEqualTo(lane);
+        assertThat(stats.completed()).isEqualTo(2);
+        assertThat(stats.depth()).isZero();
+        assertThat(stats.peakDepth()).isBetween(1, 2);
+        assertThat(stats.maxLatencyNanos()).isPositive();
+        assertThat(dispatcher.stats()).hasSize(4)
+                .filteredOn(other -> other.lane() != lane)
+                .allMatch(other -> other.completed() == 0);
+    }
+
+    private static boolean meet(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static AccountNumber accountOnOtherLane(AccountLaneDispatcher dispatcher, AccountNumber account) {
+        for (String candidate : List.of("PT50 0002 0123 1234 5678 9015 4", "DE89 3704 0044 0532 0130 00",
+                "GB82 WEST 1234 5698 7654 32", "NL91 ABNA 0417 1643 00")) {
+            AccountNumber other = new AccountNumber(candidate);
+            if (dispatcher.laneOf(other) != dispatcher.laneOf(account)) {
+                return other;
+            }
+        }
+        throw new IllegalStateException("No sample account on another lane");
+    }
+}
@@ -1,11 +1,14 @@
 package com.natixis.transaction_scheduler.application.usecase;
 
 import com.natixis.transaction_scheduler.domain.exception.ResourceNotFoundException;
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
 import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
 import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
 import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,11 +17,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,6 +47,15 @@ class CreateTransactionUseCaseImplTest {
     @Mock
     private FeeConfigurationRepository feeConfigurationRepository;
 
+    @Mock
+    private ExecutionTimer executionTimer;
+
+    @Spy
+    private SchedulingCalendar schedulingCalendar = SchedulingCalendar.calendarDays();
+
+    @Spy
+    private SchedulingClock schedulingClock = CachedDayClock.SYSTEM;
+
     @InjectMocks
     private CreateTransactionUseCaseImpl createTransactionUseCase;
 
@@ -102,7 +116,8 @@ class CreateTransactionUseCaseImplTest {
                     sourceAccount,
                     destinationAccount,
                     transferAmount,
-                    scheduledDate
+                    scheduledDate,
+                    null
         ));
 
         // Then
@@ -117,6 +132,7 @@ class CreateTransactionUseCaseImplTest {
         // Verify interactions
         verify(feeConfigurationRepository).findBestMatch(any(Money.class), anyLong());
         verify(transactionRepository).save(any(Transaction.class));
+        verify(executionTimer).schedule(result);
     }
 
     @Test
@@ -132,7 +148,8 @@ class CreateTransactionUseCaseImplTest {
                         sourceAccount,
                         destinationAccount,
                         transferAmount,
-                        scheduledDate
+                        scheduledDate,
+                        null
                     )))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("No fee configuration found");
@@ -140,6 +157,32 @@ class CreateTransactionUseCaseImplTest {
         verify(transactionRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should keep the time slot and hand the transaction to the execution timer")
+    void shouldScheduleTimedTransaction() {
+        // Given
+        LocalTime scheduledTime = LocalTime.of(14, 30);
+        when(feeConfigurationRepository.findBestMatch(any(Money.class), anyLong()))
+                .thenReturn(Optional.of(feeConfiguration));
+        when(transactionRepository.save(any(Transaction.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        Transaction result = createTransactionUseCase.execute(
+                new CreateTransactionUseCase.CreateTransactionCommand(
+                        sourceAccount,
+                        destinationAccount,
+                        transferAmount,
+                        scheduledDate,
+                        scheduledTime
+                ));
+
+        // Then
+        assertThat(result.getScheduledTime()).isEqualTo(scheduledTime);
+        assertThat(result.hasTimeSlot()).isTrue();
+        verify(executionTimer).schedule(result);
+    }
+
     @Test
     @DisplayName("Should calculate correct fee for Taxa B scenario")
     void shouldCalculateCorrectFeeForTaxaB() {
@@ -158,7 +201,8 @@ class CreateTransactionUseCaseImplTest {
                         sourceAccount,
                         destinationAccount,
                         amount,
-                        scheduledDate
+                        scheduledDate,
+                        null
                 ));
 
         // Then
@@ -184,7 +228,8 @@ class CreateTransactionUseCaseImplTest {
                         sourceAccount,
                         destinationAccount,
                         transferAmount,
-                        scheduledDate
+                        scheduledDate,
+                        null
                 ));
 
         // Then
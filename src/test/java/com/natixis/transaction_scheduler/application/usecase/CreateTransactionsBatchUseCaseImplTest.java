@@ -0,0 +1,156 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase.CreateTransactionCommand;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase.BatchResult;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase.CreateTransactionsBatchCommand;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateTransactionsBatchUseCase Tests")
+class CreateTransactionsBatchUseCaseImplTest {
+
+    private static final String IBAN_PORTUGAL = "PT50000201231234567890154";
+    private static final String IBAN_GERMANY = "DE89370400440532013000";
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private FeeConfigurationRepository feeConfigurationRepository;
+
+    @Mock
+    private ExecutionTimer executionTimer;
+
+    @Spy
+    private SchedulingCalendar schedulingCalendar = SchedulingCalendar.calendarDays();
+
+    @Spy
+    private SchedulingClock schedulingClock = CachedDayClock.SYSTEM;
+
+    @InjectMocks
+    private CreateTransactionsBatchUseCaseImpl createTransactionsBatchUseCase;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private FeeRuleIndex ruleIndex;
+
+    @BeforeEach
+    void setUp() {
+        ruleIndex = FeeRuleIndex.of(List.of(
+                FeeConfiguration.create("TAXA_A", Money.zero(), new Money("1000.00"), 0, 0,
+                        new BigDecimal("0.03"), new Money("3.00"), 1, "Taxa A")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should create valid items and report invalid ones without aborting the batch")
+    void shouldReportErrorsPerItem() {
+        // Given
+        when(feeConfigurationRepository.getRuleIndex()).thenReturn(ruleIndex);
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        LocalDate today = LocalDate.now();
+
+        // When
+        BatchResult result = createTransactionsBatchUseCase.execute(new CreateTransactionsBatchCommand(List.of(
+                new CreateTransactionCommand(IBAN_PORTUGAL, IBAN_GERMANY, new BigDecimal("500"), today, null),
+                new CreateTransactionCommand("PT00000201231234567890154", IBAN_GERMANY, new BigDecimal("500"), today, null),
+                new CreateTransactionCommand(IBAN_PORTUGAL, IBAN_GERMANY, new BigDecimal("500"), today.plusDays(3), null),
+                new CreateTransactionCommand(IBAN_PORTUGAL, IBAN_PORTUGAL, new BigDecimal("500"), today, null),
+                new CreateTransactionCommand(IBAN_PORTUGAL, IBAN_GERMANY, new BigDecimal("10.005"), today, null),
+                new CreateTransactionCommand(IBAN_GERMANY, IBAN_PORTUGAL, new BigDecimal("800"), today, null)
+        )));
+
+        // Then
+        assertThat(result.results()).hasSize(6);
+        assertThat(result.createdCount()).isEqualTo(2);
+        assertThat(result.rejectedCount()).isEqualTo(4);
+
+        assertThat(result.results().get(0).isCreated()).isTrue();
+        assertThat(result.results().get(0).transaction().getTransferFee().getAmount()).isEqualByComparingTo("18.00");
+        assertThat(result.results().get(1).error()).isEqualTo("Invalid source account format: Invalid IBAN check digits");
+        assertThat(result.results().get(2).error()).contains("No fee configuration found");
+        assertThat(result.results().get(3).error()).isEqualTo("Source and destination accounts cannot be the same");
+        assertThat(result.results().get(4).error()).isEqualTo("Invalid amount format");
+        assertThat(result.results().get(5).index()).isEqualTo(5);
+        assertThat(result.results().get(5).transaction().getId()).isNotNull();
+
+        verify(feeConfigurationRepository, times(1)).getRuleIndex();
+        verify(transactionRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should save valid items in chunks")
+    void shouldSaveInChunks() {
+        // Given
+        when(feeConfigurationRepository.getRuleIndex()).thenReturn(ruleIndex);
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+        int itemCount = CreateTransactionsBatchUseCaseImpl.CHUNK_SIZE * 2 + 1;
+        List<CreateTransactionCommand> items = Collections.nCopies(itemCount,
+                new CreateTransactionCommand(IBAN_PORTUGAL, IBAN_GERMANY, new BigDecimal("100"), LocalDate.now(), null));
+
+        // When
+        BatchResult result = createTransactionsBatchUseCase.execute(new CreateTransactionsBatchCommand(items));
+
+        // Then
+        assertThat(result.createdCount()).isEqualTo(itemCount);
+        verify(transactionRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void shouldRejectEmptyBatch() {
+        // When & Then
+        assertThatThrownBy(() -> createTransactionsBatchUseCase.execute(new CreateTransactionsBatchCommand(List.of())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At least one item is required");
+
+        verifyNoInteractions(transactionRepository, feeConfigurationRepository);
+    }
+
+    private List<Transaction> assignIds(List<Transaction> transactions) {
+        List<Transaction> saved = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            saved.add(Transaction.builder()
+                    .id(sequence.incrementAndGet())
+                    .sourceAccount(transaction.getSourceAccount())
+                    .destinationAccount(transaction.getDestinationAccount())
+                    .transferAmount(transaction.getTransferAmount())
+                    .transferFee(transaction.getTransferFee())
+                    .feeConfiguration(transaction.getFeeConfiguration())
+                    .scheduledDate(transaction.getScheduledDate())
+                    .build());
+        }
+        return saved;
+    }
+}
@@ -4,6 +4,7 @@ import com.natixis.transaction_scheduler.domain.exception.ResourceNotFoundExcept
 import com.natixis.transaction_scheduler.domain.model.Transaction;
 import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +32,9 @@ class DeleteTransactionUseCaseImplTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private ExecutionTimer executionTimer;
+
     @InjectMocks
     private DeleteTransactionUseCaseImpl deleteTransactionUseCase;
 
@@ -63,6 +67,7 @@ class DeleteTransactionUseCaseImplTest {
         // Then
         verify(transactionRepository).findById(1L);
         verify(transactionRepository).delete(transaction);
+        verify(executionTimer).cancel(1L);
     }
 
     @Test
@@ -79,6 +84,7 @@ class DeleteTransactionUseCaseImplTest {
 
         verify(transactionRepository).findById(999L);
         verify(transactionRepository, never()).delete(any());
+        verify(executionTimer, never()).cancel(any());
     }
 
     @Test
@@ -0,0 +1,484 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
+import com.natixis.transaction_scheduler.domain.model.DeadLetter;
+import com.natixis.transaction_scheduler.domain.model.ExecutionCheckpoint;
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+import com.natixis.transaction_scheduler.domain.model.RetryPolicy;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase.ExecutionReport;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionRunRepository;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership;
+import com.natixis.transaction_scheduler.domain.port.out.PaymentGateway;
+import com.natixis.transaction_scheduler.domain.port.out.PaymentGateway.PaymentResult;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionExecutionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExecuteDueTransactionsUseCase Tests")
+class ExecuteDueTransactionsUseCaseImplTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 3, 2);
+    private static final LocalDateTime NOW = BUSINESS_DATE.atTime(6, 0);
+    private static final CachedDayClock CLOCK = new CachedDayClock(
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    private static final int PARTITION = 7;
+    private static final List<String> SOURCE_ACCOUNTS = List.of(
+            "FR76 3000 6000 0112 3456 7890 189",
+            "DE89 3704 0044 0532 0130 00",
+            "GB82 WEST 1234 5698 7654 32",
+            "NL91 ABNA 0417 1643 00",
+            "BE68 5390 0754 7034",
+            "ES91 2100 0418 4502 0005 1332");
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionExecutionRepository transactionExecutionRepository;
+
+    @Mock
+    private ExecutionRunRepository executionRunRepository;
+
+    @Mock
+    private DeadLetterRepository deadLetterRepository;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private PartitionOwnership partitionOwnership;
+
+    private ExecutorService executor;
+    private RetryDelayQueue retryQueue;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        retryQueue = new RetryDelayQueue(ZoneOffset.UTC);
+        lenient().when(partitionOwnership.ownedPartitions()).thenReturn(Set.of(PARTITION));
+        lenient().when(executionRunRepository.start(BUSINESS_DATE)).thenReturn(run(1, Set.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should record one outcome per transaction, failing rejections and retrying gateway errors")
+    void shouldRecordOutcomes() {
+        // Given
+        Transaction accepted = transaction(1L);
+        Transaction rejected = transaction(2L);
+        Transaction failing = transaction(3L);
+        when(transactionRepository.claimDue(BUSINESS_DATE, PARTITION, 10))
+                .thenReturn(List.of(accepted, rejected, failing)).thenReturn(List.of());
+        when(transactionExecutionRepository.findSucceededTransactionIds(anyCollection())).thenReturn(Set.of());
+        when(paymentGateway.execute(accepted)).thenReturn(PaymentResult.accepted("REF-1"));
+        when(paymentGateway.execute(rejected)).thenReturn(PaymentResult.rejected("Insufficient funds"));
+        when(paymentGateway.execute(failing)).thenThrow(new IllegalStateException("timeout"));
+
+        // When
+        ExecutionReport report = useCase(4, 10).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.dispatched()).isEqualTo(3);
+        assertThat(report.succeeded()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.retrying()).isEqualTo(1);
+        assertThat(report.skipped()).isZero();
+
+        List<TransactionExecution> saved = capturedExecutions(1);
+        assertThat(saved).extracting(TransactionExecution::getTransactionId).containsExactly(1L, 2L, 3L);
+        assertThat(saved.get(0).getGatewayReference()).isEqualTo("REF-1");
+        assertThat(saved.get(1).getFailureReason()).isEqualTo("Insufficient funds");
+        assertThat(saved.get(2).getFailureReason()).isEqualTo("Gateway error: timeout");
+        assertThat(saved).extracting(TransactionExecution::getOutcome).containsExactly(
+                TransactionExecution.Outcome.SUCCEEDED, TransactionExecution.Outcome.FAILED,
+                TransactionExecution.Outcome.ERROR);
+        assertThat(saved).allMatch(execution -> execution.getBusinessDate().equals(BUSINESS_DATE));
+        verify(transactionRepository).updateStatus(List.of(1L), TransactionStatus.IN_PROGRESS, TransactionStatus.EXECUTED);
+        verify(transactionRepository).updateStatus(List.of(2L), TransactionStatus.IN_PROGRESS, TransactionStatus.FAILED);
+        ArgumentCaptor<Map<Long, LocalDateTime>> retries = mapCaptor();
+        verify(transactionRepository).scheduleRetries(retries.capture());
+        assertThat(retries.getValue()).containsOnlyKeys(3L);
+        assertThat(retryQueue.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter a transaction whose last attempt ends in a gateway error")
+    void shouldDeadLetterAfterMaxAttempts() {
+        // Given
+        Transaction retried = transaction(1L, 1);
+        Transaction exhausted = transaction(2L, 2);
+        when(transactionRepository.claimDue(BUSINESS_DATE, PARTITION, 10))
+                .thenReturn(List.of(retried, exhausted)).thenReturn(List.of());
+        when(transactionExecutionRepository.findSucceededTransactionIds(anyCollection())).thenReturn(Set.of());
+        when(paymentGateway.execute(any())).thenThrow(new IllegalStateException("unavailable"));
+
+        // When
+        ExecutionReport report = useCase(4, 10).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.retrying()).isEqualTo(1);
+
+        ArgumentCaptor<Map<Long, LocalDateTime>> retries = mapCaptor();
+        verify(transactionRepository).scheduleRetries(retries.capture());
+        // Second attempt: 2 s backoff, half of it jittered with a fixed 0.5 draw
+        assertThat(retries.getValue()).containsOnlyKeys(1L);
+        assertThat(retries.getValue().get(1L)).isEqualTo(NOW.plusNanos(1_500_000_000));
+
+        ArgumentCaptor<List<DeadLetter>> deadLetters = listCaptor();
+        verify(deadLetterRepository).deadLetter(deadLetters.capture());
+        assertThat(deadLetters.getValue()).singleElement().satisfies(deadLetter -> {
+            assertThat(deadLetter.getTransactionId()).isEqualTo(2L);
+            assertThat(deadLetter.getAttempts()).isEqualTo(3);
+            assertThat(deadLetter.getBusinessDate()).isEqualTo(BUSINESS_DATE);
+            assertThat(deadLetter.getLastFailureReason()).isEqualTo("Gateway error: unavailable");
+        });
+        verify(transactionRepository, never()).updateStatus(List.of(2L), TransactionStatus.IN_PROGRESS,
+                TransactionStatus.FAILED);
+        assertThat(retryQueue.pollDue(NOW.plusMinutes(1), 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should only execute retries that are still waiting and due")
+    void shouldExecuteDueRetries() {
+        // Given
+        when(transactionRepository.claimRetries(List.of(1L, 2L), NOW)).thenReturn(List.of(transaction(2L)));
+        when(transactionExecutionRepository.findSucceededTransactionIds(List.of(2L))).thenReturn(Set.of());
+        when(paymentGateway.execute(any())).thenReturn(PaymentResult.accepted("REF"));
+
+        // When
+        ExecutionReport report = useCase(2, 10).retry(BUSINESS_DATE.plusDays(1), List.of(1L, 2L));
+
+        // Then
+        assertThat(report.succeeded()).isEqualTo(1);
+        assertThat(capturedExecutions(1)).singleElement()
+                .satisfies(execution -> assertThat(execution.getBusinessDate()).isEqualTo(BUSINESS_DATE));
+        verify(transactionRepository).updateStatus(List.of(2L), TransactionStatus.IN_PROGRESS, TransactionStatus.EXECUTED);
+        verify(transactionRepository, never()).claimPending(any());
+    }
+
+    @Test
+    @DisplayName("Should claim until nothing is left and not re-send transactions that already succeeded")
+    void shouldClaimBatchesAndSkipExecuted() {
+        // Given
+        when(transactionRepository.claimDue(BUSINESS_DATE, PARTITION, 2))
+                .thenReturn(List.of(transaction(1L), transaction(2L)))
+                .thenReturn(List.of(transaction(3L)))
+                .thenReturn(List.of());
+        when(transactionExecutionRepository.findSucceededTransactionIds(List.of(1L, 2L))).thenReturn(Set.of(1L));
+        when(transactionExecutionRepository.findSucceededTransactionIds(List.of(3L))).thenReturn(Set.of());
+        when(paymentGateway.execute(any())).thenReturn(PaymentResult.accepted("REF"));
+
+        // When
+        ExecutionReport report = useCase(2, 2).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.dispatched()).isEqualTo(2);
+        assertThat(report.succeeded()).isEqualTo(2);
+        assertThat(report.skipped()).isEqualTo(1);
+        verify(paymentGateway, times(2)).execute(any());
+        assertThat(capturedExecutions(2))
+                .extracting(TransactionExecution::getTransactionId)
+                .containsExactly(2L, 3L);
+        verify(transactionRepository).updateStatus(List.of(1L, 2L), TransactionStatus.IN_PROGRESS, TransactionStatus.EXECUTED);
+        verify(transactionRepository).updateStatus(List.of(3L), TransactionStatus.IN_PROGRESS, TransactionStatus.EXECUTED);
+    }
+
+    @Test
+    @DisplayName("Should never have more gateway calls in flight than the lane count")
+    void shouldBoundConcurrency() {
+        // Given
+        List<Transaction> due = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            due.add(transaction(id, SOURCE_ACCOUNTS.get((int) id % SOURCE_ACCOUNTS.size())));
+        }
+        when(transactionRepository.claimDue(BUSINESS_DATE, PARTITION, 100)).thenReturn(due).thenReturn(List.of());
+        when(transactionExecutionRepository.findSucceededTransactionIds(anyCollection())).thenReturn(Set.of());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        when(paymentGateway.execute(any())).thenAnswer(invocation -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(2);
+            inFlight.decrementAndGet();
+            return PaymentResult.accepted("REF");
+        });
+
+        // When
+        ExecutionReport report = useCase(2, 100).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.succeeded()).isEqualTo(40);
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should run transfers of one account in order and never overlapping")
+    void shouldKeepPerAccountOrder() {
+        // Given
+        List<Transaction> due = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) {
+            due.add(transaction(id, SOURCE_ACCOUNTS.get((int) id % 3)));
+        }
+        when(transactionRepository.claimDue(BUSINESS_DATE, PARTITION, 100)).thenReturn(due).thenReturn(List.of());
+        when(transactionExecutionRepository.findSucceededTransactionIds(anyCollection())).thenReturn(Set.of());
+        Map<String, List<Long>> order = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> inFlightPerAccount = new ConcurrentHashMap<>();
+        AtomicInteger overlaps = new AtomicInteger();
+        when(paymentGateway.execute(any())).thenAnswer(invocation -> {
+            Transaction transaction = invocation.getArgument(0);
+            String account = transaction.getSourceAccount().getValue();
+            AtomicInteger inFlight = inFlightPerAccount.computeIfAbsent(account, key -> new AtomicInteger());
+            if (inFlight.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            order.computeIfAbsent(account, key -> new CopyOnWriteArrayList<>()).add(transaction.getId());
+            Thread.sleep(1);
+            inFlight.decrementAndGet();
+            return PaymentResult.accepted("REF");
+        });
+
+        // When
+        ExecutionReport report = useCase(8, 100).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.succeeded()).isEqualTo(60);
+        assertThat(overlaps.get()).isZero();
+        assertThat(order).hasSize(3);
+        order.values().forEach(ids -> assertThat(ids).isSorted().hasSize(20));
+    }
+
+    @Test
+    @DisplayName("Should only claim from owned partitions and fill a batch across them")
+    void shouldClaimFromOwnedPartitionsOnly() {
+        // Given
+        when(partitionOwnership.ownedPartitions()).thenReturn(Set.of(1, 2));
+        when(transactionRepository.claimDue(BUSINESS_DATE, 1, 3))
+                .thenReturn(List.of(transaction(10L))).thenReturn(List.of());
+        when(transactionRepository.claimDue(BUSINESS_DATE, 2, 2))
+                .thenReturn(List.of(transaction(20L), transaction(21L)));
+        when(transactionRepository.claimDue(BUSINESS_DATE, 2, 3))
+                .thenReturn(List.of());
+        when(transactionExecutionRepository.findSucceededTransactionIds(anyCollection())).thenReturn(Set.of());
+        when(paymentGateway.execute(any())).thenReturn(PaymentResult.accepted("REF"));
+
+        // When
+        ExecutionReport report = useCase(2, 3).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.dispatched()).isEqualTo(3);
+        assertThat(capturedExecutions(1))
+                .extracting(TransactionExecution::getTransactionId)
+                .containsExactly(10L, 20L, 21L);
+        verify(transactionRepository, never()).claimDue(eq(BUSINESS_DATE), eq(PARTITION), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should release stale claims of unfinished partitions on resume and checkpoint each batch")
+    void shouldResumeFromCheckpoints() {
+        // Given - one partition completed before the interruption, the other did not
+        Transaction alreadyExecuted = transaction(20L);
+        Transaction pending = transaction(21L);
+        int open = pending.getPartitionId();
+        int completed = transaction(30L, SOURCE_ACCOUNTS.get(1)).getPartitionId();
+        when(partitionOwnership.ownedPartitions()).thenReturn(Set.of(open, completed));
+        when(executionRunRepository.start(BUSINESS_DATE)).thenReturn(run(2, Set.of(completed)));
+        when(transactionRepository.releaseClaimed(BUSINESS_DATE, open, NOW.minusMinutes(1))).thenReturn(2);
+        when(transactionRepository.claimDue(BUSINESS_DATE, completed, 8)).thenReturn(List.of());
+        when(transactionRepository.claimDue(BUSINESS_DATE, open, 10))
+                .thenReturn(List.of(alreadyExecuted, pending)).thenReturn(List.of());
+        when(transactionExecutionRepository.findSucceededTransactionIds(List.of(20L, 21L))).thenReturn(Set.of(20L));
+        when(paymentGateway.execute(any())).thenReturn(PaymentResult.accepted("REF"));
+        when(executionRunRepository.completeIfDrained(5L)).thenReturn(true);
+
+        // When
+        ExecutionReport report = useCase(2, 10).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.dispatched()).isEqualTo(1);
+        assertThat(report.skipped()).isEqualTo(1);
+        verify(paymentGateway).execute(pending);
+        verify(transactionRepository, never()).releaseClaimed(eq(BUSINESS_DATE), eq(completed), any());
+        List<ExecutionCheckpoint> written = capturedCheckpoints(2);
+        assertThat(written.get(0).getPartitionId()).isEqualTo(open);
+        assertThat(written.get(0).getLastTransactionId()).isEqualTo(21L);
+        assertThat(written.get(0).getSucceeded()).isEqualTo(1);
+        assertThat(written.get(0).getSkipped()).isEqualTo(1);
+        assertThat(written.get(0).isCompleted()).isFalse();
+        assertThat(written.get(1).getProcessed()).isEqualTo(2);
+        assertThat(written.get(1).isCompleted()).isTrue();
+        verify(executionRunRepository).completeIfDrained(5L);
+    }
+
+    @Test
+    @DisplayName("Should only resume a run that was started and not completed")
+    void shouldOnlyResumeUnfinishedRun() {
+        // Given
+        when(executionRunRepository.findByBusinessDate(BUSINESS_DATE))
+                .thenReturn(Optional.of(run(1, Set.of()))).thenReturn(Optional.empty());
+        when(transactionRepository.claimDue(BUSINESS_DATE, PARTITION, 10)).thenReturn(List.of());
+
+        // When & Then
+        assertThat(useCase(2, 10).resume(BUSINESS_DATE)).isPresent();
+        assertThat(useCase(2, 10).resume(BUSINESS_DATE)).isEmpty();
+        verify(executionRunRepository, times(1)).start(BUSINESS_DATE);
+    }
+
+    @Test
+    @DisplayName("Should execute the given transactions by id, a page at a time, without reading ownership")
+    void shouldExecuteGivenTransactions() {
+        // Given
+        when(transactionRepository.claimPending(List.of(1L, 2L))).thenReturn(List.of(transaction(1L)));
+        when(transactionRepository.claimPending(List.of(3L))).thenReturn(List.of(transaction(3L)));
+        when(transactionExecutionRepository.findSucceededTransactionIds(anyCollection())).thenReturn(Set.of());
+        when(paymentGateway.execute(any())).thenReturn(PaymentResult.accepted("REF"));
+
+        // When
+        ExecutionReport report = useCase(2, 2).execute(BUSINESS_DATE, List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(report.dispatched()).isEqualTo(2);
+        assertThat(capturedExecutions(2))
+                .extracting(TransactionExecution::getTransactionId)
+                .containsExactly(1L, 3L);
+        verify(transactionRepository, never()).claimDue(any(), anyInt(), anyInt());
+        verify(partitionOwnership, never()).ownedPartitions();
+    }
+
+    @Test
+    @DisplayName("Should not call the gateway when nothing is due")
+    void shouldDoNothingWhenNothingDue() {
+        // Given
+        when(transactionRepository.claimDue(BUSINESS_DATE, PARTITION, 10)).thenReturn(List.of());
+
+        // When
+        ExecutionReport report = useCase(4, 10).execute(BUSINESS_DATE);
+
+        // Then
+        assertThat(report.dispatched()).isZero();
+        verify(paymentGateway, never()).execute(any());
+        verify(transactionExecutionRepository, never()).saveAll(any());
+    }
+
+    private ExecuteDueTransactionsUseCaseImpl useCase(int lanes, int pageSize) {
+        ExecutionRetries executionRetries = new ExecutionRetries(transactionRepository, deadLetterRepository,
+                retryQueue, new RetryPolicy(3, Duration.ofSeconds(1), Duration.ofMinutes(1)), CLOCK, () -> 0.5);
+        return new ExecuteDueTransactionsUseCaseImpl(transactionRepository, transactionExecutionRepository,
+                executionRunRepository, executionRetries, paymentGateway, partitionOwnership,
+                new AccountLaneDispatcher(executor, lanes), CLOCK, pageSize, Duration.ofMinutes(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Map<Long, LocalDateTime>> mapCaptor() {
+        return ArgumentCaptor.forClass(Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<DeadLetter>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ExecutionCheckpoint> capturedCheckpoints(int writes) {
+        ArgumentCaptor<Collection<ExecutionCheckpoint>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(executionRunRepository, times(writes)).saveCheckpoints(eq(5L), captor.capture());
+        return captor.getAllValues().stream().flatMap(Collection::stream).toList();
+    }
+
+    private static ExecutionRun run(int starts, Set<Integer> completedPartitions) {
+        return ExecutionRun.builder()
+                .id(5L)
+                .businessDate(BUSINESS_DATE)
+                .status(ExecutionRun.Status.RUNNING)
+                .starts(starts)
+                .checkpoints(IntStream.range(0, ExecutionPartitions.COUNT)
+                        .mapToObj(partition -> ExecutionCheckpoint.builder()
+                                .partitionId(partition)
+                                .completed(completedPartitions.contains(partition))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TransactionExecution> capturedExecutions(int pages) {
+        ArgumentCaptor<List<TransactionExecution>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionExecutionRepository, times(pages)).saveAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    private static Transaction transaction(Long id) {
+        return transaction(id, SOURCE_ACCOUNTS.get(0));
+    }
+
+    private static Transaction transaction(Long id, int attempts) {
+        return Transaction.builder()
+                .id(id)
+                .sourceAccount(new AccountNumber(SOURCE_ACCOUNTS.get(0)))
+                .destinationAccount(new AccountNumber("PT50 0002 0123 1234 5678 9015 4"))
+                .transferAmount(new Money("100.00"))
+                .transferFee(new Money("3.00"))
+                .scheduledDate(BUSINESS_DATE)
+                .status(TransactionStatus.IN_PROGRESS)
+                .attempts(attempts)
+                .build();
+    }
+
+    private static Transaction transaction(Long id, String sourceAccount) {
+        return Transaction.builder()
+                .id(id)
+                .sourceAccount(new AccountNumber(sourceAccount))
+                .destinationAccount(new AccountNumber("PT50 0002 0123 1234 5678 9015 4"))
+                .transferAmount(new Money("100.00"))
+                .transferFee(new Money("3.00"))
+                .scheduledDate(BUSINESS_DATE)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.in.ExportTransactionsUseCase.ExportTransactionsCommand;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportTransactionsUseCase Tests")
+class ExportTransactionsUseCaseImplTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private ExportTransactionsUseCaseImpl exportTransactionsUseCase;
+
+    @Test
+    @DisplayName("Should pass the sink straight to the repository and return the count")
+    void shouldExportRange() {
+        // Given
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(30);
+        List<Transaction> sink = new ArrayList<>();
+        Consumer<Transaction> consumer = sink::add;
+        when(transactionRepository.forEachScheduledBetween(from, to, consumer))
+                .thenReturn(42L);
+
+        // When
+        long exported = exportTransactionsUseCase.execute(new ExportTransactionsCommand(from, to), consumer);
+
+        // Then
+        assertThat(exported).isEqualTo(42L);
+        verify(transactionRepository).forEachScheduledBetween(from, to, consumer);
+    }
+
+    @Test
+    @DisplayName("Should reject a missing date or a reversed range before reading")
+    void shouldRejectInvalidRange() {
+        // Given
+        LocalDate today = LocalDate.now();
+
+        // When & Then
+        assertThatThrownBy(() -> exportTransactionsUseCase.execute(
+                new ExportTransactionsCommand(null, today), transaction -> {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Both from and to dates are required");
+        assertThatThrownBy(() -> exportTransactionsUseCase.execute(
+                new ExportTransactionsCommand(today.plusDays(1), today), transaction -> {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("From date must not be after to date");
+
+        verifyNoInteractions(transactionRepository);
+    }
+}
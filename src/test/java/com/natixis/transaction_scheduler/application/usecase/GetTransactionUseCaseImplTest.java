@@ -1,9 +1,13 @@
 package com.natixis.transaction_scheduler.application.usecase;
 
 import com.natixis.transaction_scheduler.domain.exception.ResourceNotFoundException;
+import com.natixis.transaction_scheduler.domain.model.KeysetPage;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.TransactionView;
 import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.GetTransactionUseCase.PageQuery;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,15 +17,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,7 +40,8 @@ class GetTransactionUseCaseImplTest {
     private GetTransactionUseCaseImpl getTransactionUseCase;
 
     private Transaction transaction1;
-    private Transaction transaction2;
+    private TransactionView view1;
+    private TransactionView view2;
 
     @BeforeEach
     void setUp() {
@@ -49,15 +55,13 @@ class GetTransactionUseCaseImplTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        transaction2 = Transaction.builder()
-                .id(2L)
-                .sourceAccount(new AccountNumber("FR76 3000 6000 0112 3456 7890 189"))
-                .destinationAccount(new AccountNumber("DE89 3704 0044 0532 0130 00"))
-                .transferAmount(new Money("1500.00"))
-                .transferFee(new Money("135.00"))
-                .scheduledDate(LocalDate.now().plusDays(5))
-                .createdAt(LocalDateTime.now())
-                .build();
+        view1 = new TransactionView(1L, "FR7630006000011234567890189", "PT50000201231234567890154",
+                new BigDecimal("500.00"), new BigDecimal("18.00"), LocalDate.now(), null,
+                TransactionStatus.SCHEDULED, 0, LocalDateTime.now(), null);
+
+        view2 = new TransactionView(2L, "FR7630006000011234567890189", "DE89370400440532013000",
+                new BigDecimal("1500.00"), new BigDecimal("135.00"), LocalDate.now().plusDays(5), null,
+                TransactionStatus.SCHEDULED, 0, LocalDateTime.now(), null);
     }
 
     @Test
@@ -94,37 +98,53 @@ class GetTransactionUseCaseImplTest {
     }
 
     @Test
-    @DisplayName("Should get all transactions")
+    @DisplayName("Should get first page of all transactions")
     void shouldGetAllTransactions() {
         // Given
-        List<Transaction> transactions = Arrays.asList(transaction1, transaction2);
-        when(transactionRepository.findAll())
-                .thenReturn(transactions);
+        when(transactionRepository.findViews(null, 2))
+                .thenReturn(new KeysetPage<>(List.of(view1, view2), 2L));
 
         // When
-        List<Transaction> result = getTransactionUseCase.getAll();
+        KeysetPage<TransactionView> result = getTransactionUseCase.getAllViews(PageQuery.first(2));
 
         // Then
-        assertThat(result).hasSize(2)
-                .containsExactly(transaction1, transaction2);
+        assertThat(result.content()).hasSize(2)
+                .containsExactly(view1, view2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextAfterId()).isEqualTo(2L);
+        assertThat(view1.totalAmount()).isEqualByComparingTo("518.00");
 
-        verify(transactionRepository).findAll();
+        verify(transactionRepository).findViews(null, 2);
     }
 
     @Test
-    @DisplayName("Should return empty list when no transactions exist")
+    @DisplayName("Should return empty last page when no transactions exist")
     void shouldReturnEmptyListWhenNoTransactions() {
         // Given
-        when(transactionRepository.findAll())
-                .thenReturn(List.of());
+        when(transactionRepository.findViews(10L, 100))
+                .thenReturn(new KeysetPage<>(List.of(), null));
 
         // When
-        List<Transaction> result = getTransactionUseCase.getAll();
+        KeysetPage<TransactionView> result = getTransactionUseCase.getAllViews(new PageQuery(10L, 100));
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+
+        verify(transactionRepository).findViews(10L, 100);
+    }
+
+    @Test
+    @DisplayName("Should reject page limits outside 1..MAX_PAGE_SIZE")
+    void shouldRejectInvalidPageLimit() {
+        // When & Then
+        assertThatThrownBy(() -> getTransactionUseCase.getAllViews(PageQuery.first(0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Page limit must be between 1 and 1000");
+        assertThatThrownBy(() -> getTransactionUseCase.getAllViews(PageQuery.first(1001)))
+                .isInstanceOf(IllegalArgumentException.class);
 
-        verify(transactionRepository).findAll();
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
@@ -132,34 +152,33 @@ class GetTransactionUseCaseImplTest {
     void shouldGetTransactionsByScheduledDate() {
         // Given
         LocalDate date = LocalDate.now();
-        when(transactionRepository.findByScheduledDate(date))
-                .thenReturn(List.of(transaction1));
+        when(transactionRepository.findViewsByScheduledDate(date, null, 100))
+                .thenReturn(new KeysetPage<>(List.of(view1), null));
 
         // When
-        List<Transaction> result = getTransactionUseCase.getByScheduledDate(date);
+        KeysetPage<TransactionView> result = getTransactionUseCase.getViewsByScheduledDate(date, PageQuery.first(100));
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0)).isEqualTo(transaction1);
+        assertThat(result.content()).containsExactly(view1);
 
-        verify(transactionRepository).findByScheduledDate(date);
+        verify(transactionRepository).findViewsByScheduledDate(date, null, 100);
     }
 
     @Test
     @DisplayName("Should get transactions by source account")
     void shouldGetTransactionsBySourceAccount() {
         // Given
-        String accountNumber = "FR76 3000 6000 0112 3456 7890 189";
-        when(transactionRepository.findBySourceAccount(accountNumber))
-                .thenReturn(Arrays.asList(transaction1, transaction2));
+        String accountNumber = "FR7630006000011234567890189";
+        when(transactionRepository.findViewsBySourceAccount(accountNumber, 1L, 50))
+                .thenReturn(new KeysetPage<>(List.of(view2), null));
 
         // When
-        List<Transaction> result = getTransactionUseCase.getBySourceAccount(accountNumber);
+        KeysetPage<TransactionView> result = getTransactionUseCase.getViewsBySourceAccount(
+                accountNumber, new PageQuery(1L, 50));
 
         // Then
-        assertThat(result).hasSize(2)
-                .containsExactly(transaction1, transaction2);
+        assertThat(result.content()).containsExactly(view2);
 
-        verify(transactionRepository).findBySourceAccount(accountNumber);
+        verify(transactionRepository).findViewsBySourceAccount(accountNumber, 1L, 50);
     }
 }
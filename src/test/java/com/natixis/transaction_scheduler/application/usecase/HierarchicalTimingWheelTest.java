@@ -0,0 +1,116 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Should expire entries on their tick, cascading from higher levels")
+    void shouldExpireOnDeadline() {
+        // Given - 10 ms ticks, 8 slots, 3 levels: levels cover 80 ms, 640 ms and 5120 ms
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule(1, START + 30, "level-0");
+        wheel.schedule(2, START + 300, "level-1");
+        wheel.schedule(3, START + 3_000, "level-2");
+        List<String> expired = new ArrayList<>();
+
+        // When & Then
+        assertThat(wheel.advanceTo(START + 29, expired::add)).isZero();
+        assertThat(wheel.advanceTo(START + 30, expired::add)).isEqualTo(1);
+        assertThat(wheel.advanceTo(START + 299, expired::add)).isZero();
+        assertThat(wheel.advanceTo(START + 300, expired::add)).isEqualTo(1);
+        assertThat(wheel.advanceTo(START + 2_999, expired::add)).isZero();
+        assertThat(wheel.advanceTo(START + 3_000, expired::add)).isEqualTo(1);
+        assertThat(expired).containsExactly("level-0", "level-1", "level-2");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cancel and replace entries by key")
+    void shouldCancelAndReplace() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        wheel.schedule(1, START + 50, "cancelled");
+        wheel.schedule(2, START + 50, "moved-away");
+        wheel.schedule(2, START + 500, "moved");
+        List<String> expired = new ArrayList<>();
+
+        // When
+        boolean cancelled = wheel.cancel(1);
+        wheel.advanceTo(START + 100, expired::add);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel(1)).isFalse();
+        assertThat(expired).isEmpty();
+        assertThat(wheel.contains(2)).isTrue();
+        wheel.advanceTo(START + 500, expired::add);
+        assertThat(expired).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("Should fire overdue entries on the next tick and refuse entries beyond the horizon")
+    void shouldHandleOverdueAndBeyondHorizon() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, START);
+        List<String> expired = new ArrayList<>();
+
+        // When
+        boolean overdue = wheel.schedule(1, START - 5_000, "overdue");
+        boolean tooFar = wheel.schedule(2, START + wheel.horizonMillis() + 1_000, "too-far");
+        boolean atHorizon = wheel.schedule(3, START + wheel.horizonMillis(), "at-horizon");
+
+        // Then
+        assertThat(overdue).isTrue();
+        assertThat(tooFar).isFalse();
+        assertThat(atHorizon).isTrue();
+        assertThat(wheel.advanceTo(START + 10, expired::add)).isEqualTo(1);
+        assertThat(expired).containsExactly("overdue");
+    }
+
+    @Test
+    @DisplayName("Should expire every random entry exactly once and never before its deadline")
+    void shouldExpireRandomEntriesOnce() {
+        // Given
+        long tick = 10;
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(tick, 8, 3, START);
+        Random random = new Random(42);
+        int entries = 5_000;
+        long[] deadlines = new long[entries];
+        for (int key = 0; key < entries; key++) {
+            deadlines[key] = START + 1 + random.nextInt((int) wheel.horizonMillis());
+            wheel.schedule(key, deadlines[key], (long) key);
+        }
+        for (int key = 0; key < entries; key += 7) {
+            wheel.cancel(key);
+        }
+
+        // When
+        List<Long> expired = new ArrayList<>();
+        long now = START;
+        while (wheel.size() > 0) {
+            now += 1 + random.nextInt(50);
+            long at = now;
+            wheel.advanceTo(at, key -> {
+                assertThat(deadlines[key.intValue()]).isLessThanOrEqualTo(at);
+                assertThat(deadlines[key.intValue()]).isGreaterThan(at - 50 - tick);
+                expired.add(key);
+            });
+        }
+
+        // Then
+        assertThat(expired).doesNotHaveDuplicates()
+                .hasSize(entries - (entries + 6) / 7)
+                .noneMatch(key -> key % 7 == 0);
+    }
+}
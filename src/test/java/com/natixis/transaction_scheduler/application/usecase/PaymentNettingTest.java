@@ -0,0 +1,137 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.NettingReport;
+import com.natixis.transaction_scheduler.domain.model.SettlementInstruction;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PaymentNetting Tests")
+class PaymentNettingTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2026, 3, 2);
+    private static final String FRANCE = "FR7630006000011234567890189";
+    private static final String PORTUGAL = "PT50000201231234567890154";
+    private static final String GERMANY = "DE89370400440532013000";
+
+    @Test
+    @DisplayName("Should net both directions of a pair into one instruction from the net debtor")
+    void shouldNetReciprocalTransfers() {
+        // Given
+        PaymentNetting netting = new PaymentNetting();
+        netting.add(transaction(1L, FRANCE, PORTUGAL, "100.00"));
+        netting.add(transaction(2L, PORTUGAL, FRANCE, "250.00"));
+        netting.add(transaction(3L, FRANCE, PORTUGAL, "30.00"));
+        netting.add(transaction(4L, GERMANY, FRANCE, "75.50"));
+
+        // When
+        List<SettlementInstruction> instructions = netting.instructions(BUSINESS_DATE);
+        NettingReport report = netting.report(BUSINESS_DATE);
+
+        // Then
+        assertThat(instructions).hasSize(2);
+        SettlementInstruction reciprocal = instructions.get(0);
+        assertThat(reciprocal.getDebtorAccount().getValue()).isEqualTo(PORTUGAL);
+        assertThat(reciprocal.getCreditorAccount().getValue()).isEqualTo(FRANCE);
+        assertThat(reciprocal.getAmount()).isEqualTo(new Money("120.00"));
+        assertThat(reciprocal.getTransactionIds()).containsExactly(1L, 2L, 3L);
+        assertThat(instructions.get(1).getAmount()).isEqualTo(new Money("75.50"));
+        assertThat(instructions.get(1).getTransactionIds()).containsExactly(4L);
+        assertThat(instructions).allMatch(instruction -> instruction.getBusinessDate().equals(BUSINESS_DATE));
+
+        assertThat(report.transactions()).isEqualTo(4);
+        assertThat(report.directedGroups()).isEqualTo(3);
+        assertThat(report.accountPairs()).isEqualTo(2);
+        assertThat(report.payments()).isEqualTo(2);
+        assertThat(report.grossAmount()).isEqualTo(new Money("455.50"));
+        assertThat(report.netAmount()).isEqualTo(new Money("195.50"));
+        assertThat(report.reductionRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should keep a fully offset pair as an instruction that needs no payment")
+    void shouldOffsetEqualTransfers() {
+        // Given
+        PaymentNetting netting = new PaymentNetting();
+        netting.add(transaction(1L, FRANCE, PORTUGAL, "100.00"));
+        netting.add(transaction(2L, PORTUGAL, FRANCE, "100.00"));
+
+        // When
+        List<SettlementInstruction> instructions = netting.instructions(BUSINESS_DATE);
+
+        // Then
+        assertThat(instructions).singleElement().satisfies(instruction -> {
+            assertThat(instruction.requiresPayment()).isFalse();
+            assertThat(instruction.getTransactionIds()).containsExactly(1L, 2L);
+        });
+        assertThat(netting.report(BUSINESS_DATE).payments()).isZero();
+        assertThat(netting.report(BUSINESS_DATE).reductionRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should link every transfer to exactly one instruction across many pairs")
+    void shouldGroupManyPairs() {
+        // Given - 2,000 accounts paying the next one, then each pair once more in reverse
+        List<AccountNumber> accounts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            accounts.add(AccountNumber.of(iban(i)));
+        }
+        PaymentNetting netting = new PaymentNetting();
+        long id = 0;
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < accounts.size() - 1; i++) {
+                AccountNumber from = accounts.get(round == 0 ? i : i + 1);
+                AccountNumber to = accounts.get(round == 0 ? i + 1 : i);
+                netting.add(transaction(++id, from, to, round == 0 ? "10.00" : "4.00"));
+            }
+        }
+
+        // When
+        List<SettlementInstruction> instructions = netting.instructions(BUSINESS_DATE);
+
+        // Then
+        assertThat(instructions).hasSize(1_999);
+        assertThat(instructions).allSatisfy(instruction -> {
+            assertThat(instruction.getAmount()).isEqualTo(new Money("6.00"));
+            assertThat(instruction.getTransactionIds()).hasSize(2);
+        });
+        assertThat(instructions.stream().flatMap(instruction -> instruction.getTransactionIds().stream()))
+                .doesNotHaveDuplicates()
+                .hasSize(3_998);
+        assertThat(netting.report(BUSINESS_DATE).reductionRatio()).isEqualTo(0.5);
+    }
+
+    /**
+     * Valid French IBAN built from a sequence number, with computed check digits.
+     */
+    private static String iban(int number) {
+        String bban = String.format("30006000011%010d189", number).substring(0, 23);
+        String rearranged = bban + "152700";
+        int remainder = new BigInteger(rearranged).mod(BigInteger.valueOf(97)).intValue();
+        return String.format("FR%02d%s", 98 - remainder, bban);
+    }
+
+    private static Transaction transaction(Long id, String source, String destination, String amount) {
+        return transaction(id, new AccountNumber(source), new AccountNumber(destination), amount);
+    }
+
+    private static Transaction transaction(Long id, AccountNumber source, AccountNumber destination, String amount) {
+        return Transaction.builder()
+                .id(id)
+                .sourceAccount(source)
+                .destinationAccount(destination)
+                .transferAmount(new Money(amount))
+                .transferFee(Money.zero())
+                .scheduledDate(BUSINESS_DATE)
+                .build();
+    }
+}
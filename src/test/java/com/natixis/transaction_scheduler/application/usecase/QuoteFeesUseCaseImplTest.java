@@ -0,0 +1,189 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.BusinessCalendar;
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.QuoteFeesUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QuoteFeesUseCase Tests")
+class QuoteFeesUseCaseImplTest {
+
+    @Mock
+    private FeeConfigurationRepository feeConfigurationRepository;
+
+    @Spy
+    private SchedulingCalendar schedulingCalendar = SchedulingCalendar.calendarDays();
+
+    @Spy
+    private SchedulingClock schedulingClock = CachedDayClock.SYSTEM;
+
+    @InjectMocks
+    private QuoteFeesUseCaseImpl quoteFeesUseCase;
+
+    private FeeRuleIndex ruleIndex;
+
+    @BeforeEach
+    void setUp() {
+        ruleIndex = FeeRuleIndex.of(List.of(
+                FeeConfiguration.create("TAXA_A", Money.zero(), new Money("1000.00"), 0, 0,
+                        new BigDecimal("0.03"), new Money("3.00"), 1, "Taxa A"),
+                FeeConfiguration.create("TAXA_B", new Money("1000.01"), new Money("2000.00"), 1, 10,
+                        new BigDecimal("0.09"), null, 2, "Taxa B")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should price every item in order against one rule snapshot")
+    void shouldPriceItemsInOrder() {
+        // Given
+        when(feeConfigurationRepository.getRuleIndex()).thenReturn(ruleIndex);
+        LocalDate today = LocalDate.now();
+
+        // When
+        List<QuoteFeesUseCase.FeeQuote> quotes = quoteFeesUseCase.execute(new QuoteFeesUseCase.QuoteFeesCommand(List.of(
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("500"), today),
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("1500"), today.plusDays(5))
+        ))).toList();
+
+        // Then
+        assertThat(quotes).hasSize(2);
+        assertThat(quotes.get(0).index()).isZero();
+        assertThat(quotes.get(0).feeType()).isEqualTo("TAXA_A");
+        assertThat(quotes.get(0).transferFee().getAmount()).isEqualByComparingTo("18.00");
+        assertThat(quotes.get(0).totalAmount().getAmount()).isEqualByComparingTo("518.00");
+        assertThat(quotes.get(1).index()).isEqualTo(1);
+        assertThat(quotes.get(1).feeType()).isEqualTo("TAXA_B");
+        assertThat(quotes.get(1).days()).isEqualTo(5L);
+        assertThat(quotes.get(1).transferFee().getAmount()).isEqualByComparingTo("135.00");
+
+        verify(feeConfigurationRepository, times(1)).getRuleIndex();
+        verifyNoMoreInteractions(feeConfigurationRepository);
+    }
+
+    @Test
+    @DisplayName("Should report unpriceable items without failing the batch")
+    void shouldReportErrorsPerItem() {
+        // Given
+        when(feeConfigurationRepository.getRuleIndex()).thenReturn(ruleIndex);
+        LocalDate today = LocalDate.now();
+
+        // When
+        List<QuoteFeesUseCase.FeeQuote> quotes = quoteFeesUseCase.execute(new QuoteFeesUseCase.QuoteFeesCommand(List.of(
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("3000"), today.plusDays(5)),
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("-1"), today),
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("500"), today.minusDays(1)),
+                new QuoteFeesUseCase.QuoteItem(null, today),
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("500"), today)
+        ))).toList();
+
+        // Then
+        assertThat(quotes).extracting(QuoteFeesUseCase.FeeQuote::isPriced)
+                .containsExactly(false, false, false, false, true);
+        assertThat(quotes.get(0).error()).contains("No fee configuration found");
+        assertThat(quotes.get(1).error()).contains("Amount cannot be negative");
+        assertThat(quotes.get(2).error()).contains("cannot be in the past");
+        assertThat(quotes.get(3).error()).contains("required");
+    }
+
+    @Test
+    @DisplayName("Should roll weekend dates to Monday and count business days when configured")
+    void shouldUseBusinessCalendar() {
+        // Given
+        when(feeConfigurationRepository.getRuleIndex()).thenReturn(ruleIndex);
+        LocalDate today = LocalDate.now();
+        BusinessCalendar calendar = BusinessCalendar.weekdays(today.getYear(), today.getYear() + 1, List.of());
+        QuoteFeesUseCaseImpl useCase = new QuoteFeesUseCaseImpl(feeConfigurationRepository,
+                new SchedulingCalendar(calendar, true, true), schedulingClock);
+        LocalDate saturday = today.plusDays(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        LocalDate monday = saturday.plusDays(2);
+        long weekdays = today.datesUntil(monday)
+                .filter(date -> date.getDayOfWeek().getValue() <= DayOfWeek.FRIDAY.getValue())
+                .count();
+
+        // When
+        QuoteFeesUseCase.FeeQuote quote = useCase.execute(new QuoteFeesUseCase.QuoteFeesCommand(List.of(
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("1500"), saturday)
+        ))).findFirst().orElseThrow();
+
+        // Then
+        assertThat(quote.scheduledDate()).isEqualTo(monday);
+        assertThat(quote.days()).isEqualTo(weekdays);
+        assertThat(quote.feeType()).isEqualTo("TAXA_B");
+    }
+
+    @Test
+    @DisplayName("Should price against the clock's date, up to its last millisecond")
+    void shouldPriceAgainstClock() {
+        // Given
+        when(feeConfigurationRepository.getRuleIndex()).thenReturn(ruleIndex);
+        ZoneId lisbon = ZoneId.of("Europe/Lisbon");
+        Clock lastMillisecond = Clock.fixed(
+                LocalDateTime.of(2030, 1, 10, 23, 59, 59, 999_000_000).atZone(lisbon).toInstant(), lisbon);
+        QuoteFeesUseCaseImpl useCase = new QuoteFeesUseCaseImpl(feeConfigurationRepository,
+                SchedulingCalendar.calendarDays(), new CachedDayClock(lastMillisecond));
+
+        // When
+        List<QuoteFeesUseCase.FeeQuote> quotes = useCase.execute(new QuoteFeesUseCase.QuoteFeesCommand(List.of(
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("500"), LocalDate.of(2030, 1, 10)),
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("1500"), LocalDate.of(2030, 1, 15)),
+                new QuoteFeesUseCase.QuoteItem(new BigDecimal("500"), LocalDate.of(2030, 1, 9))
+        ))).toList();
+
+        // Then
+        assertThat(quotes.get(0).feeType()).isEqualTo("TAXA_A");
+        assertThat(quotes.get(0).days()).isZero();
+        assertThat(quotes.get(1).feeType()).isEqualTo("TAXA_B");
+        assertThat(quotes.get(1).days()).isEqualTo(5L);
+        assertThat(quotes.get(2).error()).contains("cannot be in the past");
+    }
+
+    @Test
+    @DisplayName("Should reject empty batches")
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> quoteFeesUseCase.execute(
+                new QuoteFeesUseCase.QuoteFeesCommand(Collections.emptyList())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least one item");
+    }
+
+    @Test
+    @DisplayName("Should reject oversized batches")
+    void shouldRejectOversizedBatch() {
+        List<QuoteFeesUseCase.QuoteItem> items = Collections.nCopies(QuoteFeesUseCaseImpl.MAX_ITEMS + 1,
+                new QuoteFeesUseCase.QuoteItem(BigDecimal.TEN, LocalDate.now()));
+
+        assertThatThrownBy(() -> quoteFeesUseCase.execute(new QuoteFeesUseCase.QuoteFeesCommand(items)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Too many items");
+    }
+}
@@ -0,0 +1,97 @@
+package com.natixis.transaction_scheduler.application.usecase;
+
+import com.natixis.transaction_scheduler.domain.model.PendingRetry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RetryDelayQueue Tests")
+class RetryDelayQueueTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @Test
+    @DisplayName("Should only hand out entries that are due, earliest first")
+    void shouldPollDueInOrder() {
+        // Given
+        RetryDelayQueue queue = new RetryDelayQueue(ZoneOffset.UTC);
+        queue.schedule(1L, NOW.plusSeconds(30));
+        queue.schedule(2L, NOW.minusSeconds(5));
+        queue.schedule(3L, NOW);
+        queue.schedule(4L, NOW.minusSeconds(10));
+
+        // When & Then
+        assertThat(queue.pollDue(NOW, 2)).containsExactly(4L, 2L);
+        assertThat(queue.pollDue(NOW, 10)).containsExactly(3L);
+        assertThat(queue.pollDue(NOW, 10)).isEmpty();
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.pollDue(NOW.plusSeconds(30), 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should replace its content with the pending retries, overdue ones first")
+    void shouldReplaceAll() {
+        // Given
+        RetryDelayQueue queue = new RetryDelayQueue(ZoneOffset.UTC);
+        queue.schedule(99L, NOW.minusMinutes(1));
+
+        // When
+        queue.replaceAll(List.of(
+                new PendingRetry(1L, 0, NOW.plusMinutes(1)),
+                new PendingRetry(2L, 0, NOW.minusMinutes(1)),
+                new PendingRetry(3L, 0, null)));
+
+        // Then
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.pollDue(NOW, 10)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should keep hundreds of thousands of entries in due order")
+    void shouldOrderManyEntries() {
+        // Given - due times on whole seconds, half offered one by one and half rebuilt in bulk
+        int count = 300_000;
+        long start = NOW.toEpochSecond(ZoneOffset.UTC) * 1000;
+        Random random = new Random(42);
+        long[] dueAt = new long[count];
+        RetryDelayQueue offered = new RetryDelayQueue(ZoneOffset.UTC);
+        List<PendingRetry> pending = new ArrayList<>();
+        for (int id = 0; id < count; id++) {
+            dueAt[id] = start + random.nextInt(3_600) * 1000L;
+            if (id % 2 == 0) {
+                offered.offer(id, dueAt[id]);
+            } else {
+                pending.add(new PendingRetry((long) id, 0,
+                        LocalDateTime.ofEpochSecond(dueAt[id] / 1000, 0, ZoneOffset.UTC)));
+            }
+        }
+        RetryDelayQueue rebuilt = new RetryDelayQueue(ZoneOffset.UTC);
+        rebuilt.replaceAll(pending);
+
+        // When & Then - every poll returns exactly what fell due since the previous one, in order
+        for (RetryDelayQueue queue : List.of(offered, rebuilt)) {
+            assertThat(queue.size()).isEqualTo(count / 2);
+            int polled = 0;
+            for (long now = start; now < start + 3_600_000; now += 60_000) {
+                long windowStart = now - 60_000;
+                long last = Long.MIN_VALUE;
+                for (long id : queue.pollDue(now, Integer.MAX_VALUE)) {
+                    assertThat(dueAt[(int) id]).isGreaterThan(windowStart).isLessThanOrEqualTo(now)
+                            .isGreaterThanOrEqualTo(last);
+                    last = dueAt[(int) id];
+                    polled++;
+                }
+            }
+            polled += queue.pollDue(start + 3_600_000, Integer.MAX_VALUE).size();
+            assertThat(polled).isEqualTo(count / 2);
+            assertThat(queue.size()).isZero();
+        }
+    }
+}
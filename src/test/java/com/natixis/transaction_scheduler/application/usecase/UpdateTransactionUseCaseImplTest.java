@@ -1,12 +1,15 @@
 package com.natixis.transaction_scheduler.application.usecase;
 
 import com.natixis.transaction_scheduler.domain.exception.ResourceNotFoundException;
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
 import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
 import com.natixis.transaction_scheduler.domain.model.Transaction;
 import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
 import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
 import com.natixis.transaction_scheduler.domain.port.in.UpdateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionTimer;
 import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
 import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -45,6 +49,15 @@ class UpdateTransactionUseCaseImplTest {
     @Mock
     private FeeConfigurationRepository feeConfigurationRepository;
 
+    @Mock
+    private ExecutionTimer executionTimer;
+
+    @Spy
+    private SchedulingCalendar schedulingCalendar = SchedulingCalendar.calendarDays();
+
+    @Spy
+    private SchedulingClock schedulingClock = CachedDayClock.SYSTEM;
+
     @InjectMocks
     private UpdateTransactionUseCaseImpl updateTransactionUseCase;
 
@@ -100,7 +113,8 @@ class UpdateTransactionUseCaseImplTest {
                         Optional.of(ACCOUNT_ID_FRANCE),
                         Optional.of(ACCOUNT_ID_PORTUGAL),
                         Optional.of(newAmount),
-                        Optional.of(newDate)
+                        Optional.of(newDate),
+                        Optional.empty()
         ));
 
         // Then
@@ -128,7 +142,8 @@ class UpdateTransactionUseCaseImplTest {
                         Optional.of(ACCOUNT_ID_GERMANY), // Changed
                         Optional.of(ACCOUNT_ID_AUSTRIA), // Changed
                         Optional.of(existingTransaction.getTransferAmount().getAmount()), // Same
-                        Optional.of(existingTransaction.getScheduledDate()) // Same
+                        Optional.of(existingTransaction.getScheduledDate()), // Same
+                        Optional.empty()
         ));
 
         // Then
@@ -154,7 +169,8 @@ class UpdateTransactionUseCaseImplTest {
                                 Optional.of(ACCOUNT_ID_FRANCE),
                                 Optional.of(ACCOUNT_ID_PORTUGAL),
                                 Optional.of(BigDecimal.valueOf(500.00)),
-                                Optional.of(LocalDate.now())
+                                Optional.of(LocalDate.now()),
+                                Optional.empty()
         )))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Transaction not found with ID: 999");
@@ -183,7 +199,8 @@ class UpdateTransactionUseCaseImplTest {
                         Optional.of(existingTransaction.getSourceAccount().getValue()),
                         Optional.of(existingTransaction.getDestinationAccount().getValue()),
                         Optional.of(newAmount), // Changed
-                        Optional.of(existingTransaction.getScheduledDate()) // Same
+                        Optional.of(existingTransaction.getScheduledDate()), // Same
+                        Optional.empty()
         ));
 
         // Then
@@ -212,7 +229,8 @@ class UpdateTransactionUseCaseImplTest {
                         Optional.of(existingTransaction.getSourceAccount().getValue()),
                         Optional.of(existingTransaction.getDestinationAccount().getValue()),
                         Optional.of(existingTransaction.getTransferAmount().getAmount()), // Same
-                        Optional.of(newDate) // Changed
+                        Optional.of(newDate), // Changed
+                        Optional.empty()
         ));
 
         // Then
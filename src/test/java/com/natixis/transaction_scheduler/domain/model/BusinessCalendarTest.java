@@ -0,0 +1,82 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BusinessCalendar Tests")
+class BusinessCalendarTest {
+
+    private static final List<LocalDate> HOLIDAYS = List.of(
+            LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 3), LocalDate.of(2026, 4, 6),
+            LocalDate.of(2026, 5, 1), LocalDate.of(2026, 12, 25), LocalDate.of(2026, 12, 26));
+
+    private final BusinessCalendar calendar = BusinessCalendar.weekdays(2025, 2027, HOLIDAYS);
+
+    @Test
+    @DisplayName("Should roll weekends and holidays to the next business day")
+    void shouldRollToNextBusinessDay() {
+        // Good Friday 2026 to Tuesday after Easter Monday
+        assertThat(calendar.onOrNextBusinessDay(LocalDate.of(2026, 4, 3))).isEqualTo(LocalDate.of(2026, 4, 7));
+        assertThat(calendar.onOrNextBusinessDay(LocalDate.of(2026, 4, 7))).isEqualTo(LocalDate.of(2026, 4, 7));
+        assertThat(calendar.nextBusinessDay(LocalDate.of(2026, 4, 2))).isEqualTo(LocalDate.of(2026, 4, 7));
+        // Christmas Day on a Friday, 26 December on a Saturday
+        assertThat(calendar.onOrNextBusinessDay(LocalDate.of(2026, 12, 25))).isEqualTo(LocalDate.of(2026, 12, 28));
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 5, 1))).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 5, 4))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should count business days in [from, to)")
+    void shouldCountBusinessDays() {
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2026, 3, 6), LocalDate.of(2026, 3, 9))).isEqualTo(1);
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 9))).isZero();
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 8))).isEqualTo(3);
+        assertThat(calendar.businessDaysBetween(LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 6))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should agree with a day-by-day walk over the whole range")
+    void shouldMatchDayByDayWalk() {
+        // Given
+        BusinessCalendar fridays = BusinessCalendar.of(2025, 2027,
+                Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.FRIDAY), HOLIDAYS);
+
+        for (BusinessCalendar subject : List.of(calendar, fridays)) {
+            LocalDate origin = subject.getFirstDay();
+            long count = 0;
+            for (LocalDate date = origin; !date.isAfter(subject.getLastDay().minusDays(7)); date = date.plusDays(1)) {
+                // When
+                LocalDate next = date;
+                while (!subject.isBusinessDay(next)) {
+                    next = next.plusDays(1);
+                }
+
+                // Then
+                assertThat(subject.businessDaysBetween(origin, date)).isEqualTo(count);
+                assertThat(subject.onOrNextBusinessDay(date)).isEqualTo(next);
+                if (subject.isBusinessDay(date)) {
+                    count++;
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject dates outside the calendar")
+    void shouldRejectDatesOutsideRange() {
+        assertThatThrownBy(() -> calendar.isBusinessDay(LocalDate.of(2028, 1, 3)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("outside the business calendar");
+        assertThatThrownBy(() -> calendar.nextBusinessDay(LocalDate.of(2027, 12, 31)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No business day after");
+    }
+}
@@ -0,0 +1,93 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CachedDayClock Tests")
+class CachedDayClockTest {
+
+    private static final ZoneId LISBON = ZoneId.of("Europe/Lisbon");
+
+    @Test
+    @DisplayName("Should roll over to the next date at local midnight")
+    void shouldRollOverAtMidnight() {
+        // Given
+        MutableClock clock = new MutableClock(LocalDateTime.of(2026, 3, 2, 23, 59, 59, 999_000_000));
+        CachedDayClock dayClock = new CachedDayClock(clock);
+        assertThat(dayClock.today()).isEqualTo(LocalDate.of(2026, 3, 2));
+
+        // When
+        clock.set(LocalDateTime.of(2026, 3, 3, 0, 0));
+
+        // Then
+        assertThat(dayClock.today()).isEqualTo(LocalDate.of(2026, 3, 3));
+        assertThat(dayClock.now()).isEqualTo(LocalDateTime.of(2026, 3, 3, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should follow the offset change of a daylight saving transition within the day")
+    void shouldFollowOffsetTransition() {
+        // Given - clocks go forward from 01:00 to 02:00 on 29 March 2026
+        MutableClock clock = new MutableClock(LocalDateTime.of(2026, 3, 29, 0, 30));
+        CachedDayClock dayClock = new CachedDayClock(clock);
+        assertThat(dayClock.now()).isEqualTo(LocalDateTime.of(2026, 3, 29, 0, 30));
+
+        // When
+        clock.set(LocalDateTime.of(2026, 3, 29, 2, 30));
+
+        // Then
+        assertThat(dayClock.now()).isEqualTo(LocalDateTime.of(2026, 3, 29, 2, 30));
+        assertThat(dayClock.today()).isEqualTo(LocalDate.of(2026, 3, 29));
+    }
+
+    @Test
+    @DisplayName("Should go back to the previous date when the clock is set back")
+    void shouldFollowClockSetBack() {
+        // Given
+        MutableClock clock = new MutableClock(LocalDateTime.of(2026, 3, 3, 0, 0, 1));
+        CachedDayClock dayClock = new CachedDayClock(clock);
+        assertThat(dayClock.today()).isEqualTo(LocalDate.of(2026, 3, 3));
+
+        // When
+        clock.set(LocalDateTime.of(2026, 3, 2, 23, 59, 59));
+
+        // Then
+        assertThat(dayClock.today()).isEqualTo(LocalDate.of(2026, 3, 2));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(LocalDateTime local) {
+            set(local);
+        }
+
+        void set(LocalDateTime local) {
+            instant = local.atZone(LISBON).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return LISBON;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
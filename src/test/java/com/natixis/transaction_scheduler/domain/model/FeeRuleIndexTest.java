@@ -0,0 +1,138 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the compiled fee rule index.
+ * Rules mirror the seed data in import.sql.
+ */
+@DisplayName("FeeRuleIndex Domain Model Tests")
+class FeeRuleIndexTest {
+
+    private FeeRuleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = FeeRuleIndex.of(List.of(
+                rule("TAXA_A", "0.00", "1000.00", 0, 0, "0.03", "3.00", 1),
+                rule("TAXA_B", "1000.01", "2000.00", 1, 10, "0.09", null, 2),
+                rule("TAXA_C_11_20", "2000.01", null, 11, 20, "0.082", null, 3),
+                rule("TAXA_C_21_30", "2000.01", null, 21, 30, "0.069", null, 4),
+                rule("TAXA_C_31_40", "2000.01", null, 31, 40, "0.047", null, 5),
+                rule("TAXA_C_40_PLUS", "2000.01", null, 41, null, "0.017", null, 6)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should resolve every fee band")
+    void shouldResolveEveryFeeBand() {
+        assertThat(feeType("500.00", 0)).contains("TAXA_A");
+        assertThat(feeType("1500.00", 5)).contains("TAXA_B");
+        assertThat(feeType("3000.00", 15)).contains("TAXA_C_11_20");
+        assertThat(feeType("3000.00", 25)).contains("TAXA_C_21_30");
+        assertThat(feeType("3000.00", 35)).contains("TAXA_C_31_40");
+    }
+
+    @Test
+    @DisplayName("Should match rules with open-ended max days")
+    void shouldMatchOpenEndedMaxDays() {
+        assertThat(feeType("3000.00", 41)).contains("TAXA_C_40_PLUS");
+        assertThat(feeType("3000.00", 3650)).contains("TAXA_C_40_PLUS");
+    }
+
+    @Test
+    @DisplayName("Should honour inclusive amount and days boundaries")
+    void shouldHonourInclusiveBoundaries() {
+        assertThat(feeType("1000.00", 0)).contains("TAXA_A");
+        assertThat(feeType("1000.01", 1)).contains("TAXA_B");
+        assertThat(feeType("2000.00", 10)).contains("TAXA_B");
+        assertThat(feeType("2000.01", 11)).contains("TAXA_C_11_20");
+        assertThat(feeType("2000.01", 20)).contains("TAXA_C_11_20");
+        assertThat(feeType("2000.01", 21)).contains("TAXA_C_21_30");
+    }
+
+    @Test
+    @DisplayName("Should return empty when no rule covers the combination")
+    void shouldReturnEmptyWhenNoRuleMatches() {
+        assertThat(feeType("500.00", 5)).isEmpty();
+        assertThat(feeType("1500.00", 0)).isEmpty();
+        assertThat(feeType("1500.00", 15)).isEmpty();
+        assertThat(feeType("3000.00", 5)).isEmpty();
+        assertThat(feeType("500.00", -1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should prefer the rule with the lower priority number on overlap")
+    void shouldPreferHigherPriorityOnOverlap() {
+        FeeRuleIndex overlapping = FeeRuleIndex.of(List.of(
+                rule("GENERIC", "0.00", null, null, null, "0.05", null, 9),
+                rule("SPECIFIC", "100.00", "200.00", 2, 3, "0.01", null, 1)
+        ));
+
+        assertThat(overlapping.findBestMatch(new Money("150.00"), 2))
+                .map(FeeConfiguration::getFeeType).contains("SPECIFIC");
+        assertThat(overlapping.findBestMatch(new Money("150.00"), 4))
+                .map(FeeConfiguration::getFeeType).contains("GENERIC");
+        assertThat(overlapping.findBestMatch(new Money("250.00"), -7))
+                .map(FeeConfiguration::getFeeType).contains("GENERIC");
+    }
+
+    @Test
+    @DisplayName("Should ignore inactive rules")
+    void shouldIgnoreInactiveRules() {
+        FeeRuleIndex withInactive = FeeRuleIndex.of(List.of(
+                rule("TAXA_A", "0.00", "1000.00", 0, 0, "0.03", "3.00", 1).deactivate()
+        ));
+
+        assertThat(withInactive.size()).isZero();
+        assertThat(withInactive.findBestMatch(new Money("500.00"), 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should agree with FeeConfiguration.matches")
+    void shouldAgreeWithMatches() {
+        for (String amount : List.of("0.00", "999.99", "1000.00", "1000.01", "1999.99", "2000.00", "2000.01", "50000.00")) {
+            for (long days = -2; days <= 60; days++) {
+                Money money = new Money(amount);
+                long d = days;
+                Optional<String> expected = index.getRules().stream()
+                        .filter(rule -> rule.matches(money, d))
+                        .map(FeeConfiguration::getFeeType)
+                        .findFirst();
+
+                assertThat(index.findBestMatch(money, days).map(FeeConfiguration::getFeeType))
+                        .as("amount %s, days %d", amount, days)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    private Optional<String> feeType(String amount, long days) {
+        return index.findBestMatch(new Money(amount), days).map(FeeConfiguration::getFeeType);
+    }
+
+    private static FeeConfiguration rule(String feeType, String minAmount, String maxAmount,
+                                         Integer minDays, Integer maxDays, String percentage,
+                                         String fixedFee, int priority) {
+        return FeeConfiguration.create(
+                feeType,
+                new Money(minAmount),
+                maxAmount == null ? null : new Money(maxAmount),
+                minDays,
+                maxDays,
+                new BigDecimal(percentage),
+                fixedFee == null ? null : new Money(fixedFee),
+                priority,
+                feeType
+        );
+    }
+}
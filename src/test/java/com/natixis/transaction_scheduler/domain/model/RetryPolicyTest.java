@@ -0,0 +1,50 @@
+package com.natixis.transaction_scheduler.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RetryPolicy backoff.
+ */
+@DisplayName("RetryPolicy Tests")
+class RetryPolicyTest {
+
+    private final RetryPolicy policy = new RetryPolicy(5, Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("Should double the delay per attempt up to the maximum, jittering half of it")
+    void shouldBackOffExponentially() {
+        // When & Then
+        assertThat(policy.delayAfter(1, () -> 0.0)).isEqualTo(Duration.ofMillis(500));
+        assertThat(policy.delayAfter(1, () -> 0.999)).isBetween(Duration.ofMillis(999), Duration.ofSeconds(1));
+        assertThat(policy.delayAfter(2, () -> 0.5)).isEqualTo(Duration.ofMillis(1_500));
+        assertThat(policy.delayAfter(3, () -> 0.0)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(policy.delayAfter(5, () -> 0.0)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(policy.delayAfter(64, () -> 0.999)).isLessThanOrEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should allow attempts until the maximum is reached")
+    void shouldLimitAttempts() {
+        // When & Then
+        assertThat(policy.canRetry(4)).isTrue();
+        assertThat(policy.canRetry(5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive attempts and delays")
+    void shouldValidate() {
+        // When & Then
+        assertThatThrownBy(() -> new RetryPolicy(0, Duration.ofSeconds(1), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(3, Duration.ZERO, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RetryPolicy(3, Duration.ofSeconds(2), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -215,6 +216,76 @@ class TransactionTest {
         assertThat(original.getDestinationAccount().getValue()).isEqualTo(ACCOUNT_ID_PORTUGAL); // Unchanged
     }
 
+    @Test
+    @DisplayName("Should start as scheduled and refuse changes once picked up for execution")
+    void shouldRefuseUpdateOutsideScheduledStatus() {
+        // Given
+        Transaction created = Transaction.create(
+                new AccountNumber(ACCOUNT_ID_FRANCE),
+                new AccountNumber(ACCOUNT_ID_PORTUGAL),
+                new Money("500.00"),
+                LocalDate.now().plusDays(1),
+                new Money("18.00"),
+                null
+        );
+        Transaction inProgress = Transaction.builder()
+                .id(1L)
+                .sourceAccount(created.getSourceAccount())
+                .destinationAccount(created.getDestinationAccount())
+                .transferAmount(created.getTransferAmount())
+                .transferFee(created.getTransferFee())
+                .scheduledDate(created.getScheduledDate())
+                .status(TransactionStatus.IN_PROGRESS)
+                .build();
+
+        // When & Then
+        assertThat(created.getStatus()).isEqualTo(TransactionStatus.SCHEDULED);
+        assertThat(created.isPending()).isTrue();
+        assertThat(inProgress.isPending()).isFalse();
+        assertThatThrownBy(() -> inProgress.update(
+                created.getSourceAccount(), created.getDestinationAccount(), new Money("600.00"),
+                created.getScheduledDate(), new Money("21.00"), null
+        )).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Only scheduled transactions can be changed");
+        assertThat(TransactionStatus.SCHEDULED.canTransitionTo(TransactionStatus.IN_PROGRESS)).isTrue();
+        assertThat(TransactionStatus.EXECUTED.canTransitionTo(TransactionStatus.SCHEDULED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the time slot across updates and reject a slot already past")
+    void shouldHandleTimeSlot() {
+        // Given
+        Transaction timed = Transaction.create(
+                new AccountNumber(ACCOUNT_ID_FRANCE),
+                new AccountNumber(ACCOUNT_ID_PORTUGAL),
+                new Money("500.00"),
+                LocalDate.now().plusDays(1),
+                LocalTime.of(9, 15),
+                new Money("18.00"),
+                null
+        );
+
+        // When
+        Transaction updated = timed.update(
+                timed.getSourceAccount(), timed.getDestinationAccount(), new Money("600.00"),
+                timed.getScheduledDate(), new Money("21.00"), null
+        );
+
+        // Then
+        assertThat(timed.hasTimeSlot()).isTrue();
+        assertThat(updated.getScheduledTime()).isEqualTo(LocalTime.of(9, 15));
+        assertThatThrownBy(() -> Transaction.create(
+                new AccountNumber(ACCOUNT_ID_FRANCE),
+                new AccountNumber(ACCOUNT_ID_PORTUGAL),
+                new Money("500.00"),
+                LocalDate.now(),
+                LocalTime.MIN,
+                new Money("18.00"),
+                null
+        )).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Scheduled time cannot be in the past");
+    }
+
     @Test
     @DisplayName("Should generate human-readable summary")
     void shouldGenerateSummary() {
@@ -107,4 +107,76 @@ class AccountNumberTest {
         // Then
         assertThat(account1).hasSameHashCodeAs(account2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should throw exception for invalid check digits")
+    void shouldThrowExceptionForInvalidCheckDigits() {
+        // When & Then - DE89... with the last digit changed
+        assertThatThrownBy(() -> new AccountNumber("DE89370400440532013001"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid IBAN check digits");
+    }
+
+    @Test
+    @DisplayName("Should throw exception for misplaced letters and digits")
+    void shouldThrowExceptionForInvalidStructure() {
+        // When & Then
+        assertThatThrownBy(() -> new AccountNumber("50000201231234567890154"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid IBAN format");
+        assertThatThrownBy(() -> new AccountNumber("PTX0000201231234567890154"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid IBAN format");
+        assertThatThrownBy(() -> new AccountNumber("PT50-0002-0123-1234-5678-9015-4"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid IBAN format");
+    }
+
+    @Test
+    @DisplayName("Should validate without throwing")
+    void shouldValidateWithoutThrowing() {
+        assertThat(AccountNumber.isValid("AT48 3200 0000 1234 5864")).isTrue();
+        assertThat(AccountNumber.isValid("es9121000418450200051332")).isTrue();
+        assertThat(AccountNumber.isValid("ES9121000418450200051333")).isFalse();
+        assertThat(AccountNumber.isValid("PT1234")).isFalse();
+        assertThat(AccountNumber.isValid("  ")).isFalse();
+        assertThat(AccountNumber.isValid(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reuse cached instances for the same account")
+    void shouldReuseCachedInstances() {
+        // When
+        AccountNumber first = AccountNumber.of("FR7630006000011234567890189");
+        AccountNumber second = AccountNumber.of("FR7630006000011234567890189");
+        AccountNumber trusted = AccountNumber.fromTrustedSource("FR7630006000011234567890189");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(trusted).isSameAs(first);
+        assertThat(AccountNumber.of("fr76 3000 6000 0112 3456 7890 189")).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should not serve a trusted value that skipped validation to of()")
+    void shouldValidateTrustedValuesAgain() {
+        // Given
+        String invalid = "FR7630006000011234567890180";
+        AccountNumber.fromTrustedSource(invalid);
+
+        // When & Then
+        assertThatThrownBy(() -> AccountNumber.of(invalid))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid IBAN check digits");
+    }
+
+    @Test
+    @DisplayName("Should keep the original string when already normalized")
+    void shouldKeepNormalizedInput() {
+        // Given
+        String normalized = "PT50000201231234567890154";
+
+        // Then
+        assertThat(new AccountNumber(normalized).getValue()).isSameAs(normalized);
+    }
+}
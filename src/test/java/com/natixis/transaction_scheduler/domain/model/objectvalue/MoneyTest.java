@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -156,4 +158,55 @@ class MoneyTest {
         // Then
         assertThat(formatted).isEqualTo("1000.50 EUR");
     }
+
+    @Test
+    @DisplayName("Should hold amount as cents")
+    void shouldHoldAmountAsCents() {
+        // When
+        Money money = new Money("1000.50");
+
+        // Then
+        assertThat(money.getCents()).isEqualTo(100050L);
+        assertThat(Money.ofCents(100050L)).isEqualTo(money);
+        assertThat(money.getAmount()).isEqualTo(new BigDecimal("1000.50"));
+    }
+
+    @Test
+    @DisplayName("Should reject negative cents and negative results")
+    void shouldRejectNegativeCents() {
+        // When & Then
+        assertThatThrownBy(() -> Money.ofCents(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Amount cannot be negative");
+        assertThatThrownBy(() -> new Money("10.00").subtract(new Money("10.01")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Amount cannot be negative");
+    }
+
+    @Test
+    @DisplayName("Should round percentage multiplication HALF_UP to the cent")
+    void shouldRoundMultiplicationHalfUp() {
+        // 0.50 * 0.09 = 0.045 -> 0.05 ; 0.05 * 0.09 = 0.0045 -> 0.00
+        assertThat(new Money("0.50").multiply(new BigDecimal("0.09")).getAmount()).isEqualByComparingTo("0.05");
+        assertThat(new Money("0.05").multiply(new BigDecimal("0.09")).getAmount()).isEqualByComparingTo("0.00");
+        // 1234.56 * 0.0820 = 101.23392 -> 101.23
+        assertThat(new Money("1234.56").multiply(new BigDecimal("0.0820")).getAmount()).isEqualByComparingTo("101.23");
+        assertThat(Money.multiplyCents(50, 9, 2)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Should match BigDecimal HALF_UP arithmetic for random amounts and rates")
+    void shouldMatchBigDecimalArithmetic() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(0, 10_000_000_000L), 2);
+            BigDecimal rate = BigDecimal.valueOf(random.nextLong(0, 10_001), 4);
+
+            BigDecimal expected = amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+
+            assertThat(new Money(amount).multiply(rate).getAmount())
+                    .as("%s * %s", amount, rate)
+                    .isEqualTo(expected);
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.controller;
+
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("FeeQuoteController Integration Tests")
+class FeeQuoteControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("POST /v1/fees/quote - Should stream quotes in request order without persisting")
+    void shouldQuoteBatch() throws Exception {
+        LocalDate today = LocalDate.now();
+        String requestJson = """
+                [
+                  { "transferAmount": 500, "scheduledDate": "%s" },
+                  { "transferAmount": 1500, "scheduledDate": "%s" },
+                  { "transferAmount": 3000, "scheduledDate": "%s" },
+                  { "transferAmount": 3000, "scheduledDate": "%s" }
+                ]
+                """.formatted(today, today.plusDays(5), today.plusDays(45), today.plusDays(5));
+
+        MvcResult result = mockMvc.perform(post("/v1/fees/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)))
+                .andExpect(jsonPath("$[0].feeType").value("TAXA_A"))
+                .andExpect(jsonPath("$[0].transferFee").value(18.00))
+                .andExpect(jsonPath("$[0].totalAmount").value(518.00))
+                .andExpect(jsonPath("$[1].feeType").value("TAXA_B"))
+                .andExpect(jsonPath("$[1].transferFee").value(135.00))
+                .andExpect(jsonPath("$[2].feeType").value("TAXA_C_40_PLUS"))
+                .andExpect(jsonPath("$[2].transferFee").value(51.00))
+                .andExpect(jsonPath("$[3].index").value(3))
+                .andExpect(jsonPath("$[3].feeType").doesNotExist())
+                .andExpect(jsonPath("$[3].error").exists());
+
+        assertThat(transactionRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("POST /v1/fees/quote - Should return 400 for an empty batch")
+    void shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/v1/fees/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At least one item is required"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.rest.controller;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase.CreateTransactionCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SettlementController Integration Tests")
+class SettlementControllerIntegrationTest {
+
+    private static final String FRANCE = "FR76 3000 6000 0112 3456 7890 189";
+    private static final String PORTUGAL = "PT50 0002 0123 1234 5678 9015 4";
+    private static final String GERMANY = "DE89 3704 0044 0532 0130 00";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    @Test
+    @DisplayName("POST /v1/settlements/{date}/netting - Should net the daily run by account pair and link the transfers")
+    void shouldNetBusinessDate() throws Exception {
+        // Given - far enough ahead to be priced by Fee C and not shared with other tests
+        LocalDate date = LocalDate.now().plusDays(60);
+        Transaction first = create(FRANCE, PORTUGAL, "3000.00", date, null);
+        Transaction reverse = create(PORTUGAL, FRANCE, "2500.00", date, null);
+        Transaction second = create(FRANCE, PORTUGAL, "2100.00", date, null);
+        Transaction other = create(GERMANY, FRANCE, "2200.00", date, null);
+        create(FRANCE, PORTUGAL, "5000.00", date, LocalTime.of(14, 30));
+
+        // When & Then
+        mockMvc.perform(post("/v1/settlements/{date}/netting", date))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.businessDate").value(date.toString()))
+                .andExpect(jsonPath("$.transactions").value(4))
+                .andExpect(jsonPath("$.directedGroups").value(3))
+                .andExpect(jsonPath("$.accountPairs").value(2))
+                .andExpect(jsonPath("$.payments").value(2))
+                .andExpect(jsonPath("$.grossAmount").value(9800.00))
+                .andExpect(jsonPath("$.netAmount").value(4800.00))
+                .andExpect(jsonPath("$.reductionRatio").value(0.5));
+
+        mockMvc.perform(post("/v1/settlements/{date}/netting", date))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/settlements/{date}", date))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].debtorAccount").value("FR7630006000011234567890189"))
+                .andExpect(jsonPath("$[0].creditorAccount").value("PT50000201231234567890154"))
+                .andExpect(jsonPath("$[0].amount").value(2600.00))
+                .andExpect(jsonPath("$[0].transactionIds", contains(
+                        first.getId().intValue(), reverse.getId().intValue(), second.getId().intValue())))
+                .andExpect(jsonPath("$[1].debtorAccount").value("DE89370400440532013000"))
+                .andExpect(jsonPath("$[1].transactionIds", contains(other.getId().intValue())));
+    }
+
+    @Test
+    @DisplayName("POST /v1/settlements/{date}/files - Should write the day's transfers to a pain.001 file")
+    void shouldWriteSettlementFiles() throws Exception {
+        // Given - timed transfers are included, unlike netting
+        LocalDate date = LocalDate.now().plusDays(61);
+        create(FRANCE, PORTUGAL, "3000.00", date, null);
+        create(PORTUGAL, FRANCE, "2500.00", date, LocalTime.of(9, 0));
+        create(FRANCE, GERMANY, "2100.50", date, null);
+
+        // When & Then
+        mockMvc.perform(post("/v1/settlements/{date}/files", date))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name").value("pain001-" + date.toString().replace("-", "") + "-001.xml"))
+                .andExpect(jsonPath("$[0].transactions").value(3))
+                .andExpect(jsonPath("$[0].controlSum").value(7600.50));
+    }
+
+    private Transaction create(String source, String destination, String amount, LocalDate date, LocalTime time) {
+        return createTransactionUseCase.execute(new CreateTransactionCommand(
+                source, destination, new BigDecimal(amount), date, time));
+    }
+}
@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
@@ -30,6 +31,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -94,7 +96,8 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.transferAmount").value(500.00))
                 .andExpect(jsonPath("$.transferFee").value(18.00)) // 500 * 0.030 + 3 = 18.00
                 .andExpect(jsonPath("$.totalAmount").value(518.00))
-                .andExpect(jsonPath("$.scheduledDate").value(today.toString()));
+                .andExpect(jsonPath("$.scheduledDate").value(today.toString()))
+                .andExpect(jsonPath("$.status").value("SCHEDULED"));
     }
 
     @Test
@@ -124,6 +127,31 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalAmount").value(1635.00));
     }
 
+    @Test
+    @DisplayName("POST - Should create transaction with an execution time slot")
+    void shouldCreateTransactionWithTimeSlot() throws Exception {
+        LocalDate day5DaysFuture = LocalDate.now().plusDays(5);
+        // Given - Executed at 14:30 instead of with the daily run
+        String requestJson = """
+                {
+                  "sourceAccount": "FR7630006000011234567890189",
+                  "destinationAccount": "ES9121000418450200051332",
+                  "transferAmount": 1500,
+                  "scheduledDate": "%s",
+                  "scheduledTime": "14:30"
+                }
+                """.formatted(day5DaysFuture);
+
+        // When & Then
+        mockMvc.perform(post("/v1/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.scheduledDate").value(day5DaysFuture.toString()))
+                .andExpect(jsonPath("$.scheduledTime").value("14:30"))
+                .andExpect(jsonPath("$.transferFee").value(135.00));
+    }
+
     @Test
     @DisplayName("POST - Should create transaction with Taxa C (>2000 EUR, 11-20 days)")
     void shouldCreateTransactionWithTaxaC() throws Exception {
@@ -148,6 +176,30 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.totalAmount").value(3787.00));
     }
 
+    @Test
+    @DisplayName("POST - Should create transaction with Taxa C (>2000 EUR, more than 40 days)")
+    void shouldCreateTransactionWithTaxaCOver40Days() throws Exception {
+        LocalDate day45Future = LocalDate.now().plusDays(45);
+        // Given - Amount 3000, 45 days = Taxa C 40+ (1.7%), open-ended max_days
+        String requestJson = """
+                {
+                  "sourceAccount": "PT50000201231234567890154",
+                  "destinationAccount": "DE89370400440532013000",
+                  "transferAmount": 3000,
+                  "scheduledDate": "%s"
+                }
+                """.formatted(day45Future);
+
+        mockMvc.perform(post("/v1/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.transferAmount").value(3000.00))
+                .andExpect(jsonPath("$.transferFee").value(51.00)) // 3000 * 0.017 = 51
+                .andExpect(jsonPath("$.totalAmount").value(3051.00));
+    }
+
     @Test
     @DisplayName("POST - Should return 400 for invalid IBAN format")
     void shouldReturn400ForInvalidIban() throws Exception {
@@ -196,6 +248,29 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$.details", hasItem(containsString("Invalid source account format"))));
     }
 
+    @Test
+    @DisplayName("POST - Should return 400 for IBAN with invalid check digits")
+    void shouldReturn400ForIbanWithInvalidCheckDigits() throws Exception {
+        LocalDate today = LocalDate.now();
+        // Given - Well-formed IBAN with wrong mod-97 check digits
+        String requestJson = """
+                {
+                  "sourceAccount": "PT50000201231234567890154",
+                  "destinationAccount": "DE88370400440532013000",
+                  "transferAmount": 500,
+                  "scheduledDate": "%s"
+                }
+                """.formatted(today);
+
+        // When & Then
+        mockMvc.perform(post("/v1/transactions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details", hasItem(containsString("Invalid destination account format"))));
+    }
+
     @Test
     @DisplayName("POST - Should return 400 for same source and destination accounts")
     void shouldReturn400ForSameSourceAndDestination() throws Exception {
@@ -296,6 +371,60 @@ class TransactionControllerIntegrationTest {
                         hasItem(containsString("Amount must be greater than zero"))));
     }
 
+    // ========================================
+    // POST /v1/transactions/batch - Bulk Create
+    // ========================================
+
+    @Test
+    @DisplayName("POST /batch - Should create valid items and report invalid ones per item")
+    void shouldCreateBatchWithPerItemResults() throws Exception {
+        LocalDate today = LocalDate.now();
+        // Given - Second item has wrong IBAN check digits, third has no matching fee rule
+        String requestJson = """
+                [
+                  { "sourceAccount": "PT50000201231234567890154", "destinationAccount": "DE89370400440532013000",
+                    "transferAmount": 500, "scheduledDate": "%s" },
+                  { "sourceAccount": "PT50000201231234567890155", "destinationAccount": "DE89370400440532013000",
+                    "transferAmount": 500, "scheduledDate": "%s" },
+                  { "sourceAccount": "FR7630006000011234567890189", "destinationAccount": "ES9121000418450200051332",
+                    "transferAmount": 1500, "scheduledDate": "%s" },
+                  { "sourceAccount": "FR7630006000011234567890189", "destinationAccount": "ES9121000418450200051332",
+                    "transferAmount": 1500, "scheduledDate": "%s" }
+                ]
+                """.formatted(today, today, today, today.plusDays(5));
+
+        // When & Then
+        mockMvc.perform(post("/v1/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results", hasSize(4)))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].transaction.id").exists())
+                .andExpect(jsonPath("$.results[0].transaction.transferFee").value(18.00))
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].transaction").doesNotExist())
+                .andExpect(jsonPath("$.results[1].error").value(containsString("Invalid source account format")))
+                .andExpect(jsonPath("$.results[2].error").value(containsString("No fee configuration found")))
+                .andExpect(jsonPath("$.results[3].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[3].transaction.transferFee").value(135.00));
+
+        assertThat(transactionRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("POST /batch - Should return 400 for an empty batch")
+    void shouldReturn400ForEmptyBatch() throws Exception {
+        mockMvc.perform(post("/v1/transactions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("At least one item is required"));
+    }
+
     // ========================================
     // GET /v1/transactions/{id}
     // ========================================
@@ -353,6 +482,48 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$[2].sourceAccount").exists());
     }
 
+    @Test
+    @DisplayName("GET / - Should page through transactions with an opaque cursor")
+    void shouldPageThroughTransactionsWithCursor() throws Exception {
+        // Given
+        Transaction first = createAndSaveTransaction(IBAN_PORTUGAL, IBAN_GERMANY, "500.00", LocalDate.now());
+        Transaction second = createAndSaveTransaction(IBAN_FRANCE, IBAN_SPAIN, "800.00", LocalDate.now());
+        Transaction third = createAndSaveTransaction(IBAN_GERMANY, IBAN_FRANCE, "1200.00", LocalDate.now().plusDays(5));
+
+        // When - First page
+        String cursor = mockMvc.perform(get("/v1/transactions").param("limit", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(first.getId()))
+                .andExpect(jsonPath("$[1].id").value(second.getId()))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        // Then - Last page has no further cursor
+        mockMvc.perform(get("/v1/transactions").param("limit", "2").param("cursor", cursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(third.getId()))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("GET / - Should return 400 for invalid cursor or limit")
+    void shouldReturn400ForInvalidCursorOrLimit() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/v1/transactions").param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid page cursor"));
+
+        mockMvc.perform(get("/v1/transactions").param("limit", "5000"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page limit must be between 1 and 1000"));
+    }
+
     @Test
     @DisplayName("GET / - Should return empty list when no transactions")
     void shouldReturnEmptyListWhenNoTransactions() throws Exception {
@@ -419,6 +590,49 @@ class TransactionControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].sourceAccount").value(IBAN_PORTUGAL));
     }
 
+    // ========================================
+    // GET /v1/transactions/export
+    // ========================================
+
+    @Test
+    @DisplayName("GET /export - Should stream transactions in range as NDJSON")
+    void shouldExportTransactionsAsNdjson() throws Exception {
+        // Given
+        LocalDate today = LocalDate.now();
+        Transaction first = createAndSaveTransaction(IBAN_PORTUGAL, IBAN_GERMANY, "500.00", today);
+        Transaction second = createAndSaveTransaction(IBAN_FRANCE, IBAN_SPAIN, "1500.00", today.plusDays(5));
+        createAndSaveTransaction(IBAN_GERMANY, IBAN_FRANCE, "3500.00", today.plusDays(15));
+
+        // When
+        String body = mockMvc.perform(get("/v1/transactions/export")
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(10).toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", containsString("application/x-ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then - One JSON object per line, in scheduled date order
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"id\":" + first.getId());
+        assertThat(lines[1]).startsWith("{").contains("\"id\":" + second.getId());
+    }
+
+    @Test
+    @DisplayName("GET /export - Should return 400 when from is after to")
+    void shouldReturn400ForReversedExportRange() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        // When & Then
+        mockMvc.perform(get("/v1/transactions/export")
+                        .param("from", today.plusDays(1).toString())
+                        .param("to", today.toString()))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("From date must not be after to date"));
+    }
+
     // ========================================
     // PUT /v1/transactions/{id} - Full Update
     // ========================================
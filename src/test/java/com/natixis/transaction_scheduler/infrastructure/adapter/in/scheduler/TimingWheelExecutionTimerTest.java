@@ -0,0 +1,165 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.in.scheduler;
+
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.out.PartitionOwnership;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimingWheelExecutionTimer Tests")
+class TimingWheelExecutionTimerTest {
+
+    private static final String OWNED_SOURCE = "FR76 3000 6000 0112 3456 7890 189";
+    private static final String OTHER_SOURCE = "DE89 3704 0044 0532 0130 00";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 10, 0);
+
+    @Mock
+    private ExecuteDueTransactionsUseCase executeDueTransactionsUseCase;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private PartitionOwnership partitionOwnership;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private MutableClock clock;
+    private TimingWheelExecutionTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+        timer = new TimingWheelExecutionTimer(executeDueTransactionsUseCase, transactionRepository,
+                partitionOwnership, taskScheduler, new CachedDayClock(clock), 100, 1);
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the store and fire overdue transactions of owned partitions by date")
+    void shouldReloadAndFireOwnedOverdue() {
+        // Given
+        Transaction yesterday = timed(1L, OWNED_SOURCE, LocalDateTime.of(2026, 3, 1, 9, 0));
+        Transaction earlier = timed(2L, OWNED_SOURCE, LocalDateTime.of(2026, 3, 2, 9, 30));
+        Transaction notOwned = timed(3L, OTHER_SOURCE, LocalDateTime.of(2026, 3, 2, 9, 30));
+        when(transactionRepository.findPendingWithTimeSlotUntil(any()))
+                .thenReturn(List.of(yesterday, earlier, notOwned));
+        when(partitionOwnership.ownedPartitions()).thenReturn(Set.of(yesterday.getPartitionId()));
+
+        // When
+        timer.reload();
+        clock.advance(Duration.ofMillis(250));
+        timer.tick();
+
+        // Then
+        verify(executeDueTransactionsUseCase).execute(yesterday.getScheduledDate(), List.of(1L));
+        verify(executeDueTransactionsUseCase).execute(earlier.getScheduledDate(), List.of(2L));
+        assertThat(timer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should only hold pending timed transactions within the horizon")
+    void shouldHoldPendingTimedWithinHorizon() {
+        // Given
+        Transaction soon = timed(1L, OWNED_SOURCE, NOW.plusMinutes(30));
+
+        // When
+        timer.schedule(soon);
+        timer.schedule(timed(2L, OWNED_SOURCE, NOW.plusHours(2)));
+        timer.schedule(Transaction.builder()
+                .id(3L)
+                .sourceAccount(new AccountNumber(OWNED_SOURCE))
+                .scheduledDate(NOW.toLocalDate())
+                .build());
+        timer.schedule(timed(4L, OWNED_SOURCE, NOW.plusMinutes(10), TransactionStatus.IN_PROGRESS));
+
+        // Then
+        assertThat(timer.size()).isEqualTo(1);
+        timer.cancel(1L);
+        assertThat(timer.size()).isZero();
+        timer.tick();
+        verify(executeDueTransactionsUseCase, never()).execute(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should refuse a horizon the wheel cannot hold")
+    void shouldRefuseHorizonBeyondWheel() {
+        assertThatThrownBy(() -> new TimingWheelExecutionTimer(executeDueTransactionsUseCase,
+                transactionRepository, partitionOwnership, taskScheduler, new CachedDayClock(clock), 100, 1_000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("horizon-hours");
+    }
+
+    private static Transaction timed(Long id, String sourceAccount, LocalDateTime dueAt) {
+        return timed(id, sourceAccount, dueAt, TransactionStatus.SCHEDULED);
+    }
+
+    private static Transaction timed(Long id, String sourceAccount, LocalDateTime dueAt, TransactionStatus status) {
+        return Transaction.builder()
+                .id(id)
+                .sourceAccount(new AccountNumber(sourceAccount))
+                .destinationAccount(new AccountNumber("PT50 0002 0123 1234 5678 9015 4"))
+                .transferAmount(new Money("100.00"))
+                .transferFee(new Money("3.00"))
+                .scheduledDate(dueAt.toLocalDate())
+                .scheduledTime(dueAt.toLocalTime())
+                .status(status)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import com.natixis.transaction_scheduler.application.usecase.AccountLaneDispatcher;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccountLaneMetrics Tests")
+class AccountLaneMetricsTest {
+
+    private static final AccountNumber ACCOUNT = new AccountNumber("FR76 3000 6000 0112 3456 7890 189");
+
+    @Test
+    @DisplayName("Should publish depth, peak depth and latency for every lane")
+    void shouldPublishLaneMeters() {
+        // Given - tasks only run when the executor is drained
+        List<Runnable> pending = new ArrayList<>();
+        AccountLaneDispatcher dispatcher = new AccountLaneDispatcher(pending::add, 4);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new AccountLaneMetrics(dispatcher).bindTo(registry);
+
+        // When
+        dispatcher.submit(ACCOUNT, () -> 1);
+        dispatcher.submit(ACCOUNT, () -> 2);
+        String lane = Integer.toString(laneOf(dispatcher));
+
+        // Then
+        assertThat(registry.find(AccountLaneMetrics.DEPTH_METRIC).gauges()).hasSize(4);
+        assertThat(registry.get(AccountLaneMetrics.DEPTH_METRIC).tag("lane", lane).gauge().value()).isEqualTo(2);
+
+        // When
+        pending.forEach(Runnable::run);
+
+        // Then
+        assertThat(registry.get(AccountLaneMetrics.DEPTH_METRIC).tag("lane", lane).gauge().value()).isZero();
+        assertThat(registry.get(AccountLaneMetrics.PEAK_DEPTH_METRIC).tag("lane", lane).gauge().value())
+                .isEqualTo(2);
+        FunctionTimer latency = registry.get(AccountLaneMetrics.LATENCY_METRIC).tag("lane", lane).functionTimer();
+        assertThat(latency.count()).isEqualTo(2);
+        assertThat(latency.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(registry.get(AccountLaneMetrics.MAX_LATENCY_METRIC).tag("lane", lane).gauge().value())
+                .isPositive();
+    }
+
+    private static int laneOf(AccountLaneDispatcher dispatcher) {
+        for (int lane = 0; lane < dispatcher.laneCount(); lane++) {
+            if (dispatcher.stats(lane).depth() > 0) {
+                return lane;
+            }
+        }
+        throw new IllegalStateException("No busy lane");
+    }
+}
@@ -0,0 +1,112 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import com.natixis.transaction_scheduler.domain.model.CachedDayClock;
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase.BatchResult;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionsBatchUseCase.ItemResult;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreatedTransactionMetrics Tests")
+class CreatedTransactionMetricsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+    private static final SchedulingClock CLOCK = new CachedDayClock(
+            Clock.fixed(Instant.parse("2026-03-02T10:00:00Z"), ZoneOffset.UTC));
+    private static final FeeConfiguration TAXA_A = rule("TAXA_A", "0.00", "1000.00", 0, 0, "0.03");
+    private static final FeeConfiguration TAXA_B = rule("TAXA_B", "1000.01", "2000.00", 1, 10, "0.09");
+    private static final FeeConfiguration TAXA_C = rule("TAXA_C_11_20", "2000.01", null, 11, 20, "0.082");
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should bucket days ahead in the day ranges of the fee rules")
+    void shouldBucketDays() {
+        // When & Then
+        assertThat(CreatedTransactionMetrics.bucket(-3)).isZero();
+        assertThat(CreatedTransactionMetrics.bucket(0)).isZero();
+        assertThat(CreatedTransactionMetrics.bucket(1)).isEqualTo(1);
+        assertThat(CreatedTransactionMetrics.bucket(10)).isEqualTo(1);
+        assertThat(CreatedTransactionMetrics.bucket(11)).isEqualTo(2);
+        assertThat(CreatedTransactionMetrics.bucket(30)).isEqualTo(3);
+        assertThat(CreatedTransactionMetrics.bucket(40)).isEqualTo(4);
+        assertThat(CreatedTransactionMetrics.bucket(41)).isEqualTo(5);
+        assertThat(CreatedTransactionMetrics.bucket(365)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should count each created transaction under its scheduled-day bucket and fee type")
+    void shouldCountCreatedTransactions() {
+        // Given
+        CreatedTransactionMetrics metrics = new CreatedTransactionMetrics(registry, CLOCK);
+        CreateTransactionUseCase created = command -> transaction(15, TAXA_C);
+        CreateTransactionUseCase createTransaction = metrics.counting(created);
+
+        // When
+        createTransaction.execute(null);
+        createTransaction.execute(null);
+
+        // Then
+        assertThat(scheduled("11-20")).isEqualTo(2);
+        assertThat(scheduled("0")).isZero();
+        assertThat(feeApplied("TAXA_C_11_20")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count the created items of a batch and skip rejected ones")
+    void shouldCountBatchItems() {
+        // Given
+        CreatedTransactionMetrics metrics = new CreatedTransactionMetrics(registry, CLOCK);
+        CreateTransactionsBatchUseCase batch = command -> new BatchResult(List.of(
+                new ItemResult(0, transaction(0, TAXA_A), null),
+                new ItemResult(1, null, "No fee configuration found for amount 1500.00 and 0 days"),
+                new ItemResult(2, transaction(5, TAXA_B), null),
+                new ItemResult(3, transaction(0, TAXA_A), null)));
+
+        // When
+        metrics.counting(batch).execute(null);
+
+        // Then
+        assertThat(feeApplied("TAXA_A")).isEqualTo(2);
+        assertThat(feeApplied("TAXA_B")).isEqualTo(1);
+        assertThat(scheduled("0")).isEqualTo(2);
+        assertThat(scheduled("1-10")).isEqualTo(1);
+    }
+
+    private double scheduled(String bucket) {
+        return registry.get(CreatedTransactionMetrics.SCHEDULED_METRIC).tag("scheduledDays", bucket).counter().count();
+    }
+
+    private double feeApplied(String feeType) {
+        return registry.get(CreatedTransactionMetrics.FEE_APPLIED_METRIC).tag("feeType", feeType).counter().count();
+    }
+
+    private static Transaction transaction(int daysAhead, FeeConfiguration feeConfiguration) {
+        return Transaction.builder()
+                .scheduledDate(TODAY.plusDays(daysAhead))
+                .feeConfiguration(feeConfiguration)
+                .build();
+    }
+
+    private static FeeConfiguration rule(String feeType, String minAmount, String maxAmount,
+                                         Integer minDays, Integer maxDays, String percentage) {
+        return FeeConfiguration.create(feeType, new Money(minAmount), maxAmount == null ? null : new Money(maxAmount),
+                minDays, maxDays, new BigDecimal(percentage), null, 1, feeType);
+    }
+}
@@ -0,0 +1,77 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MeteredFeeConfigurationRepository Tests")
+class MeteredFeeConfigurationRepositoryTest {
+
+    private static final FeeConfiguration TAXA_A = FeeConfiguration.create("TAXA_A", new Money("0.00"),
+            new Money("1000.00"), 0, 0, new BigDecimal("0.03"), new Money("3.00"), 1, "TAXA_A");
+    private static final FeeConfiguration TAXA_B = FeeConfiguration.create("TAXA_B", new Money("1000.01"),
+            new Money("2000.00"), 1, 10, new BigDecimal("0.09"), null, 2, "TAXA_B");
+
+    @Mock
+    private FeeConfigurationRepository feeConfigurationRepository;
+
+    private MeterRegistry registry;
+    private MeteredFeeConfigurationRepository metered;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metered = new MeteredFeeConfigurationRepository(feeConfigurationRepository, registry);
+    }
+
+    @Test
+    @DisplayName("Should not count lookups a rule matched")
+    void shouldNotCountMatches() {
+        // Given
+        when(feeConfigurationRepository.findBestMatch(new Money("500.00"), 0L)).thenReturn(Optional.of(TAXA_A));
+        when(feeConfigurationRepository.findBestMatch(new Money("1500.00"), 5L)).thenReturn(Optional.of(TAXA_B));
+
+        // When
+        Optional<FeeConfiguration> result = metered.findBestMatch(new Money("500.00"), 0L);
+        metered.findBestMatch(new Money("1500.00"), 5L);
+
+        // Then
+        assertThat(result).containsSame(TAXA_A);
+        assertThat(unmatched()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count lookups no rule matched")
+    void shouldCountNoMatch() {
+        // Given
+        when(feeConfigurationRepository.findBestMatch(any(), anyLong())).thenReturn(Optional.empty());
+
+        // When
+        Optional<FeeConfiguration> result = metered.findBestMatch(new Money("1500.00"), 0L);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(unmatched()).isEqualTo(1);
+    }
+
+    private double unmatched() {
+        return registry.get(MeteredFeeConfigurationRepository.UNMATCHED_METRIC).counter().count();
+    }
+}
@@ -0,0 +1,96 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.metrics;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.FeeConfigurationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimedPorts Tests")
+class TimedPortsTest {
+
+    @Mock
+    private FeeConfigurationRepository feeConfigurationRepository;
+
+    private MeterRegistry registry;
+    private FeeConfigurationRepository timed;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        timed = TimedPorts.timed(FeeConfigurationRepository.class, feeConfigurationRepository, registry,
+                TimedPorts.REPOSITORY_METRIC);
+    }
+
+    @Test
+    @DisplayName("Should register a success timer for every port method up front")
+    void shouldRegisterTimersUpFront() {
+        // When & Then
+        assertThat(registry.find(TimedPorts.REPOSITORY_METRIC).timers())
+                .extracting(timer -> timer.getId().getTag("method"))
+                .containsExactlyInAnyOrder("findBestMatch", "getRuleIndex");
+    }
+
+    @Test
+    @DisplayName("Should time successful calls and return the port's result")
+    void shouldTimeSuccessfulCalls() {
+        // Given
+        Money amount = new Money("1500.00");
+        FeeConfiguration rule = FeeConfiguration.create("TAXA_B", new Money("1000.01"), new Money("2000.00"),
+                1, 10, new BigDecimal("0.09"), null, 2, "TAXA_B");
+        when(feeConfigurationRepository.findBestMatch(amount, 5L)).thenReturn(Optional.of(rule));
+
+        // When
+        Optional<FeeConfiguration> result = timed.findBestMatch(amount, 5L);
+
+        // Then
+        assertThat(result).containsSame(rule);
+        Timer timer = timer("findBestMatch", "none");
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.getId().getTag("port")).isEqualTo("FeeConfigurationRepository");
+    }
+
+    @Test
+    @DisplayName("Should time failed calls under the exception thrown and rethrow it")
+    void shouldTimeFailedCalls() {
+        // Given
+        when(feeConfigurationRepository.getRuleIndex()).thenThrow(new IllegalStateException("not loaded"));
+
+        // When & Then
+        assertThatThrownBy(() -> timed.getRuleIndex())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("not loaded");
+        assertThat(timer("getRuleIndex", "IllegalStateException").count()).isEqualTo(1);
+        assertThat(timer("getRuleIndex", "none").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a class that is not an interface")
+    void shouldRejectClasses() {
+        // When & Then
+        assertThatThrownBy(() -> TimedPorts.timed(Object.class, new Object(), registry, TimedPorts.USE_CASE_METRIC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Timer timer(String method, String exception) {
+        return registry.get(TimedPorts.REPOSITORY_METRIC)
+                .tag("method", method)
+                .tag("exception", exception)
+                .timer();
+    }
+}
@@ -0,0 +1,54 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.dataset;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase.CreateTransactionCommand;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository.JpaTransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration test for the startup bulk load. Uses its own in-memory
+ * database so the generated rows stay out of the other test contexts.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:synthetic_dataset_test",
+        "dataset.transactions=2500",
+        "dataset.accounts=200",
+        "dataset.batch-size=1000"
+})
+@ActiveProfiles("test")
+@DisplayName("SyntheticDatasetLoader Integration Tests")
+class SyntheticDatasetLoaderIntegrationTest {
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    @Test
+    @DisplayName("Should load the dataset in batches and keep new ids clear of it")
+    void shouldLoadDatasetAtStartup() {
+        // Given - loaded at startup, including the last partial batch
+        assertThat(jpaTransactionRepository.count()).isEqualTo(2500);
+
+        // When
+        Transaction created = createTransactionUseCase.execute(new CreateTransactionCommand(
+                "FR76 3000 6000 0112 3456 7890 189", "PT50 0002 0123 1234 5678 9015 4",
+                new BigDecimal("500.00"), LocalDate.now(), null));
+
+        // Then
+        assertThat(created.getId()).isGreaterThan(2500L);
+        assertThat(jpaTransactionRepository.findById(1L)).hasValueSatisfying(entity ->
+                assertThat(entity.toTransaction().getSourceAccount()).isNotNull());
+    }
+}
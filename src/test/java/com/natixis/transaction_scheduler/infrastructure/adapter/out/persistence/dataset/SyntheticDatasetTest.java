@@ -0,0 +1,129 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.dataset;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.FeeRuleIndex;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the synthetic dataset generator.
+ * Rules mirror the seed data in import.sql.
+ */
+@DisplayName("SyntheticDataset Tests")
+class SyntheticDatasetTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 10, 0);
+    private static final FeeRuleIndex FEE_RULES = FeeRuleIndex.of(List.of(
+            rule("TAXA_A", "0.00", "1000.00", 0, 0, "0.03", "3.00", 1),
+            rule("TAXA_B", "1000.01", "2000.00", 1, 10, "0.09", null, 2),
+            rule("TAXA_C_11_20", "2000.01", null, 11, 20, "0.082", null, 3),
+            rule("TAXA_C_21_30", "2000.01", null, 21, 30, "0.069", null, 4),
+            rule("TAXA_C_31_40", "2000.01", null, 31, 40, "0.047", null, 5),
+            rule("TAXA_C_40_PLUS", "2000.01", null, 41, null, "0.017", null, 6)
+    ));
+
+    @Test
+    @DisplayName("Should generate the same rows from the same seed")
+    void shouldBeDeterministic() {
+        // Given
+        SyntheticDataset first = new SyntheticDataset(7, 500, 1.1, 30, FEE_RULES, NOW);
+        SyntheticDataset second = new SyntheticDataset(7, 500, 1.1, 30, FEE_RULES, NOW);
+
+        // When & Then
+        assertThat(rows(second, 1_000)).isEqualTo(rows(first, 1_000));
+        assertThat(rows(new SyntheticDataset(8, 500, 1.1, 30, FEE_RULES, NOW), 1_000))
+                .isNotEqualTo(rows(first, 1_000));
+    }
+
+    @Test
+    @DisplayName("Should generate valid, priced transfers across past and future dates")
+    void shouldGenerateValidRows() {
+        // When
+        List<SyntheticDataset.Row> rows = rows(new SyntheticDataset(42, 1_000, 1.1, 30, FEE_RULES, NOW), 5_000);
+
+        // Then
+        assertThat(rows).extracting(SyntheticDataset.Row::id).startsWith(100L, 101L).endsWith(5_099L);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(AccountNumber.isValid(row.sourceAccount())).isTrue();
+            assertThat(AccountNumber.isValid(row.destinationAccount())).isTrue();
+            assertThat(row.destinationAccount()).isNotEqualTo(row.sourceAccount());
+            assertThat(row.transferFee()).isNotNull();
+            assertThat(row.partitionId()).isEqualTo(ExecutionPartitions.of(new AccountNumber(row.sourceAccount())));
+            assertThat(row.status().isFinal() || !row.scheduledDate().isBefore(NOW.toLocalDate())).isTrue();
+            assertThat(row.createdAt()).isBeforeOrEqualTo(NOW);
+        });
+        assertThat(rows).anyMatch(row -> row.scheduledDate().isBefore(NOW.toLocalDate()));
+        assertThat(rows).anyMatch(row -> row.scheduledDate().isAfter(NOW.toLocalDate().plusDays(40)));
+        assertThat(rows).anyMatch(row -> row.scheduledTime() != null);
+    }
+
+    @Test
+    @DisplayName("Should skew source accounts towards the most popular ones")
+    void shouldSkewAccountPopularity() {
+        // When
+        List<SyntheticDataset.Row> rows = rows(new SyntheticDataset(42, 1_000, 1.1, 30, FEE_RULES, NOW), 20_000);
+
+        // Then - uniform sources would give the busiest account about 0.1% of the transfers
+        Map<String, Integer> bySource = new HashMap<>();
+        rows.forEach(row -> bySource.merge(row.sourceAccount(), 1, Integer::sum));
+        int busiest = bySource.values().stream().mapToInt(Integer::intValue).max().orElseThrow();
+        assertThat(busiest).isGreaterThan(rows.size() / 10);
+        assertThat(bySource.size()).isGreaterThan(500);
+    }
+
+    @Test
+    @DisplayName("Should schedule each amount with a lead time in its fee band")
+    void shouldKeepLeadTimesWithinFeeBands() {
+        // When
+        List<SyntheticDataset.Row> rows = rows(new SyntheticDataset(42, 100, 0, 0, FEE_RULES, NOW), 2_000);
+
+        // Then - created today, so every transfer is still scheduled ahead within its band
+        LocalDate today = NOW.toLocalDate();
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.scheduledDate()).isAfterOrEqualTo(today);
+            BigDecimal amount = row.transferAmount();
+            if (amount.compareTo(new BigDecimal("1000.00")) <= 0) {
+                assertThat(row.scheduledDate()).isEqualTo(today);
+            } else if (amount.compareTo(new BigDecimal("2000.00")) <= 0) {
+                assertThat(row.scheduledDate()).isBetween(today.plusDays(1), today.plusDays(10));
+            } else {
+                assertThat(row.scheduledDate()).isAfter(today.plusDays(10));
+            }
+        });
+    }
+
+    private static List<SyntheticDataset.Row> rows(SyntheticDataset dataset, int count) {
+        List<SyntheticDataset.Row> rows = new ArrayList<>(count);
+        dataset.forEach(100, count, rows::add);
+        return rows;
+    }
+
+    private static FeeConfiguration rule(String feeType, String minAmount, String maxAmount,
+                                         Integer minDays, Integer maxDays, String percentage,
+                                         String fixedFee, int priority) {
+        return FeeConfiguration.create(
+                feeType,
+                new Money(minAmount),
+                maxAmount == null ? null : new Money(maxAmount),
+                minDays,
+                maxDays,
+                new BigDecimal(percentage),
+                fixedFee == null ? null : new Money(fixedFee),
+                priority,
+                feeType
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.DeadLetter;
+import com.natixis.transaction_scheduler.domain.model.PendingRetry;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase.CreateTransactionCommand;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Execution retries and dead letters Integration Tests")
+class DeadLetterRepositoryAdapterIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DeadLetterRepository deadLetterRepository;
+
+    @Test
+    @DisplayName("Should persist attempts and only hand out retries that are due")
+    void shouldScheduleAndClaimRetries() {
+        // Given
+        Transaction transaction = claimed(create());
+
+        // When
+        int scheduled = transactionRepository.scheduleRetries(Map.of(transaction.getId(), NOW.plusMinutes(1)));
+
+        // Then
+        assertThat(scheduled).isEqualTo(1);
+        Transaction retrying = transactionRepository.findById(transaction.getId()).orElseThrow();
+        assertThat(retrying.getStatus()).isEqualTo(TransactionStatus.RETRYING);
+        assertThat(retrying.getAttempts()).isEqualTo(1);
+        assertThat(retrying.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(1));
+        assertThat(transactionRepository.findPendingRetries(Set.of(transaction.getPartitionId())))
+                .containsExactly(new PendingRetry(transaction.getId(), transaction.getPartitionId(), NOW.plusMinutes(1)));
+
+        assertThat(transactionRepository.claimRetries(List.of(transaction.getId()), NOW)).isEmpty();
+        assertThat(transactionRepository.claimRetries(List.of(transaction.getId()), NOW.plusMinutes(1)))
+                .singleElement()
+                .satisfies(claimed -> assertThat(claimed.getStatus()).isEqualTo(TransactionStatus.IN_PROGRESS));
+        assertThat(transactionRepository.claimRetries(List.of(transaction.getId()), NOW.plusMinutes(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fail dead-lettered transactions and requeue them with fresh attempts")
+    void shouldDeadLetterAndRequeue() {
+        // Given
+        Transaction oldest = claimed(create());
+        Transaction newest = claimed(create());
+        deadLetterRepository.deadLetter(List.of(
+                deadLetter(oldest, NOW.minusHours(2)),
+                deadLetter(newest, NOW.minusHours(1))));
+
+        // When
+        List<Long> unknownIgnored = deadLetterRepository.requeue(List.of(newest.getId(), -1L), NOW);
+        List<Long> oldestFirst = deadLetterRepository.requeueOldest(10, NOW);
+
+        // Then
+        assertThat(unknownIgnored).containsExactly(newest.getId());
+        assertThat(oldestFirst).containsExactly(oldest.getId());
+        Transaction requeued = transactionRepository.findById(newest.getId()).orElseThrow();
+        assertThat(requeued.getStatus()).isEqualTo(TransactionStatus.RETRYING);
+        assertThat(requeued.getAttempts()).isZero();
+        assertThat(requeued.getNextAttemptAt()).isEqualTo(NOW);
+        assertThat(deadLetterRepository.requeueOldest(10, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should mark dead-lettered transactions as failed")
+    void shouldFailDeadLetteredTransactions() {
+        // Given
+        Transaction transaction = claimed(create());
+
+        // When
+        deadLetterRepository.deadLetter(List.of(deadLetter(transaction, NOW)));
+
+        // Then
+        assertThat(transactionRepository.findById(transaction.getId()).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.FAILED);
+    }
+
+    private Transaction claimed(Transaction transaction) {
+        return transactionRepository.claimPending(List.of(transaction.getId())).get(0);
+    }
+
+    private static DeadLetter deadLetter(Transaction transaction, LocalDateTime at) {
+        return DeadLetter.builder()
+                .transactionId(transaction.getId())
+                .businessDate(transaction.getScheduledDate())
+                .attempts(5)
+                .lastFailureReason("Gateway error: timeout")
+                .deadLetteredAt(at)
+                .build();
+    }
+
+    private Transaction create() {
+        return createTransactionUseCase.execute(new CreateTransactionCommand(
+                "FR76 3000 6000 0112 3456 7890 189",
+                "PT50 0002 0123 1234 5678 9015 4",
+                new BigDecimal("500.00"),
+                LocalDate.now(),
+                null));
+    }
+}
@@ -0,0 +1,171 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.TransactionSchedulerApplication;
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase.ExecutionReport;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Several application contexts sharing one in-memory database, standing in
+ * for several nodes. The first context owns the schema; the others only
+ * connect to it. Heartbeats and TTLs are shortened so rebalancing happens
+ * within a few seconds.
+ */
+@DisplayName("ExecutionLeaseAdapter Integration Tests - Multiple nodes")
+class ExecutionLeaseAdapterIntegrationTest {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:lease_nodes;DB_CLOSE_DELAY=-1";
+    private static final Duration REBALANCE_TIMEOUT = Duration.ofSeconds(15);
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopNodes() {
+        // The first node created the schema and drops it on close, so it goes last
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            nodes.get(i).close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should split partitions between nodes, execute each transaction once and take over from dead nodes")
+    void shouldShardExecutionAcrossNodes() {
+        // Given
+        ConfigurableApplicationContext nodeA = startNode("node-a", true);
+        await().atMost(REBALANCE_TIMEOUT).until(() -> owned(nodeA).size() == ExecutionPartitions.COUNT);
+
+        ConfigurableApplicationContext nodeB = startNode("node-b", false);
+        ConfigurableApplicationContext nodeC = startNode("node-c", false);
+        int fairShare = (ExecutionPartitions.COUNT + 2) / 3;
+        await().atMost(REBALANCE_TIMEOUT).until(() -> isBalanced(List.of(nodeA, nodeB, nodeC), fairShare));
+
+        LocalDate dueDate = LocalDate.now().plusDays(1);
+        int transactions = 300;
+        nodeA.getBean(TransactionRepository.class).saveAll(dueTransactions(dueDate, transactions));
+
+        // When
+        List<CompletableFuture<ExecutionReport>> runs = List.of(nodeA, nodeB, nodeC).stream()
+                .map(node -> CompletableFuture.supplyAsync(() ->
+                        node.getBean(ExecuteDueTransactionsUseCase.class).execute(dueDate)))
+                .toList();
+        List<ExecutionReport> reports = runs.stream().map(CompletableFuture::join).toList();
+
+        // Then
+        assertThat(reports).allMatch(report -> report.dispatched() > 0);
+        assertThat(reports.stream().mapToLong(ExecutionReport::dispatched).sum()).isEqualTo(transactions);
+        JdbcTemplate jdbc = nodeA.getBean(JdbcTemplate.class);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM transaction_executions", Long.class))
+                .isEqualTo(transactions);
+        assertThat(jdbc.queryForObject("SELECT COUNT(DISTINCT transaction_id) FROM transaction_executions", Long.class))
+                .isEqualTo(transactions);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM transactions WHERE status = 'EXECUTED'", Long.class))
+                .isEqualTo(transactions);
+
+        // When a node leaves cleanly and another one dies without releasing
+        nodes.remove(nodeB);
+        nodeB.close();
+        jdbc.update("UPDATE execution_leases SET owner = 'node-dead', expires_at = ? WHERE partition_id < 8",
+                LocalDateTime.now().plusNanos(500_000_000));
+
+        // Then the survivors end up owning every partition between them
+        int survivorShare = ExecutionPartitions.COUNT / 2;
+        await().atMost(REBALANCE_TIMEOUT).until(() -> isBalanced(List.of(nodeA, nodeC), survivorShare));
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId, boolean ownsSchema) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + DATABASE_URL,
+                "--transaction-execution.node-id=" + nodeId,
+                "--transaction-execution.enabled=false",
+                "--transaction-execution.lease.enabled=true",
+                "--transaction-execution.lease.heartbeat-ms=200",
+                "--transaction-execution.lease.ttl-ms=1500",
+                "--fee-configuration.refresh-interval-ms=3600000",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate=WARN"));
+        if (!ownsSchema) {
+            args.add("--spring.jpa.hibernate.ddl-auto=none");
+            args.add("--spring.sql.init.mode=never");
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TransactionSchedulerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+        nodes.add(context);
+        return context;
+    }
+
+    private static Set<Integer> owned(ConfigurableApplicationContext node) {
+        return node.getBean(ExecutionLeaseAdapter.class).ownedPartitions();
+    }
+
+    /**
+     * Every partition owned by exactly one of the nodes, none above its share.
+     */
+    private static boolean isBalanced(List<ConfigurableApplicationContext> nodes, int fairShare) {
+        Set<Integer> union = new HashSet<>();
+        int total = 0;
+        for (ConfigurableApplicationContext node : nodes) {
+            Set<Integer> owned = owned(node);
+            if (owned.size() > fairShare) {
+                return false;
+            }
+            union.addAll(owned);
+            total += owned.size();
+        }
+        return total == ExecutionPartitions.COUNT && union.size() == ExecutionPartitions.COUNT;
+    }
+
+    private static List<Transaction> dueTransactions(LocalDate dueDate, int count) {
+        Random random = new Random(42);
+        AccountNumber destination = new AccountNumber("FR76 3000 6000 0112 3456 7890 189");
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(Transaction.builder()
+                    .sourceAccount(new AccountNumber(portugueseIban(random)))
+                    .destinationAccount(destination)
+                    .transferAmount(new Money("1500.00"))
+                    .transferFee(new Money("135.00"))
+                    .scheduledDate(dueDate)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return transactions;
+    }
+
+    /**
+     * Random 21-digit BBAN with valid ISO 13616 check digits ("PT" is 2529).
+     */
+    private static String portugueseIban(Random random) {
+        StringBuilder bban = new StringBuilder(21);
+        for (int i = 0; i < 21; i++) {
+            bban.append(random.nextInt(10));
+        }
+        int checkDigits = 98 - new BigInteger(bban + "252900").mod(BigInteger.valueOf(97)).intValue();
+        return "PT" + String.format("%02d", checkDigits) + bban;
+    }
+}
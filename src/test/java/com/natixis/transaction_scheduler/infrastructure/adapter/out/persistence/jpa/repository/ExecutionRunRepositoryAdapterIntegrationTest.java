@@ -0,0 +1,233 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.application.usecase.AccountLaneDispatcher;
+import com.natixis.transaction_scheduler.application.usecase.ExecuteDueTransactionsUseCaseImpl;
+import com.natixis.transaction_scheduler.application.usecase.ExecutionRetries;
+import com.natixis.transaction_scheduler.application.usecase.RetryDelayQueue;
+import com.natixis.transaction_scheduler.domain.model.ExecutionCheckpoint;
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.ExecutionRun;
+import com.natixis.transaction_scheduler.domain.model.RetryPolicy;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase.ExecutionReport;
+import com.natixis.transaction_scheduler.domain.port.out.DeadLetterRepository;
+import com.natixis.transaction_scheduler.domain.port.out.ExecutionRunRepository;
+import com.natixis.transaction_scheduler.domain.port.out.PaymentGateway;
+import com.natixis.transaction_scheduler.domain.port.out.PaymentGateway.PaymentResult;
+import com.natixis.transaction_scheduler.domain.port.out.SchedulingClock;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionExecutionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs commit as they go, like in production, so this test is not
+ * transactional; it works on a date of its own and removes its rows after.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("ExecutionRunRepositoryAdapter Integration Tests")
+class ExecutionRunRepositoryAdapterIntegrationTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.now().plusYears(1);
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private ExecutionRunRepository executionRunRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionExecutionRepository transactionExecutionRepository;
+
+    @Autowired
+    private DeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private RetryDelayQueue retryQueue;
+
+    @Autowired
+    private RetryPolicy retryPolicy;
+
+    @Autowired
+    private SchedulingClock schedulingClock;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM transaction_executions WHERE business_date = ?", BUSINESS_DATE);
+        jdbc.update("DELETE FROM transactions WHERE scheduled_date = ?", BUSINESS_DATE);
+        jdbc.update("DELETE FROM execution_checkpoints WHERE run_id IN "
+                + "(SELECT id FROM execution_runs WHERE business_date = ?)", BUSINESS_DATE);
+        jdbc.update("DELETE FROM execution_runs WHERE business_date = ?", BUSINESS_DATE);
+    }
+
+    @Test
+    @DisplayName("Should create one run per date with a checkpoint per partition and complete it once all are drained")
+    void shouldTrackRunAndCheckpoints() {
+        // When
+        ExecutionRun first = executionRunRepository.start(BUSINESS_DATE);
+        ExecutionRun second = executionRunRepository.start(BUSINESS_DATE);
+
+        // Then
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(first.isResumed()).isFalse();
+        assertThat(second.isResumed()).isTrue();
+        assertThat(second.getCheckpoints()).hasSize(ExecutionPartitions.COUNT);
+
+        // When all partitions but one are checkpointed as completed
+        executionRunRepository.saveCheckpoints(first.getId(), second.getCheckpoints().stream()
+                .filter(checkpoint -> checkpoint.getPartitionId() > 0)
+                .map(checkpoint -> checkpoint.advance(100L + checkpoint.getPartitionId(), 2, 1, 0, schedulingClock.now())
+                        .complete(schedulingClock.now()))
+                .toList());
+
+        // Then the run stays open until the last one is
+        assertThat(executionRunRepository.completeIfDrained(first.getId())).isFalse();
+        ExecutionRun reloaded = executionRunRepository.findByBusinessDate(BUSINESS_DATE).orElseThrow();
+        ExecutionCheckpoint checkpoint = reloaded.checkpointsByPartition().get(5);
+        assertThat(checkpoint.getLastTransactionId()).isEqualTo(105L);
+        assertThat(checkpoint.getProcessed()).isEqualTo(3);
+        assertThat(checkpoint.isCompleted()).isTrue();
+
+        executionRunRepository.saveCheckpoints(first.getId(),
+                List.of(reloaded.checkpointsByPartition().get(0).complete(schedulingClock.now())));
+        assertThat(executionRunRepository.completeIfDrained(first.getId())).isTrue();
+        assertThat(executionRunRepository.findByBusinessDate(BUSINESS_DATE).orElseThrow().isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should resume a run that crashed mid-batch and execute every transaction exactly once")
+    void shouldResumeInterruptedRun() throws InterruptedException {
+        // Given - the gateway dies on its 25th call, in the third batch
+        int count = 35;
+        transactionRepository.saveAll(dueTransactions(count));
+        List<Long> sentBeforeCrash = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        ExecutorService crashingNode = Executors.newSingleThreadExecutor();
+        ExecuteDueTransactionsUseCaseImpl crashing = useCase(crashingNode, transaction -> {
+            if (calls.incrementAndGet() == 25) {
+                throw new NodeCrash();
+            }
+            sentBeforeCrash.add(transaction.getId());
+            return PaymentResult.accepted("GW-" + transaction.getId());
+        });
+
+        // When
+        assertThatThrownBy(() -> crashing.execute(BUSINESS_DATE)).hasRootCauseInstanceOf(NodeCrash.class);
+        crashingNode.shutdown();
+        assertThat(crashingNode.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // Then the crash left the third batch claimed and only two batches checkpointed
+        Set<Long> leftClaimed = new HashSet<>(jdbc.queryForList(
+                "SELECT id FROM transactions WHERE scheduled_date = ? AND status = 'IN_PROGRESS'",
+                Long.class, BUSINESS_DATE));
+        assertThat(leftClaimed).hasSize(PAGE_SIZE);
+        ExecutionRun interrupted = executionRunRepository.findByBusinessDate(BUSINESS_DATE).orElseThrow();
+        assertThat(interrupted.isCompleted()).isFalse();
+        assertThat(interrupted.getCheckpoints().stream().mapToLong(ExecutionCheckpoint::getProcessed).sum())
+                .isEqualTo(2L * PAGE_SIZE);
+
+        // When the node comes back
+        List<Long> sentAfterRestart = new CopyOnWriteArrayList<>();
+        ExecutorService restartedNode = Executors.newSingleThreadExecutor();
+        ExecutionReport report;
+        try {
+            report = useCase(restartedNode, transaction -> {
+                sentAfterRestart.add(transaction.getId());
+                return PaymentResult.accepted("GW-" + transaction.getId());
+            }).resume(BUSINESS_DATE).orElseThrow();
+        } finally {
+            restartedNode.shutdownNow();
+        }
+
+        // Then
+        assertThat(report.succeeded()).isEqualTo(count - 2L * PAGE_SIZE);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM transactions WHERE scheduled_date = ? AND status = 'EXECUTED'",
+                Long.class, BUSINESS_DATE)).isEqualTo(count);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM transaction_executions WHERE business_date = ?",
+                Long.class, BUSINESS_DATE)).isEqualTo(count);
+        assertThat(jdbc.queryForObject("SELECT COUNT(DISTINCT transaction_id) FROM transaction_executions "
+                + "WHERE business_date = ? AND outcome = 'SUCCEEDED'", Long.class, BUSINESS_DATE)).isEqualTo(count);
+
+        Set<Long> sentTwice = new HashSet<>(sentBeforeCrash);
+        sentTwice.retainAll(sentAfterRestart);
+        assertThat(leftClaimed).containsAll(sentTwice);
+        assertThat(sentAfterRestart).doesNotHaveDuplicates();
+
+        ExecutionRun resumed = executionRunRepository.findByBusinessDate(BUSINESS_DATE).orElseThrow();
+        assertThat(resumed.isCompleted()).isTrue();
+        assertThat(resumed.getStarts()).isEqualTo(2);
+        assertThat(resumed.getCheckpoints()).allMatch(ExecutionCheckpoint::isCompleted);
+        assertThat(resumed.getCheckpoints().stream().mapToLong(ExecutionCheckpoint::getProcessed).sum())
+                .isEqualTo(count);
+        assertThat(transactionExecutionRepository.findByTransactionId(leftClaimed.iterator().next()))
+                .singleElement()
+                .matches(execution -> execution.isSucceeded());
+    }
+
+    /**
+     * One lane, so the gateway is called in claim order and the crash always
+     * lands in the same batch; claims are released as soon as the node is back.
+     */
+    private ExecuteDueTransactionsUseCaseImpl useCase(ExecutorService executor, PaymentGateway paymentGateway) {
+        return new ExecuteDueTransactionsUseCaseImpl(transactionRepository, transactionExecutionRepository,
+                executionRunRepository,
+                new ExecutionRetries(transactionRepository, deadLetterRepository, retryQueue, retryPolicy,
+                        schedulingClock),
+                paymentGateway, ExecutionPartitions::all,
+                new AccountLaneDispatcher(executor, 1), schedulingClock, PAGE_SIZE, Duration.ZERO);
+    }
+
+    private static List<Transaction> dueTransactions(int count) {
+        List<AccountNumber> sources = List.of(
+                new AccountNumber("FR76 3000 6000 0112 3456 7890 189"),
+                new AccountNumber("DE89 3704 0044 0532 0130 00"));
+        AccountNumber destination = new AccountNumber("PT50 0002 0123 1234 5678 9015 4");
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(Transaction.builder()
+                    .sourceAccount(sources.get(i % sources.size()))
+                    .destinationAccount(destination)
+                    .transferAmount(new Money("1500.00"))
+                    .transferFee(new Money("135.00"))
+                    .scheduledDate(BUSINESS_DATE)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return transactions;
+    }
+
+    /**
+     * Stands in for the process dying: errors are not turned into failed
+     * executions, so the run stops with its batch still claimed.
+     */
+    private static final class NodeCrash extends Error {
+    }
+}
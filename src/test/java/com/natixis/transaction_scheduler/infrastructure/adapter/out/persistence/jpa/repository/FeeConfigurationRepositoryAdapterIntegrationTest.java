@@ -0,0 +1,83 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.entity.FeeConfigurationEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the versioned fee rule snapshot.
+ * The poll interval is stretched so only the test drives reloads.
+ */
+@SpringBootTest(properties = "fee-configuration.refresh-interval-ms=3600000")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("FeeConfigurationRepositoryAdapter Integration Tests - Hot Reload")
+class FeeConfigurationRepositoryAdapterIntegrationTest {
+
+    @Autowired
+    private FeeConfigurationRepositoryAdapter feeConfigurationRepositoryAdapter;
+
+    @Autowired
+    private JpaFeeConfigurationRepository jpaFeeConfigurationRepository;
+
+    @Autowired
+    private JpaFeeConfigurationVersionRepository jpaFeeConfigurationVersionRepository;
+
+    @AfterTransaction
+    void restoreSnapshot() {
+        feeConfigurationRepositoryAdapter.refreshIfStale();
+    }
+
+    @Test
+    @DisplayName("Should keep serving the loaded snapshot until the version changes")
+    void shouldIgnoreChangesWithoutVersionBump() {
+        feeConfigurationRepositoryAdapter.refreshIfStale();
+        long loadedVersion = feeConfigurationRepositoryAdapter.getLoadedVersion();
+
+        changeTaxaBPercentage("0.0500");
+        feeConfigurationRepositoryAdapter.refreshIfStale();
+
+        assertThat(feeConfigurationRepositoryAdapter.getLoadedVersion()).isEqualTo(loadedVersion);
+        assertThat(taxaBPercentage()).isEqualByComparingTo("0.09");
+    }
+
+    @Test
+    @DisplayName("Should swap in a new snapshot when the version changes")
+    void shouldReloadWhenVersionChanges() {
+        feeConfigurationRepositoryAdapter.refreshIfStale();
+        long loadedVersion = feeConfigurationRepositoryAdapter.getLoadedVersion();
+
+        changeTaxaBPercentage("0.0500");
+        jpaFeeConfigurationVersionRepository.incrementVersion();
+        feeConfigurationRepositoryAdapter.refreshIfStale();
+
+        assertThat(feeConfigurationRepositoryAdapter.getLoadedVersion()).isEqualTo(loadedVersion + 1);
+        assertThat(taxaBPercentage()).isEqualByComparingTo("0.05");
+    }
+
+    private void changeTaxaBPercentage(String percentage) {
+        FeeConfigurationEntity taxaB = jpaFeeConfigurationRepository.findByActiveTrue().stream()
+                .filter(entity -> entity.getFeeType().equals("TAXA_B"))
+                .findFirst()
+                .orElseThrow();
+        taxaB.setPercentageFee(new BigDecimal(percentage));
+        jpaFeeConfigurationRepository.saveAndFlush(taxaB);
+    }
+
+    private BigDecimal taxaBPercentage() {
+        return feeConfigurationRepositoryAdapter.findBestMatch(new Money("1500.00"), 5L)
+                .map(FeeConfiguration::getPercentageFee)
+                .orElseThrow();
+    }
+}
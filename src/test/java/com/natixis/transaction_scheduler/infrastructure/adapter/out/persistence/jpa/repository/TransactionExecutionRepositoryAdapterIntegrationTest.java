@@ -0,0 +1,81 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionExecution;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.CreateTransactionUseCase.CreateTransactionCommand;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase;
+import com.natixis.transaction_scheduler.domain.port.in.ExecuteDueTransactionsUseCase.ExecutionReport;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionExecutionRepository;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Due transaction execution Integration Tests")
+class TransactionExecutionRepositoryAdapterIntegrationTest {
+
+    @Autowired
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    @Autowired
+    private ExecuteDueTransactionsUseCase executeDueTransactionsUseCase;
+
+    @Autowired
+    private TransactionExecutionRepository transactionExecutionRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("Should execute today's transactions once and persist their outcomes")
+    void shouldExecuteDueTransactionsOnce() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Transaction dueToday = create(today, "500.00");
+        Transaction dueLater = create(today.plusDays(5), "1500.00");
+
+        // When
+        ExecutionReport first = executeDueTransactionsUseCase.execute(today);
+        ExecutionReport second = executeDueTransactionsUseCase.execute(today);
+
+        // Then
+        assertThat(first.dispatched()).isEqualTo(1);
+        assertThat(first.succeeded()).isEqualTo(1);
+        assertThat(second.dispatched()).isZero();
+
+        assertThat(transactionRepository.findById(dueToday.getId()).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.EXECUTED);
+        assertThat(transactionRepository.findById(dueLater.getId()).orElseThrow().getStatus())
+                .isEqualTo(TransactionStatus.SCHEDULED);
+
+        List<TransactionExecution> executions = transactionExecutionRepository.findByTransactionId(dueToday.getId());
+        assertThat(executions).hasSize(1);
+        assertThat(executions.get(0).isSucceeded()).isTrue();
+        assertThat(executions.get(0).getGatewayReference()).isEqualTo("STUB-" + dueToday.getId());
+        assertThat(executions.get(0).getBusinessDate()).isEqualTo(today);
+        assertThat(transactionExecutionRepository.findByTransactionId(dueLater.getId())).isEmpty();
+    }
+
+    private Transaction create(LocalDate scheduledDate, String amount) {
+        return createTransactionUseCase.execute(new CreateTransactionCommand(
+                "FR76 3000 6000 0112 3456 7890 189",
+                "PT50 0002 0123 1234 5678 9015 4",
+                new BigDecimal(amount),
+                scheduledDate,
+                null));
+    }
+}
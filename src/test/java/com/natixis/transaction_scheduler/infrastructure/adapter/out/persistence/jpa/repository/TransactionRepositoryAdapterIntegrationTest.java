@@ -0,0 +1,214 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.persistence.jpa.repository;
+
+import com.natixis.transaction_scheduler.domain.model.ExecutionPartitions;
+import com.natixis.transaction_scheduler.domain.model.FeeConfiguration;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.TransactionStatus;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for claiming due transactions.
+ * Not transactional: the claims must commit and overlap in separate
+ * transactions, so the rows are removed after each test instead.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("TransactionRepositoryAdapter Integration Tests - Claiming")
+class TransactionRepositoryAdapterIntegrationTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.now().plusDays(3);
+    private static final AccountNumber SOURCE = new AccountNumber("FR76 3000 6000 0112 3456 7890 189");
+    private static final int PARTITION = ExecutionPartitions.of(SOURCE);
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private JpaTransactionRepository jpaTransactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        jpaTransactionRepository.deleteAllById(createdIds);
+    }
+
+    @Test
+    @DisplayName("Should hand concurrent claims disjoint batches without waiting on locked rows")
+    void shouldSkipRowsLockedByAnotherClaim() throws Exception {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            createDue();
+        }
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondDone = new CountDownLatch(1);
+
+        // When
+        CompletableFuture<List<Transaction>> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<Transaction> claimed = transactionRepository.claimDue(DUE_DATE, PARTITION, 2);
+                    firstClaimed.countDown();
+                    await(secondDone);
+                    return claimed;
+                }));
+        await(firstClaimed);
+        List<Transaction> second = transactionRepository.claimDue(DUE_DATE, PARTITION, 2);
+        secondDone.countDown();
+
+        // Then
+        List<Long> firstIds = ids(first.get(10, TimeUnit.SECONDS));
+        List<Long> remaining = ids(transactionRepository.claimDue(DUE_DATE, PARTITION, 4));
+        assertThat(firstIds).containsExactly(createdIds.get(0), createdIds.get(1));
+        assertThat(second).allMatch(transaction -> transaction.getStatus() == TransactionStatus.IN_PROGRESS);
+
+        // Disjoint batches that together cover every due transaction exactly once
+        List<Long> allClaimed = new ArrayList<>(firstIds);
+        allClaimed.addAll(ids(second));
+        allClaimed.addAll(remaining);
+        assertThat(allClaimed).containsExactlyInAnyOrderElementsOf(createdIds);
+        assertThat(transactionRepository.claimDue(DUE_DATE, PARTITION, 4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should only move transactions that are in the expected status")
+    void shouldUpdateStatusFromExpectedOnly() {
+        // Given
+        Long inProgress = createDue();
+        transactionRepository.claimDue(DUE_DATE, PARTITION, 1);
+        Long scheduled = createDue();
+
+        // When
+        int updated = transactionRepository.updateStatus(
+                List.of(inProgress, scheduled), TransactionStatus.IN_PROGRESS, TransactionStatus.EXECUTED);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(statusOf(inProgress)).isEqualTo(TransactionStatus.EXECUTED);
+        assertThat(statusOf(scheduled)).isEqualTo(TransactionStatus.SCHEDULED);
+        assertThatThrownBy(() -> transactionRepository.updateStatus(
+                List.of(inProgress), TransactionStatus.EXECUTED, TransactionStatus.SCHEDULED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should leave timed transactions out of the daily claim and claim them by id")
+    void shouldClaimTimedTransactionsById() {
+        // Given
+        Long daily = createDue();
+        Long timed = createDue(LocalTime.of(15, 0));
+        Long alreadyClaimed = createDue(LocalTime.of(16, 0));
+        transactionRepository.claimPending(List.of(alreadyClaimed));
+
+        // When
+        List<Long> dailyClaim = ids(transactionRepository.claimDue(DUE_DATE, PARTITION, 10));
+        List<Long> pendingTimed = ids(transactionRepository.findPendingWithTimeSlotUntil(DUE_DATE));
+        List<Long> timedClaim = ids(transactionRepository.claimPending(List.of(timed, alreadyClaimed, daily)));
+
+        // Then
+        assertThat(dailyClaim).containsExactly(daily);
+        assertThat(pendingTimed).contains(timed).doesNotContain(daily, alreadyClaimed);
+        assertThat(timedClaim).containsExactly(timed);
+        assertThat(transactionRepository.findPendingWithTimeSlotUntil(DUE_DATE.minusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the domain's update timestamp and stamp claims")
+    void shouldKeepDomainUpdateTimestamp() {
+        // Given
+        Long id = createDue();
+        Transaction stored = transactionRepository.findById(id).orElseThrow();
+        LocalDateTime clockNow = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusHours(1);
+
+        // When
+        transactionRepository.save(stored.update(stored.getSourceAccount(), stored.getDestinationAccount(),
+                new Money("1600.00"), DUE_DATE, null, new Money("144.00"), null, clockNow));
+        LocalDateTime updated = transactionRepository.findById(id).orElseThrow().getUpdatedAt();
+        transactionRepository.claimPending(List.of(id));
+        LocalDateTime claimed = transactionRepository.findById(id).orElseThrow().getUpdatedAt();
+
+        // Then
+        assertThat(updated).isEqualTo(clockNow);
+        assertThat(claimed).isAfter(clockNow);
+    }
+
+    @Test
+    @DisplayName("Should keep the fee configuration transactions were priced with when saving")
+    void shouldKeepFeeConfigurationWhenSaving() {
+        // Given
+        FeeConfiguration taxaB = FeeConfiguration.create("TAXA_B", new Money("1000.01"), new Money("2000.00"),
+                1, 10, new BigDecimal("0.09"), null, 2, "TAXA_B");
+        Transaction priced = Transaction.create(SOURCE, new AccountNumber("PT50 0002 0123 1234 5678 9015 4"),
+                new Money("1500.00"), DUE_DATE, null, new Money("135.00"), taxaB, LocalDateTime.now());
+
+        // When
+        List<Transaction> saved = transactionRepository.saveAll(List.of(priced));
+        saved.forEach(transaction -> createdIds.add(transaction.getId()));
+
+        // Then
+        assertThat(saved).singleElement().satisfies(transaction -> {
+            assertThat(transaction.getId()).isNotNull();
+            assertThat(transaction.getFeeConfiguration()).isSameAs(taxaB);
+        });
+    }
+
+    private Long createDue() {
+        return createDue(null);
+    }
+
+    private Long createDue(LocalTime scheduledTime) {
+        Transaction saved = transactionRepository.save(Transaction.builder()
+                .sourceAccount(SOURCE)
+                .destinationAccount(new AccountNumber("PT50 0002 0123 1234 5678 9015 4"))
+                .transferAmount(new Money("1500.00"))
+                .transferFee(new Money("135.00"))
+                .scheduledDate(DUE_DATE)
+                .scheduledTime(scheduledTime)
+                .createdAt(LocalDateTime.now())
+                .build());
+        createdIds.add(saved.getId());
+        return saved.getId();
+    }
+
+    private TransactionStatus statusOf(Long id) {
+        return transactionRepository.findById(id).orElseThrow().getStatus();
+    }
+
+    private static List<Long> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.natixis.transaction_scheduler.infrastructure.adapter.out.settlement;
+
+import com.natixis.transaction_scheduler.domain.model.SettlementFile;
+import com.natixis.transaction_scheduler.domain.model.Transaction;
+import com.natixis.transaction_scheduler.domain.model.valueobject.AccountNumber;
+import com.natixis.transaction_scheduler.domain.model.valueobject.Money;
+import com.natixis.transaction_scheduler.domain.port.out.SettlementFileWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Pain001FileWriter Tests")
+class Pain001FileWriterTest {
+
+    private static final LocalDate EXECUTION_DATE = LocalDate.of(2026, 3, 2);
+    private static final String FRANCE = "FR7630006000011234567890189";
+    private static final String PORTUGAL = "PT50000201231234567890154";
+    private static final String GERMANY = "DE89370400440532013000";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should write counts and control sums of the header and each payment block")
+    void shouldWriteControlSums() throws Exception {
+        // Given
+        Pain001FileWriter writer = new Pain001FileWriter(directory, 1_000, 1_000_000, "Natixis");
+
+        // When
+        List<SettlementFile> files;
+        try (SettlementFileWriter.Session session = writer.open(EXECUTION_DATE)) {
+            session.write(transaction(1L, FRANCE, PORTUGAL, "100.00"));
+            session.write(transaction(2L, FRANCE, GERMANY, "30.05"));
+            session.write(transaction(3L, PORTUGAL, FRANCE, "250.00"));
+            files = session.finish();
+        }
+
+        // Then
+        assertThat(files).singleElement().satisfies(file -> {
+            assertThat(file.name()).isEqualTo("pain001-20260302-001.xml");
+            assertThat(file.transactions()).isEqualTo(3);
+            assertThat(file.controlSum()).isEqualTo(new Money("380.05"));
+            assertThat(file.sizeBytes()).isEqualTo(Files.size(directory.resolve(file.name())));
+        });
+
+        Document document = parse(directory.resolve(files.get(0).name()));
+        Element header = (Element) document.getElementsByTagName("GrpHdr").item(0);
+        assertThat(Long.parseLong(text(header, "NbOfTxs"))).isEqualTo(3);
+        assertThat(new BigDecimal(text(header, "CtrlSum"))).isEqualByComparingTo("380.05");
+
+        NodeList blocks = document.getElementsByTagName("PmtInf");
+        assertThat(blocks.getLength()).isEqualTo(2);
+        Element france = (Element) blocks.item(0);
+        assertThat(text(france, "IBAN")).isEqualTo(FRANCE);
+        assertThat(Long.parseLong(text(france, "NbOfTxs"))).isEqualTo(2);
+        assertThat(new BigDecimal(text(france, "CtrlSum"))).isEqualByComparingTo("130.05");
+        assertThat(text(france, "ReqdExctnDt")).isEqualTo("2026-03-02");
+        assertThat(france.getElementsByTagName("CdtTrfTxInf").getLength()).isEqualTo(2);
+        Element portugal = (Element) blocks.item(1);
+        assertThat(Long.parseLong(text(portugal, "NbOfTxs"))).isEqualTo(1);
+        assertThat(new BigDecimal(text(portugal, "CtrlSum"))).isEqualByComparingTo("250.00");
+        assertThat(document.getDocumentElement().getNamespaceURI()).isEqualTo(Pain001FileWriter.NAMESPACE);
+    }
+
+    @Test
+    @DisplayName("Should split a large day across files without losing or repeating transfers")
+    void shouldSplitAtLimits() throws Exception {
+        // Given - 50,000 transfers from 500 accounts, at most 12,000 per file
+        Pain001FileWriter writer = new Pain001FileWriter(directory, 12_000, 64L * 1024 * 1024, "Natixis");
+        AccountNumber creditor = AccountNumber.fromTrustedSource(FRANCE);
+
+        // When
+        List<SettlementFile> files;
+        try (SettlementFileWriter.Session session = writer.open(EXECUTION_DATE)) {
+            for (int transfer = 0; transfer < 50_000; transfer++) {
+                AccountNumber debtor = AccountNumber.fromTrustedSource(String.format("PT50%021d", transfer / 100));
+                session.write(Transaction.builder()
+                        .id((long) transfer + 1)
+                        .sourceAccount(debtor)
+                        .destinationAccount(creditor)
+                        .transferAmount(Money.ofCents(101))
+                        .transferFee(Money.zero())
+                        .scheduledDate(EXECUTION_DATE)
+                        .build());
+            }
+            files = session.finish();
+        }
+
+        // Then
+        assertThat(files).extracting(SettlementFile::transactions).containsExactly(12_000L, 12_000L, 12_000L, 12_000L, 2_000L);
+        long blockTransactions = 0;
+        for (SettlementFile file : files) {
+            Document document = parse(directory.resolve(file.name()));
+            Element header = (Element) document.getElementsByTagName("GrpHdr").item(0);
+            assertThat(Long.parseLong(text(header, "NbOfTxs"))).isEqualTo(file.transactions());
+            assertThat(new BigDecimal(text(header, "CtrlSum"))).isEqualByComparingTo(file.controlSum().getAmount());
+            NodeList blocks = document.getElementsByTagName("PmtInf");
+            for (int i = 0; i < blocks.getLength(); i++) {
+                blockTransactions += Long.parseLong(text((Element) blocks.item(i), "NbOfTxs"));
+            }
+        }
+        assertThat(blockTransactions).isEqualTo(50_000);
+        assertThat(files.stream().map(SettlementFile::controlSum).reduce(Money.zero(), Money::add))
+                .isEqualTo(new Money("50500.00"));
+    }
+
+    @Test
+    @DisplayName("Should start a new file once the size limit is reached")
+    void shouldSplitAtSize() {
+        // Given
+        Pain001FileWriter writer = new Pain001FileWriter(directory, 1_000, 4_096, "Natixis");
+
+        // When
+        List<SettlementFile> files;
+        try (SettlementFileWriter.Session session = writer.open(EXECUTION_DATE)) {
+            for (long id = 1; id <= 40; id++) {
+                session.write(transaction(id, FRANCE, PORTUGAL, "1.00"));
+            }
+            files = session.finish();
+        }
+
+        // Then
+        assertThat(files).hasSizeGreaterThan(1);
+        assertThat(files).extracting(SettlementFile::transactions).containsOnly(files.get(0).transactions(),
+                files.get(files.size() - 1).transactions());
+        assertThat(files.stream().mapToLong(SettlementFile::transactions).sum()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should replace earlier files and leave nothing behind when not finished")
+    void shouldDiscardUnfinishedSession() throws IOException {
+        // Given
+        Pain001FileWriter writer = new Pain001FileWriter(directory, 1_000, 1_000_000, "Natixis");
+        try (SettlementFileWriter.Session session = writer.open(EXECUTION_DATE)) {
+            session.write(transaction(1L, FRANCE, PORTUGAL, "1.00"));
+            session.finish();
+        }
+
+        // When
+        try (SettlementFileWriter.Session session = writer.open(EXECUTION_DATE)) {
+            session.write(transaction(2L, FRANCE, PORTUGAL, "1.00"));
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static Document parse(Path file) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(file.toFile());
+    }
+
+    private static String text(Element parent, String name) {
+        return parent.getElementsByTagName(name).item(0).getTextContent();
+    }
+
+    private static Transaction transaction(Long id, String source, String destination, String amount) {
+        return Transaction.builder()
+                .id(id)
+                .sourceAccount(new AccountNumber(source))
+                .destinationAccount(new AccountNumber(destination))
+                .transferAmount(new Money(amount))
+                .transferFee(Money.zero())
+                .scheduledDate(EXECUTION_DATE)
+                .build();
+    }
+}